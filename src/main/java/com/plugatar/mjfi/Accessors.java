@@ -0,0 +1,528 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+
+/**
+ * Factory of primitive property accessors. Getters are returned as
+ * {@link ToFloatFunction}, {@link ToShortFunction}, {@link ToByteFunction} and
+ * {@link ToCharFunction} instances, setters as {@link ObjFloatConsumer},
+ * {@link ObjShortConsumer}, {@link ObjByteConsumer}, {@link ObjCharConsumer}
+ * and {@link ObjBooleanConsumer} instances, so property values are never boxed.
+ * <p>
+ * Accessors for methods are spun by {@link LambdaMetafactory} in the same way
+ * as the compiler translates method references, so they are invoked at the
+ * speed of a direct call. {@link LambdaMetafactory} does not accept field
+ * handles, so accessors for fields invoke a {@link MethodHandle} created by
+ * {@link MethodHandles.Lookup#unreflectGetter(Field)} or
+ * {@link MethodHandles.Lookup#unreflectSetter(Field)} exactly. The handle is
+ * held in a field of the accessor, so the JIT compiler does not treat it as a
+ * constant and does not inline it: field accessors run at the speed of a
+ * reflective method handle invocation, not at the speed of a direct field
+ * access. Where the speed matters, pass a getter or a setter method of the
+ * field instead.
+ * <p>
+ * Every factory method takes the {@link MethodHandles.Lookup} of the caller,
+ * the lookup has to have access to the member and, for methods, private
+ * access to its lookup class. A class usually passes
+ * {@link MethodHandles#lookup()}, private members have to be accessed with
+ * the lookup of the class that declares them.
+ */
+public final class Accessors {
+
+    /**
+     * Utility class ctor.
+     */
+    private Accessors() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns a function that invokes the given {@code float} getter.
+     *
+     * @param lookup the lookup with access to the getter
+     * @param getter the non-static method without parameters that returns {@code float}
+     * @param <T>    the type of the object with the getter
+     * @return the function that invokes the getter
+     * @throws NullPointerException     if {@code lookup} or {@code getter} is null
+     * @throws IllegalArgumentException if {@code getter} is static, has parameters,
+     *                                  does not return {@code float} or is not accessible
+     */
+    public static <T> ToFloatFunction<T> floatGetter(final MethodHandles.Lookup lookup, final Method getter) {
+        checkGetter(getter, float.class);
+        return metafactory(lookup, getter, ToFloatFunction.class, "applyAsFloat",
+                MethodType.methodType(float.class, Object.class));
+    }
+
+    /**
+     * Returns a function that reads the given {@code float} field.
+     * The function invokes a method handle, see {@link Accessors}.
+     *
+     * @param lookup the lookup with access to the field
+     * @param field  the non-static {@code float} field
+     * @param <T>    the type of the object with the field
+     * @return the function that reads the field
+     * @throws NullPointerException     if {@code lookup} or {@code field} is null
+     * @throws IllegalArgumentException if {@code field} is static, is not {@code float}
+     *                                  or is not accessible
+     */
+    public static <T> ToFloatFunction<T> floatGetter(final MethodHandles.Lookup lookup, final Field field) {
+        final MethodHandle handle = fieldGetter(lookup, field, float.class)
+                .asType(MethodType.methodType(float.class, Object.class));
+        return obj -> {
+            try {
+                return (float) handle.invokeExact((Object) obj);
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new UndeclaredThrowableException(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a function that invokes the given {@code short} getter.
+     *
+     * @param lookup the lookup with access to the getter
+     * @param getter the non-static method without parameters that returns {@code short}
+     * @param <T>    the type of the object with the getter
+     * @return the function that invokes the getter
+     * @throws NullPointerException     if {@code lookup} or {@code getter} is null
+     * @throws IllegalArgumentException if {@code getter} is static, has parameters,
+     *                                  does not return {@code short} or is not accessible
+     */
+    public static <T> ToShortFunction<T> shortGetter(final MethodHandles.Lookup lookup, final Method getter) {
+        checkGetter(getter, short.class);
+        return metafactory(lookup, getter, ToShortFunction.class, "applyAsShort",
+                MethodType.methodType(short.class, Object.class));
+    }
+
+    /**
+     * Returns a function that reads the given {@code short} field.
+     * The function invokes a method handle, see {@link Accessors}.
+     *
+     * @param lookup the lookup with access to the field
+     * @param field  the non-static {@code short} field
+     * @param <T>    the type of the object with the field
+     * @return the function that reads the field
+     * @throws NullPointerException     if {@code lookup} or {@code field} is null
+     * @throws IllegalArgumentException if {@code field} is static, is not {@code short}
+     *                                  or is not accessible
+     */
+    public static <T> ToShortFunction<T> shortGetter(final MethodHandles.Lookup lookup, final Field field) {
+        final MethodHandle handle = fieldGetter(lookup, field, short.class)
+                .asType(MethodType.methodType(short.class, Object.class));
+        return obj -> {
+            try {
+                return (short) handle.invokeExact((Object) obj);
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new UndeclaredThrowableException(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a function that invokes the given {@code byte} getter.
+     *
+     * @param lookup the lookup with access to the getter
+     * @param getter the non-static method without parameters that returns {@code byte}
+     * @param <T>    the type of the object with the getter
+     * @return the function that invokes the getter
+     * @throws NullPointerException     if {@code lookup} or {@code getter} is null
+     * @throws IllegalArgumentException if {@code getter} is static, has parameters,
+     *                                  does not return {@code byte} or is not accessible
+     */
+    public static <T> ToByteFunction<T> byteGetter(final MethodHandles.Lookup lookup, final Method getter) {
+        checkGetter(getter, byte.class);
+        return metafactory(lookup, getter, ToByteFunction.class, "applyAsByte",
+                MethodType.methodType(byte.class, Object.class));
+    }
+
+    /**
+     * Returns a function that reads the given {@code byte} field.
+     * The function invokes a method handle, see {@link Accessors}.
+     *
+     * @param lookup the lookup with access to the field
+     * @param field  the non-static {@code byte} field
+     * @param <T>    the type of the object with the field
+     * @return the function that reads the field
+     * @throws NullPointerException     if {@code lookup} or {@code field} is null
+     * @throws IllegalArgumentException if {@code field} is static, is not {@code byte}
+     *                                  or is not accessible
+     */
+    public static <T> ToByteFunction<T> byteGetter(final MethodHandles.Lookup lookup, final Field field) {
+        final MethodHandle handle = fieldGetter(lookup, field, byte.class)
+                .asType(MethodType.methodType(byte.class, Object.class));
+        return obj -> {
+            try {
+                return (byte) handle.invokeExact((Object) obj);
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new UndeclaredThrowableException(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a function that invokes the given {@code char} getter.
+     *
+     * @param lookup the lookup with access to the getter
+     * @param getter the non-static method without parameters that returns {@code char}
+     * @param <T>    the type of the object with the getter
+     * @return the function that invokes the getter
+     * @throws NullPointerException     if {@code lookup} or {@code getter} is null
+     * @throws IllegalArgumentException if {@code getter} is static, has parameters,
+     *                                  does not return {@code char} or is not accessible
+     */
+    public static <T> ToCharFunction<T> charGetter(final MethodHandles.Lookup lookup, final Method getter) {
+        checkGetter(getter, char.class);
+        return metafactory(lookup, getter, ToCharFunction.class, "applyAsChar",
+                MethodType.methodType(char.class, Object.class));
+    }
+
+    /**
+     * Returns a function that reads the given {@code char} field.
+     * The function invokes a method handle, see {@link Accessors}.
+     *
+     * @param lookup the lookup with access to the field
+     * @param field  the non-static {@code char} field
+     * @param <T>    the type of the object with the field
+     * @return the function that reads the field
+     * @throws NullPointerException     if {@code lookup} or {@code field} is null
+     * @throws IllegalArgumentException if {@code field} is static, is not {@code char}
+     *                                  or is not accessible
+     */
+    public static <T> ToCharFunction<T> charGetter(final MethodHandles.Lookup lookup, final Field field) {
+        final MethodHandle handle = fieldGetter(lookup, field, char.class)
+                .asType(MethodType.methodType(char.class, Object.class));
+        return obj -> {
+            try {
+                return (char) handle.invokeExact((Object) obj);
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new UndeclaredThrowableException(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a consumer that invokes the given {@code float} setter.
+     *
+     * @param lookup the lookup with access to the setter
+     * @param setter the non-static method with a single {@code float} parameter
+     * @param <T>    the type of the object with the setter
+     * @return the consumer that invokes the setter
+     * @throws NullPointerException     if {@code lookup} or {@code setter} is null
+     * @throws IllegalArgumentException if {@code setter} is static, does not have
+     *                                  a single {@code float} parameter or is not accessible
+     */
+    public static <T> ObjFloatConsumer<T> floatSetter(final MethodHandles.Lookup lookup, final Method setter) {
+        checkSetter(setter, float.class);
+        return metafactory(lookup, setter, ObjFloatConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, float.class));
+    }
+
+    /**
+     * Returns a consumer that writes the given {@code float} field.
+     * The consumer invokes a method handle, see {@link Accessors}.
+     *
+     * @param lookup the lookup with access to the field
+     * @param field  the non-static non-final {@code float} field
+     * @param <T>    the type of the object with the field
+     * @return the consumer that writes the field
+     * @throws NullPointerException     if {@code lookup} or {@code field} is null
+     * @throws IllegalArgumentException if {@code field} is static, final, is not
+     *                                  {@code float} or is not accessible
+     */
+    public static <T> ObjFloatConsumer<T> floatSetter(final MethodHandles.Lookup lookup, final Field field) {
+        final MethodHandle handle = fieldSetter(lookup, field, float.class)
+                .asType(MethodType.methodType(void.class, Object.class, float.class));
+        return (obj, value) -> {
+            try {
+                handle.invokeExact((Object) obj, value);
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new UndeclaredThrowableException(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a consumer that invokes the given {@code short} setter.
+     *
+     * @param lookup the lookup with access to the setter
+     * @param setter the non-static method with a single {@code short} parameter
+     * @param <T>    the type of the object with the setter
+     * @return the consumer that invokes the setter
+     * @throws NullPointerException     if {@code lookup} or {@code setter} is null
+     * @throws IllegalArgumentException if {@code setter} is static, does not have
+     *                                  a single {@code short} parameter or is not accessible
+     */
+    public static <T> ObjShortConsumer<T> shortSetter(final MethodHandles.Lookup lookup, final Method setter) {
+        checkSetter(setter, short.class);
+        return metafactory(lookup, setter, ObjShortConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, short.class));
+    }
+
+    /**
+     * Returns a consumer that writes the given {@code short} field.
+     * The consumer invokes a method handle, see {@link Accessors}.
+     *
+     * @param lookup the lookup with access to the field
+     * @param field  the non-static non-final {@code short} field
+     * @param <T>    the type of the object with the field
+     * @return the consumer that writes the field
+     * @throws NullPointerException     if {@code lookup} or {@code field} is null
+     * @throws IllegalArgumentException if {@code field} is static, final, is not
+     *                                  {@code short} or is not accessible
+     */
+    public static <T> ObjShortConsumer<T> shortSetter(final MethodHandles.Lookup lookup, final Field field) {
+        final MethodHandle handle = fieldSetter(lookup, field, short.class)
+                .asType(MethodType.methodType(void.class, Object.class, short.class));
+        return (obj, value) -> {
+            try {
+                handle.invokeExact((Object) obj, value);
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new UndeclaredThrowableException(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a consumer that invokes the given {@code byte} setter.
+     *
+     * @param lookup the lookup with access to the setter
+     * @param setter the non-static method with a single {@code byte} parameter
+     * @param <T>    the type of the object with the setter
+     * @return the consumer that invokes the setter
+     * @throws NullPointerException     if {@code lookup} or {@code setter} is null
+     * @throws IllegalArgumentException if {@code setter} is static, does not have
+     *                                  a single {@code byte} parameter or is not accessible
+     */
+    public static <T> ObjByteConsumer<T> byteSetter(final MethodHandles.Lookup lookup, final Method setter) {
+        checkSetter(setter, byte.class);
+        return metafactory(lookup, setter, ObjByteConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, byte.class));
+    }
+
+    /**
+     * Returns a consumer that writes the given {@code byte} field.
+     * The consumer invokes a method handle, see {@link Accessors}.
+     *
+     * @param lookup the lookup with access to the field
+     * @param field  the non-static non-final {@code byte} field
+     * @param <T>    the type of the object with the field
+     * @return the consumer that writes the field
+     * @throws NullPointerException     if {@code lookup} or {@code field} is null
+     * @throws IllegalArgumentException if {@code field} is static, final, is not
+     *                                  {@code byte} or is not accessible
+     */
+    public static <T> ObjByteConsumer<T> byteSetter(final MethodHandles.Lookup lookup, final Field field) {
+        final MethodHandle handle = fieldSetter(lookup, field, byte.class)
+                .asType(MethodType.methodType(void.class, Object.class, byte.class));
+        return (obj, value) -> {
+            try {
+                handle.invokeExact((Object) obj, value);
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new UndeclaredThrowableException(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a consumer that invokes the given {@code char} setter.
+     *
+     * @param lookup the lookup with access to the setter
+     * @param setter the non-static method with a single {@code char} parameter
+     * @param <T>    the type of the object with the setter
+     * @return the consumer that invokes the setter
+     * @throws NullPointerException     if {@code lookup} or {@code setter} is null
+     * @throws IllegalArgumentException if {@code setter} is static, does not have
+     *                                  a single {@code char} parameter or is not accessible
+     */
+    public static <T> ObjCharConsumer<T> charSetter(final MethodHandles.Lookup lookup, final Method setter) {
+        checkSetter(setter, char.class);
+        return metafactory(lookup, setter, ObjCharConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, char.class));
+    }
+
+    /**
+     * Returns a consumer that writes the given {@code char} field.
+     * The consumer invokes a method handle, see {@link Accessors}.
+     *
+     * @param lookup the lookup with access to the field
+     * @param field  the non-static non-final {@code char} field
+     * @param <T>    the type of the object with the field
+     * @return the consumer that writes the field
+     * @throws NullPointerException     if {@code lookup} or {@code field} is null
+     * @throws IllegalArgumentException if {@code field} is static, final, is not
+     *                                  {@code char} or is not accessible
+     */
+    public static <T> ObjCharConsumer<T> charSetter(final MethodHandles.Lookup lookup, final Field field) {
+        final MethodHandle handle = fieldSetter(lookup, field, char.class)
+                .asType(MethodType.methodType(void.class, Object.class, char.class));
+        return (obj, value) -> {
+            try {
+                handle.invokeExact((Object) obj, value);
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new UndeclaredThrowableException(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a consumer that invokes the given {@code boolean} setter.
+     *
+     * @param lookup the lookup with access to the setter
+     * @param setter the non-static method with a single {@code boolean} parameter
+     * @param <T>    the type of the object with the setter
+     * @return the consumer that invokes the setter
+     * @throws NullPointerException     if {@code lookup} or {@code setter} is null
+     * @throws IllegalArgumentException if {@code setter} is static, does not have
+     *                                  a single {@code boolean} parameter or is not accessible
+     */
+    public static <T> ObjBooleanConsumer<T> booleanSetter(final MethodHandles.Lookup lookup, final Method setter) {
+        checkSetter(setter, boolean.class);
+        return metafactory(lookup, setter, ObjBooleanConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, boolean.class));
+    }
+
+    /**
+     * Returns a consumer that writes the given {@code boolean} field.
+     * The consumer invokes a method handle, see {@link Accessors}.
+     *
+     * @param lookup the lookup with access to the field
+     * @param field  the non-static non-final {@code boolean} field
+     * @param <T>    the type of the object with the field
+     * @return the consumer that writes the field
+     * @throws NullPointerException     if {@code lookup} or {@code field} is null
+     * @throws IllegalArgumentException if {@code field} is static, final, is not
+     *                                  {@code boolean} or is not accessible
+     */
+    public static <T> ObjBooleanConsumer<T> booleanSetter(final MethodHandles.Lookup lookup, final Field field) {
+        final MethodHandle handle = fieldSetter(lookup, field, boolean.class)
+                .asType(MethodType.methodType(void.class, Object.class, boolean.class));
+        return (obj, value) -> {
+            try {
+                handle.invokeExact((Object) obj, value);
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new UndeclaredThrowableException(ex);
+            }
+        };
+    }
+
+    private static void checkGetter(final Method getter, final Class<?> type) {
+        Objects.requireNonNull(getter);
+        if (Modifier.isStatic(getter.getModifiers()) || getter.getParameterCount() != 0
+                || getter.getReturnType() != type) {
+            throw new IllegalArgumentException(getter + " is not a " + type + " getter");
+        }
+    }
+
+    private static void checkSetter(final Method setter, final Class<?> type) {
+        Objects.requireNonNull(setter);
+        if (Modifier.isStatic(setter.getModifiers()) || setter.getParameterCount() != 1
+                || setter.getParameterTypes()[0] != type) {
+            throw new IllegalArgumentException(setter + " is not a " + type + " setter");
+        }
+    }
+
+    private static MethodHandle fieldGetter(final MethodHandles.Lookup lookup,
+                                            final Field field,
+                                            final Class<?> type) {
+        Objects.requireNonNull(lookup);
+        Objects.requireNonNull(field);
+        if (Modifier.isStatic(field.getModifiers()) || field.getType() != type) {
+            throw new IllegalArgumentException(field + " is not a non-static " + type + " field");
+        }
+        try {
+            return lookup.unreflectGetter(field);
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    private static MethodHandle fieldSetter(final MethodHandles.Lookup lookup,
+                                            final Field field,
+                                            final Class<?> type) {
+        Objects.requireNonNull(lookup);
+        Objects.requireNonNull(field);
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())
+                || field.getType() != type) {
+            throw new IllegalArgumentException(field + " is not a non-static non-final " + type + " field");
+        }
+        try {
+            return lookup.unreflectSetter(field);
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <F> F metafactory(final MethodHandles.Lookup lookup,
+                                     final Method method,
+                                     final Class<?> interfaceType,
+                                     final String interfaceMethodName,
+                                     final MethodType interfaceMethodType) {
+        Objects.requireNonNull(lookup);
+        final MethodHandle implementation;
+        try {
+            implementation = lookup.unreflect(method);
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+        try {
+            final CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    interfaceMethodName,
+                    MethodType.methodType(interfaceType),
+                    interfaceMethodType,
+                    implementation,
+                    implementation.type()
+            );
+            return (F) site.getTarget().invoke();
+        } catch (final RuntimeException | Error ex) {
+            throw ex;
+        } catch (final Throwable ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+}
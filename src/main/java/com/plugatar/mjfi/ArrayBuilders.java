@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.Arrays;
+
+/**
+ * Growable primitive arrays used as mutable result containers of collectors.
+ */
+final class ArrayBuilders {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Utility class ctor.
+     */
+    private ArrayBuilders() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the capacity of the grown array: the doubled capacity, but not
+     * less than the required capacity and not greater than the max capacity.
+     *
+     * @param capacity    the current capacity
+     * @param minCapacity the required capacity, negative if it overflows
+     * @return the new capacity
+     * @throws OutOfMemoryError if the required capacity exceeds the max capacity
+     */
+    static int newCapacity(final int capacity, final int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        final long doubled = (long) capacity << 1;
+        return (int) Math.min(Math.max(doubled, Math.max(minCapacity, DEFAULT_CAPACITY)), MAX_CAPACITY);
+    }
+
+    /**
+     * Growable {@code byte} array.
+     */
+    static final class OfByte {
+        private byte[] array;
+        private int size;
+
+        OfByte() {
+            this.array = new byte[DEFAULT_CAPACITY];
+        }
+
+        void add(final byte value) {
+            if (this.size == this.array.length) {
+                this.array = Arrays.copyOf(this.array, newCapacity(this.array.length, this.size + 1));
+            }
+            this.array[this.size++] = value;
+        }
+
+        OfByte addAll(final OfByte other) {
+            final int newSize = this.size + other.size;
+            if (newSize < 0 || newSize > this.array.length) {
+                this.array = Arrays.copyOf(this.array, newCapacity(this.array.length, newSize));
+            }
+            System.arraycopy(other.array, 0, this.array, this.size, other.size);
+            this.size = newSize;
+            return this;
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        byte[] toArray() {
+            return Arrays.copyOf(this.array, this.size);
+        }
+    }
+
+    /**
+     * Growable {@code short} array.
+     */
+    static final class OfShort {
+        private short[] array;
+        private int size;
+
+        OfShort() {
+            this.array = new short[DEFAULT_CAPACITY];
+        }
+
+        void add(final short value) {
+            if (this.size == this.array.length) {
+                this.array = Arrays.copyOf(this.array, newCapacity(this.array.length, this.size + 1));
+            }
+            this.array[this.size++] = value;
+        }
+
+        OfShort addAll(final OfShort other) {
+            final int newSize = this.size + other.size;
+            if (newSize < 0 || newSize > this.array.length) {
+                this.array = Arrays.copyOf(this.array, newCapacity(this.array.length, newSize));
+            }
+            System.arraycopy(other.array, 0, this.array, this.size, other.size);
+            this.size = newSize;
+            return this;
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        short[] toArray() {
+            return Arrays.copyOf(this.array, this.size);
+        }
+    }
+
+    /**
+     * Growable {@code char} array.
+     */
+    static final class OfChar {
+        private char[] array;
+        private int size;
+
+        OfChar() {
+            this.array = new char[DEFAULT_CAPACITY];
+        }
+
+        void add(final char value) {
+            if (this.size == this.array.length) {
+                this.array = Arrays.copyOf(this.array, newCapacity(this.array.length, this.size + 1));
+            }
+            this.array[this.size++] = value;
+        }
+
+        OfChar addAll(final OfChar other) {
+            final int newSize = this.size + other.size;
+            if (newSize < 0 || newSize > this.array.length) {
+                this.array = Arrays.copyOf(this.array, newCapacity(this.array.length, newSize));
+            }
+            System.arraycopy(other.array, 0, this.array, this.size, other.size);
+            this.size = newSize;
+            return this;
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        char[] toArray() {
+            return Arrays.copyOf(this.array, this.size);
+        }
+    }
+
+    /**
+     * Growable {@code float} array.
+     */
+    static final class OfFloat {
+        private float[] array;
+        private int size;
+
+        OfFloat() {
+            this.array = new float[DEFAULT_CAPACITY];
+        }
+
+        void add(final float value) {
+            if (this.size == this.array.length) {
+                this.array = Arrays.copyOf(this.array, newCapacity(this.array.length, this.size + 1));
+            }
+            this.array[this.size++] = value;
+        }
+
+        OfFloat addAll(final OfFloat other) {
+            final int newSize = this.size + other.size;
+            if (newSize < 0 || newSize > this.array.length) {
+                this.array = Arrays.copyOf(this.array, newCapacity(this.array.length, newSize));
+            }
+            System.arraycopy(other.array, 0, this.array, this.size, other.size);
+            this.size = newSize;
+            return this;
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        float[] toArray() {
+            return Arrays.copyOf(this.array, this.size);
+        }
+    }
+
+    /**
+     * Growable {@code boolean} array.
+     */
+    static final class OfBoolean {
+        private boolean[] array;
+        private int size;
+
+        OfBoolean() {
+            this.array = new boolean[DEFAULT_CAPACITY];
+        }
+
+        void add(final boolean value) {
+            if (this.size == this.array.length) {
+                this.array = Arrays.copyOf(this.array, newCapacity(this.array.length, this.size + 1));
+            }
+            this.array[this.size++] = value;
+        }
+
+        OfBoolean addAll(final OfBoolean other) {
+            final int newSize = this.size + other.size;
+            if (newSize < 0 || newSize > this.array.length) {
+                this.array = Arrays.copyOf(this.array, newCapacity(this.array.length, newSize));
+            }
+            System.arraycopy(other.array, 0, this.array, this.size, other.size);
+            this.size = newSize;
+            return this;
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        boolean[] toArray() {
+            return Arrays.copyOf(this.array, this.size);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A {@code boolean} value that may be updated atomically. See the
+ * {@link java.util.concurrent.atomic} package specification for description
+ * of the properties of atomic variables. An {@code AtomicBool} is used in
+ * applications such as atomically updated flags, and cannot be used as
+ * a replacement for a {@link Boolean}.
+ * <p>
+ * Unlike {@link java.util.concurrent.atomic.AtomicBoolean} this class provides
+ * functional updates with {@link BooleanUnaryOperator} and
+ * {@link BooleanBinaryOperator} functions.
+ *
+ * @see java.util.concurrent.atomic.AtomicInteger
+ */
+public class AtomicBool implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final AtomicIntegerFieldUpdater<AtomicBool> VALUE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(AtomicBool.class, "value");
+    private volatile int value;
+
+    /**
+     * Creates a new AtomicBool with the given initial value.
+     *
+     * @param initialValue the initial value
+     */
+    public AtomicBool(final boolean initialValue) {
+        this.value = (initialValue ? 1 : 0);
+    }
+
+    /**
+     * Creates a new AtomicBool with initial value {@code false}.
+     */
+    public AtomicBool() {
+        this(false);
+    }
+
+    /**
+     * Gets the current value.
+     *
+     * @return the current value
+     */
+    public final boolean get() {
+        return this.value != 0;
+    }
+
+    /**
+     * Sets to the given value.
+     *
+     * @param newValue the new value
+     */
+    public final void set(final boolean newValue) {
+        this.value = (newValue ? 1 : 0);
+    }
+
+    /**
+     * Eventually sets to the given value.
+     *
+     * @param newValue the new value
+     */
+    public final void lazySet(final boolean newValue) {
+        VALUE_UPDATER.lazySet(this, (newValue ? 1 : 0));
+    }
+
+    /**
+     * Atomically sets to the given value and returns the old value.
+     *
+     * @param newValue the new value
+     * @return the previous value
+     */
+    public final boolean getAndSet(final boolean newValue) {
+        return VALUE_UPDATER.getAndSet(this, (newValue ? 1 : 0)) != 0;
+    }
+
+    /**
+     * Atomically sets the value to the given updated value
+     * if the current value {@code ==} the expected value.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful. False return indicates that
+     * the actual value was not equal to the expected value.
+     */
+    public final boolean compareAndSet(final boolean expect, final boolean update) {
+        return VALUE_UPDATER.compareAndSet(this, (expect ? 1 : 0), (update ? 1 : 0));
+    }
+
+    /**
+     * Atomically sets the value to the given updated value
+     * if the current value {@code ==} the expected value.
+     * <p>
+     * May fail spuriously and does not provide ordering guarantees, so is
+     * only rarely an appropriate alternative to {@code compareAndSet}.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful
+     */
+    public final boolean weakCompareAndSet(final boolean expect, final boolean update) {
+        return VALUE_UPDATER.weakCompareAndSet(this, (expect ? 1 : 0), (update ? 1 : 0));
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function, returning the previous value. The
+     * function should be side-effect-free, since it may be re-applied
+     * when attempted updates fail due to contention among threads.
+     *
+     * @param updateFunction a side-effect-free function
+     * @return the previous value
+     */
+    public final boolean getAndUpdate(final BooleanUnaryOperator updateFunction) {
+        int prev;
+        int next;
+        boolean prevValue;
+        do {
+            prev = this.value;
+            prevValue = prev != 0;
+            next = (updateFunction.applyAsBoolean(prevValue) ? 1 : 0);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function, returning the updated value. The
+     * function should be side-effect-free, since it may be re-applied
+     * when attempted updates fail due to contention among threads.
+     *
+     * @param updateFunction a side-effect-free function
+     * @return the updated value
+     */
+    public final boolean updateAndGet(final BooleanUnaryOperator updateFunction) {
+        int prev;
+        boolean nextValue;
+        do {
+            prev = this.value;
+            nextValue = updateFunction.applyAsBoolean(prev != 0);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, (nextValue ? 1 : 0)));
+        return nextValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function to the current and given values,
+     * returning the previous value. The function should be
+     * side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads. The function
+     * is applied with the current value as its first argument,
+     * and the given update as the second argument.
+     *
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the previous value
+     */
+    public final boolean getAndAccumulate(final boolean x, final BooleanBinaryOperator accumulatorFunction) {
+        int prev;
+        int next;
+        boolean prevValue;
+        do {
+            prev = this.value;
+            prevValue = prev != 0;
+            next = (accumulatorFunction.applyAsBoolean(prevValue, x) ? 1 : 0);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function to the current and given values,
+     * returning the updated value. The function should be
+     * side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads. The function
+     * is applied with the current value as its first argument,
+     * and the given update as the second argument.
+     *
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the updated value
+     */
+    public final boolean accumulateAndGet(final boolean x, final BooleanBinaryOperator accumulatorFunction) {
+        int prev;
+        boolean nextValue;
+        do {
+            prev = this.value;
+            nextValue = accumulatorFunction.applyAsBoolean(prev != 0, x);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, (nextValue ? 1 : 0)));
+        return nextValue;
+    }
+
+    /**
+     * Returns the String representation of the current value.
+     *
+     * @return the String representation of the current value
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(this.get());
+    }
+}
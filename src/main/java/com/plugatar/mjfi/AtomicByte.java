@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A {@code byte} value that may be updated atomically. See the
+ * {@link java.util.concurrent.atomic} package specification for description
+ * of the properties of atomic variables. An {@code AtomicByte} is used in
+ * applications such as atomically updated counters and states, and cannot be used as
+ * a replacement for a {@link Byte}. However, this class does extend
+ * {@code Number} to allow uniform access by tools and utilities that deal with
+ * numerically-based classes.
+ * <p>
+ * The value is kept in an {@code int} field, so all operations are
+ * implemented by an {@link AtomicIntegerFieldUpdater}.
+ *
+ * @see java.util.concurrent.atomic.AtomicInteger
+ */
+public class AtomicByte extends Number implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final AtomicIntegerFieldUpdater<AtomicByte> VALUE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(AtomicByte.class, "value");
+    private volatile int value;
+
+    /**
+     * Creates a new AtomicByte with the given initial value.
+     *
+     * @param initialValue the initial value
+     */
+    public AtomicByte(final byte initialValue) {
+        this.value = initialValue;
+    }
+
+    /**
+     * Creates a new AtomicByte with initial value {@code 0}.
+     */
+    public AtomicByte() {
+        this((byte) 0);
+    }
+
+    /**
+     * Gets the current value.
+     *
+     * @return the current value
+     */
+    public final byte get() {
+        return (byte) this.value;
+    }
+
+    /**
+     * Sets to the given value.
+     *
+     * @param newValue the new value
+     */
+    public final void set(final byte newValue) {
+        this.value = newValue;
+    }
+
+    /**
+     * Eventually sets to the given value.
+     *
+     * @param newValue the new value
+     */
+    public final void lazySet(final byte newValue) {
+        VALUE_UPDATER.lazySet(this, newValue);
+    }
+
+    /**
+     * Atomically sets to the given value and returns the old value.
+     *
+     * @param newValue the new value
+     * @return the previous value
+     */
+    public final byte getAndSet(final byte newValue) {
+        return (byte) VALUE_UPDATER.getAndSet(this, newValue);
+    }
+
+    /**
+     * Atomically sets the value to the given updated value
+     * if the current value {@code ==} the expected value.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful. False return indicates that
+     * the actual value was not equal to the expected value.
+     */
+    public final boolean compareAndSet(final byte expect, final byte update) {
+        return VALUE_UPDATER.compareAndSet(this, expect, update);
+    }
+
+    /**
+     * Atomically sets the value to the given updated value
+     * if the current value {@code ==} the expected value.
+     * <p>
+     * May fail spuriously and does not provide ordering guarantees, so is
+     * only rarely an appropriate alternative to {@code compareAndSet}.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful
+     */
+    public final boolean weakCompareAndSet(final byte expect, final byte update) {
+        return VALUE_UPDATER.weakCompareAndSet(this, expect, update);
+    }
+
+    /**
+     * Atomically adds the given value to the current value.
+     *
+     * @param delta the value to add, the result is narrowed to {@code byte}
+     * @return the previous value
+     */
+    public final byte getAndAdd(final byte delta) {
+        int prev;
+        byte prevValue;
+        do {
+            prev = this.value;
+            prevValue = (byte) prev;
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, (byte) (prevValue + delta)));
+        return prevValue;
+    }
+
+    /**
+     * Atomically adds the given value to the current value.
+     *
+     * @param delta the value to add, the result is narrowed to {@code byte}
+     * @return the updated value
+     */
+    public final byte addAndGet(final byte delta) {
+        int prev;
+        byte nextValue;
+        do {
+            prev = this.value;
+            nextValue = (byte) ((byte) prev + delta);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, nextValue));
+        return nextValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function, returning the previous value. The
+     * function should be side-effect-free, since it may be re-applied
+     * when attempted updates fail due to contention among threads.
+     *
+     * @param updateFunction a side-effect-free function
+     * @return the previous value
+     */
+    public final byte getAndUpdate(final ByteUnaryOperator updateFunction) {
+        int prev;
+        int next;
+        byte prevValue;
+        do {
+            prev = this.value;
+            prevValue = (byte) prev;
+            next = updateFunction.applyAsByte(prevValue);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function, returning the updated value. The
+     * function should be side-effect-free, since it may be re-applied
+     * when attempted updates fail due to contention among threads.
+     *
+     * @param updateFunction a side-effect-free function
+     * @return the updated value
+     */
+    public final byte updateAndGet(final ByteUnaryOperator updateFunction) {
+        int prev;
+        byte nextValue;
+        do {
+            prev = this.value;
+            nextValue = updateFunction.applyAsByte((byte) prev);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, nextValue));
+        return nextValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function to the current and given values,
+     * returning the previous value. The function should be
+     * side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads. The function
+     * is applied with the current value as its first argument,
+     * and the given update as the second argument.
+     *
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the previous value
+     */
+    public final byte getAndAccumulate(final byte x, final ByteBinaryOperator accumulatorFunction) {
+        int prev;
+        int next;
+        byte prevValue;
+        do {
+            prev = this.value;
+            prevValue = (byte) prev;
+            next = accumulatorFunction.applyAsByte(prevValue, x);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function to the current and given values,
+     * returning the updated value. The function should be
+     * side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads. The function
+     * is applied with the current value as its first argument,
+     * and the given update as the second argument.
+     *
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the updated value
+     */
+    public final byte accumulateAndGet(final byte x, final ByteBinaryOperator accumulatorFunction) {
+        int prev;
+        byte nextValue;
+        do {
+            prev = this.value;
+            nextValue = accumulatorFunction.applyAsByte((byte) prev, x);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, nextValue));
+        return nextValue;
+    }
+
+    /**
+     * Returns the String representation of the current value.
+     *
+     * @return the String representation of the current value
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(this.get());
+    }
+
+    /**
+     * Returns the value of this {@code AtomicByte} as an {@code int}
+     * after a widening primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code int}
+     */
+    @Override
+    public int intValue() {
+        return (int) this.get();
+    }
+
+    /**
+     * Returns the value of this {@code AtomicByte} as a {@code long}
+     * after a widening primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code long}
+     */
+    @Override
+    public long longValue() {
+        return (long) this.get();
+    }
+
+    /**
+     * Returns the value of this {@code AtomicByte} as a {@code float}
+     * after a widening primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code float}
+     */
+    @Override
+    public float floatValue() {
+        return (float) this.get();
+    }
+
+    /**
+     * Returns the value of this {@code AtomicByte} as a {@code double}
+     * after a widening primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code double}
+     */
+    @Override
+    public double doubleValue() {
+        return (double) this.get();
+    }
+}
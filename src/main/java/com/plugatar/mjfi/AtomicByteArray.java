@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A {@code byte} array in which elements may be updated atomically. See the
+ * {@link java.util.concurrent.atomic} package specification for description
+ * of the properties of atomic variables.
+ * <p>
+ * Elements are packed four per {@code int} of an {@link AtomicIntegerArray},
+ * so the array occupies about as much memory as a plain {@code byte[]}. An update
+ * of an element is a compare-and-set of the whole enclosing {@code int}, which
+ * is retried if a neighbouring element of the same {@code int} was changed
+ * concurrently. Updates of different elements never overwrite each other.
+ *
+ * @see java.util.concurrent.atomic.AtomicIntegerArray
+ */
+public class AtomicByteArray implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int INDEX_SHIFT = 2;
+    private static final int INDEX_MASK = 3;
+    private static final int ELEMENT_BITS = 8;
+    private static final int ELEMENT_MASK = 0xFF;
+    private final AtomicIntegerArray words;
+    private final int length;
+
+    /**
+     * Creates a new AtomicByteArray of the given length, with all
+     * elements initially zero.
+     *
+     * @param length the length of the array
+     * @throws NegativeArraySizeException if {@code length} is negative
+     */
+    public AtomicByteArray(final int length) {
+        if (length < 0) {
+            throw new NegativeArraySizeException(String.valueOf(length));
+        }
+        this.words = new AtomicIntegerArray((int) (((long) length + INDEX_MASK) >>> INDEX_SHIFT));
+        this.length = length;
+    }
+
+    /**
+     * Creates a new AtomicByteArray with the same length as, and
+     * all elements copied from, the given array.
+     *
+     * @param array the array to copy elements from
+     * @throws NullPointerException if {@code array} is null
+     */
+    public AtomicByteArray(final byte[] array) {
+        this(array.length);
+        for (int idx = 0; idx < array.length; ++idx) {
+            this.set(idx, array[idx]);
+        }
+    }
+
+    /**
+     * Returns the length of the array.
+     *
+     * @return the length of the array
+     */
+    public final int length() {
+        return this.length;
+    }
+
+    /**
+     * Gets the current value at position {@code i}.
+     *
+     * @param i the index
+     * @return the current value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final byte get(final int i) {
+        return unpack(this.words.get(wordIndex(this.checkIndex(i))), shift(i));
+    }
+
+    /**
+     * Sets the element at position {@code i} to the given value.
+     *
+     * @param i        the index
+     * @param newValue the new value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final void set(final int i, final byte newValue) {
+        this.getAndSet(i, newValue);
+    }
+
+    /**
+     * Atomically sets the element at position {@code i} to the given
+     * value and returns the old value.
+     *
+     * @param i        the index
+     * @param newValue the new value
+     * @return the previous value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final byte getAndSet(final int i, final byte newValue) {
+        final int wordIndex = wordIndex(this.checkIndex(i));
+        final int shift = shift(i);
+        int word;
+        do {
+            word = this.words.get(wordIndex);
+        } while (!this.words.compareAndSet(wordIndex, word, pack(word, shift, newValue)));
+        return unpack(word, shift);
+    }
+
+    /**
+     * Atomically sets the element at position {@code i} to the given
+     * updated value if the current value {@code ==} the expected value.
+     *
+     * @param i      the index
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful. False return indicates that
+     * the actual value was not equal to the expected value.
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final boolean compareAndSet(final int i, final byte expect, final byte update) {
+        final int wordIndex = wordIndex(this.checkIndex(i));
+        final int shift = shift(i);
+        int word;
+        do {
+            word = this.words.get(wordIndex);
+            if (unpack(word, shift) != expect) {
+                return false;
+            }
+        } while (!this.words.compareAndSet(wordIndex, word, pack(word, shift, update)));
+        return true;
+    }
+
+    /**
+     * Atomically adds the given value to the element at index {@code i}.
+     *
+     * @param i     the index
+     * @param delta the value to add, the result is narrowed to {@code byte}
+     * @return the previous value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final byte getAndAdd(final int i, final byte delta) {
+        final int wordIndex = wordIndex(this.checkIndex(i));
+        final int shift = shift(i);
+        int word;
+        int next;
+        byte prevValue;
+        do {
+            word = this.words.get(wordIndex);
+            prevValue = unpack(word, shift);
+            next = pack(word, shift, (byte) (prevValue + delta));
+        } while (!this.words.compareAndSet(wordIndex, word, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically adds the given value to the element at index {@code i}.
+     *
+     * @param i     the index
+     * @param delta the value to add, the result is narrowed to {@code byte}
+     * @return the updated value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final byte addAndGet(final int i, final byte delta) {
+        final int wordIndex = wordIndex(this.checkIndex(i));
+        final int shift = shift(i);
+        int word;
+        byte nextValue;
+        do {
+            word = this.words.get(wordIndex);
+            nextValue = (byte) (unpack(word, shift) + delta);
+        } while (!this.words.compareAndSet(wordIndex, word, pack(word, shift, nextValue)));
+        return nextValue;
+    }
+
+    /**
+     * Atomically updates the element at index {@code i} with the results
+     * of applying the given function, returning the previous value. The
+     * function should be side-effect-free, since it may be re-applied
+     * when attempted updates fail due to contention among threads.
+     *
+     * @param i              the index
+     * @param updateFunction a side-effect-free function
+     * @return the previous value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final byte getAndUpdate(final int i, final ByteUnaryOperator updateFunction) {
+        final int wordIndex = wordIndex(this.checkIndex(i));
+        final int shift = shift(i);
+        int word;
+        int next;
+        byte prevValue;
+        do {
+            word = this.words.get(wordIndex);
+            prevValue = unpack(word, shift);
+            next = pack(word, shift, updateFunction.applyAsByte(prevValue));
+        } while (!this.words.compareAndSet(wordIndex, word, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the element at index {@code i} with the results
+     * of applying the given function, returning the updated value. The
+     * function should be side-effect-free, since it may be re-applied
+     * when attempted updates fail due to contention among threads.
+     *
+     * @param i              the index
+     * @param updateFunction a side-effect-free function
+     * @return the updated value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final byte updateAndGet(final int i, final ByteUnaryOperator updateFunction) {
+        final int wordIndex = wordIndex(this.checkIndex(i));
+        final int shift = shift(i);
+        int word;
+        byte nextValue;
+        do {
+            word = this.words.get(wordIndex);
+            nextValue = updateFunction.applyAsByte(unpack(word, shift));
+        } while (!this.words.compareAndSet(wordIndex, word, pack(word, shift, nextValue)));
+        return nextValue;
+    }
+
+    /**
+     * Atomically updates the element at index {@code i} with the
+     * results of applying the given function to the current and
+     * given values, returning the previous value. The function should
+     * be side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads. The function is
+     * applied with the current value at index {@code i} as its first
+     * argument, and the given update as the second argument.
+     *
+     * @param i                   the index
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the previous value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final byte getAndAccumulate(final int i, final byte x, final ByteBinaryOperator accumulatorFunction) {
+        final int wordIndex = wordIndex(this.checkIndex(i));
+        final int shift = shift(i);
+        int word;
+        int next;
+        byte prevValue;
+        do {
+            word = this.words.get(wordIndex);
+            prevValue = unpack(word, shift);
+            next = pack(word, shift, accumulatorFunction.applyAsByte(prevValue, x));
+        } while (!this.words.compareAndSet(wordIndex, word, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the element at index {@code i} with the
+     * results of applying the given function to the current and
+     * given values, returning the updated value. The function should
+     * be side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads. The function is
+     * applied with the current value at index {@code i} as its first
+     * argument, and the given update as the second argument.
+     *
+     * @param i                   the index
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the updated value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final byte accumulateAndGet(final int i, final byte x, final ByteBinaryOperator accumulatorFunction) {
+        final int wordIndex = wordIndex(this.checkIndex(i));
+        final int shift = shift(i);
+        int word;
+        byte nextValue;
+        do {
+            word = this.words.get(wordIndex);
+            nextValue = accumulatorFunction.applyAsByte(unpack(word, shift), x);
+        } while (!this.words.compareAndSet(wordIndex, word, pack(word, shift, nextValue)));
+        return nextValue;
+    }
+
+    /**
+     * Returns the String representation of the current values of array.
+     *
+     * @return the String representation of the current values of array
+     */
+    @Override
+    public String toString() {
+        if (this.length == 0) {
+            return "[]";
+        }
+        final StringBuilder builder = new StringBuilder().append('[');
+        for (int idx = 0; ; ++idx) {
+            builder.append(this.get(idx));
+            if (idx == this.length - 1) {
+                return builder.append(']').toString();
+            }
+            builder.append(',').append(' ');
+        }
+    }
+
+    private int checkIndex(final int i) {
+        if (i < 0 || i >= this.length) {
+            throw new IndexOutOfBoundsException("index " + i);
+        }
+        return i;
+    }
+
+    private static int wordIndex(final int i) {
+        return i >>> INDEX_SHIFT;
+    }
+
+    private static int shift(final int i) {
+        return (i & INDEX_MASK) * ELEMENT_BITS;
+    }
+
+    private static byte unpack(final int word, final int shift) {
+        return (byte) (word >>> shift);
+    }
+
+    private static int pack(final int word, final int shift, final byte value) {
+        return (word & ~(ELEMENT_MASK << shift)) | ((value & ELEMENT_MASK) << shift);
+    }
+}
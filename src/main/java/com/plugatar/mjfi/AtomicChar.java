@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A {@code char} value that may be updated atomically. See the
+ * {@link java.util.concurrent.atomic} package specification for description
+ * of the properties of atomic variables. An {@code AtomicChar} is used in
+ * applications such as atomically updated symbols, and cannot be used as
+ * a replacement for a {@link Character}.
+ * <p>
+ * The value is kept in an {@code int} field, so all operations are
+ * implemented by an {@link AtomicIntegerFieldUpdater}.
+ *
+ * @see java.util.concurrent.atomic.AtomicInteger
+ */
+public class AtomicChar implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final AtomicIntegerFieldUpdater<AtomicChar> VALUE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(AtomicChar.class, "value");
+    private volatile int value;
+
+    /**
+     * Creates a new AtomicChar with the given initial value.
+     *
+     * @param initialValue the initial value
+     */
+    public AtomicChar(final char initialValue) {
+        this.value = initialValue;
+    }
+
+    /**
+     * Creates a new AtomicChar with initial value {@code (char) 0}.
+     */
+    public AtomicChar() {
+        this((char) 0);
+    }
+
+    /**
+     * Gets the current value.
+     *
+     * @return the current value
+     */
+    public final char get() {
+        return (char) this.value;
+    }
+
+    /**
+     * Sets to the given value.
+     *
+     * @param newValue the new value
+     */
+    public final void set(final char newValue) {
+        this.value = newValue;
+    }
+
+    /**
+     * Eventually sets to the given value.
+     *
+     * @param newValue the new value
+     */
+    public final void lazySet(final char newValue) {
+        VALUE_UPDATER.lazySet(this, newValue);
+    }
+
+    /**
+     * Atomically sets to the given value and returns the old value.
+     *
+     * @param newValue the new value
+     * @return the previous value
+     */
+    public final char getAndSet(final char newValue) {
+        return (char) VALUE_UPDATER.getAndSet(this, newValue);
+    }
+
+    /**
+     * Atomically sets the value to the given updated value
+     * if the current value {@code ==} the expected value.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful. False return indicates that
+     * the actual value was not equal to the expected value.
+     */
+    public final boolean compareAndSet(final char expect, final char update) {
+        return VALUE_UPDATER.compareAndSet(this, expect, update);
+    }
+
+    /**
+     * Atomically sets the value to the given updated value
+     * if the current value {@code ==} the expected value.
+     * <p>
+     * May fail spuriously and does not provide ordering guarantees, so is
+     * only rarely an appropriate alternative to {@code compareAndSet}.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful
+     */
+    public final boolean weakCompareAndSet(final char expect, final char update) {
+        return VALUE_UPDATER.weakCompareAndSet(this, expect, update);
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function, returning the previous value. The
+     * function should be side-effect-free, since it may be re-applied
+     * when attempted updates fail due to contention among threads.
+     *
+     * @param updateFunction a side-effect-free function
+     * @return the previous value
+     */
+    public final char getAndUpdate(final CharUnaryOperator updateFunction) {
+        int prev;
+        int next;
+        char prevValue;
+        do {
+            prev = this.value;
+            prevValue = (char) prev;
+            next = updateFunction.applyAsChar(prevValue);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function, returning the updated value. The
+     * function should be side-effect-free, since it may be re-applied
+     * when attempted updates fail due to contention among threads.
+     *
+     * @param updateFunction a side-effect-free function
+     * @return the updated value
+     */
+    public final char updateAndGet(final CharUnaryOperator updateFunction) {
+        int prev;
+        char nextValue;
+        do {
+            prev = this.value;
+            nextValue = updateFunction.applyAsChar((char) prev);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, nextValue));
+        return nextValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function to the current and given values,
+     * returning the previous value. The function should be
+     * side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads. The function
+     * is applied with the current value as its first argument,
+     * and the given update as the second argument.
+     *
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the previous value
+     */
+    public final char getAndAccumulate(final char x, final CharBinaryOperator accumulatorFunction) {
+        int prev;
+        int next;
+        char prevValue;
+        do {
+            prev = this.value;
+            prevValue = (char) prev;
+            next = accumulatorFunction.applyAsChar(prevValue, x);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function to the current and given values,
+     * returning the updated value. The function should be
+     * side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads. The function
+     * is applied with the current value as its first argument,
+     * and the given update as the second argument.
+     *
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the updated value
+     */
+    public final char accumulateAndGet(final char x, final CharBinaryOperator accumulatorFunction) {
+        int prev;
+        char nextValue;
+        do {
+            prev = this.value;
+            nextValue = accumulatorFunction.applyAsChar((char) prev, x);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, nextValue));
+        return nextValue;
+    }
+
+    /**
+     * Returns the String representation of the current value.
+     *
+     * @return the String representation of the current value
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(this.get());
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A {@code float} value that may be updated atomically. See the
+ * {@link java.util.concurrent.atomic} package specification for description
+ * of the properties of atomic variables. An {@code AtomicFloat} is used in
+ * applications such as atomically updated gauges and rates, and cannot be used as
+ * a replacement for a {@link Float}. However, this class does extend
+ * {@code Number} to allow uniform access by tools and utilities that deal with
+ * numerically-based classes.
+ * <p>
+ * The value is kept as the raw {@code int} bits of the {@code float}, so
+ * {@link #compareAndSet(float, float)} and {@link #weakCompareAndSet(float, float)}
+ * compare values bitwise (see {@link Float#floatToRawIntBits(float)}) rather than
+ * with the {@code ==} operator.
+ *
+ * @see java.util.concurrent.atomic.AtomicInteger
+ */
+public class AtomicFloat extends Number implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final AtomicIntegerFieldUpdater<AtomicFloat> VALUE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(AtomicFloat.class, "value");
+    private volatile int value;
+
+    /**
+     * Creates a new AtomicFloat with the given initial value.
+     *
+     * @param initialValue the initial value
+     */
+    public AtomicFloat(final float initialValue) {
+        this.value = Float.floatToRawIntBits(initialValue);
+    }
+
+    /**
+     * Creates a new AtomicFloat with initial value {@code 0.0f}.
+     */
+    public AtomicFloat() {
+        this(0.0f);
+    }
+
+    /**
+     * Gets the current value.
+     *
+     * @return the current value
+     */
+    public final float get() {
+        return Float.intBitsToFloat(this.value);
+    }
+
+    /**
+     * Sets to the given value.
+     *
+     * @param newValue the new value
+     */
+    public final void set(final float newValue) {
+        this.value = Float.floatToRawIntBits(newValue);
+    }
+
+    /**
+     * Eventually sets to the given value.
+     *
+     * @param newValue the new value
+     */
+    public final void lazySet(final float newValue) {
+        VALUE_UPDATER.lazySet(this, Float.floatToRawIntBits(newValue));
+    }
+
+    /**
+     * Atomically sets to the given value and returns the old value.
+     *
+     * @param newValue the new value
+     * @return the previous value
+     */
+    public final float getAndSet(final float newValue) {
+        return Float.intBitsToFloat(VALUE_UPDATER.getAndSet(this, Float.floatToRawIntBits(newValue)));
+    }
+
+    /**
+     * Atomically sets the value to the given updated value
+     * if the current value is bitwise equal to the expected value.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful. False return indicates that
+     * the actual value was not equal to the expected value.
+     */
+    public final boolean compareAndSet(final float expect, final float update) {
+        return VALUE_UPDATER.compareAndSet(this, Float.floatToRawIntBits(expect), Float.floatToRawIntBits(update));
+    }
+
+    /**
+     * Atomically sets the value to the given updated value
+     * if the current value is bitwise equal to the expected value.
+     * <p>
+     * May fail spuriously and does not provide ordering guarantees, so is
+     * only rarely an appropriate alternative to {@code compareAndSet}.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful
+     */
+    public final boolean weakCompareAndSet(final float expect, final float update) {
+        return VALUE_UPDATER.weakCompareAndSet(this, Float.floatToRawIntBits(expect), Float.floatToRawIntBits(update));
+    }
+
+    /**
+     * Atomically adds the given value to the current value.
+     *
+     * @param delta the value to add
+     * @return the previous value
+     */
+    public final float getAndAdd(final float delta) {
+        int prev;
+        float prevValue;
+        do {
+            prev = this.value;
+            prevValue = Float.intBitsToFloat(prev);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, Float.floatToRawIntBits((prevValue + delta))));
+        return prevValue;
+    }
+
+    /**
+     * Atomically adds the given value to the current value.
+     *
+     * @param delta the value to add
+     * @return the updated value
+     */
+    public final float addAndGet(final float delta) {
+        int prev;
+        float nextValue;
+        do {
+            prev = this.value;
+            nextValue = (Float.intBitsToFloat(prev) + delta);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, Float.floatToRawIntBits(nextValue)));
+        return nextValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function, returning the previous value. The
+     * function should be side-effect-free, since it may be re-applied
+     * when attempted updates fail due to contention among threads.
+     *
+     * @param updateFunction a side-effect-free function
+     * @return the previous value
+     */
+    public final float getAndUpdate(final FloatUnaryOperator updateFunction) {
+        int prev;
+        int next;
+        float prevValue;
+        do {
+            prev = this.value;
+            prevValue = Float.intBitsToFloat(prev);
+            next = Float.floatToRawIntBits(updateFunction.applyAsFloat(prevValue));
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function, returning the updated value. The
+     * function should be side-effect-free, since it may be re-applied
+     * when attempted updates fail due to contention among threads.
+     *
+     * @param updateFunction a side-effect-free function
+     * @return the updated value
+     */
+    public final float updateAndGet(final FloatUnaryOperator updateFunction) {
+        int prev;
+        float nextValue;
+        do {
+            prev = this.value;
+            nextValue = updateFunction.applyAsFloat(Float.intBitsToFloat(prev));
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, Float.floatToRawIntBits(nextValue)));
+        return nextValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function to the current and given values,
+     * returning the previous value. The function should be
+     * side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads. The function
+     * is applied with the current value as its first argument,
+     * and the given update as the second argument.
+     *
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the previous value
+     */
+    public final float getAndAccumulate(final float x, final FloatBinaryOperator accumulatorFunction) {
+        int prev;
+        int next;
+        float prevValue;
+        do {
+            prev = this.value;
+            prevValue = Float.intBitsToFloat(prev);
+            next = Float.floatToRawIntBits(accumulatorFunction.applyAsFloat(prevValue, x));
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function to the current and given values,
+     * returning the updated value. The function should be
+     * side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads. The function
+     * is applied with the current value as its first argument,
+     * and the given update as the second argument.
+     *
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the updated value
+     */
+    public final float accumulateAndGet(final float x, final FloatBinaryOperator accumulatorFunction) {
+        int prev;
+        float nextValue;
+        do {
+            prev = this.value;
+            nextValue = accumulatorFunction.applyAsFloat(Float.intBitsToFloat(prev), x);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, Float.floatToRawIntBits(nextValue)));
+        return nextValue;
+    }
+
+    /**
+     * Returns the String representation of the current value.
+     *
+     * @return the String representation of the current value
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(this.get());
+    }
+
+    /**
+     * Returns the value of this {@code AtomicFloat} as an {@code int}
+     * after a narrowing primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code int}
+     */
+    @Override
+    public int intValue() {
+        return (int) this.get();
+    }
+
+    /**
+     * Returns the value of this {@code AtomicFloat} as a {@code long}
+     * after a narrowing primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code long}
+     */
+    @Override
+    public long longValue() {
+        return (long) this.get();
+    }
+
+    /**
+     * Returns the value of this {@code AtomicFloat} as a {@code float}.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code float}
+     */
+    @Override
+    public float floatValue() {
+        return this.get();
+    }
+
+    /**
+     * Returns the value of this {@code AtomicFloat} as a {@code double}
+     * after a widening primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code double}
+     */
+    @Override
+    public double doubleValue() {
+        return (double) this.get();
+    }
+}
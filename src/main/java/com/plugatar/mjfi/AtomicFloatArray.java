@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A {@code float} array in which elements may be updated atomically. See the
+ * {@link java.util.concurrent.atomic} package specification for description
+ * of the properties of atomic variables.
+ * <p>
+ * Elements are kept as the raw {@code int} bits of the {@code float} values in
+ * an {@link AtomicIntegerArray}, so {@link #compareAndSet(int, float, float)}
+ * compares values bitwise (see {@link Float#floatToRawIntBits(float)}) rather
+ * than with the {@code ==} operator.
+ *
+ * @see java.util.concurrent.atomic.AtomicIntegerArray
+ */
+public class AtomicFloatArray implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final AtomicIntegerArray array;
+
+    /**
+     * Creates a new AtomicFloatArray of the given length, with all
+     * elements initially zero.
+     *
+     * @param length the length of the array
+     * @throws NegativeArraySizeException if {@code length} is negative
+     */
+    public AtomicFloatArray(final int length) {
+        this.array = new AtomicIntegerArray(length);
+    }
+
+    /**
+     * Creates a new AtomicFloatArray with the same length as, and
+     * all elements copied from, the given array.
+     *
+     * @param array the array to copy elements from
+     * @throws NullPointerException if {@code array} is null
+     */
+    public AtomicFloatArray(final float[] array) {
+        final int[] bits = new int[array.length];
+        for (int idx = 0; idx < array.length; ++idx) {
+            bits[idx] = Float.floatToRawIntBits(array[idx]);
+        }
+        this.array = new AtomicIntegerArray(bits);
+    }
+
+    /**
+     * Returns the length of the array.
+     *
+     * @return the length of the array
+     */
+    public final int length() {
+        return this.array.length();
+    }
+
+    /**
+     * Gets the current value at position {@code i}.
+     *
+     * @param i the index
+     * @return the current value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final float get(final int i) {
+        return Float.intBitsToFloat(this.array.get(i));
+    }
+
+    /**
+     * Sets the element at position {@code i} to the given value.
+     *
+     * @param i        the index
+     * @param newValue the new value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final void set(final int i, final float newValue) {
+        this.array.set(i, Float.floatToRawIntBits(newValue));
+    }
+
+    /**
+     * Eventually sets the element at position {@code i} to the given value.
+     *
+     * @param i        the index
+     * @param newValue the new value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final void lazySet(final int i, final float newValue) {
+        this.array.lazySet(i, Float.floatToRawIntBits(newValue));
+    }
+
+    /**
+     * Atomically sets the element at position {@code i} to the given
+     * value and returns the old value.
+     *
+     * @param i        the index
+     * @param newValue the new value
+     * @return the previous value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final float getAndSet(final int i, final float newValue) {
+        return Float.intBitsToFloat(this.array.getAndSet(i, Float.floatToRawIntBits(newValue)));
+    }
+
+    /**
+     * Atomically sets the element at position {@code i} to the given
+     * updated value if the current value is bitwise equal to the expected value.
+     *
+     * @param i      the index
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful. False return indicates that
+     * the actual value was not equal to the expected value.
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final boolean compareAndSet(final int i, final float expect, final float update) {
+        return this.array.compareAndSet(i, Float.floatToRawIntBits(expect), Float.floatToRawIntBits(update));
+    }
+
+    /**
+     * Atomically adds the given value to the element at index {@code i}.
+     *
+     * @param i     the index
+     * @param delta the value to add
+     * @return the previous value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final float getAndAdd(final int i, final float delta) {
+        int prev;
+        int next;
+        float prevValue;
+        do {
+            prev = this.array.get(i);
+            prevValue = Float.intBitsToFloat(prev);
+            next = Float.floatToRawIntBits(prevValue + delta);
+        } while (!this.array.compareAndSet(i, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically adds the given value to the element at index {@code i}.
+     *
+     * @param i     the index
+     * @param delta the value to add
+     * @return the updated value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final float addAndGet(final int i, final float delta) {
+        int prev;
+        float nextValue;
+        do {
+            prev = this.array.get(i);
+            nextValue = Float.intBitsToFloat(prev) + delta;
+        } while (!this.array.compareAndSet(i, prev, Float.floatToRawIntBits(nextValue)));
+        return nextValue;
+    }
+
+    /**
+     * Atomically updates the element at index {@code i} with the results
+     * of applying the given function, returning the previous value. The
+     * function should be side-effect-free, since it may be re-applied
+     * when attempted updates fail due to contention among threads.
+     *
+     * @param i              the index
+     * @param updateFunction a side-effect-free function
+     * @return the previous value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final float getAndUpdate(final int i, final FloatUnaryOperator updateFunction) {
+        int prev;
+        int next;
+        float prevValue;
+        do {
+            prev = this.array.get(i);
+            prevValue = Float.intBitsToFloat(prev);
+            next = Float.floatToRawIntBits(updateFunction.applyAsFloat(prevValue));
+        } while (!this.array.compareAndSet(i, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the element at index {@code i} with the results
+     * of applying the given function, returning the updated value. The
+     * function should be side-effect-free, since it may be re-applied
+     * when attempted updates fail due to contention among threads.
+     *
+     * @param i              the index
+     * @param updateFunction a side-effect-free function
+     * @return the updated value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final float updateAndGet(final int i, final FloatUnaryOperator updateFunction) {
+        int prev;
+        float nextValue;
+        do {
+            prev = this.array.get(i);
+            nextValue = updateFunction.applyAsFloat(Float.intBitsToFloat(prev));
+        } while (!this.array.compareAndSet(i, prev, Float.floatToRawIntBits(nextValue)));
+        return nextValue;
+    }
+
+    /**
+     * Atomically updates the element at index {@code i} with the
+     * results of applying the given function to the current and
+     * given values, returning the previous value. The function should
+     * be side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads. The function is
+     * applied with the current value at index {@code i} as its first
+     * argument, and the given update as the second argument.
+     *
+     * @param i                   the index
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the previous value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final float getAndAccumulate(final int i, final float x, final FloatBinaryOperator accumulatorFunction) {
+        int prev;
+        int next;
+        float prevValue;
+        do {
+            prev = this.array.get(i);
+            prevValue = Float.intBitsToFloat(prev);
+            next = Float.floatToRawIntBits(accumulatorFunction.applyAsFloat(prevValue, x));
+        } while (!this.array.compareAndSet(i, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the element at index {@code i} with the
+     * results of applying the given function to the current and
+     * given values, returning the updated value. The function should
+     * be side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads. The function is
+     * applied with the current value at index {@code i} as its first
+     * argument, and the given update as the second argument.
+     *
+     * @param i                   the index
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the updated value
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds
+     */
+    public final float accumulateAndGet(final int i, final float x, final FloatBinaryOperator accumulatorFunction) {
+        int prev;
+        float nextValue;
+        do {
+            prev = this.array.get(i);
+            nextValue = accumulatorFunction.applyAsFloat(Float.intBitsToFloat(prev), x);
+        } while (!this.array.compareAndSet(i, prev, Float.floatToRawIntBits(nextValue)));
+        return nextValue;
+    }
+
+    /**
+     * Returns the String representation of the current values of array.
+     *
+     * @return the String representation of the current values of array
+     */
+    @Override
+    public String toString() {
+        final int length = this.array.length();
+        if (length == 0) {
+            return "[]";
+        }
+        final StringBuilder builder = new StringBuilder().append('[');
+        for (int idx = 0; ; ++idx) {
+            builder.append(this.get(idx));
+            if (idx == length - 1) {
+                return builder.append(']').toString();
+            }
+            builder.append(',').append(' ');
+        }
+    }
+}
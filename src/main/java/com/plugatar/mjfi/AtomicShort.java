@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A {@code short} value that may be updated atomically. See the
+ * {@link java.util.concurrent.atomic} package specification for description
+ * of the properties of atomic variables. An {@code AtomicShort} is used in
+ * applications such as atomically updated counters, and cannot be used as
+ * a replacement for a {@link Short}. However, this class does extend
+ * {@code Number} to allow uniform access by tools and utilities that deal with
+ * numerically-based classes.
+ * <p>
+ * The value is kept in an {@code int} field, so all operations are
+ * implemented by an {@link AtomicIntegerFieldUpdater}.
+ *
+ * @see java.util.concurrent.atomic.AtomicInteger
+ */
+public class AtomicShort extends Number implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final AtomicIntegerFieldUpdater<AtomicShort> VALUE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(AtomicShort.class, "value");
+    private volatile int value;
+
+    /**
+     * Creates a new AtomicShort with the given initial value.
+     *
+     * @param initialValue the initial value
+     */
+    public AtomicShort(final short initialValue) {
+        this.value = initialValue;
+    }
+
+    /**
+     * Creates a new AtomicShort with initial value {@code 0}.
+     */
+    public AtomicShort() {
+        this((short) 0);
+    }
+
+    /**
+     * Gets the current value.
+     *
+     * @return the current value
+     */
+    public final short get() {
+        return (short) this.value;
+    }
+
+    /**
+     * Sets to the given value.
+     *
+     * @param newValue the new value
+     */
+    public final void set(final short newValue) {
+        this.value = newValue;
+    }
+
+    /**
+     * Eventually sets to the given value.
+     *
+     * @param newValue the new value
+     */
+    public final void lazySet(final short newValue) {
+        VALUE_UPDATER.lazySet(this, newValue);
+    }
+
+    /**
+     * Atomically sets to the given value and returns the old value.
+     *
+     * @param newValue the new value
+     * @return the previous value
+     */
+    public final short getAndSet(final short newValue) {
+        return (short) VALUE_UPDATER.getAndSet(this, newValue);
+    }
+
+    /**
+     * Atomically sets the value to the given updated value
+     * if the current value {@code ==} the expected value.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful. False return indicates that
+     * the actual value was not equal to the expected value.
+     */
+    public final boolean compareAndSet(final short expect, final short update) {
+        return VALUE_UPDATER.compareAndSet(this, expect, update);
+    }
+
+    /**
+     * Atomically sets the value to the given updated value
+     * if the current value {@code ==} the expected value.
+     * <p>
+     * May fail spuriously and does not provide ordering guarantees, so is
+     * only rarely an appropriate alternative to {@code compareAndSet}.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful
+     */
+    public final boolean weakCompareAndSet(final short expect, final short update) {
+        return VALUE_UPDATER.weakCompareAndSet(this, expect, update);
+    }
+
+    /**
+     * Atomically adds the given value to the current value.
+     *
+     * @param delta the value to add, the result is narrowed to {@code short}
+     * @return the previous value
+     */
+    public final short getAndAdd(final short delta) {
+        int prev;
+        short prevValue;
+        do {
+            prev = this.value;
+            prevValue = (short) prev;
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, (short) (prevValue + delta)));
+        return prevValue;
+    }
+
+    /**
+     * Atomically adds the given value to the current value.
+     *
+     * @param delta the value to add, the result is narrowed to {@code short}
+     * @return the updated value
+     */
+    public final short addAndGet(final short delta) {
+        int prev;
+        short nextValue;
+        do {
+            prev = this.value;
+            nextValue = (short) ((short) prev + delta);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, nextValue));
+        return nextValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function, returning the previous value. The
+     * function should be side-effect-free, since it may be re-applied
+     * when attempted updates fail due to contention among threads.
+     *
+     * @param updateFunction a side-effect-free function
+     * @return the previous value
+     */
+    public final short getAndUpdate(final ShortUnaryOperator updateFunction) {
+        int prev;
+        int next;
+        short prevValue;
+        do {
+            prev = this.value;
+            prevValue = (short) prev;
+            next = updateFunction.applyAsShort(prevValue);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function, returning the updated value. The
+     * function should be side-effect-free, since it may be re-applied
+     * when attempted updates fail due to contention among threads.
+     *
+     * @param updateFunction a side-effect-free function
+     * @return the updated value
+     */
+    public final short updateAndGet(final ShortUnaryOperator updateFunction) {
+        int prev;
+        short nextValue;
+        do {
+            prev = this.value;
+            nextValue = updateFunction.applyAsShort((short) prev);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, nextValue));
+        return nextValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function to the current and given values,
+     * returning the previous value. The function should be
+     * side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads. The function
+     * is applied with the current value as its first argument,
+     * and the given update as the second argument.
+     *
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the previous value
+     */
+    public final short getAndAccumulate(final short x, final ShortBinaryOperator accumulatorFunction) {
+        int prev;
+        int next;
+        short prevValue;
+        do {
+            prev = this.value;
+            prevValue = (short) prev;
+            next = accumulatorFunction.applyAsShort(prevValue, x);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the current value with the results of
+     * applying the given function to the current and given values,
+     * returning the updated value. The function should be
+     * side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads. The function
+     * is applied with the current value as its first argument,
+     * and the given update as the second argument.
+     *
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the updated value
+     */
+    public final short accumulateAndGet(final short x, final ShortBinaryOperator accumulatorFunction) {
+        int prev;
+        short nextValue;
+        do {
+            prev = this.value;
+            nextValue = accumulatorFunction.applyAsShort((short) prev, x);
+        } while (!VALUE_UPDATER.compareAndSet(this, prev, nextValue));
+        return nextValue;
+    }
+
+    /**
+     * Returns the String representation of the current value.
+     *
+     * @return the String representation of the current value
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(this.get());
+    }
+
+    /**
+     * Returns the value of this {@code AtomicShort} as an {@code int}
+     * after a widening primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code int}
+     */
+    @Override
+    public int intValue() {
+        return (int) this.get();
+    }
+
+    /**
+     * Returns the value of this {@code AtomicShort} as a {@code long}
+     * after a widening primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code long}
+     */
+    @Override
+    public long longValue() {
+        return (long) this.get();
+    }
+
+    /**
+     * Returns the value of this {@code AtomicShort} as a {@code float}
+     * after a widening primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code float}
+     */
+    @Override
+    public float floatValue() {
+        return (float) this.get();
+    }
+
+    /**
+     * Returns the value of this {@code AtomicShort} as a {@code double}
+     * after a widening primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code double}
+     */
+    @Override
+    public double doubleValue() {
+        return (double) this.get();
+    }
+}
@@ -0,0 +1,539 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.ShortBuffer;
+import java.util.Objects;
+
+/**
+ * Bulk operations over the remaining values of {@link FloatBuffer},
+ * {@link ShortBuffer}, {@link ByteBuffer} and {@link CharBuffer} that
+ * apply the primitive functional interfaces without copying the values
+ * into arrays.
+ * <p>
+ * Every operation processes the values between the position and the limit
+ * of a buffer and leaves the position, the limit and the mark of the buffer
+ * unchanged; buffers are neither duplicated nor sliced. Buffers backed by an
+ * accessible array are processed directly over the array, other buffers,
+ * including direct and read-only buffers, through the absolute
+ * {@code get(int)} and {@code put(int, x)} methods.
+ */
+public final class Buffers {
+
+    /**
+     * Utility class ctor.
+     */
+    private Buffers() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Replaces each remaining value of the given buffer with the result of
+     * applying the operator to that value.
+     *
+     * @param buffer   the buffer
+     * @param operator the operator
+     * @throws NullPointerException    if any arg is null
+     * @throws ReadOnlyBufferException if {@code buffer} is read-only
+     */
+    public static void replaceAll(final FloatBuffer buffer, final FloatUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkWritable(buffer);
+        final int position = buffer.position();
+        final int limit = buffer.limit();
+        if (buffer.hasArray()) {
+            final float[] array = buffer.array();
+            final int offset = buffer.arrayOffset();
+            for (int idx = offset + position, end = offset + limit; idx < end; ++idx) {
+                array[idx] = operator.applyAsFloat(array[idx]);
+            }
+        } else {
+            for (int idx = position; idx < limit; ++idx) {
+                buffer.put(idx, operator.applyAsFloat(buffer.get(idx)));
+            }
+        }
+    }
+
+    /**
+     * Performs the given action for each remaining value of the given buffer
+     * in order.
+     *
+     * @param buffer the buffer
+     * @param action the action
+     * @throws NullPointerException if any arg is null
+     */
+    public static void forEach(final FloatBuffer buffer, final FloatConsumer action) {
+        Objects.requireNonNull(action);
+        final int position = buffer.position();
+        final int limit = buffer.limit();
+        if (buffer.hasArray()) {
+            final float[] array = buffer.array();
+            final int offset = buffer.arrayOffset();
+            for (int idx = offset + position, end = offset + limit; idx < end; ++idx) {
+                action.accept(array[idx]);
+            }
+        } else {
+            for (int idx = position; idx < limit; ++idx) {
+                action.accept(buffer.get(idx));
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first remaining value of the given buffer
+     * that matches the predicate. The index is relative to the position of
+     * the buffer, like the index returned by {@code mismatch}.
+     *
+     * @param buffer    the buffer
+     * @param predicate the predicate
+     * @return the index of the first matching value relative to the position,
+     * or {@code -1} if there is no such value
+     * @throws NullPointerException if any arg is null
+     */
+    public static int indexOf(final FloatBuffer buffer, final FloatPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        final int position = buffer.position();
+        final int limit = buffer.limit();
+        if (buffer.hasArray()) {
+            final float[] array = buffer.array();
+            final int start = buffer.arrayOffset() + position;
+            for (int idx = start, end = start + limit - position; idx < end; ++idx) {
+                if (predicate.test(array[idx])) {
+                    return idx - start;
+                }
+            }
+        } else {
+            for (int idx = position; idx < limit; ++idx) {
+                if (predicate.test(buffer.get(idx))) {
+                    return idx - position;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Applies the operator to each remaining value of the source buffer and
+     * stores the results into the destination buffer starting at its position,
+     * i.e. {@code dst.get(dst.position() + i) = operator(src.get(src.position() + i))}.
+     * The source and the destination may be the same buffer.
+     *
+     * @param src      the source buffer
+     * @param dst      the destination buffer
+     * @param operator the operator
+     * @throws NullPointerException    if any arg is null
+     * @throws BufferOverflowException if {@code dst} has fewer remaining values than {@code src}
+     * @throws ReadOnlyBufferException if {@code dst} is read-only
+     */
+    public static void transform(final FloatBuffer src, final FloatBuffer dst, final FloatUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkTransformArgs(src, dst);
+        final int srcPosition = src.position();
+        final int dstPosition = dst.position();
+        final int length = src.limit() - srcPosition;
+        if (src.hasArray() && dst.hasArray()) {
+            final float[] srcArray = src.array();
+            final float[] dstArray = dst.array();
+            final int srcStart = src.arrayOffset() + srcPosition;
+            final int dstStart = dst.arrayOffset() + dstPosition;
+            for (int idx = 0; idx < length; ++idx) {
+                dstArray[dstStart + idx] = operator.applyAsFloat(srcArray[srcStart + idx]);
+            }
+        } else {
+            for (int idx = 0; idx < length; ++idx) {
+                dst.put(dstPosition + idx, operator.applyAsFloat(src.get(srcPosition + idx)));
+            }
+        }
+    }
+
+    /**
+     * Replaces each remaining value of the given buffer with the result of
+     * applying the operator to that value.
+     *
+     * @param buffer   the buffer
+     * @param operator the operator
+     * @throws NullPointerException    if any arg is null
+     * @throws ReadOnlyBufferException if {@code buffer} is read-only
+     */
+    public static void replaceAll(final ShortBuffer buffer, final ShortUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkWritable(buffer);
+        final int position = buffer.position();
+        final int limit = buffer.limit();
+        if (buffer.hasArray()) {
+            final short[] array = buffer.array();
+            final int offset = buffer.arrayOffset();
+            for (int idx = offset + position, end = offset + limit; idx < end; ++idx) {
+                array[idx] = operator.applyAsShort(array[idx]);
+            }
+        } else {
+            for (int idx = position; idx < limit; ++idx) {
+                buffer.put(idx, operator.applyAsShort(buffer.get(idx)));
+            }
+        }
+    }
+
+    /**
+     * Performs the given action for each remaining value of the given buffer
+     * in order.
+     *
+     * @param buffer the buffer
+     * @param action the action
+     * @throws NullPointerException if any arg is null
+     */
+    public static void forEach(final ShortBuffer buffer, final ShortConsumer action) {
+        Objects.requireNonNull(action);
+        final int position = buffer.position();
+        final int limit = buffer.limit();
+        if (buffer.hasArray()) {
+            final short[] array = buffer.array();
+            final int offset = buffer.arrayOffset();
+            for (int idx = offset + position, end = offset + limit; idx < end; ++idx) {
+                action.accept(array[idx]);
+            }
+        } else {
+            for (int idx = position; idx < limit; ++idx) {
+                action.accept(buffer.get(idx));
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first remaining value of the given buffer
+     * that matches the predicate. The index is relative to the position of
+     * the buffer, like the index returned by {@code mismatch}.
+     *
+     * @param buffer    the buffer
+     * @param predicate the predicate
+     * @return the index of the first matching value relative to the position,
+     * or {@code -1} if there is no such value
+     * @throws NullPointerException if any arg is null
+     */
+    public static int indexOf(final ShortBuffer buffer, final ShortPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        final int position = buffer.position();
+        final int limit = buffer.limit();
+        if (buffer.hasArray()) {
+            final short[] array = buffer.array();
+            final int start = buffer.arrayOffset() + position;
+            for (int idx = start, end = start + limit - position; idx < end; ++idx) {
+                if (predicate.test(array[idx])) {
+                    return idx - start;
+                }
+            }
+        } else {
+            for (int idx = position; idx < limit; ++idx) {
+                if (predicate.test(buffer.get(idx))) {
+                    return idx - position;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Applies the operator to each remaining value of the source buffer and
+     * stores the results into the destination buffer starting at its position,
+     * i.e. {@code dst.get(dst.position() + i) = operator(src.get(src.position() + i))}.
+     * The source and the destination may be the same buffer.
+     *
+     * @param src      the source buffer
+     * @param dst      the destination buffer
+     * @param operator the operator
+     * @throws NullPointerException    if any arg is null
+     * @throws BufferOverflowException if {@code dst} has fewer remaining values than {@code src}
+     * @throws ReadOnlyBufferException if {@code dst} is read-only
+     */
+    public static void transform(final ShortBuffer src, final ShortBuffer dst, final ShortUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkTransformArgs(src, dst);
+        final int srcPosition = src.position();
+        final int dstPosition = dst.position();
+        final int length = src.limit() - srcPosition;
+        if (src.hasArray() && dst.hasArray()) {
+            final short[] srcArray = src.array();
+            final short[] dstArray = dst.array();
+            final int srcStart = src.arrayOffset() + srcPosition;
+            final int dstStart = dst.arrayOffset() + dstPosition;
+            for (int idx = 0; idx < length; ++idx) {
+                dstArray[dstStart + idx] = operator.applyAsShort(srcArray[srcStart + idx]);
+            }
+        } else {
+            for (int idx = 0; idx < length; ++idx) {
+                dst.put(dstPosition + idx, operator.applyAsShort(src.get(srcPosition + idx)));
+            }
+        }
+    }
+
+    /**
+     * Replaces each remaining value of the given buffer with the result of
+     * applying the operator to that value.
+     *
+     * @param buffer   the buffer
+     * @param operator the operator
+     * @throws NullPointerException    if any arg is null
+     * @throws ReadOnlyBufferException if {@code buffer} is read-only
+     */
+    public static void replaceAll(final ByteBuffer buffer, final ByteUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkWritable(buffer);
+        final int position = buffer.position();
+        final int limit = buffer.limit();
+        if (buffer.hasArray()) {
+            final byte[] array = buffer.array();
+            final int offset = buffer.arrayOffset();
+            for (int idx = offset + position, end = offset + limit; idx < end; ++idx) {
+                array[idx] = operator.applyAsByte(array[idx]);
+            }
+        } else {
+            for (int idx = position; idx < limit; ++idx) {
+                buffer.put(idx, operator.applyAsByte(buffer.get(idx)));
+            }
+        }
+    }
+
+    /**
+     * Performs the given action for each remaining value of the given buffer
+     * in order.
+     *
+     * @param buffer the buffer
+     * @param action the action
+     * @throws NullPointerException if any arg is null
+     */
+    public static void forEach(final ByteBuffer buffer, final ByteConsumer action) {
+        Objects.requireNonNull(action);
+        final int position = buffer.position();
+        final int limit = buffer.limit();
+        if (buffer.hasArray()) {
+            final byte[] array = buffer.array();
+            final int offset = buffer.arrayOffset();
+            for (int idx = offset + position, end = offset + limit; idx < end; ++idx) {
+                action.accept(array[idx]);
+            }
+        } else {
+            for (int idx = position; idx < limit; ++idx) {
+                action.accept(buffer.get(idx));
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first remaining value of the given buffer
+     * that matches the predicate. The index is relative to the position of
+     * the buffer, like the index returned by {@code mismatch}.
+     *
+     * @param buffer    the buffer
+     * @param predicate the predicate
+     * @return the index of the first matching value relative to the position,
+     * or {@code -1} if there is no such value
+     * @throws NullPointerException if any arg is null
+     */
+    public static int indexOf(final ByteBuffer buffer, final BytePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        final int position = buffer.position();
+        final int limit = buffer.limit();
+        if (buffer.hasArray()) {
+            final byte[] array = buffer.array();
+            final int start = buffer.arrayOffset() + position;
+            for (int idx = start, end = start + limit - position; idx < end; ++idx) {
+                if (predicate.test(array[idx])) {
+                    return idx - start;
+                }
+            }
+        } else {
+            for (int idx = position; idx < limit; ++idx) {
+                if (predicate.test(buffer.get(idx))) {
+                    return idx - position;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Applies the operator to each remaining value of the source buffer and
+     * stores the results into the destination buffer starting at its position,
+     * i.e. {@code dst.get(dst.position() + i) = operator(src.get(src.position() + i))}.
+     * The source and the destination may be the same buffer.
+     *
+     * @param src      the source buffer
+     * @param dst      the destination buffer
+     * @param operator the operator
+     * @throws NullPointerException    if any arg is null
+     * @throws BufferOverflowException if {@code dst} has fewer remaining values than {@code src}
+     * @throws ReadOnlyBufferException if {@code dst} is read-only
+     */
+    public static void transform(final ByteBuffer src, final ByteBuffer dst, final ByteUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkTransformArgs(src, dst);
+        final int srcPosition = src.position();
+        final int dstPosition = dst.position();
+        final int length = src.limit() - srcPosition;
+        if (src.hasArray() && dst.hasArray()) {
+            final byte[] srcArray = src.array();
+            final byte[] dstArray = dst.array();
+            final int srcStart = src.arrayOffset() + srcPosition;
+            final int dstStart = dst.arrayOffset() + dstPosition;
+            for (int idx = 0; idx < length; ++idx) {
+                dstArray[dstStart + idx] = operator.applyAsByte(srcArray[srcStart + idx]);
+            }
+        } else {
+            for (int idx = 0; idx < length; ++idx) {
+                dst.put(dstPosition + idx, operator.applyAsByte(src.get(srcPosition + idx)));
+            }
+        }
+    }
+
+    /**
+     * Replaces each remaining value of the given buffer with the result of
+     * applying the operator to that value.
+     *
+     * @param buffer   the buffer
+     * @param operator the operator
+     * @throws NullPointerException    if any arg is null
+     * @throws ReadOnlyBufferException if {@code buffer} is read-only
+     */
+    public static void replaceAll(final CharBuffer buffer, final CharUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkWritable(buffer);
+        final int position = buffer.position();
+        final int limit = buffer.limit();
+        if (buffer.hasArray()) {
+            final char[] array = buffer.array();
+            final int offset = buffer.arrayOffset();
+            for (int idx = offset + position, end = offset + limit; idx < end; ++idx) {
+                array[idx] = operator.applyAsChar(array[idx]);
+            }
+        } else {
+            for (int idx = position; idx < limit; ++idx) {
+                buffer.put(idx, operator.applyAsChar(buffer.get(idx)));
+            }
+        }
+    }
+
+    /**
+     * Performs the given action for each remaining value of the given buffer
+     * in order.
+     *
+     * @param buffer the buffer
+     * @param action the action
+     * @throws NullPointerException if any arg is null
+     */
+    public static void forEach(final CharBuffer buffer, final CharConsumer action) {
+        Objects.requireNonNull(action);
+        final int position = buffer.position();
+        final int limit = buffer.limit();
+        if (buffer.hasArray()) {
+            final char[] array = buffer.array();
+            final int offset = buffer.arrayOffset();
+            for (int idx = offset + position, end = offset + limit; idx < end; ++idx) {
+                action.accept(array[idx]);
+            }
+        } else {
+            for (int idx = position; idx < limit; ++idx) {
+                action.accept(buffer.get(idx));
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first remaining value of the given buffer
+     * that matches the predicate. The index is relative to the position of
+     * the buffer, like the index returned by {@code mismatch}.
+     *
+     * @param buffer    the buffer
+     * @param predicate the predicate
+     * @return the index of the first matching value relative to the position,
+     * or {@code -1} if there is no such value
+     * @throws NullPointerException if any arg is null
+     */
+    public static int indexOf(final CharBuffer buffer, final CharPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        final int position = buffer.position();
+        final int limit = buffer.limit();
+        if (buffer.hasArray()) {
+            final char[] array = buffer.array();
+            final int start = buffer.arrayOffset() + position;
+            for (int idx = start, end = start + limit - position; idx < end; ++idx) {
+                if (predicate.test(array[idx])) {
+                    return idx - start;
+                }
+            }
+        } else {
+            for (int idx = position; idx < limit; ++idx) {
+                if (predicate.test(buffer.get(idx))) {
+                    return idx - position;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Applies the operator to each remaining value of the source buffer and
+     * stores the results into the destination buffer starting at its position,
+     * i.e. {@code dst.get(dst.position() + i) = operator(src.get(src.position() + i))}.
+     * The source and the destination may be the same buffer.
+     *
+     * @param src      the source buffer
+     * @param dst      the destination buffer
+     * @param operator the operator
+     * @throws NullPointerException    if any arg is null
+     * @throws BufferOverflowException if {@code dst} has fewer remaining values than {@code src}
+     * @throws ReadOnlyBufferException if {@code dst} is read-only
+     */
+    public static void transform(final CharBuffer src, final CharBuffer dst, final CharUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkTransformArgs(src, dst);
+        final int srcPosition = src.position();
+        final int dstPosition = dst.position();
+        final int length = src.limit() - srcPosition;
+        if (src.hasArray() && dst.hasArray()) {
+            final char[] srcArray = src.array();
+            final char[] dstArray = dst.array();
+            final int srcStart = src.arrayOffset() + srcPosition;
+            final int dstStart = dst.arrayOffset() + dstPosition;
+            for (int idx = 0; idx < length; ++idx) {
+                dstArray[dstStart + idx] = operator.applyAsChar(srcArray[srcStart + idx]);
+            }
+        } else {
+            for (int idx = 0; idx < length; ++idx) {
+                dst.put(dstPosition + idx, operator.applyAsChar(src.get(srcPosition + idx)));
+            }
+        }
+    }
+
+    private static void checkWritable(final Buffer buffer) {
+        if (buffer.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+    }
+
+    private static void checkTransformArgs(final Buffer src, final Buffer dst) {
+        checkWritable(dst);
+        if (src.limit() - src.position() > dst.limit() - dst.position()) {
+            throw new BufferOverflowException();
+        }
+    }
+}
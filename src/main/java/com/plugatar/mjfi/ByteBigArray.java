@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+/**
+ * A fixed-length array of {@code byte} values indexed by {@code long}, so it
+ * may hold more than {@code 2^31} values. The values are stored on the heap
+ * in chunks of {@code 2^20} values, i.e. 1 MB, so no single large allocation
+ * is needed. The chunk of the value and its index in the chunk are computed
+ * by a shift and a mask of the index.
+ * <p>
+ * The parallel methods split the array into pieces of {@code 2^13} values
+ * that never cross chunk boundaries and process them in the
+ * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+ * <p>
+ * This class is not thread-safe, except that the parallel methods may be
+ * called while no other thread accesses the array.
+ */
+public final class ByteBigArray {
+    private static final int DEFAULT_CHUNK_SHIFT = 20;
+    private final long length;
+    private final int chunkShift;
+    private final int chunkMask;
+    private final byte[][] chunks;
+
+    /**
+     * Creates a new ByteBigArray of the given length, all values are zero.
+     *
+     * @param length the length
+     * @throws IllegalArgumentException if {@code length} is negative
+     */
+    public ByteBigArray(final long length) {
+        this(length, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Creates a new ByteBigArray of the given length with chunks of {@code 2^chunkShift} values.
+     *
+     * @param length     the length
+     * @param chunkShift the binary logarithm of the chunk length
+     * @throws IllegalArgumentException if {@code length} is negative or {@code chunkShift} is out of range
+     */
+    ByteBigArray(final long length, final int chunkShift) {
+        if (length < 0L) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        if (chunkShift < 0 || chunkShift > 30) {
+            throw new IllegalArgumentException("Illegal chunk shift: " + chunkShift);
+        }
+        final long chunksCount = (length + (1L << chunkShift) - 1) >>> chunkShift;
+        if (chunksCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too large length: " + length);
+        }
+        this.length = length;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.chunks = new byte[(int) chunksCount][];
+        for (int chunk = 0; chunk < this.chunks.length; ++chunk) {
+            this.chunks[chunk] = new byte[(int) Math.min(1L << chunkShift, length - ((long) chunk << chunkShift))];
+        }
+    }
+
+    /**
+     * Returns the length of this array.
+     *
+     * @return the length
+     */
+    public long length() {
+        return this.length;
+    }
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @param index the index
+     * @return the value
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    public byte get(final long index) {
+        this.checkIndex(index);
+        return this.chunks[(int) (index >>> this.chunkShift)][(int) index & this.chunkMask];
+    }
+
+    /**
+     * Sets the value at the given index.
+     *
+     * @param index the index
+     * @param value the value
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    public void set(final long index, final byte value) {
+        this.checkIndex(index);
+        this.chunks[(int) (index >>> this.chunkShift)][(int) index & this.chunkMask] = value;
+    }
+
+    /**
+     * Sets all values of this array to the given value.
+     *
+     * @param value the value
+     */
+    public void fill(final byte value) {
+        for (final byte[] chunk : this.chunks) {
+            Arrays.fill(chunk, value);
+        }
+    }
+
+    /**
+     * Sets all values of this array using the given generator function to
+     * compute every value, i.e. {@code array[i] = generator(i)}.
+     *
+     * @param generator the generator function
+     * @throws NullPointerException if {@code generator} is null
+     */
+    public void setAll(final LongToByteFunction generator) {
+        Objects.requireNonNull(generator);
+        for (int chunkIdx = 0; chunkIdx < this.chunks.length; ++chunkIdx) {
+            final byte[] chunk = this.chunks[chunkIdx];
+            final long base = (long) chunkIdx << this.chunkShift;
+            for (int idx = 0; idx < chunk.length; ++idx) {
+                chunk[idx] = generator.applyAsByte(base + idx);
+            }
+        }
+    }
+
+    /**
+     * Sets all values of this array in parallel using the given generator
+     * function to compute every value, i.e. {@code array[i] = generator(i)}.
+     *
+     * @param generator the generator function, must be safe to call concurrently
+     * @throws NullPointerException if {@code generator} is null
+     */
+    public void parallelSetAll(final LongToByteFunction generator) {
+        Objects.requireNonNull(generator);
+        final int pieceShift = Math.min(ParallelChunks.MIN_CHUNK_SHIFT, this.chunkShift);
+        LongStream.range(0L, (this.length + (1L << pieceShift) - 1) >>> pieceShift).parallel().forEach(piece -> {
+            final long from = piece << pieceShift;
+            final byte[] chunk = this.chunks[(int) (from >>> this.chunkShift)];
+            final int chunkFrom = (int) from & this.chunkMask;
+            final int chunkTo = (int) Math.min(chunk.length, chunkFrom + (1L << pieceShift));
+            for (int idx = chunkFrom; idx < chunkTo; ++idx) {
+                chunk[idx] = generator.applyAsByte(from + idx - chunkFrom);
+            }
+        });
+    }
+
+    /**
+     * Replaces every value of this array with the result of the given
+     * operator applied to the value.
+     *
+     * @param operator the operator
+     * @throws NullPointerException if {@code operator} is null
+     */
+    public void replaceAll(final ByteUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        for (final byte[] chunk : this.chunks) {
+            for (int idx = 0; idx < chunk.length; ++idx) {
+                chunk[idx] = operator.applyAsByte(chunk[idx]);
+            }
+        }
+    }
+
+    /**
+     * Replaces every value of this array in parallel with the result of the
+     * given operator applied to the value.
+     *
+     * @param operator the operator, must be safe to call concurrently
+     * @throws NullPointerException if {@code operator} is null
+     */
+    public void parallelReplaceAll(final ByteUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final int pieceShift = Math.min(ParallelChunks.MIN_CHUNK_SHIFT, this.chunkShift);
+        LongStream.range(0L, (this.length + (1L << pieceShift) - 1) >>> pieceShift).parallel().forEach(piece -> {
+            final long from = piece << pieceShift;
+            final byte[] chunk = this.chunks[(int) (from >>> this.chunkShift)];
+            final int chunkFrom = (int) from & this.chunkMask;
+            final int chunkTo = (int) Math.min(chunk.length, chunkFrom + (1L << pieceShift));
+            for (int idx = chunkFrom; idx < chunkTo; ++idx) {
+                chunk[idx] = operator.applyAsByte(chunk[idx]);
+            }
+        });
+    }
+
+    /**
+     * Performs the given action for every value of this array in ascending
+     * order of the indexes.
+     *
+     * @param action the action
+     * @throws NullPointerException if {@code action} is null
+     */
+    public void forEach(final ByteConsumer action) {
+        Objects.requireNonNull(action);
+        for (final byte[] chunk : this.chunks) {
+            for (final byte value : chunk) {
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * Performs the given action for every index and value of this array in
+     * ascending order of the indexes.
+     *
+     * @param action the action of the index and the value
+     * @throws NullPointerException if {@code action} is null
+     */
+    public void forEachIndexed(final LongByteConsumer action) {
+        Objects.requireNonNull(action);
+        for (int chunkIdx = 0; chunkIdx < this.chunks.length; ++chunkIdx) {
+            final byte[] chunk = this.chunks[chunkIdx];
+            final long base = (long) chunkIdx << this.chunkShift;
+            for (int idx = 0; idx < chunk.length; ++idx) {
+                action.accept(base + idx, chunk[idx]);
+            }
+        }
+    }
+
+    /**
+     * Performs the given action for every value of this array in parallel,
+     * the order of the values is not defined.
+     *
+     * @param action the action, must be safe to call concurrently
+     * @throws NullPointerException if {@code action} is null
+     */
+    public void parallelForEach(final ByteConsumer action) {
+        Objects.requireNonNull(action);
+        final int pieceShift = Math.min(ParallelChunks.MIN_CHUNK_SHIFT, this.chunkShift);
+        LongStream.range(0L, (this.length + (1L << pieceShift) - 1) >>> pieceShift).parallel().forEach(piece -> {
+            final long from = piece << pieceShift;
+            final byte[] chunk = this.chunks[(int) (from >>> this.chunkShift)];
+            final int chunkFrom = (int) from & this.chunkMask;
+            final int chunkTo = (int) Math.min(chunk.length, chunkFrom + (1L << pieceShift));
+            for (int idx = chunkFrom; idx < chunkTo; ++idx) {
+                action.accept(chunk[idx]);
+            }
+        });
+    }
+
+    /**
+     * Performs the given action for every index and value of this array in
+     * parallel, the order of the indexes is not defined.
+     *
+     * @param action the action of the index and the value, must be safe to call concurrently
+     * @throws NullPointerException if {@code action} is null
+     */
+    public void parallelForEachIndexed(final LongByteConsumer action) {
+        Objects.requireNonNull(action);
+        final int pieceShift = Math.min(ParallelChunks.MIN_CHUNK_SHIFT, this.chunkShift);
+        LongStream.range(0L, (this.length + (1L << pieceShift) - 1) >>> pieceShift).parallel().forEach(piece -> {
+            final long from = piece << pieceShift;
+            final byte[] chunk = this.chunks[(int) (from >>> this.chunkShift)];
+            final int chunkFrom = (int) from & this.chunkMask;
+            final int chunkTo = (int) Math.min(chunk.length, chunkFrom + (1L << pieceShift));
+            for (int idx = chunkFrom; idx < chunkTo; ++idx) {
+                action.accept(from + idx - chunkFrom, chunk[idx]);
+            }
+        });
+    }
+
+    private void checkIndex(final long index) {
+        if (index < 0L || index >= this.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.length);
+        }
+    }
+}
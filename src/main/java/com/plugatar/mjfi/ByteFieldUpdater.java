@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A reflection-based utility that enables atomic updates to designated
+ * {@code volatile int} fields of designated classes that hold a {@code byte}
+ * value. This is the {@code byte} counterpart of
+ * {@link AtomicIntegerFieldUpdater} and is designed for use in atomic data
+ * structures in which several fields of the same node are independently subject
+ * to atomic updates, so that no {@link AtomicByte} object is allocated per
+ * field.
+ * <p>
+ * The Java 8 platform has no atomic access to {@code volatile byte} fields, so
+ * the updated field must be declared as {@code volatile int}. The field holds
+ * the {@code byte} value widened to {@code int}. Direct reads and writes of the
+ * field have to use the same encoding, so it is simpler to access the field
+ * only through this updater.
+ * <p>
+ * The update functions are {@link ObjByteToByteFunction} instances that accept
+ * the updated object and the current value of the field and produce the new
+ * value of the field.
+ *
+ * @param <T> the type of the object holding the updatable field
+ * @see AtomicIntegerFieldUpdater
+ */
+public final class ByteFieldUpdater<T> {
+    private final AtomicIntegerFieldUpdater<T> updater;
+
+    private ByteFieldUpdater(final AtomicIntegerFieldUpdater<T> updater) {
+        this.updater = updater;
+    }
+
+    /**
+     * Creates and returns an updater for objects with the given field.
+     * <p>
+     * Access control is checked against this library, so the field and the class
+     * have to be accessible from it. Use
+     * {@link #newUpdater(AtomicIntegerFieldUpdater)} for fields that are accessible
+     * only from the caller.
+     *
+     * @param tclass    the class of the objects holding the field
+     * @param fieldName the name of the {@code volatile int} field to be updated
+     * @param <U>       the type of instances of tclass
+     * @return the updater
+     * @throws IllegalArgumentException if the field is not a volatile integer type
+     * @throws RuntimeException         with a nested reflection-based exception if
+     *                                  the class does not hold field or is the wrong type, or the field is
+     *                                  inaccessible to this library according to Java language access control
+     */
+    public static <U> ByteFieldUpdater<U> newUpdater(final Class<U> tclass, final String fieldName) {
+        return new ByteFieldUpdater<>(AtomicIntegerFieldUpdater.newUpdater(tclass, fieldName));
+    }
+
+    /**
+     * Creates and returns an updater that uses the given {@code int}
+     * field updater. The field updater is created by the caller, so the field
+     * only has to be accessible from the caller.
+     *
+     * @param updater the {@code int} field updater
+     * @param <U>     the type of the object holding the updatable field
+     * @return the updater
+     * @throws NullPointerException if {@code updater} is null
+     */
+    public static <U> ByteFieldUpdater<U> newUpdater(final AtomicIntegerFieldUpdater<U> updater) {
+        Objects.requireNonNull(updater);
+        return new ByteFieldUpdater<>(updater);
+    }
+
+    /**
+     * Gets the current value held in the field of the given object managed
+     * by this updater.
+     *
+     * @param obj an object whose field to get
+     * @return the current value
+     */
+    public byte get(final T obj) {
+        return (byte) this.updater.get(obj);
+    }
+
+    /**
+     * Sets the field of the given object managed by this updater to the
+     * given updated value.
+     *
+     * @param obj      an object whose field to set
+     * @param newValue the new value
+     */
+    public void set(final T obj, final byte newValue) {
+        this.updater.set(obj, newValue);
+    }
+
+    /**
+     * Eventually sets the field of the given object managed by this updater
+     * to the given updated value.
+     *
+     * @param obj      an object whose field to set
+     * @param newValue the new value
+     */
+    public void lazySet(final T obj, final byte newValue) {
+        this.updater.lazySet(obj, newValue);
+    }
+
+    /**
+     * Atomically sets the field of the given object managed by this updater
+     * to the given value and returns the old value.
+     *
+     * @param obj      an object whose field to get and set
+     * @param newValue the new value
+     * @return the previous value
+     */
+    public byte getAndSet(final T obj, final byte newValue) {
+        return (byte) this.updater.getAndSet(obj, newValue);
+    }
+
+    /**
+     * Atomically sets the field of the given object managed by this updater
+     * to the given updated value if the current value {@code ==} the expected value.
+     *
+     * @param obj    an object whose field to conditionally set
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful
+     */
+    public boolean compareAndSet(final T obj, final byte expect, final byte update) {
+        return this.updater.compareAndSet(obj, expect, update);
+    }
+
+    /**
+     * Atomically sets the field of the given object managed by this updater
+     * to the given updated value if the current value {@code ==} the expected value.
+     * <p>
+     * May fail spuriously and does not provide ordering guarantees, so is
+     * only rarely an appropriate alternative to {@code compareAndSet}.
+     *
+     * @param obj    an object whose field to conditionally set
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful
+     */
+    public boolean weakCompareAndSet(final T obj, final byte expect, final byte update) {
+        return this.updater.weakCompareAndSet(obj, expect, update);
+    }
+
+    /**
+     * Atomically updates the field of the given object managed by this
+     * updater with the results of applying the given function to the object
+     * and the current value, returning the previous value. The function
+     * should be side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads.
+     *
+     * @param obj            an object whose field to get and set
+     * @param updateFunction a side-effect-free function
+     * @return the previous value
+     */
+    public byte getAndUpdate(final T obj, final ObjByteToByteFunction<? super T> updateFunction) {
+        int prev;
+        int next;
+        byte prevValue;
+        do {
+            prev = this.updater.get(obj);
+            prevValue = (byte) prev;
+            next = updateFunction.applyAsByte(obj, prevValue);
+        } while (!this.updater.compareAndSet(obj, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the field of the given object managed by this
+     * updater with the results of applying the given function to the object
+     * and the current value, returning the updated value. The function
+     * should be side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads.
+     *
+     * @param obj            an object whose field to get and set
+     * @param updateFunction a side-effect-free function
+     * @return the updated value
+     */
+    public byte updateAndGet(final T obj, final ObjByteToByteFunction<? super T> updateFunction) {
+        int prev;
+        byte nextValue;
+        do {
+            prev = this.updater.get(obj);
+            nextValue = updateFunction.applyAsByte(obj, (byte) prev);
+        } while (!this.updater.compareAndSet(obj, prev, nextValue));
+        return nextValue;
+    }
+
+    /**
+     * Atomically updates the field of the given object managed by this
+     * updater with the results of applying the given function to the current
+     * and given values, returning the previous value. The function should be
+     * side-effect-free, since it may be re-applied when attempted updates fail
+     * due to contention among threads. The function is applied with the
+     * current value as its first argument, and the given update as the
+     * second argument.
+     *
+     * @param obj                 an object whose field to get and set
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the previous value
+     */
+    public byte getAndAccumulate(final T obj, final byte x, final ByteBinaryOperator accumulatorFunction) {
+        int prev;
+        int next;
+        byte prevValue;
+        do {
+            prev = this.updater.get(obj);
+            prevValue = (byte) prev;
+            next = accumulatorFunction.applyAsByte(prevValue, x);
+        } while (!this.updater.compareAndSet(obj, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the field of the given object managed by this
+     * updater with the results of applying the given function to the current
+     * and given values, returning the updated value. The function should be
+     * side-effect-free, since it may be re-applied when attempted updates fail
+     * due to contention among threads. The function is applied with the
+     * current value as its first argument, and the given update as the
+     * second argument.
+     *
+     * @param obj                 an object whose field to get and set
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the updated value
+     */
+    public byte accumulateAndGet(final T obj, final byte x, final ByteBinaryOperator accumulatorFunction) {
+        int prev;
+        byte nextValue;
+        do {
+            prev = this.updater.get(obj);
+            nextValue = accumulatorFunction.applyAsByte((byte) prev, x);
+        } while (!this.updater.compareAndSet(obj, prev, nextValue));
+        return nextValue;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+/**
+ * A histogram of {@code byte} values with {@code 256} buckets, the count of
+ * value {@code v} is in the bucket with index {@code v & 0xFF}.
+ * <p>
+ * Values can be counted one by one through the {@link ByteConsumer} interface
+ * or in bulk with the {@link #add(byte[], int, int)} method. The bulk method
+ * counts consecutive values into four separate tables, so runs of equal
+ * values do not serialize on the increments of the same counter.
+ * <p>
+ * This class is not thread-safe. Histograms of separate parts of the input
+ * can be combined with the {@link #merge(ByteHistogram)} method, the parallel
+ * factory methods and the collectors count every part of the input into its
+ * own histogram and merge the histograms.
+ */
+public final class ByteHistogram implements ByteConsumer {
+    private static final int BUCKETS = 1 << Byte.SIZE;
+    private static final int SECOND_TABLE = BUCKETS;
+    private static final int THIRD_TABLE = BUCKETS * 2;
+    private static final int FOURTH_TABLE = BUCKETS * 3;
+    private static final int MIN_UNROLLED_LENGTH = 1 << 10;
+    private final long[] counts;
+
+    /**
+     * Creates a new empty ByteHistogram.
+     */
+    public ByteHistogram() {
+        this.counts = new long[BUCKETS];
+    }
+
+    /**
+     * Returns a new histogram of the values of the given array.
+     *
+     * @param array the array
+     * @return the histogram
+     * @throws NullPointerException if {@code array} is null
+     */
+    public static ByteHistogram of(final byte[] array) {
+        final ByteHistogram histogram = new ByteHistogram();
+        histogram.add(array);
+        return histogram;
+    }
+
+    /**
+     * Returns a new histogram of the {@code byte} keys of the given array
+     * elements.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function
+     * @param <T>          the type of the array elements
+     * @return the histogram
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> ByteHistogram of(final T[] array, final ToByteFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final ByteHistogram histogram = new ByteHistogram();
+        for (final T element : array) {
+            histogram.accept(keyExtractor.applyAsByte(element));
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns a new histogram of the values of the given array counted in
+     * parallel.
+     *
+     * @param array the array
+     * @return the histogram
+     * @throws NullPointerException if {@code array} is null
+     */
+    public static ByteHistogram parallelOf(final byte[] array) {
+        Objects.requireNonNull(array);
+        final int chunks = parallelChunks(array.length);
+        final int chunkSize = (array.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    final int from = chunk * chunkSize;
+                    final ByteHistogram histogram = new ByteHistogram();
+                    histogram.add(array, from, Math.min(array.length - from, chunkSize));
+                    return histogram;
+                })
+                .reduce(ByteHistogram::merge)
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Returns a new histogram of the {@code byte} keys of the given array
+     * elements counted in parallel.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function, must be safe to call concurrently
+     * @param <T>          the type of the array elements
+     * @return the histogram
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> ByteHistogram parallelOf(final T[] array, final ToByteFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        return IntStream.range(0, array.length).parallel().collect(
+                ByteHistogram::new,
+                (histogram, idx) -> histogram.accept(keyExtractor.applyAsByte(array[idx])),
+                ByteHistogram::merge
+        );
+    }
+
+    /**
+     * Returns a collector that counts the values into a new histogram.
+     *
+     * @return the collector
+     * @see PrimitiveCollectors#collect(byte[], ByteCollector)
+     */
+    public static ByteCollector<ByteHistogram, ByteHistogram> collector() {
+        return ByteCollector.of(ByteHistogram::new, ByteHistogram::accept, ByteHistogram::merge);
+    }
+
+    /**
+     * Returns a collector that counts the {@code byte} keys of the stream
+     * elements into a new histogram.
+     *
+     * @param keyExtractor the key function
+     * @param <T>          the type of the stream elements
+     * @return the collector
+     * @throws NullPointerException if {@code keyExtractor} is null
+     */
+    public static <T> Collector<T, ?, ByteHistogram> collector(final ToByteFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        return Collector.<T, ByteHistogram>of(
+                ByteHistogram::new,
+                (histogram, element) -> histogram.accept(keyExtractor.applyAsByte(element)),
+                ByteHistogram::merge,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Counts the given value.
+     *
+     * @param value the value
+     */
+    @Override
+    public void accept(final byte value) {
+        ++this.counts[value & 0xFF];
+    }
+
+    /**
+     * Counts the values of the given array.
+     *
+     * @param array the array
+     * @throws NullPointerException if {@code array} is null
+     */
+    public void add(final byte[] array) {
+        this.add(array, 0, array.length);
+    }
+
+    /**
+     * Counts the values of the given array range.
+     *
+     * @param array  the array
+     * @param offset the index of the first value
+     * @param length the number of values
+     * @throws NullPointerException      if {@code array} is null
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative
+     *                                   or if {@code offset + length > array.length}
+     */
+    public void add(final byte[] array, final int offset, final int length) {
+        Objects.requireNonNull(array);
+        if (offset < 0 || length < 0 || length > array.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + array.length
+            );
+        }
+        final int end = offset + length;
+        if (length < MIN_UNROLLED_LENGTH) {
+            for (int idx = offset; idx < end; ++idx) {
+                ++this.counts[array[idx] & 0xFF];
+            }
+            return;
+        }
+        final int[] tables = new int[BUCKETS * 4];
+        int idx = offset;
+        for (final int unrolledEnd = end - 3; idx < unrolledEnd; idx += 4) {
+            ++tables[array[idx] & 0xFF];
+            ++tables[SECOND_TABLE | (array[idx + 1] & 0xFF)];
+            ++tables[THIRD_TABLE | (array[idx + 2] & 0xFF)];
+            ++tables[FOURTH_TABLE | (array[idx + 3] & 0xFF)];
+        }
+        for (; idx < end; ++idx) {
+            ++tables[array[idx] & 0xFF];
+        }
+        for (int bucket = 0; bucket < BUCKETS; ++bucket) {
+            this.counts[bucket] += (long) tables[bucket] + tables[SECOND_TABLE | bucket]
+                    + tables[THIRD_TABLE | bucket] + tables[FOURTH_TABLE | bucket];
+        }
+    }
+
+    /**
+     * Adds the counts of the given histogram to this histogram.
+     *
+     * @param other the other histogram
+     * @return this histogram
+     * @throws NullPointerException if {@code other} is null
+     */
+    public ByteHistogram merge(final ByteHistogram other) {
+        final long[] otherCounts = other.counts;
+        for (int bucket = 0; bucket < BUCKETS; ++bucket) {
+            this.counts[bucket] += otherCounts[bucket];
+        }
+        return this;
+    }
+
+    /**
+     * Returns the count of the given value.
+     *
+     * @param value the value
+     * @return the count of the value
+     */
+    public long count(final byte value) {
+        return this.counts[value & 0xFF];
+    }
+
+    /**
+     * Returns the total count of the values.
+     *
+     * @return the total count
+     */
+    public long total() {
+        long total = 0L;
+        for (final long count : this.counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns a copy of the counts, the count of value {@code v} has the
+     * index {@code v & 0xFF}.
+     *
+     * @return the array of {@code 256} counts
+     */
+    public long[] counts() {
+        return this.counts.clone();
+    }
+
+    /**
+     * Resets all counts to zero.
+     */
+    public void reset() {
+        Arrays.fill(this.counts, 0L);
+    }
+
+    @Override
+    public String toString() {
+        return "ByteHistogram[total=" + this.total() + "]";
+    }
+
+    private static int parallelChunks(final int length) {
+        return ParallelChunks.count(length, ForkJoinPool.getCommonPoolParallelism());
+    }
+}
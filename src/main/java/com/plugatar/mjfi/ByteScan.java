@@ -0,0 +1,452 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Scans of {@code byte} arrays and {@link ByteBuffer}s for the values that
+ * match a {@link BytePredicate}.
+ * <p>
+ * The predicates created by {@link #matching(byte)}, {@link #anyOf(byte...)},
+ * {@link #inRange(byte, byte)} and {@link #compile(BytePredicate)} are compiled:
+ * a predicate that matches at most four values or a range of values within
+ * {@code [0, 127]} or {@code [-128, -1]} is evaluated for eight values at a
+ * time with the word-at-a-time (SWAR) bit tricks, any other predicate is
+ * evaluated with a 256-bit lookup table. Scans with other predicates call
+ * {@link BytePredicate#test(byte)} for every value.
+ */
+public final class ByteScan {
+    private static final int MAX_SET_SIZE = 4;
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    /**
+     * Utility class ctor.
+     */
+    private ByteScan() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns a compiled predicate that matches the given value.
+     *
+     * @param value the value
+     * @return compiled predicate
+     */
+    public static BytePredicate matching(final byte value) {
+        return new SingleMatcher(value);
+    }
+
+    /**
+     * Returns a compiled predicate that matches any of the given values.
+     *
+     * @param values the values
+     * @return compiled predicate
+     * @throws NullPointerException if {@code values} is null
+     */
+    public static BytePredicate anyOf(final byte... values) {
+        final long[] table = new long[4];
+        for (final byte value : values) {
+            table[(value & 0xFF) >>> 6] |= 1L << value;
+        }
+        return compile(table);
+    }
+
+    /**
+     * Returns a compiled predicate that matches the values from the given
+     * range, i.e. {@code from <= value && value <= to}.
+     *
+     * @param from the lowest matching value, inclusive
+     * @param to   the highest matching value, inclusive
+     * @return compiled predicate
+     * @throws IllegalArgumentException if {@code from > to}
+     */
+    public static BytePredicate inRange(final byte from, final byte to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+        final long[] table = new long[4];
+        for (int value = from; value <= to; ++value) {
+            table[(value & 0xFF) >>> 6] |= 1L << value;
+        }
+        return compile(table);
+    }
+
+    /**
+     * Returns a compiled predicate that matches the same values as the given
+     * predicate. The given predicate is evaluated once for each of the 256
+     * values, so it must be stateless.
+     *
+     * @param predicate the predicate
+     * @return compiled predicate
+     * @throws NullPointerException if {@code predicate} is null
+     */
+    public static BytePredicate compile(final BytePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        if (predicate instanceof SwarMatcher || predicate instanceof TableMatcher) {
+            return predicate;
+        }
+        final long[] table = new long[4];
+        for (int value = Byte.MIN_VALUE; value <= Byte.MAX_VALUE; ++value) {
+            if (predicate.test((byte) value)) {
+                table[(value & 0xFF) >>> 6] |= 1L << value;
+            }
+        }
+        return compile(table);
+    }
+
+    /**
+     * Returns the index of the first value of the given array that matches
+     * the predicate.
+     *
+     * @param array     the array
+     * @param predicate the predicate
+     * @return the index of the first matching value, or {@code -1} if there is no such value
+     * @throws NullPointerException if any arg is null
+     */
+    public static int indexOf(final byte[] array, final BytePredicate predicate) {
+        return indexOf(array, predicate, 0, array.length);
+    }
+
+    /**
+     * Returns the index of the first value of the given array range that
+     * matches the predicate.
+     *
+     * @param array     the array
+     * @param predicate the predicate
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @return the index of the first matching value, or {@code -1} if there is no such value
+     * @throws NullPointerException           if {@code array} or {@code predicate} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static int indexOf(final byte[] array,
+                              final BytePredicate predicate,
+                              final int fromIndex,
+                              final int toIndex) {
+        Objects.requireNonNull(predicate);
+        checkRange(array.length, fromIndex, toIndex);
+        return indexOfRange(ByteBuffer.wrap(array), predicate, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the absolute index of the first value of the given buffer range
+     * that matches the predicate. The position and the limit of the buffer
+     * are not changed.
+     *
+     * @param buffer    the buffer
+     * @param predicate the predicate
+     * @param fromIndex the absolute index of the first value, inclusive
+     * @param toIndex   the absolute index of the last value, exclusive
+     * @return the index of the first matching value, or {@code -1} if there is no such value
+     * @throws NullPointerException      if {@code buffer} or {@code predicate} is null
+     * @throws IllegalArgumentException  if {@code fromIndex > toIndex}
+     * @throws IndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > buffer.limit()}
+     */
+    public static int indexOf(final ByteBuffer buffer,
+                              final BytePredicate predicate,
+                              final int fromIndex,
+                              final int toIndex) {
+        Objects.requireNonNull(predicate);
+        checkBufferRange(buffer.limit(), fromIndex, toIndex);
+        return indexOfRange(buffer, predicate, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the count of the values of the given array that match the
+     * predicate.
+     *
+     * @param array     the array
+     * @param predicate the predicate
+     * @return the count of the matching values
+     * @throws NullPointerException if any arg is null
+     */
+    public static int countMatches(final byte[] array, final BytePredicate predicate) {
+        return countMatches(array, predicate, 0, array.length);
+    }
+
+    /**
+     * Returns the count of the values of the given array range that match
+     * the predicate.
+     *
+     * @param array     the array
+     * @param predicate the predicate
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @return the count of the matching values
+     * @throws NullPointerException           if {@code array} or {@code predicate} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static int countMatches(final byte[] array,
+                                   final BytePredicate predicate,
+                                   final int fromIndex,
+                                   final int toIndex) {
+        Objects.requireNonNull(predicate);
+        checkRange(array.length, fromIndex, toIndex);
+        return countMatchesRange(ByteBuffer.wrap(array), predicate, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the count of the values of the given buffer range that match
+     * the predicate. The position and the limit of the buffer are not changed.
+     *
+     * @param buffer    the buffer
+     * @param predicate the predicate
+     * @param fromIndex the absolute index of the first value, inclusive
+     * @param toIndex   the absolute index of the last value, exclusive
+     * @return the count of the matching values
+     * @throws NullPointerException      if {@code buffer} or {@code predicate} is null
+     * @throws IllegalArgumentException  if {@code fromIndex > toIndex}
+     * @throws IndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > buffer.limit()}
+     */
+    public static int countMatches(final ByteBuffer buffer,
+                                   final BytePredicate predicate,
+                                   final int fromIndex,
+                                   final int toIndex) {
+        Objects.requireNonNull(predicate);
+        checkBufferRange(buffer.limit(), fromIndex, toIndex);
+        return countMatchesRange(buffer, predicate, fromIndex, toIndex);
+    }
+
+    private static int indexOfRange(final ByteBuffer buffer,
+                                    final BytePredicate predicate,
+                                    final int fromIndex,
+                                    final int toIndex) {
+        int idx = fromIndex;
+        if (predicate instanceof SwarMatcher) {
+            final SwarMatcher matcher = (SwarMatcher) predicate;
+            final boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+            for (final int end = toIndex - Long.BYTES; idx <= end; idx += Long.BYTES) {
+                final long flags = matcher.flags(buffer.getLong(idx));
+                if (flags != 0L) {
+                    return idx + ((bigEndian
+                            ? Long.numberOfLeadingZeros(flags)
+                            : Long.numberOfTrailingZeros(flags)) >>> 3);
+                }
+            }
+        }
+        for (; idx < toIndex; ++idx) {
+            if (predicate.test(buffer.get(idx))) {
+                return idx;
+            }
+        }
+        return -1;
+    }
+
+    private static int countMatchesRange(final ByteBuffer buffer,
+                                         final BytePredicate predicate,
+                                         final int fromIndex,
+                                         final int toIndex) {
+        int count = 0;
+        int idx = fromIndex;
+        if (predicate instanceof SwarMatcher) {
+            final SwarMatcher matcher = (SwarMatcher) predicate;
+            for (final int end = toIndex - Long.BYTES; idx <= end; idx += Long.BYTES) {
+                count += Long.bitCount(matcher.flags(buffer.getLong(idx)));
+            }
+        }
+        for (; idx < toIndex; ++idx) {
+            if (predicate.test(buffer.get(idx))) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    private static BytePredicate compile(final long[] table) {
+        final int count = Long.bitCount(table[0]) + Long.bitCount(table[1])
+                + Long.bitCount(table[2]) + Long.bitCount(table[3]);
+        final byte[] values = new byte[count];
+        int size = 0;
+        for (int value = 0; value < 256; ++value) {
+            if ((table[value >>> 6] >>> value & 1L) != 0L) {
+                values[size++] = (byte) value;
+            }
+        }
+        if (count == 1) {
+            return new SingleMatcher(values[0]);
+        }
+        if (count <= MAX_SET_SIZE) {
+            return new SetMatcher(values);
+        }
+        final int min = values[0] & 0xFF;
+        final int max = values[count - 1] & 0xFF;
+        if (max - min + 1 == count && (min >>> 7) == (max >>> 7)) {
+            return new RangeMatcher(min, max);
+        }
+        return new TableMatcher(table);
+    }
+
+    private static long zeroFlags(final long word) {
+        return ~(((word & LOW_BITS) + LOW_BITS) | word | LOW_BITS);
+    }
+
+    private static void checkRange(final int length, final int fromIndex, final int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    private static void checkBufferRange(final int limit, final int fromIndex, final int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0 || toIndex > limit) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex(" + fromIndex + "), toIndex(" + toIndex + "), limit(" + limit + ")"
+            );
+        }
+    }
+
+    /**
+     * Compiled predicate that is evaluated for eight values packed into a word
+     * at a time.
+     */
+    private abstract static class SwarMatcher implements BytePredicate {
+
+        /**
+         * Returns the word with the high bit of each byte set if the byte of
+         * the given word matches this predicate and cleared otherwise.
+         *
+         * @param word the word
+         * @return match flags
+         */
+        abstract long flags(long word);
+    }
+
+    /**
+     * Compiled predicate that matches a single value.
+     */
+    private static final class SingleMatcher extends SwarMatcher {
+        private final byte value;
+        private final long pattern;
+
+        private SingleMatcher(final byte value) {
+            this.value = value;
+            this.pattern = (value & 0xFFL) * ONES;
+        }
+
+        @Override
+        long flags(final long word) {
+            return zeroFlags(word ^ this.pattern);
+        }
+
+        @Override
+        public boolean test(final byte value) {
+            return value == this.value;
+        }
+    }
+
+    /**
+     * Compiled predicate that matches any of up to {@value #MAX_SET_SIZE} values.
+     */
+    private static final class SetMatcher extends SwarMatcher {
+        private final byte[] values;
+        private final long[] patterns;
+
+        private SetMatcher(final byte[] values) {
+            this.values = values;
+            this.patterns = new long[values.length];
+            for (int idx = 0; idx < values.length; ++idx) {
+                this.patterns[idx] = (values[idx] & 0xFFL) * ONES;
+            }
+        }
+
+        @Override
+        long flags(final long word) {
+            long flags = 0L;
+            for (final long pattern : this.patterns) {
+                flags |= zeroFlags(word ^ pattern);
+            }
+            return flags;
+        }
+
+        @Override
+        public boolean test(final byte value) {
+            for (final byte element : this.values) {
+                if (element == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Compiled predicate that matches a range of unsigned values that have
+     * equal high bits. Each byte is flipped into {@code [0, 127]} and compared
+     * with both bounds by subtractions from bytes with the high bit set, so
+     * the subtractions never borrow from the neighbouring bytes.
+     */
+    private static final class RangeMatcher extends SwarMatcher {
+        private final int min;
+        private final int max;
+        private final long flip;
+        private final long lower;
+        private final long upper;
+
+        private RangeMatcher(final int min, final int max) {
+            this.min = min;
+            this.max = max;
+            this.flip = (min & 0x80L) * ONES;
+            this.lower = (min & 0x7FL) * ONES;
+            this.upper = ((max & 0x7FL) * ONES) | HIGH_BITS;
+        }
+
+        @Override
+        long flags(final long word) {
+            final long flipped = word ^ this.flip;
+            final long low = flipped & LOW_BITS;
+            return ((low | HIGH_BITS) - this.lower) & (this.upper - low) & ~flipped & HIGH_BITS;
+        }
+
+        @Override
+        public boolean test(final byte value) {
+            final int unsigned = value & 0xFF;
+            return unsigned >= this.min && unsigned <= this.max;
+        }
+    }
+
+    /**
+     * Compiled predicate that looks up a 256-bit table.
+     */
+    private static final class TableMatcher implements BytePredicate {
+        private final long[] table;
+
+        private TableMatcher(final long[] table) {
+            this.table = table;
+        }
+
+        @Override
+        public boolean test(final byte value) {
+            return (this.table[(value & 0xFF) >>> 6] >>> value & 1L) != 0L;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A mutable reduction operation that accumulates {@code char} values into a
+ * mutable result container, optionally transforming the accumulated result
+ * into a final representation after all values have been processed. This
+ * is the {@code char} specialization of {@link java.util.stream.Collector}.
+ * <p>
+ * A collector is specified by four functions that work together: creation
+ * of a new result container ({@link #supplier()}), incorporation of a new
+ * value into a result container ({@link #accumulator()}), combining two
+ * result containers into one ({@link #combiner()}) and performing an optional
+ * final transform on the container ({@link #finisher()}). The accumulator
+ * is {@link ObjCharConsumer}, so values are never boxed. The functions have to
+ * satisfy the identity and associativity constraints of
+ * {@link java.util.stream.Collector} to be used for parallel reductions.
+ * <p>
+ * Collectors are applied by {@link PrimitiveCollectors#collect(char[], CharCollector)}
+ * and {@link PrimitiveCollectors#parallelCollect(char[], CharCollector)}, and the
+ * common collectors are provided by {@link PrimitiveCollectors}.
+ *
+ * @param <A> the mutable accumulation type of the reduction operation
+ * @param <R> the result type of the reduction operation
+ * @see java.util.stream.Collector
+ */
+public interface CharCollector<A, R> {
+
+    /**
+     * A function that creates and returns a new mutable result container.
+     *
+     * @return a function which returns a new, mutable result container
+     */
+    Supplier<A> supplier();
+
+    /**
+     * A function that folds a value into a mutable result container.
+     *
+     * @return a function which folds a value into a mutable result container
+     */
+    ObjCharConsumer<A> accumulator();
+
+    /**
+     * A function that accepts two partial results and merges them. The
+     * combiner function may fold state from one argument into the other and
+     * return that, or may return a new result container.
+     *
+     * @return a function which combines two partial results into a combined result
+     */
+    BinaryOperator<A> combiner();
+
+    /**
+     * Perform the final transformation from the intermediate accumulation type
+     * {@code A} to the final result type {@code R}.
+     *
+     * @return a function which transforms the intermediate result to the final result
+     */
+    Function<A, R> finisher();
+
+    /**
+     * Returns a new {@code CharCollector} described by the given supplier,
+     * accumulator, and combiner functions.
+     *
+     * @param supplier    the supplier function for the new collector
+     * @param accumulator the accumulator function for the new collector
+     * @param combiner    the combiner function for the new collector
+     * @param <R>         the type of intermediate accumulation result, and final result, for the new collector
+     * @return the new collector
+     * @throws NullPointerException if any argument is null
+     */
+    static <R> CharCollector<R, R> of(final Supplier<R> supplier,
+                                      final ObjCharConsumer<R> accumulator,
+                                      final BinaryOperator<R> combiner) {
+        return of(supplier, accumulator, combiner, Function.identity());
+    }
+
+    /**
+     * Returns a new {@code CharCollector} described by the given supplier,
+     * accumulator, combiner, and finisher functions.
+     *
+     * @param supplier    the supplier function for the new collector
+     * @param accumulator the accumulator function for the new collector
+     * @param combiner    the combiner function for the new collector
+     * @param finisher    the finisher function for the new collector
+     * @param <A>         the intermediate accumulation type of the new collector
+     * @param <R>         the final result type of the new collector
+     * @return the new collector
+     * @throws NullPointerException if any argument is null
+     */
+    static <A, R> CharCollector<A, R> of(final Supplier<A> supplier,
+                                         final ObjCharConsumer<A> accumulator,
+                                         final BinaryOperator<A> combiner,
+                                         final Function<A, R> finisher) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+        Objects.requireNonNull(finisher);
+        return new CharCollector<A, R>() {
+            @Override
+            public Supplier<A> supplier() {
+                return supplier;
+            }
+
+            @Override
+            public ObjCharConsumer<A> accumulator() {
+                return accumulator;
+            }
+
+            @Override
+            public BinaryOperator<A> combiner() {
+                return combiner;
+            }
+
+            @Override
+            public Function<A, R> finisher() {
+                return finisher;
+            }
+        };
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Comparators that compare objects by primitive keys missing in the
+ * {@link Comparator} interface and sorts of object arrays by precomputed
+ * primitive keys.
+ * <p>
+ * The sorts by keys call the key function exactly once per element. Every key
+ * is packed with the index of its element into a {@code long} value, the key
+ * in the high 32 bits and the index in the low 32 bits, the {@code long} array
+ * is sorted and the elements are rearranged according to the sorted indexes.
+ * The packed index breaks ties, so the sorts are stable.
+ */
+public final class Comparators {
+
+    /**
+     * Utility class ctor.
+     */
+    private Comparators() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns a comparator that compares objects by the {@code float} key of the
+     * given function. Keys are compared as by {@link Float#compare(float, float)}.
+     * The returned comparator is serializable if the key function is
+     * serializable.
+     *
+     * @param keyExtractor the key function
+     * @param <T>          the type of the compared objects
+     * @return the comparator
+     * @throws NullPointerException if {@code keyExtractor} is null
+     */
+    public static <T> Comparator<T> comparingFloat(final ToFloatFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        return (Comparator<T> & Serializable) (first, second) ->
+                Float.compare(keyExtractor.applyAsFloat(first), keyExtractor.applyAsFloat(second));
+    }
+
+    /**
+     * Returns a comparator that compares objects by the {@code short} key of the
+     * given function. Keys are compared as by {@link Short#compare(short, short)}.
+     * The returned comparator is serializable if the key function is
+     * serializable.
+     *
+     * @param keyExtractor the key function
+     * @param <T>          the type of the compared objects
+     * @return the comparator
+     * @throws NullPointerException if {@code keyExtractor} is null
+     */
+    public static <T> Comparator<T> comparingShort(final ToShortFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        return (Comparator<T> & Serializable) (first, second) ->
+                Short.compare(keyExtractor.applyAsShort(first), keyExtractor.applyAsShort(second));
+    }
+
+    /**
+     * Returns a comparator that compares objects by the {@code byte} key of the
+     * given function. Keys are compared as by {@link Byte#compare(byte, byte)}.
+     * The returned comparator is serializable if the key function is
+     * serializable.
+     *
+     * @param keyExtractor the key function
+     * @param <T>          the type of the compared objects
+     * @return the comparator
+     * @throws NullPointerException if {@code keyExtractor} is null
+     */
+    public static <T> Comparator<T> comparingByte(final ToByteFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        return (Comparator<T> & Serializable) (first, second) ->
+                Byte.compare(keyExtractor.applyAsByte(first), keyExtractor.applyAsByte(second));
+    }
+
+    /**
+     * Returns a comparator that compares objects by the {@code char} key of the
+     * given function. Keys are compared as by {@link Character#compare(char, char)}.
+     * The returned comparator is serializable if the key function is
+     * serializable.
+     *
+     * @param keyExtractor the key function
+     * @param <T>          the type of the compared objects
+     * @return the comparator
+     * @throws NullPointerException if {@code keyExtractor} is null
+     */
+    public static <T> Comparator<T> comparingChar(final ToCharFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        return (Comparator<T> & Serializable) (first, second) ->
+                Character.compare(keyExtractor.applyAsChar(first), keyExtractor.applyAsChar(second));
+    }
+
+    /**
+     * Sorts the given array by the {@code float} keys of the given function. Keys
+     * are compared as by {@link Float#compare(float, float)}. The sort is stable.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void sortByKey(final T[] array, final ToFloatFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final long[] decorated = new long[array.length];
+        for (int idx = 0; idx < array.length; ++idx) {
+            decorated[idx] = pack(sortableBits(keyExtractor.applyAsFloat(array[idx])), idx);
+        }
+        Arrays.sort(decorated);
+        undecorate(array, decorated);
+    }
+
+    /**
+     * Sorts the given array in parallel by the {@code float} keys of the given
+     * function. Keys are compared as by {@link Float#compare(float, float)}. The sort
+     * is stable.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function, must be safe to call concurrently
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void parallelSortByKey(final T[] array, final ToFloatFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final long[] decorated = new long[array.length];
+        Arrays.parallelSetAll(decorated, idx -> pack(sortableBits(keyExtractor.applyAsFloat(array[idx])), idx));
+        Arrays.parallelSort(decorated);
+        final T[] elements = array.clone();
+        Arrays.parallelSetAll(array, idx -> elements[(int) decorated[idx]]);
+    }
+
+    /**
+     * Sorts the given array by the {@code short} keys of the given function. Keys
+     * are compared as by {@link Short#compare(short, short)}. The sort is stable.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void sortByShortKey(final T[] array, final ToShortFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final long[] decorated = new long[array.length];
+        for (int idx = 0; idx < array.length; ++idx) {
+            decorated[idx] = pack(keyExtractor.applyAsShort(array[idx]), idx);
+        }
+        Arrays.sort(decorated);
+        undecorate(array, decorated);
+    }
+
+    /**
+     * Sorts the given array in parallel by the {@code short} keys of the given
+     * function. Keys are compared as by {@link Short#compare(short, short)}. The sort
+     * is stable.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function, must be safe to call concurrently
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void parallelSortByShortKey(final T[] array, final ToShortFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final long[] decorated = new long[array.length];
+        Arrays.parallelSetAll(decorated, idx -> pack(keyExtractor.applyAsShort(array[idx]), idx));
+        Arrays.parallelSort(decorated);
+        final T[] elements = array.clone();
+        Arrays.parallelSetAll(array, idx -> elements[(int) decorated[idx]]);
+    }
+
+    /**
+     * Sorts the given array by the {@code byte} keys of the given function. Keys
+     * are compared as by {@link Byte#compare(byte, byte)}. The sort is stable.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void sortByByteKey(final T[] array, final ToByteFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final long[] decorated = new long[array.length];
+        for (int idx = 0; idx < array.length; ++idx) {
+            decorated[idx] = pack(keyExtractor.applyAsByte(array[idx]), idx);
+        }
+        Arrays.sort(decorated);
+        undecorate(array, decorated);
+    }
+
+    /**
+     * Sorts the given array in parallel by the {@code byte} keys of the given
+     * function. Keys are compared as by {@link Byte#compare(byte, byte)}. The sort
+     * is stable.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function, must be safe to call concurrently
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void parallelSortByByteKey(final T[] array, final ToByteFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final long[] decorated = new long[array.length];
+        Arrays.parallelSetAll(decorated, idx -> pack(keyExtractor.applyAsByte(array[idx]), idx));
+        Arrays.parallelSort(decorated);
+        final T[] elements = array.clone();
+        Arrays.parallelSetAll(array, idx -> elements[(int) decorated[idx]]);
+    }
+
+    /**
+     * Sorts the given array by the {@code char} keys of the given function. Keys
+     * are compared as by {@link Character#compare(char, char)}. The sort is stable.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void sortByCharKey(final T[] array, final ToCharFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final long[] decorated = new long[array.length];
+        for (int idx = 0; idx < array.length; ++idx) {
+            decorated[idx] = pack(keyExtractor.applyAsChar(array[idx]), idx);
+        }
+        Arrays.sort(decorated);
+        undecorate(array, decorated);
+    }
+
+    /**
+     * Sorts the given array in parallel by the {@code char} keys of the given
+     * function. Keys are compared as by {@link Character#compare(char, char)}. The sort
+     * is stable.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function, must be safe to call concurrently
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void parallelSortByCharKey(final T[] array, final ToCharFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final long[] decorated = new long[array.length];
+        Arrays.parallelSetAll(decorated, idx -> pack(keyExtractor.applyAsChar(array[idx]), idx));
+        Arrays.parallelSort(decorated);
+        final T[] elements = array.clone();
+        Arrays.parallelSetAll(array, idx -> elements[(int) decorated[idx]]);
+    }
+
+    /**
+     * Returns an {@code int} value whose signed order is the order of the
+     * given {@code float} values as by {@link Float#compare(float, float)}.
+     *
+     * @param value the value
+     * @return the sortable {@code int} value
+     */
+    static int sortableBits(final float value) {
+        final int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+    }
+
+    private static long pack(final int key, final int index) {
+        return (long) key << 32 | index;
+    }
+
+    private static <T> void undecorate(final T[] array, final long[] decorated) {
+        final T[] elements = array.clone();
+        for (int idx = 0; idx < array.length; ++idx) {
+            array[idx] = elements[(int) decorated[idx]];
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A reflection-based utility that enables atomic updates to designated
+ * {@code volatile int} fields of designated classes that hold a {@code float}
+ * value. This is the {@code float} counterpart of
+ * {@link AtomicIntegerFieldUpdater} and is designed for use in atomic data
+ * structures in which several fields of the same node are independently subject
+ * to atomic updates, so that no {@link AtomicFloat} object is allocated per
+ * field.
+ * <p>
+ * The Java 8 platform has no atomic access to {@code volatile float} fields, so
+ * the updated field must be declared as {@code volatile int}. The field holds
+ * the raw bits of the {@code float} value (see
+ * {@link Float#floatToRawIntBits(float)}), so the compare-and-set methods
+ * compare values bitwise. Direct reads and writes of the field have to use the
+ * same encoding, so it is simpler to access the field only through this
+ * updater.
+ * <p>
+ * The update functions are {@link ObjFloatToFloatFunction} instances that accept
+ * the updated object and the current value of the field and produce the new
+ * value of the field.
+ *
+ * @param <T> the type of the object holding the updatable field
+ * @see AtomicIntegerFieldUpdater
+ */
+public final class FloatFieldUpdater<T> {
+    private final AtomicIntegerFieldUpdater<T> updater;
+
+    private FloatFieldUpdater(final AtomicIntegerFieldUpdater<T> updater) {
+        this.updater = updater;
+    }
+
+    /**
+     * Creates and returns an updater for objects with the given field.
+     * <p>
+     * Access control is checked against this library, so the field and the class
+     * have to be accessible from it. Use
+     * {@link #newUpdater(AtomicIntegerFieldUpdater)} for fields that are accessible
+     * only from the caller.
+     *
+     * @param tclass    the class of the objects holding the field
+     * @param fieldName the name of the {@code volatile int} field to be updated
+     * @param <U>       the type of instances of tclass
+     * @return the updater
+     * @throws IllegalArgumentException if the field is not a volatile integer type
+     * @throws RuntimeException         with a nested reflection-based exception if
+     *                                  the class does not hold field or is the wrong type, or the field is
+     *                                  inaccessible to this library according to Java language access control
+     */
+    public static <U> FloatFieldUpdater<U> newUpdater(final Class<U> tclass, final String fieldName) {
+        return new FloatFieldUpdater<>(AtomicIntegerFieldUpdater.newUpdater(tclass, fieldName));
+    }
+
+    /**
+     * Creates and returns an updater that uses the given {@code int}
+     * field updater. The field updater is created by the caller, so the field
+     * only has to be accessible from the caller.
+     *
+     * @param updater the {@code int} field updater
+     * @param <U>     the type of the object holding the updatable field
+     * @return the updater
+     * @throws NullPointerException if {@code updater} is null
+     */
+    public static <U> FloatFieldUpdater<U> newUpdater(final AtomicIntegerFieldUpdater<U> updater) {
+        Objects.requireNonNull(updater);
+        return new FloatFieldUpdater<>(updater);
+    }
+
+    /**
+     * Gets the current value held in the field of the given object managed
+     * by this updater.
+     *
+     * @param obj an object whose field to get
+     * @return the current value
+     */
+    public float get(final T obj) {
+        return Float.intBitsToFloat(this.updater.get(obj));
+    }
+
+    /**
+     * Sets the field of the given object managed by this updater to the
+     * given updated value.
+     *
+     * @param obj      an object whose field to set
+     * @param newValue the new value
+     */
+    public void set(final T obj, final float newValue) {
+        this.updater.set(obj, Float.floatToRawIntBits(newValue));
+    }
+
+    /**
+     * Eventually sets the field of the given object managed by this updater
+     * to the given updated value.
+     *
+     * @param obj      an object whose field to set
+     * @param newValue the new value
+     */
+    public void lazySet(final T obj, final float newValue) {
+        this.updater.lazySet(obj, Float.floatToRawIntBits(newValue));
+    }
+
+    /**
+     * Atomically sets the field of the given object managed by this updater
+     * to the given value and returns the old value.
+     *
+     * @param obj      an object whose field to get and set
+     * @param newValue the new value
+     * @return the previous value
+     */
+    public float getAndSet(final T obj, final float newValue) {
+        return Float.intBitsToFloat(this.updater.getAndSet(obj, Float.floatToRawIntBits(newValue)));
+    }
+
+    /**
+     * Atomically sets the field of the given object managed by this updater
+     * to the given updated value if the current value is bitwise equal to the expected value.
+     *
+     * @param obj    an object whose field to conditionally set
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful
+     */
+    public boolean compareAndSet(final T obj, final float expect, final float update) {
+        return this.updater.compareAndSet(obj, Float.floatToRawIntBits(expect), Float.floatToRawIntBits(update));
+    }
+
+    /**
+     * Atomically sets the field of the given object managed by this updater
+     * to the given updated value if the current value is bitwise equal to the expected value.
+     * <p>
+     * May fail spuriously and does not provide ordering guarantees, so is
+     * only rarely an appropriate alternative to {@code compareAndSet}.
+     *
+     * @param obj    an object whose field to conditionally set
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful
+     */
+    public boolean weakCompareAndSet(final T obj, final float expect, final float update) {
+        return this.updater.weakCompareAndSet(obj, Float.floatToRawIntBits(expect), Float.floatToRawIntBits(update));
+    }
+
+    /**
+     * Atomically updates the field of the given object managed by this
+     * updater with the results of applying the given function to the object
+     * and the current value, returning the previous value. The function
+     * should be side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads.
+     *
+     * @param obj            an object whose field to get and set
+     * @param updateFunction a side-effect-free function
+     * @return the previous value
+     */
+    public float getAndUpdate(final T obj, final ObjFloatToFloatFunction<? super T> updateFunction) {
+        int prev;
+        int next;
+        float prevValue;
+        do {
+            prev = this.updater.get(obj);
+            prevValue = Float.intBitsToFloat(prev);
+            next = Float.floatToRawIntBits(updateFunction.applyAsFloat(obj, prevValue));
+        } while (!this.updater.compareAndSet(obj, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the field of the given object managed by this
+     * updater with the results of applying the given function to the object
+     * and the current value, returning the updated value. The function
+     * should be side-effect-free, since it may be re-applied when attempted
+     * updates fail due to contention among threads.
+     *
+     * @param obj            an object whose field to get and set
+     * @param updateFunction a side-effect-free function
+     * @return the updated value
+     */
+    public float updateAndGet(final T obj, final ObjFloatToFloatFunction<? super T> updateFunction) {
+        int prev;
+        float nextValue;
+        do {
+            prev = this.updater.get(obj);
+            nextValue = updateFunction.applyAsFloat(obj, Float.intBitsToFloat(prev));
+        } while (!this.updater.compareAndSet(obj, prev, Float.floatToRawIntBits(nextValue)));
+        return nextValue;
+    }
+
+    /**
+     * Atomically updates the field of the given object managed by this
+     * updater with the results of applying the given function to the current
+     * and given values, returning the previous value. The function should be
+     * side-effect-free, since it may be re-applied when attempted updates fail
+     * due to contention among threads. The function is applied with the
+     * current value as its first argument, and the given update as the
+     * second argument.
+     *
+     * @param obj                 an object whose field to get and set
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the previous value
+     */
+    public float getAndAccumulate(final T obj, final float x, final FloatBinaryOperator accumulatorFunction) {
+        int prev;
+        int next;
+        float prevValue;
+        do {
+            prev = this.updater.get(obj);
+            prevValue = Float.intBitsToFloat(prev);
+            next = Float.floatToRawIntBits(accumulatorFunction.applyAsFloat(prevValue, x));
+        } while (!this.updater.compareAndSet(obj, prev, next));
+        return prevValue;
+    }
+
+    /**
+     * Atomically updates the field of the given object managed by this
+     * updater with the results of applying the given function to the current
+     * and given values, returning the updated value. The function should be
+     * side-effect-free, since it may be re-applied when attempted updates fail
+     * due to contention among threads. The function is applied with the
+     * current value as its first argument, and the given update as the
+     * second argument.
+     *
+     * @param obj                 an object whose field to get and set
+     * @param x                   the update value
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @return the updated value
+     */
+    public float accumulateAndGet(final T obj, final float x, final FloatBinaryOperator accumulatorFunction) {
+        int prev;
+        float nextValue;
+        do {
+            prev = this.updater.get(obj);
+            nextValue = accumulatorFunction.applyAsFloat(Float.intBitsToFloat(prev), x);
+        } while (!this.updater.compareAndSet(obj, prev, Float.floatToRawIntBits(nextValue)));
+        return nextValue;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A bounded selection of the elements with the greatest {@code float} keys. The
+ * selection keeps at most {@code k} elements in a binary min-heap of primitive
+ * keys, so pushing an element takes {@code O(log k)} time and never boxes the
+ * key. Keys are compared as by {@link Float#compare(float, float)}, elements with
+ * keys equal to the least selected key are not selected once the selection
+ * is full. The heap grows with the number of selected elements, so a
+ * large {@code k} does not allocate memory for elements that are never
+ * pushed.
+ * <p>
+ * Elements are pushed with the {@link #accept(Object, float)} method, so the
+ * selection can be fed by any {@link ObjFloatConsumer} source. Selections of
+ * separate parts of the input can be combined with the
+ * {@link #merge(FloatTopK)} method.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> the type of the elements
+ * @see TopK
+ */
+public final class FloatTopK<T> implements ObjFloatConsumer<T> {
+    private static final int INITIAL_CAPACITY = 16;
+    private final int k;
+    private float[] keys;
+    private Object[] elements;
+    private int size;
+
+    /**
+     * Creates a new FloatTopK selecting at most {@code k} elements.
+     *
+     * @param k the maximum number of selected elements
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public FloatTopK(final int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Negative k: " + k);
+        }
+        this.k = k;
+        final int capacity = Math.min(k, INITIAL_CAPACITY);
+        this.keys = new float[capacity];
+        this.elements = new Object[capacity];
+    }
+
+    /**
+     * Returns the maximum number of selected elements.
+     *
+     * @return the maximum number of selected elements
+     */
+    public int k() {
+        return this.k;
+    }
+
+    /**
+     * Returns the number of selected elements.
+     *
+     * @return the number of selected elements
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Pushes the given element with the given key. The element is selected if
+     * the selection is not full or if the key is greater than the least
+     * selected key, in the latter case the element with the least key is
+     * evicted.
+     *
+     * @param element the element
+     * @param key     the key of the element
+     */
+    @Override
+    public void accept(final T element, final float key) {
+        if (this.size < this.k) {
+            if (this.size == this.keys.length) {
+                this.grow();
+            }
+            this.siftUp(this.size++, key, element);
+        } else if (this.k != 0 && Float.compare(key, this.keys[0]) > 0) {
+            this.siftDown(0, this.size, key, element);
+        }
+    }
+
+    /**
+     * Pushes all selected elements of the given selection into this selection.
+     *
+     * @param other the other selection
+     * @return this selection
+     * @throws NullPointerException if {@code other} is null
+     */
+    @SuppressWarnings("unchecked")
+    public FloatTopK<T> merge(final FloatTopK<? extends T> other) {
+        final float[] otherKeys = other.keys;
+        final Object[] otherElements = other.elements;
+        for (int idx = 0, otherSize = other.size; idx < otherSize; ++idx) {
+            this.accept((T) otherElements[idx], otherKeys[idx]);
+        }
+        return this;
+    }
+
+    /**
+     * Returns a new list of the selected elements in descending order of
+     * their keys. The selection is not changed.
+     *
+     * @return the list of the selected elements
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> toList() {
+        final float[] sortedKeys = Arrays.copyOf(this.keys, this.size);
+        final Object[] sortedElements = Arrays.copyOf(this.elements, this.size);
+        for (int end = this.size - 1; end > 0; --end) {
+            final float key = sortedKeys[end];
+            final Object element = sortedElements[end];
+            sortedKeys[end] = sortedKeys[0];
+            sortedElements[end] = sortedElements[0];
+            siftDown(sortedKeys, sortedElements, 0, end, key, element);
+        }
+        final List<T> list = new ArrayList<>(this.size);
+        for (int idx = 0; idx < this.size; ++idx) {
+            list.add((T) sortedElements[idx]);
+        }
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        return this.toList().toString();
+    }
+
+    private void grow() {
+        final int capacity = (int) Math.min((long) this.keys.length << 1, this.k);
+        this.keys = Arrays.copyOf(this.keys, capacity);
+        this.elements = Arrays.copyOf(this.elements, capacity);
+    }
+
+    private void siftUp(final int index, final float key, final Object element) {
+        int child = index;
+        while (child > 0) {
+            final int parent = (child - 1) >>> 1;
+            if (Float.compare(key, this.keys[parent]) >= 0) {
+                break;
+            }
+            this.keys[child] = this.keys[parent];
+            this.elements[child] = this.elements[parent];
+            child = parent;
+        }
+        this.keys[child] = key;
+        this.elements[child] = element;
+    }
+
+    private void siftDown(final int index, final int length, final float key, final Object element) {
+        siftDown(this.keys, this.elements, index, length, key, element);
+    }
+
+    private static void siftDown(final float[] keys,
+                                 final Object[] elements,
+                                 final int index,
+                                 final int length,
+                                 final float key,
+                                 final Object element) {
+        int parent = index;
+        int child;
+        while ((child = (parent << 1) + 1) < length) {
+            if (child + 1 < length && Float.compare(keys[child + 1], keys[child]) < 0) {
+                ++child;
+            }
+            if (Float.compare(key, keys[child]) <= 0) {
+                break;
+            }
+            keys[parent] = keys[child];
+            elements[parent] = elements[child];
+            parent = child;
+        }
+        keys[parent] = key;
+        elements[parent] = element;
+    }
+}
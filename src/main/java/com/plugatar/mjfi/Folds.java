@@ -0,0 +1,1956 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+
+/**
+ * Left folds of object sources into primitive values. A fold starts with the
+ * given seed and applies the accumulator function to every element and the
+ * current accumulated value in encounter order, the accumulated value is
+ * never boxed. The accumulator functions are {@link ObjIntToIntFunction},
+ * {@link ObjLongToLongFunction}, {@link ObjDoubleToDoubleFunction},
+ * {@link ObjFloatToFloatFunction}, {@link ObjShortToShortFunction},
+ * {@link ObjByteToByteFunction} and {@link ObjCharToCharFunction} instances,
+ * each of them is applied with the element as its first argument and the
+ * current accumulated value as its second argument.
+ * <p>
+ * Arrays and {@link RandomAccess} lists are traversed by index, other
+ * {@link Iterable} sources by their iterators and {@link Spliterator} sources
+ * by {@link Spliterator#forEachRemaining}.
+ * <p>
+ * Every fold has a short-circuiting variant that takes a stop condition.
+ * The condition is tested on the seed and on every accumulated value, and the
+ * fold returns the first accumulated value that matches the condition without
+ * traversing the remaining elements.
+ * <p>
+ * Parallel folds of arrays run in the {@link ForkJoinPool#commonPool() common pool}
+ * and additionally take a combiner function of two accumulated values, the
+ * accumulated values are primitive fields of the tasks and are never boxed.
+ */
+public final class Folds {
+
+    /**
+     * Utility class ctor.
+     */
+    private Folds() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Folds the given array into an {@code int} value.
+     *
+     * @param array       the array
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code array} or {@code accumulator} is null
+     */
+    public static <T> int foldInt(final T[] array,
+                                  final int seed,
+                                  final ObjIntToIntFunction<? super T> accumulator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        int result = seed;
+        for (final T element : array) {
+            result = accumulator.applyAsInt(element, result);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the given iterable into an {@code int} value.
+     *
+     * @param iterable    the iterable
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code iterable} or {@code accumulator} is null
+     */
+    public static <T> int foldInt(final Iterable<? extends T> iterable,
+                                  final int seed,
+                                  final ObjIntToIntFunction<? super T> accumulator) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(accumulator);
+        int result = seed;
+        if (iterable instanceof RandomAccess && iterable instanceof List) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            for (int idx = 0, size = list.size(); idx < size; ++idx) {
+                result = accumulator.applyAsInt(list.get(idx), result);
+            }
+        } else {
+            for (final T element : iterable) {
+                result = accumulator.applyAsInt(element, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Folds the remaining elements of the given spliterator into an {@code int} value.
+     *
+     * @param spliterator the spliterator
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code spliterator} or {@code accumulator} is null
+     */
+    public static <T> int foldInt(final Spliterator<? extends T> spliterator,
+                                  final int seed,
+                                  final ObjIntToIntFunction<? super T> accumulator) {
+        Objects.requireNonNull(spliterator);
+        Objects.requireNonNull(accumulator);
+        final int[] result = {seed};
+        spliterator.forEachRemaining(element -> result[0] = accumulator.applyAsInt(element, result[0]));
+        return result[0];
+    }
+
+    /**
+     * Folds the given array into an {@code int} value until the accumulated
+     * value matches the given stop condition.
+     *
+     * @param array         the array
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code array}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> int foldInt(final T[] array,
+                                  final int seed,
+                                  final ObjIntToIntFunction<? super T> accumulator,
+                                  final IntPredicate stopCondition) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        int result = seed;
+        for (int idx = 0; idx < array.length && !stopCondition.test(result); ++idx) {
+            result = accumulator.applyAsInt(array[idx], result);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the given iterable into an {@code int} value until the accumulated
+     * value matches the given stop condition.
+     *
+     * @param iterable      the iterable
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code iterable}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> int foldInt(final Iterable<? extends T> iterable,
+                                  final int seed,
+                                  final ObjIntToIntFunction<? super T> accumulator,
+                                  final IntPredicate stopCondition) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        int result = seed;
+        if (iterable instanceof RandomAccess && iterable instanceof List) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            for (int idx = 0, size = list.size(); idx < size && !stopCondition.test(result); ++idx) {
+                result = accumulator.applyAsInt(list.get(idx), result);
+            }
+        } else {
+            final Iterator<? extends T> iterator = iterable.iterator();
+            while (iterator.hasNext() && !stopCondition.test(result)) {
+                result = accumulator.applyAsInt(iterator.next(), result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Folds the remaining elements of the given spliterator into an {@code int}
+     * value until the accumulated value matches the given stop condition. The
+     * elements after the element that produced the matching value remain in
+     * the spliterator.
+     *
+     * @param spliterator   the spliterator
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code spliterator}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> int foldInt(final Spliterator<? extends T> spliterator,
+                                  final int seed,
+                                  final ObjIntToIntFunction<? super T> accumulator,
+                                  final IntPredicate stopCondition) {
+        Objects.requireNonNull(spliterator);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        final int[] result = {seed};
+        boolean advanced = true;
+        while (advanced && !stopCondition.test(result[0])) {
+            advanced = spliterator.tryAdvance(element -> result[0] = accumulator.applyAsInt(element, result[0]));
+        }
+        return result[0];
+    }
+
+    /**
+     * Folds the given array into a {@code long} value.
+     *
+     * @param array       the array
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code array} or {@code accumulator} is null
+     */
+    public static <T> long foldLong(final T[] array,
+                                    final long seed,
+                                    final ObjLongToLongFunction<? super T> accumulator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        long result = seed;
+        for (final T element : array) {
+            result = accumulator.applyAsLong(element, result);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the given iterable into a {@code long} value.
+     *
+     * @param iterable    the iterable
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code iterable} or {@code accumulator} is null
+     */
+    public static <T> long foldLong(final Iterable<? extends T> iterable,
+                                    final long seed,
+                                    final ObjLongToLongFunction<? super T> accumulator) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(accumulator);
+        long result = seed;
+        if (iterable instanceof RandomAccess && iterable instanceof List) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            for (int idx = 0, size = list.size(); idx < size; ++idx) {
+                result = accumulator.applyAsLong(list.get(idx), result);
+            }
+        } else {
+            for (final T element : iterable) {
+                result = accumulator.applyAsLong(element, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Folds the remaining elements of the given spliterator into a {@code long} value.
+     *
+     * @param spliterator the spliterator
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code spliterator} or {@code accumulator} is null
+     */
+    public static <T> long foldLong(final Spliterator<? extends T> spliterator,
+                                    final long seed,
+                                    final ObjLongToLongFunction<? super T> accumulator) {
+        Objects.requireNonNull(spliterator);
+        Objects.requireNonNull(accumulator);
+        final long[] result = {seed};
+        spliterator.forEachRemaining(element -> result[0] = accumulator.applyAsLong(element, result[0]));
+        return result[0];
+    }
+
+    /**
+     * Folds the given array into a {@code long} value until the accumulated
+     * value matches the given stop condition.
+     *
+     * @param array         the array
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code array}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> long foldLong(final T[] array,
+                                    final long seed,
+                                    final ObjLongToLongFunction<? super T> accumulator,
+                                    final LongPredicate stopCondition) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        long result = seed;
+        for (int idx = 0; idx < array.length && !stopCondition.test(result); ++idx) {
+            result = accumulator.applyAsLong(array[idx], result);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the given iterable into a {@code long} value until the accumulated
+     * value matches the given stop condition.
+     *
+     * @param iterable      the iterable
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code iterable}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> long foldLong(final Iterable<? extends T> iterable,
+                                    final long seed,
+                                    final ObjLongToLongFunction<? super T> accumulator,
+                                    final LongPredicate stopCondition) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        long result = seed;
+        if (iterable instanceof RandomAccess && iterable instanceof List) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            for (int idx = 0, size = list.size(); idx < size && !stopCondition.test(result); ++idx) {
+                result = accumulator.applyAsLong(list.get(idx), result);
+            }
+        } else {
+            final Iterator<? extends T> iterator = iterable.iterator();
+            while (iterator.hasNext() && !stopCondition.test(result)) {
+                result = accumulator.applyAsLong(iterator.next(), result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Folds the remaining elements of the given spliterator into a {@code long}
+     * value until the accumulated value matches the given stop condition. The
+     * elements after the element that produced the matching value remain in
+     * the spliterator.
+     *
+     * @param spliterator   the spliterator
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code spliterator}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> long foldLong(final Spliterator<? extends T> spliterator,
+                                    final long seed,
+                                    final ObjLongToLongFunction<? super T> accumulator,
+                                    final LongPredicate stopCondition) {
+        Objects.requireNonNull(spliterator);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        final long[] result = {seed};
+        boolean advanced = true;
+        while (advanced && !stopCondition.test(result[0])) {
+            advanced = spliterator.tryAdvance(element -> result[0] = accumulator.applyAsLong(element, result[0]));
+        }
+        return result[0];
+    }
+
+    /**
+     * Folds the given array into a {@code double} value.
+     *
+     * @param array       the array
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code array} or {@code accumulator} is null
+     */
+    public static <T> double foldDouble(final T[] array,
+                                        final double seed,
+                                        final ObjDoubleToDoubleFunction<? super T> accumulator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        double result = seed;
+        for (final T element : array) {
+            result = accumulator.applyAsDouble(element, result);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the given iterable into a {@code double} value.
+     *
+     * @param iterable    the iterable
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code iterable} or {@code accumulator} is null
+     */
+    public static <T> double foldDouble(final Iterable<? extends T> iterable,
+                                        final double seed,
+                                        final ObjDoubleToDoubleFunction<? super T> accumulator) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(accumulator);
+        double result = seed;
+        if (iterable instanceof RandomAccess && iterable instanceof List) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            for (int idx = 0, size = list.size(); idx < size; ++idx) {
+                result = accumulator.applyAsDouble(list.get(idx), result);
+            }
+        } else {
+            for (final T element : iterable) {
+                result = accumulator.applyAsDouble(element, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Folds the remaining elements of the given spliterator into a {@code double} value.
+     *
+     * @param spliterator the spliterator
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code spliterator} or {@code accumulator} is null
+     */
+    public static <T> double foldDouble(final Spliterator<? extends T> spliterator,
+                                        final double seed,
+                                        final ObjDoubleToDoubleFunction<? super T> accumulator) {
+        Objects.requireNonNull(spliterator);
+        Objects.requireNonNull(accumulator);
+        final double[] result = {seed};
+        spliterator.forEachRemaining(element -> result[0] = accumulator.applyAsDouble(element, result[0]));
+        return result[0];
+    }
+
+    /**
+     * Folds the given array into a {@code double} value until the accumulated
+     * value matches the given stop condition.
+     *
+     * @param array         the array
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code array}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> double foldDouble(final T[] array,
+                                        final double seed,
+                                        final ObjDoubleToDoubleFunction<? super T> accumulator,
+                                        final DoublePredicate stopCondition) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        double result = seed;
+        for (int idx = 0; idx < array.length && !stopCondition.test(result); ++idx) {
+            result = accumulator.applyAsDouble(array[idx], result);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the given iterable into a {@code double} value until the accumulated
+     * value matches the given stop condition.
+     *
+     * @param iterable      the iterable
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code iterable}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> double foldDouble(final Iterable<? extends T> iterable,
+                                        final double seed,
+                                        final ObjDoubleToDoubleFunction<? super T> accumulator,
+                                        final DoublePredicate stopCondition) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        double result = seed;
+        if (iterable instanceof RandomAccess && iterable instanceof List) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            for (int idx = 0, size = list.size(); idx < size && !stopCondition.test(result); ++idx) {
+                result = accumulator.applyAsDouble(list.get(idx), result);
+            }
+        } else {
+            final Iterator<? extends T> iterator = iterable.iterator();
+            while (iterator.hasNext() && !stopCondition.test(result)) {
+                result = accumulator.applyAsDouble(iterator.next(), result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Folds the remaining elements of the given spliterator into a {@code double}
+     * value until the accumulated value matches the given stop condition. The
+     * elements after the element that produced the matching value remain in
+     * the spliterator.
+     *
+     * @param spliterator   the spliterator
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code spliterator}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> double foldDouble(final Spliterator<? extends T> spliterator,
+                                        final double seed,
+                                        final ObjDoubleToDoubleFunction<? super T> accumulator,
+                                        final DoublePredicate stopCondition) {
+        Objects.requireNonNull(spliterator);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        final double[] result = {seed};
+        boolean advanced = true;
+        while (advanced && !stopCondition.test(result[0])) {
+            advanced = spliterator.tryAdvance(element -> result[0] = accumulator.applyAsDouble(element, result[0]));
+        }
+        return result[0];
+    }
+
+    /**
+     * Folds the given array into a {@code float} value.
+     *
+     * @param array       the array
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code array} or {@code accumulator} is null
+     */
+    public static <T> float foldFloat(final T[] array,
+                                      final float seed,
+                                      final ObjFloatToFloatFunction<? super T> accumulator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        float result = seed;
+        for (final T element : array) {
+            result = accumulator.applyAsFloat(element, result);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the given iterable into a {@code float} value.
+     *
+     * @param iterable    the iterable
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code iterable} or {@code accumulator} is null
+     */
+    public static <T> float foldFloat(final Iterable<? extends T> iterable,
+                                      final float seed,
+                                      final ObjFloatToFloatFunction<? super T> accumulator) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(accumulator);
+        float result = seed;
+        if (iterable instanceof RandomAccess && iterable instanceof List) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            for (int idx = 0, size = list.size(); idx < size; ++idx) {
+                result = accumulator.applyAsFloat(list.get(idx), result);
+            }
+        } else {
+            for (final T element : iterable) {
+                result = accumulator.applyAsFloat(element, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Folds the remaining elements of the given spliterator into a {@code float} value.
+     *
+     * @param spliterator the spliterator
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code spliterator} or {@code accumulator} is null
+     */
+    public static <T> float foldFloat(final Spliterator<? extends T> spliterator,
+                                      final float seed,
+                                      final ObjFloatToFloatFunction<? super T> accumulator) {
+        Objects.requireNonNull(spliterator);
+        Objects.requireNonNull(accumulator);
+        final float[] result = {seed};
+        spliterator.forEachRemaining(element -> result[0] = accumulator.applyAsFloat(element, result[0]));
+        return result[0];
+    }
+
+    /**
+     * Folds the given array into a {@code float} value until the accumulated
+     * value matches the given stop condition.
+     *
+     * @param array         the array
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code array}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> float foldFloat(final T[] array,
+                                      final float seed,
+                                      final ObjFloatToFloatFunction<? super T> accumulator,
+                                      final FloatPredicate stopCondition) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        float result = seed;
+        for (int idx = 0; idx < array.length && !stopCondition.test(result); ++idx) {
+            result = accumulator.applyAsFloat(array[idx], result);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the given iterable into a {@code float} value until the accumulated
+     * value matches the given stop condition.
+     *
+     * @param iterable      the iterable
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code iterable}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> float foldFloat(final Iterable<? extends T> iterable,
+                                      final float seed,
+                                      final ObjFloatToFloatFunction<? super T> accumulator,
+                                      final FloatPredicate stopCondition) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        float result = seed;
+        if (iterable instanceof RandomAccess && iterable instanceof List) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            for (int idx = 0, size = list.size(); idx < size && !stopCondition.test(result); ++idx) {
+                result = accumulator.applyAsFloat(list.get(idx), result);
+            }
+        } else {
+            final Iterator<? extends T> iterator = iterable.iterator();
+            while (iterator.hasNext() && !stopCondition.test(result)) {
+                result = accumulator.applyAsFloat(iterator.next(), result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Folds the remaining elements of the given spliterator into a {@code float}
+     * value until the accumulated value matches the given stop condition. The
+     * elements after the element that produced the matching value remain in
+     * the spliterator.
+     *
+     * @param spliterator   the spliterator
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code spliterator}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> float foldFloat(final Spliterator<? extends T> spliterator,
+                                      final float seed,
+                                      final ObjFloatToFloatFunction<? super T> accumulator,
+                                      final FloatPredicate stopCondition) {
+        Objects.requireNonNull(spliterator);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        final float[] result = {seed};
+        boolean advanced = true;
+        while (advanced && !stopCondition.test(result[0])) {
+            advanced = spliterator.tryAdvance(element -> result[0] = accumulator.applyAsFloat(element, result[0]));
+        }
+        return result[0];
+    }
+
+    /**
+     * Folds the given array into a {@code short} value.
+     *
+     * @param array       the array
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code array} or {@code accumulator} is null
+     */
+    public static <T> short foldShort(final T[] array,
+                                      final short seed,
+                                      final ObjShortToShortFunction<? super T> accumulator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        short result = seed;
+        for (final T element : array) {
+            result = accumulator.applyAsShort(element, result);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the given iterable into a {@code short} value.
+     *
+     * @param iterable    the iterable
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code iterable} or {@code accumulator} is null
+     */
+    public static <T> short foldShort(final Iterable<? extends T> iterable,
+                                      final short seed,
+                                      final ObjShortToShortFunction<? super T> accumulator) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(accumulator);
+        short result = seed;
+        if (iterable instanceof RandomAccess && iterable instanceof List) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            for (int idx = 0, size = list.size(); idx < size; ++idx) {
+                result = accumulator.applyAsShort(list.get(idx), result);
+            }
+        } else {
+            for (final T element : iterable) {
+                result = accumulator.applyAsShort(element, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Folds the remaining elements of the given spliterator into a {@code short} value.
+     *
+     * @param spliterator the spliterator
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code spliterator} or {@code accumulator} is null
+     */
+    public static <T> short foldShort(final Spliterator<? extends T> spliterator,
+                                      final short seed,
+                                      final ObjShortToShortFunction<? super T> accumulator) {
+        Objects.requireNonNull(spliterator);
+        Objects.requireNonNull(accumulator);
+        final short[] result = {seed};
+        spliterator.forEachRemaining(element -> result[0] = accumulator.applyAsShort(element, result[0]));
+        return result[0];
+    }
+
+    /**
+     * Folds the given array into a {@code short} value until the accumulated
+     * value matches the given stop condition.
+     *
+     * @param array         the array
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code array}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> short foldShort(final T[] array,
+                                      final short seed,
+                                      final ObjShortToShortFunction<? super T> accumulator,
+                                      final ShortPredicate stopCondition) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        short result = seed;
+        for (int idx = 0; idx < array.length && !stopCondition.test(result); ++idx) {
+            result = accumulator.applyAsShort(array[idx], result);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the given iterable into a {@code short} value until the accumulated
+     * value matches the given stop condition.
+     *
+     * @param iterable      the iterable
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code iterable}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> short foldShort(final Iterable<? extends T> iterable,
+                                      final short seed,
+                                      final ObjShortToShortFunction<? super T> accumulator,
+                                      final ShortPredicate stopCondition) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        short result = seed;
+        if (iterable instanceof RandomAccess && iterable instanceof List) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            for (int idx = 0, size = list.size(); idx < size && !stopCondition.test(result); ++idx) {
+                result = accumulator.applyAsShort(list.get(idx), result);
+            }
+        } else {
+            final Iterator<? extends T> iterator = iterable.iterator();
+            while (iterator.hasNext() && !stopCondition.test(result)) {
+                result = accumulator.applyAsShort(iterator.next(), result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Folds the remaining elements of the given spliterator into a {@code short}
+     * value until the accumulated value matches the given stop condition. The
+     * elements after the element that produced the matching value remain in
+     * the spliterator.
+     *
+     * @param spliterator   the spliterator
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code spliterator}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> short foldShort(final Spliterator<? extends T> spliterator,
+                                      final short seed,
+                                      final ObjShortToShortFunction<? super T> accumulator,
+                                      final ShortPredicate stopCondition) {
+        Objects.requireNonNull(spliterator);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        final short[] result = {seed};
+        boolean advanced = true;
+        while (advanced && !stopCondition.test(result[0])) {
+            advanced = spliterator.tryAdvance(element -> result[0] = accumulator.applyAsShort(element, result[0]));
+        }
+        return result[0];
+    }
+
+    /**
+     * Folds the given array into a {@code byte} value.
+     *
+     * @param array       the array
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code array} or {@code accumulator} is null
+     */
+    public static <T> byte foldByte(final T[] array,
+                                    final byte seed,
+                                    final ObjByteToByteFunction<? super T> accumulator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        byte result = seed;
+        for (final T element : array) {
+            result = accumulator.applyAsByte(element, result);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the given iterable into a {@code byte} value.
+     *
+     * @param iterable    the iterable
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code iterable} or {@code accumulator} is null
+     */
+    public static <T> byte foldByte(final Iterable<? extends T> iterable,
+                                    final byte seed,
+                                    final ObjByteToByteFunction<? super T> accumulator) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(accumulator);
+        byte result = seed;
+        if (iterable instanceof RandomAccess && iterable instanceof List) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            for (int idx = 0, size = list.size(); idx < size; ++idx) {
+                result = accumulator.applyAsByte(list.get(idx), result);
+            }
+        } else {
+            for (final T element : iterable) {
+                result = accumulator.applyAsByte(element, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Folds the remaining elements of the given spliterator into a {@code byte} value.
+     *
+     * @param spliterator the spliterator
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code spliterator} or {@code accumulator} is null
+     */
+    public static <T> byte foldByte(final Spliterator<? extends T> spliterator,
+                                    final byte seed,
+                                    final ObjByteToByteFunction<? super T> accumulator) {
+        Objects.requireNonNull(spliterator);
+        Objects.requireNonNull(accumulator);
+        final byte[] result = {seed};
+        spliterator.forEachRemaining(element -> result[0] = accumulator.applyAsByte(element, result[0]));
+        return result[0];
+    }
+
+    /**
+     * Folds the given array into a {@code byte} value until the accumulated
+     * value matches the given stop condition.
+     *
+     * @param array         the array
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code array}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> byte foldByte(final T[] array,
+                                    final byte seed,
+                                    final ObjByteToByteFunction<? super T> accumulator,
+                                    final BytePredicate stopCondition) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        byte result = seed;
+        for (int idx = 0; idx < array.length && !stopCondition.test(result); ++idx) {
+            result = accumulator.applyAsByte(array[idx], result);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the given iterable into a {@code byte} value until the accumulated
+     * value matches the given stop condition.
+     *
+     * @param iterable      the iterable
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code iterable}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> byte foldByte(final Iterable<? extends T> iterable,
+                                    final byte seed,
+                                    final ObjByteToByteFunction<? super T> accumulator,
+                                    final BytePredicate stopCondition) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        byte result = seed;
+        if (iterable instanceof RandomAccess && iterable instanceof List) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            for (int idx = 0, size = list.size(); idx < size && !stopCondition.test(result); ++idx) {
+                result = accumulator.applyAsByte(list.get(idx), result);
+            }
+        } else {
+            final Iterator<? extends T> iterator = iterable.iterator();
+            while (iterator.hasNext() && !stopCondition.test(result)) {
+                result = accumulator.applyAsByte(iterator.next(), result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Folds the remaining elements of the given spliterator into a {@code byte}
+     * value until the accumulated value matches the given stop condition. The
+     * elements after the element that produced the matching value remain in
+     * the spliterator.
+     *
+     * @param spliterator   the spliterator
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code spliterator}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> byte foldByte(final Spliterator<? extends T> spliterator,
+                                    final byte seed,
+                                    final ObjByteToByteFunction<? super T> accumulator,
+                                    final BytePredicate stopCondition) {
+        Objects.requireNonNull(spliterator);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        final byte[] result = {seed};
+        boolean advanced = true;
+        while (advanced && !stopCondition.test(result[0])) {
+            advanced = spliterator.tryAdvance(element -> result[0] = accumulator.applyAsByte(element, result[0]));
+        }
+        return result[0];
+    }
+
+    /**
+     * Folds the given array into a {@code char} value.
+     *
+     * @param array       the array
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code array} or {@code accumulator} is null
+     */
+    public static <T> char foldChar(final T[] array,
+                                    final char seed,
+                                    final ObjCharToCharFunction<? super T> accumulator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        char result = seed;
+        for (final T element : array) {
+            result = accumulator.applyAsChar(element, result);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the given iterable into a {@code char} value.
+     *
+     * @param iterable    the iterable
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code iterable} or {@code accumulator} is null
+     */
+    public static <T> char foldChar(final Iterable<? extends T> iterable,
+                                    final char seed,
+                                    final ObjCharToCharFunction<? super T> accumulator) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(accumulator);
+        char result = seed;
+        if (iterable instanceof RandomAccess && iterable instanceof List) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            for (int idx = 0, size = list.size(); idx < size; ++idx) {
+                result = accumulator.applyAsChar(list.get(idx), result);
+            }
+        } else {
+            for (final T element : iterable) {
+                result = accumulator.applyAsChar(element, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Folds the remaining elements of the given spliterator into a {@code char} value.
+     *
+     * @param spliterator the spliterator
+     * @param seed        the initial accumulated value
+     * @param accumulator the function of an element and the accumulated value
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code spliterator} or {@code accumulator} is null
+     */
+    public static <T> char foldChar(final Spliterator<? extends T> spliterator,
+                                    final char seed,
+                                    final ObjCharToCharFunction<? super T> accumulator) {
+        Objects.requireNonNull(spliterator);
+        Objects.requireNonNull(accumulator);
+        final char[] result = {seed};
+        spliterator.forEachRemaining(element -> result[0] = accumulator.applyAsChar(element, result[0]));
+        return result[0];
+    }
+
+    /**
+     * Folds the given array into a {@code char} value until the accumulated
+     * value matches the given stop condition.
+     *
+     * @param array         the array
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code array}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> char foldChar(final T[] array,
+                                    final char seed,
+                                    final ObjCharToCharFunction<? super T> accumulator,
+                                    final CharPredicate stopCondition) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        char result = seed;
+        for (int idx = 0; idx < array.length && !stopCondition.test(result); ++idx) {
+            result = accumulator.applyAsChar(array[idx], result);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the given iterable into a {@code char} value until the accumulated
+     * value matches the given stop condition.
+     *
+     * @param iterable      the iterable
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code iterable}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> char foldChar(final Iterable<? extends T> iterable,
+                                    final char seed,
+                                    final ObjCharToCharFunction<? super T> accumulator,
+                                    final CharPredicate stopCondition) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        char result = seed;
+        if (iterable instanceof RandomAccess && iterable instanceof List) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            for (int idx = 0, size = list.size(); idx < size && !stopCondition.test(result); ++idx) {
+                result = accumulator.applyAsChar(list.get(idx), result);
+            }
+        } else {
+            final Iterator<? extends T> iterator = iterable.iterator();
+            while (iterator.hasNext() && !stopCondition.test(result)) {
+                result = accumulator.applyAsChar(iterator.next(), result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Folds the remaining elements of the given spliterator into a {@code char}
+     * value until the accumulated value matches the given stop condition. The
+     * elements after the element that produced the matching value remain in
+     * the spliterator.
+     *
+     * @param spliterator   the spliterator
+     * @param seed          the initial accumulated value
+     * @param accumulator   the function of an element and the accumulated value
+     * @param stopCondition the condition of the accumulated value to stop the fold
+     * @param <T>           the type of the elements
+     * @return the first accumulated value that matches the stop condition or
+     * the accumulated value of all elements
+     * @throws NullPointerException if {@code spliterator}, {@code accumulator} or
+     *                              {@code stopCondition} is null
+     */
+    public static <T> char foldChar(final Spliterator<? extends T> spliterator,
+                                    final char seed,
+                                    final ObjCharToCharFunction<? super T> accumulator,
+                                    final CharPredicate stopCondition) {
+        Objects.requireNonNull(spliterator);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(stopCondition);
+        final char[] result = {seed};
+        boolean advanced = true;
+        while (advanced && !stopCondition.test(result[0])) {
+            advanced = spliterator.tryAdvance(element -> result[0] = accumulator.applyAsChar(element, result[0]));
+        }
+        return result[0];
+    }
+
+    /**
+     * Folds the given array into an {@code int} value in parallel. The array is
+     * split into chunks, the size of a chunk adapts to the length of the array
+     * and to the parallelism of the {@link ForkJoinPool#commonPool() common pool}.
+     * Every chunk is folded sequentially starting with the identity value, and
+     * the accumulated values of adjacent chunks are merged by the combiner in
+     * encounter order.
+     * <p>
+     * The identity value must be an identity for the combiner function, i.e.
+     * {@code combiner(identity, x)} is equal to {@code x} for all {@code x}, the
+     * combiner function must be associative and compatible with the accumulator
+     * function, i.e. {@code combiner(u, accumulator(t, identity))} is equal to
+     * {@code accumulator(t, u)} for all {@code u} and {@code t}. The functions
+     * must be side-effect-free.
+     *
+     * @param array       the array
+     * @param identity    the identity value
+     * @param accumulator the function of an element and the accumulated value
+     * @param combiner    the function of two accumulated values
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code array}, {@code accumulator} or
+     *                              {@code combiner} is null
+     */
+    public static <T> int parallelFoldInt(final T[] array,
+                                          final int identity,
+                                          final ObjIntToIntFunction<? super T> accumulator,
+                                          final IntBinaryOperator combiner) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+        final IntFoldTask<T> task = new IntFoldTask<>(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length),
+                identity, accumulator, combiner, null
+        );
+        task.invoke();
+        return task.result;
+    }
+
+    /**
+     * Folds the given array into a {@code long} value in parallel. The array is
+     * split into chunks, the size of a chunk adapts to the length of the array
+     * and to the parallelism of the {@link ForkJoinPool#commonPool() common pool}.
+     * Every chunk is folded sequentially starting with the identity value, and
+     * the accumulated values of adjacent chunks are merged by the combiner in
+     * encounter order.
+     * <p>
+     * The identity value must be an identity for the combiner function, i.e.
+     * {@code combiner(identity, x)} is equal to {@code x} for all {@code x}, the
+     * combiner function must be associative and compatible with the accumulator
+     * function, i.e. {@code combiner(u, accumulator(t, identity))} is equal to
+     * {@code accumulator(t, u)} for all {@code u} and {@code t}. The functions
+     * must be side-effect-free.
+     *
+     * @param array       the array
+     * @param identity    the identity value
+     * @param accumulator the function of an element and the accumulated value
+     * @param combiner    the function of two accumulated values
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code array}, {@code accumulator} or
+     *                              {@code combiner} is null
+     */
+    public static <T> long parallelFoldLong(final T[] array,
+                                            final long identity,
+                                            final ObjLongToLongFunction<? super T> accumulator,
+                                            final LongBinaryOperator combiner) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+        final LongFoldTask<T> task = new LongFoldTask<>(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length),
+                identity, accumulator, combiner, null
+        );
+        task.invoke();
+        return task.result;
+    }
+
+    /**
+     * Folds the given array into a {@code double} value in parallel. The array is
+     * split into chunks, the size of a chunk adapts to the length of the array
+     * and to the parallelism of the {@link ForkJoinPool#commonPool() common pool}.
+     * Every chunk is folded sequentially starting with the identity value, and
+     * the accumulated values of adjacent chunks are merged by the combiner in
+     * encounter order.
+     * <p>
+     * The identity value must be an identity for the combiner function, i.e.
+     * {@code combiner(identity, x)} is equal to {@code x} for all {@code x}, the
+     * combiner function must be associative and compatible with the accumulator
+     * function, i.e. {@code combiner(u, accumulator(t, identity))} is equal to
+     * {@code accumulator(t, u)} for all {@code u} and {@code t}. The functions
+     * must be side-effect-free.
+     *
+     * @param array       the array
+     * @param identity    the identity value
+     * @param accumulator the function of an element and the accumulated value
+     * @param combiner    the function of two accumulated values
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code array}, {@code accumulator} or
+     *                              {@code combiner} is null
+     */
+    public static <T> double parallelFoldDouble(final T[] array,
+                                                final double identity,
+                                                final ObjDoubleToDoubleFunction<? super T> accumulator,
+                                                final DoubleBinaryOperator combiner) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+        final DoubleFoldTask<T> task = new DoubleFoldTask<>(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length),
+                identity, accumulator, combiner, null
+        );
+        task.invoke();
+        return task.result;
+    }
+
+    /**
+     * Folds the given array into a {@code float} value in parallel. The array is
+     * split into chunks, the size of a chunk adapts to the length of the array
+     * and to the parallelism of the {@link ForkJoinPool#commonPool() common pool}.
+     * Every chunk is folded sequentially starting with the identity value, and
+     * the accumulated values of adjacent chunks are merged by the combiner in
+     * encounter order.
+     * <p>
+     * The identity value must be an identity for the combiner function, i.e.
+     * {@code combiner(identity, x)} is equal to {@code x} for all {@code x}, the
+     * combiner function must be associative and compatible with the accumulator
+     * function, i.e. {@code combiner(u, accumulator(t, identity))} is equal to
+     * {@code accumulator(t, u)} for all {@code u} and {@code t}. The functions
+     * must be side-effect-free.
+     *
+     * @param array       the array
+     * @param identity    the identity value
+     * @param accumulator the function of an element and the accumulated value
+     * @param combiner    the function of two accumulated values
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code array}, {@code accumulator} or
+     *                              {@code combiner} is null
+     */
+    public static <T> float parallelFoldFloat(final T[] array,
+                                              final float identity,
+                                              final ObjFloatToFloatFunction<? super T> accumulator,
+                                              final FloatBinaryOperator combiner) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+        final FloatFoldTask<T> task = new FloatFoldTask<>(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length),
+                identity, accumulator, combiner, null
+        );
+        task.invoke();
+        return task.result;
+    }
+
+    /**
+     * Folds the given array into a {@code short} value in parallel. The array is
+     * split into chunks, the size of a chunk adapts to the length of the array
+     * and to the parallelism of the {@link ForkJoinPool#commonPool() common pool}.
+     * Every chunk is folded sequentially starting with the identity value, and
+     * the accumulated values of adjacent chunks are merged by the combiner in
+     * encounter order.
+     * <p>
+     * The identity value must be an identity for the combiner function, i.e.
+     * {@code combiner(identity, x)} is equal to {@code x} for all {@code x}, the
+     * combiner function must be associative and compatible with the accumulator
+     * function, i.e. {@code combiner(u, accumulator(t, identity))} is equal to
+     * {@code accumulator(t, u)} for all {@code u} and {@code t}. The functions
+     * must be side-effect-free.
+     *
+     * @param array       the array
+     * @param identity    the identity value
+     * @param accumulator the function of an element and the accumulated value
+     * @param combiner    the function of two accumulated values
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code array}, {@code accumulator} or
+     *                              {@code combiner} is null
+     */
+    public static <T> short parallelFoldShort(final T[] array,
+                                              final short identity,
+                                              final ObjShortToShortFunction<? super T> accumulator,
+                                              final ShortBinaryOperator combiner) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+        final ShortFoldTask<T> task = new ShortFoldTask<>(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length),
+                identity, accumulator, combiner, null
+        );
+        task.invoke();
+        return task.result;
+    }
+
+    /**
+     * Folds the given array into a {@code byte} value in parallel. The array is
+     * split into chunks, the size of a chunk adapts to the length of the array
+     * and to the parallelism of the {@link ForkJoinPool#commonPool() common pool}.
+     * Every chunk is folded sequentially starting with the identity value, and
+     * the accumulated values of adjacent chunks are merged by the combiner in
+     * encounter order.
+     * <p>
+     * The identity value must be an identity for the combiner function, i.e.
+     * {@code combiner(identity, x)} is equal to {@code x} for all {@code x}, the
+     * combiner function must be associative and compatible with the accumulator
+     * function, i.e. {@code combiner(u, accumulator(t, identity))} is equal to
+     * {@code accumulator(t, u)} for all {@code u} and {@code t}. The functions
+     * must be side-effect-free.
+     *
+     * @param array       the array
+     * @param identity    the identity value
+     * @param accumulator the function of an element and the accumulated value
+     * @param combiner    the function of two accumulated values
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code array}, {@code accumulator} or
+     *                              {@code combiner} is null
+     */
+    public static <T> byte parallelFoldByte(final T[] array,
+                                            final byte identity,
+                                            final ObjByteToByteFunction<? super T> accumulator,
+                                            final ByteBinaryOperator combiner) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+        final ByteFoldTask<T> task = new ByteFoldTask<>(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length),
+                identity, accumulator, combiner, null
+        );
+        task.invoke();
+        return task.result;
+    }
+
+    /**
+     * Folds the given array into a {@code char} value in parallel. The array is
+     * split into chunks, the size of a chunk adapts to the length of the array
+     * and to the parallelism of the {@link ForkJoinPool#commonPool() common pool}.
+     * Every chunk is folded sequentially starting with the identity value, and
+     * the accumulated values of adjacent chunks are merged by the combiner in
+     * encounter order.
+     * <p>
+     * The identity value must be an identity for the combiner function, i.e.
+     * {@code combiner(identity, x)} is equal to {@code x} for all {@code x}, the
+     * combiner function must be associative and compatible with the accumulator
+     * function, i.e. {@code combiner(u, accumulator(t, identity))} is equal to
+     * {@code accumulator(t, u)} for all {@code u} and {@code t}. The functions
+     * must be side-effect-free.
+     *
+     * @param array       the array
+     * @param identity    the identity value
+     * @param accumulator the function of an element and the accumulated value
+     * @param combiner    the function of two accumulated values
+     * @param <T>         the type of the elements
+     * @return the accumulated value
+     * @throws NullPointerException if {@code array}, {@code accumulator} or
+     *                              {@code combiner} is null
+     */
+    public static <T> char parallelFoldChar(final T[] array,
+                                            final char identity,
+                                            final ObjCharToCharFunction<? super T> accumulator,
+                                            final CharBinaryOperator combiner) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+        final CharFoldTask<T> task = new CharFoldTask<>(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length),
+                identity, accumulator, combiner, null
+        );
+        task.invoke();
+        return task.result;
+    }
+
+    /**
+     * Parallel fold of the array range into an {@code int} value.
+     *
+     * @param <T> the type of the elements
+     */
+    @SuppressWarnings("serial")
+    private static final class IntFoldTask<T> extends CountedCompleter<Void> {
+        private final T[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final int identity;
+        private final ObjIntToIntFunction<? super T> accumulator;
+        private final IntBinaryOperator combiner;
+        private final IntFoldTask<T> next;
+        private IntFoldTask<T> forks;
+        private int result;
+
+        private IntFoldTask(final CountedCompleter<?> parent,
+                            final T[] array,
+                            final int fromIndex,
+                            final int toIndex,
+                            final int threshold,
+                            final int identity,
+                            final ObjIntToIntFunction<? super T> accumulator,
+                            final IntBinaryOperator combiner,
+                            final IntFoldTask<T> next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new IntFoldTask<>(this, this.array, middle, to, this.threshold,
+                        this.identity, this.accumulator, this.combiner, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            int value = this.identity;
+            for (int idx = from; idx < to; ++idx) {
+                value = this.accumulator.applyAsInt(this.array[idx], value);
+            }
+            this.result = value;
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                @SuppressWarnings("unchecked") final IntFoldTask<T> task = (IntFoldTask<T>) completer;
+                for (IntFoldTask<T> fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.combiner.applyAsInt(task.result, fork.result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel fold of the array range into a {@code long} value.
+     *
+     * @param <T> the type of the elements
+     */
+    @SuppressWarnings("serial")
+    private static final class LongFoldTask<T> extends CountedCompleter<Void> {
+        private final T[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final long identity;
+        private final ObjLongToLongFunction<? super T> accumulator;
+        private final LongBinaryOperator combiner;
+        private final LongFoldTask<T> next;
+        private LongFoldTask<T> forks;
+        private long result;
+
+        private LongFoldTask(final CountedCompleter<?> parent,
+                             final T[] array,
+                             final int fromIndex,
+                             final int toIndex,
+                             final int threshold,
+                             final long identity,
+                             final ObjLongToLongFunction<? super T> accumulator,
+                             final LongBinaryOperator combiner,
+                             final LongFoldTask<T> next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new LongFoldTask<>(this, this.array, middle, to, this.threshold,
+                        this.identity, this.accumulator, this.combiner, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            long value = this.identity;
+            for (int idx = from; idx < to; ++idx) {
+                value = this.accumulator.applyAsLong(this.array[idx], value);
+            }
+            this.result = value;
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                @SuppressWarnings("unchecked") final LongFoldTask<T> task = (LongFoldTask<T>) completer;
+                for (LongFoldTask<T> fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.combiner.applyAsLong(task.result, fork.result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel fold of the array range into a {@code double} value.
+     *
+     * @param <T> the type of the elements
+     */
+    @SuppressWarnings("serial")
+    private static final class DoubleFoldTask<T> extends CountedCompleter<Void> {
+        private final T[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final double identity;
+        private final ObjDoubleToDoubleFunction<? super T> accumulator;
+        private final DoubleBinaryOperator combiner;
+        private final DoubleFoldTask<T> next;
+        private DoubleFoldTask<T> forks;
+        private double result;
+
+        private DoubleFoldTask(final CountedCompleter<?> parent,
+                               final T[] array,
+                               final int fromIndex,
+                               final int toIndex,
+                               final int threshold,
+                               final double identity,
+                               final ObjDoubleToDoubleFunction<? super T> accumulator,
+                               final DoubleBinaryOperator combiner,
+                               final DoubleFoldTask<T> next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new DoubleFoldTask<>(this, this.array, middle, to, this.threshold,
+                        this.identity, this.accumulator, this.combiner, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            double value = this.identity;
+            for (int idx = from; idx < to; ++idx) {
+                value = this.accumulator.applyAsDouble(this.array[idx], value);
+            }
+            this.result = value;
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                @SuppressWarnings("unchecked") final DoubleFoldTask<T> task = (DoubleFoldTask<T>) completer;
+                for (DoubleFoldTask<T> fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.combiner.applyAsDouble(task.result, fork.result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel fold of the array range into a {@code float} value.
+     *
+     * @param <T> the type of the elements
+     */
+    @SuppressWarnings("serial")
+    private static final class FloatFoldTask<T> extends CountedCompleter<Void> {
+        private final T[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final float identity;
+        private final ObjFloatToFloatFunction<? super T> accumulator;
+        private final FloatBinaryOperator combiner;
+        private final FloatFoldTask<T> next;
+        private FloatFoldTask<T> forks;
+        private float result;
+
+        private FloatFoldTask(final CountedCompleter<?> parent,
+                              final T[] array,
+                              final int fromIndex,
+                              final int toIndex,
+                              final int threshold,
+                              final float identity,
+                              final ObjFloatToFloatFunction<? super T> accumulator,
+                              final FloatBinaryOperator combiner,
+                              final FloatFoldTask<T> next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new FloatFoldTask<>(this, this.array, middle, to, this.threshold,
+                        this.identity, this.accumulator, this.combiner, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            float value = this.identity;
+            for (int idx = from; idx < to; ++idx) {
+                value = this.accumulator.applyAsFloat(this.array[idx], value);
+            }
+            this.result = value;
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                @SuppressWarnings("unchecked") final FloatFoldTask<T> task = (FloatFoldTask<T>) completer;
+                for (FloatFoldTask<T> fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.combiner.applyAsFloat(task.result, fork.result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel fold of the array range into a {@code short} value.
+     *
+     * @param <T> the type of the elements
+     */
+    @SuppressWarnings("serial")
+    private static final class ShortFoldTask<T> extends CountedCompleter<Void> {
+        private final T[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final short identity;
+        private final ObjShortToShortFunction<? super T> accumulator;
+        private final ShortBinaryOperator combiner;
+        private final ShortFoldTask<T> next;
+        private ShortFoldTask<T> forks;
+        private short result;
+
+        private ShortFoldTask(final CountedCompleter<?> parent,
+                              final T[] array,
+                              final int fromIndex,
+                              final int toIndex,
+                              final int threshold,
+                              final short identity,
+                              final ObjShortToShortFunction<? super T> accumulator,
+                              final ShortBinaryOperator combiner,
+                              final ShortFoldTask<T> next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new ShortFoldTask<>(this, this.array, middle, to, this.threshold,
+                        this.identity, this.accumulator, this.combiner, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            short value = this.identity;
+            for (int idx = from; idx < to; ++idx) {
+                value = this.accumulator.applyAsShort(this.array[idx], value);
+            }
+            this.result = value;
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                @SuppressWarnings("unchecked") final ShortFoldTask<T> task = (ShortFoldTask<T>) completer;
+                for (ShortFoldTask<T> fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.combiner.applyAsShort(task.result, fork.result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel fold of the array range into a {@code byte} value.
+     *
+     * @param <T> the type of the elements
+     */
+    @SuppressWarnings("serial")
+    private static final class ByteFoldTask<T> extends CountedCompleter<Void> {
+        private final T[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final byte identity;
+        private final ObjByteToByteFunction<? super T> accumulator;
+        private final ByteBinaryOperator combiner;
+        private final ByteFoldTask<T> next;
+        private ByteFoldTask<T> forks;
+        private byte result;
+
+        private ByteFoldTask(final CountedCompleter<?> parent,
+                             final T[] array,
+                             final int fromIndex,
+                             final int toIndex,
+                             final int threshold,
+                             final byte identity,
+                             final ObjByteToByteFunction<? super T> accumulator,
+                             final ByteBinaryOperator combiner,
+                             final ByteFoldTask<T> next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new ByteFoldTask<>(this, this.array, middle, to, this.threshold,
+                        this.identity, this.accumulator, this.combiner, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            byte value = this.identity;
+            for (int idx = from; idx < to; ++idx) {
+                value = this.accumulator.applyAsByte(this.array[idx], value);
+            }
+            this.result = value;
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                @SuppressWarnings("unchecked") final ByteFoldTask<T> task = (ByteFoldTask<T>) completer;
+                for (ByteFoldTask<T> fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.combiner.applyAsByte(task.result, fork.result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel fold of the array range into a {@code char} value.
+     *
+     * @param <T> the type of the elements
+     */
+    @SuppressWarnings("serial")
+    private static final class CharFoldTask<T> extends CountedCompleter<Void> {
+        private final T[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final char identity;
+        private final ObjCharToCharFunction<? super T> accumulator;
+        private final CharBinaryOperator combiner;
+        private final CharFoldTask<T> next;
+        private CharFoldTask<T> forks;
+        private char result;
+
+        private CharFoldTask(final CountedCompleter<?> parent,
+                             final T[] array,
+                             final int fromIndex,
+                             final int toIndex,
+                             final int threshold,
+                             final char identity,
+                             final ObjCharToCharFunction<? super T> accumulator,
+                             final CharBinaryOperator combiner,
+                             final CharFoldTask<T> next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new CharFoldTask<>(this, this.array, middle, to, this.threshold,
+                        this.identity, this.accumulator, this.combiner, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            char value = this.identity;
+            for (int idx = from; idx < to; ++idx) {
+                value = this.accumulator.applyAsChar(this.array[idx], value);
+            }
+            this.result = value;
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                @SuppressWarnings("unchecked") final CharFoldTask<T> task = (CharFoldTask<T>) completer;
+                for (CharFoldTask<T> fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.combiner.applyAsChar(task.result, fork.result);
+                }
+            }
+        }
+    }
+}
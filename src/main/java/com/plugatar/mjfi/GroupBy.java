@@ -0,0 +1,927 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Group-by aggregations of object arrays by small-domain primitive keys. The
+ * groups are kept in dense primitive arrays indexed by the key bits, so
+ * neither keys nor aggregated values are boxed:
+ * <ul>
+ * <li>a {@code byte} key {@code k} is the index {@code k & 0xFF} of an array
+ * of the length {@code 256}</li>
+ * <li>a {@code short} key {@code k} is the index {@code k & 0xFFFF} of an array
+ * of the length {@code 65536}</li>
+ * <li>a {@code char} key {@code k} is the index {@code k} of an array of the
+ * length {@code 65536}</li>
+ * </ul>
+ * Every group starts with the identity value and the values of the group rows
+ * are folded into it with the combiner in encounter order. Groups without rows
+ * keep the identity value.
+ * <p>
+ * The parallel aggregations split the rows into partitions, aggregate every
+ * partition into its own arrays and combine the arrays of the partitions with
+ * the same combiner, so the combiner must be associative and the identity
+ * value must be the identity of the combiner.
+ */
+public final class GroupBy {
+    private static final int BYTE_GROUPS = 1 << Byte.SIZE;
+    private static final int SHORT_GROUPS = 1 << Short.SIZE;
+    private static final int CHAR_GROUPS = 1 << Character.SIZE;
+
+    /**
+     * Utility class ctor.
+     */
+    private GroupBy() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Aggregates the {@code float} values of the rows grouped by the {@code byte} keys.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function
+     * @param valueExtractor the value function
+     * @param identity       the initial value of every group
+     * @param combiner       the combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 256} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> float[] aggregateFloatByByteKey(final T[] rows,
+                                                      final ToByteFunction<? super T> keyExtractor,
+                                                      final ToFloatFunction<? super T> valueExtractor,
+                                                      final float identity,
+                                                      final FloatBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        return aggregateFloatByByteKey(rows, 0, rows.length, keyExtractor, valueExtractor, identity, combiner);
+    }
+
+    /**
+     * Aggregates the {@code float} values of the rows grouped by the {@code byte}
+     * keys in parallel.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function, must be safe to call concurrently
+     * @param valueExtractor the value function, must be safe to call concurrently
+     * @param identity       the initial value of every group, the identity of the combiner
+     * @param combiner       the associative combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 256} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> float[] parallelAggregateFloatByByteKey(final T[] rows,
+                                                              final ToByteFunction<? super T> keyExtractor,
+                                                              final ToFloatFunction<? super T> valueExtractor,
+                                                              final float identity,
+                                                              final FloatBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        final int chunks = parallelChunks(rows.length);
+        final int chunkSize = (rows.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> aggregateFloatByByteKey(
+                        rows, chunk * chunkSize, Math.min(rows.length, (chunk + 1) * chunkSize),
+                        keyExtractor, valueExtractor, identity, combiner
+                ))
+                .reduce((left, right) -> {
+                    for (int idx = 0; idx < left.length; ++idx) {
+                        left[idx] = combiner.applyAsFloat(left[idx], right[idx]);
+                    }
+                    return left;
+                })
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Aggregates the {@code float} values of the rows grouped by the {@code short} keys.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function
+     * @param valueExtractor the value function
+     * @param identity       the initial value of every group
+     * @param combiner       the combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 65536} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> float[] aggregateFloatByShortKey(final T[] rows,
+                                                       final ToShortFunction<? super T> keyExtractor,
+                                                       final ToFloatFunction<? super T> valueExtractor,
+                                                       final float identity,
+                                                       final FloatBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        return aggregateFloatByShortKey(rows, 0, rows.length, keyExtractor, valueExtractor, identity, combiner);
+    }
+
+    /**
+     * Aggregates the {@code float} values of the rows grouped by the {@code short}
+     * keys in parallel.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function, must be safe to call concurrently
+     * @param valueExtractor the value function, must be safe to call concurrently
+     * @param identity       the initial value of every group, the identity of the combiner
+     * @param combiner       the associative combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 65536} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> float[] parallelAggregateFloatByShortKey(final T[] rows,
+                                                               final ToShortFunction<? super T> keyExtractor,
+                                                               final ToFloatFunction<? super T> valueExtractor,
+                                                               final float identity,
+                                                               final FloatBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        final int chunks = parallelChunks(rows.length);
+        final int chunkSize = (rows.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> aggregateFloatByShortKey(
+                        rows, chunk * chunkSize, Math.min(rows.length, (chunk + 1) * chunkSize),
+                        keyExtractor, valueExtractor, identity, combiner
+                ))
+                .reduce((left, right) -> {
+                    for (int idx = 0; idx < left.length; ++idx) {
+                        left[idx] = combiner.applyAsFloat(left[idx], right[idx]);
+                    }
+                    return left;
+                })
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Aggregates the {@code float} values of the rows grouped by the {@code char} keys.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function
+     * @param valueExtractor the value function
+     * @param identity       the initial value of every group
+     * @param combiner       the combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 65536} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> float[] aggregateFloatByCharKey(final T[] rows,
+                                                      final ToCharFunction<? super T> keyExtractor,
+                                                      final ToFloatFunction<? super T> valueExtractor,
+                                                      final float identity,
+                                                      final FloatBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        return aggregateFloatByCharKey(rows, 0, rows.length, keyExtractor, valueExtractor, identity, combiner);
+    }
+
+    /**
+     * Aggregates the {@code float} values of the rows grouped by the {@code char}
+     * keys in parallel.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function, must be safe to call concurrently
+     * @param valueExtractor the value function, must be safe to call concurrently
+     * @param identity       the initial value of every group, the identity of the combiner
+     * @param combiner       the associative combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 65536} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> float[] parallelAggregateFloatByCharKey(final T[] rows,
+                                                              final ToCharFunction<? super T> keyExtractor,
+                                                              final ToFloatFunction<? super T> valueExtractor,
+                                                              final float identity,
+                                                              final FloatBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        final int chunks = parallelChunks(rows.length);
+        final int chunkSize = (rows.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> aggregateFloatByCharKey(
+                        rows, chunk * chunkSize, Math.min(rows.length, (chunk + 1) * chunkSize),
+                        keyExtractor, valueExtractor, identity, combiner
+                ))
+                .reduce((left, right) -> {
+                    for (int idx = 0; idx < left.length; ++idx) {
+                        left[idx] = combiner.applyAsFloat(left[idx], right[idx]);
+                    }
+                    return left;
+                })
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Aggregates the {@code long} values of the rows grouped by the {@code byte} keys.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function
+     * @param valueExtractor the value function
+     * @param identity       the initial value of every group
+     * @param combiner       the combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 256} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> long[] aggregateLongByByteKey(final T[] rows,
+                                                    final ToByteFunction<? super T> keyExtractor,
+                                                    final ToLongFunction<? super T> valueExtractor,
+                                                    final long identity,
+                                                    final LongBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        return aggregateLongByByteKey(rows, 0, rows.length, keyExtractor, valueExtractor, identity, combiner);
+    }
+
+    /**
+     * Aggregates the {@code long} values of the rows grouped by the {@code byte}
+     * keys in parallel.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function, must be safe to call concurrently
+     * @param valueExtractor the value function, must be safe to call concurrently
+     * @param identity       the initial value of every group, the identity of the combiner
+     * @param combiner       the associative combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 256} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> long[] parallelAggregateLongByByteKey(final T[] rows,
+                                                            final ToByteFunction<? super T> keyExtractor,
+                                                            final ToLongFunction<? super T> valueExtractor,
+                                                            final long identity,
+                                                            final LongBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        final int chunks = parallelChunks(rows.length);
+        final int chunkSize = (rows.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> aggregateLongByByteKey(
+                        rows, chunk * chunkSize, Math.min(rows.length, (chunk + 1) * chunkSize),
+                        keyExtractor, valueExtractor, identity, combiner
+                ))
+                .reduce((left, right) -> {
+                    for (int idx = 0; idx < left.length; ++idx) {
+                        left[idx] = combiner.applyAsLong(left[idx], right[idx]);
+                    }
+                    return left;
+                })
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Aggregates the {@code long} values of the rows grouped by the {@code short} keys.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function
+     * @param valueExtractor the value function
+     * @param identity       the initial value of every group
+     * @param combiner       the combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 65536} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> long[] aggregateLongByShortKey(final T[] rows,
+                                                     final ToShortFunction<? super T> keyExtractor,
+                                                     final ToLongFunction<? super T> valueExtractor,
+                                                     final long identity,
+                                                     final LongBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        return aggregateLongByShortKey(rows, 0, rows.length, keyExtractor, valueExtractor, identity, combiner);
+    }
+
+    /**
+     * Aggregates the {@code long} values of the rows grouped by the {@code short}
+     * keys in parallel.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function, must be safe to call concurrently
+     * @param valueExtractor the value function, must be safe to call concurrently
+     * @param identity       the initial value of every group, the identity of the combiner
+     * @param combiner       the associative combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 65536} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> long[] parallelAggregateLongByShortKey(final T[] rows,
+                                                             final ToShortFunction<? super T> keyExtractor,
+                                                             final ToLongFunction<? super T> valueExtractor,
+                                                             final long identity,
+                                                             final LongBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        final int chunks = parallelChunks(rows.length);
+        final int chunkSize = (rows.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> aggregateLongByShortKey(
+                        rows, chunk * chunkSize, Math.min(rows.length, (chunk + 1) * chunkSize),
+                        keyExtractor, valueExtractor, identity, combiner
+                ))
+                .reduce((left, right) -> {
+                    for (int idx = 0; idx < left.length; ++idx) {
+                        left[idx] = combiner.applyAsLong(left[idx], right[idx]);
+                    }
+                    return left;
+                })
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Aggregates the {@code long} values of the rows grouped by the {@code char} keys.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function
+     * @param valueExtractor the value function
+     * @param identity       the initial value of every group
+     * @param combiner       the combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 65536} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> long[] aggregateLongByCharKey(final T[] rows,
+                                                    final ToCharFunction<? super T> keyExtractor,
+                                                    final ToLongFunction<? super T> valueExtractor,
+                                                    final long identity,
+                                                    final LongBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        return aggregateLongByCharKey(rows, 0, rows.length, keyExtractor, valueExtractor, identity, combiner);
+    }
+
+    /**
+     * Aggregates the {@code long} values of the rows grouped by the {@code char}
+     * keys in parallel.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function, must be safe to call concurrently
+     * @param valueExtractor the value function, must be safe to call concurrently
+     * @param identity       the initial value of every group, the identity of the combiner
+     * @param combiner       the associative combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 65536} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> long[] parallelAggregateLongByCharKey(final T[] rows,
+                                                            final ToCharFunction<? super T> keyExtractor,
+                                                            final ToLongFunction<? super T> valueExtractor,
+                                                            final long identity,
+                                                            final LongBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        final int chunks = parallelChunks(rows.length);
+        final int chunkSize = (rows.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> aggregateLongByCharKey(
+                        rows, chunk * chunkSize, Math.min(rows.length, (chunk + 1) * chunkSize),
+                        keyExtractor, valueExtractor, identity, combiner
+                ))
+                .reduce((left, right) -> {
+                    for (int idx = 0; idx < left.length; ++idx) {
+                        left[idx] = combiner.applyAsLong(left[idx], right[idx]);
+                    }
+                    return left;
+                })
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Aggregates the {@code double} values of the rows grouped by the {@code byte} keys.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function
+     * @param valueExtractor the value function
+     * @param identity       the initial value of every group
+     * @param combiner       the combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 256} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> double[] aggregateDoubleByByteKey(final T[] rows,
+                                                        final ToByteFunction<? super T> keyExtractor,
+                                                        final ToDoubleFunction<? super T> valueExtractor,
+                                                        final double identity,
+                                                        final DoubleBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        return aggregateDoubleByByteKey(rows, 0, rows.length, keyExtractor, valueExtractor, identity, combiner);
+    }
+
+    /**
+     * Aggregates the {@code double} values of the rows grouped by the {@code byte}
+     * keys in parallel.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function, must be safe to call concurrently
+     * @param valueExtractor the value function, must be safe to call concurrently
+     * @param identity       the initial value of every group, the identity of the combiner
+     * @param combiner       the associative combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 256} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> double[] parallelAggregateDoubleByByteKey(final T[] rows,
+                                                                final ToByteFunction<? super T> keyExtractor,
+                                                                final ToDoubleFunction<? super T> valueExtractor,
+                                                                final double identity,
+                                                                final DoubleBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        final int chunks = parallelChunks(rows.length);
+        final int chunkSize = (rows.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> aggregateDoubleByByteKey(
+                        rows, chunk * chunkSize, Math.min(rows.length, (chunk + 1) * chunkSize),
+                        keyExtractor, valueExtractor, identity, combiner
+                ))
+                .reduce((left, right) -> {
+                    for (int idx = 0; idx < left.length; ++idx) {
+                        left[idx] = combiner.applyAsDouble(left[idx], right[idx]);
+                    }
+                    return left;
+                })
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Aggregates the {@code double} values of the rows grouped by the {@code short} keys.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function
+     * @param valueExtractor the value function
+     * @param identity       the initial value of every group
+     * @param combiner       the combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 65536} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> double[] aggregateDoubleByShortKey(final T[] rows,
+                                                         final ToShortFunction<? super T> keyExtractor,
+                                                         final ToDoubleFunction<? super T> valueExtractor,
+                                                         final double identity,
+                                                         final DoubleBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        return aggregateDoubleByShortKey(rows, 0, rows.length, keyExtractor, valueExtractor, identity, combiner);
+    }
+
+    /**
+     * Aggregates the {@code double} values of the rows grouped by the {@code short}
+     * keys in parallel.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function, must be safe to call concurrently
+     * @param valueExtractor the value function, must be safe to call concurrently
+     * @param identity       the initial value of every group, the identity of the combiner
+     * @param combiner       the associative combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 65536} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> double[] parallelAggregateDoubleByShortKey(final T[] rows,
+                                                                 final ToShortFunction<? super T> keyExtractor,
+                                                                 final ToDoubleFunction<? super T> valueExtractor,
+                                                                 final double identity,
+                                                                 final DoubleBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        final int chunks = parallelChunks(rows.length);
+        final int chunkSize = (rows.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> aggregateDoubleByShortKey(
+                        rows, chunk * chunkSize, Math.min(rows.length, (chunk + 1) * chunkSize),
+                        keyExtractor, valueExtractor, identity, combiner
+                ))
+                .reduce((left, right) -> {
+                    for (int idx = 0; idx < left.length; ++idx) {
+                        left[idx] = combiner.applyAsDouble(left[idx], right[idx]);
+                    }
+                    return left;
+                })
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Aggregates the {@code double} values of the rows grouped by the {@code char} keys.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function
+     * @param valueExtractor the value function
+     * @param identity       the initial value of every group
+     * @param combiner       the combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 65536} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> double[] aggregateDoubleByCharKey(final T[] rows,
+                                                        final ToCharFunction<? super T> keyExtractor,
+                                                        final ToDoubleFunction<? super T> valueExtractor,
+                                                        final double identity,
+                                                        final DoubleBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        return aggregateDoubleByCharKey(rows, 0, rows.length, keyExtractor, valueExtractor, identity, combiner);
+    }
+
+    /**
+     * Aggregates the {@code double} values of the rows grouped by the {@code char}
+     * keys in parallel.
+     *
+     * @param rows           the rows
+     * @param keyExtractor   the key function, must be safe to call concurrently
+     * @param valueExtractor the value function, must be safe to call concurrently
+     * @param identity       the initial value of every group, the identity of the combiner
+     * @param combiner       the associative combiner of the group value and the row value
+     * @param <T>            the type of the rows
+     * @return the array of {@code 65536} group values indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> double[] parallelAggregateDoubleByCharKey(final T[] rows,
+                                                                final ToCharFunction<? super T> keyExtractor,
+                                                                final ToDoubleFunction<? super T> valueExtractor,
+                                                                final double identity,
+                                                                final DoubleBinaryOperator combiner) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(valueExtractor);
+        Objects.requireNonNull(combiner);
+        final int chunks = parallelChunks(rows.length);
+        final int chunkSize = (rows.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> aggregateDoubleByCharKey(
+                        rows, chunk * chunkSize, Math.min(rows.length, (chunk + 1) * chunkSize),
+                        keyExtractor, valueExtractor, identity, combiner
+                ))
+                .reduce((left, right) -> {
+                    for (int idx = 0; idx < left.length; ++idx) {
+                        left[idx] = combiner.applyAsDouble(left[idx], right[idx]);
+                    }
+                    return left;
+                })
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Counts the rows grouped by the {@code byte} keys.
+     *
+     * @param rows         the rows
+     * @param keyExtractor the key function
+     * @param <T>          the type of the rows
+     * @return the array of {@code 256} group counts indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> long[] countByByteKey(final T[] rows, final ToByteFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        return countByByteKey(rows, 0, rows.length, keyExtractor);
+    }
+
+    /**
+     * Counts the rows grouped by the {@code byte} keys in parallel.
+     *
+     * @param rows         the rows
+     * @param keyExtractor the key function, must be safe to call concurrently
+     * @param <T>          the type of the rows
+     * @return the array of {@code 256} group counts indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> long[] parallelCountByByteKey(final T[] rows, final ToByteFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        final int chunks = parallelChunks(rows.length);
+        final int chunkSize = (rows.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> countByByteKey(
+                        rows, chunk * chunkSize, Math.min(rows.length, (chunk + 1) * chunkSize), keyExtractor
+                ))
+                .reduce(GroupBy::addCounts)
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Counts the rows grouped by the {@code short} keys.
+     *
+     * @param rows         the rows
+     * @param keyExtractor the key function
+     * @param <T>          the type of the rows
+     * @return the array of {@code 65536} group counts indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> long[] countByShortKey(final T[] rows, final ToShortFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        return countByShortKey(rows, 0, rows.length, keyExtractor);
+    }
+
+    /**
+     * Counts the rows grouped by the {@code short} keys in parallel.
+     *
+     * @param rows         the rows
+     * @param keyExtractor the key function, must be safe to call concurrently
+     * @param <T>          the type of the rows
+     * @return the array of {@code 65536} group counts indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> long[] parallelCountByShortKey(final T[] rows, final ToShortFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        final int chunks = parallelChunks(rows.length);
+        final int chunkSize = (rows.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> countByShortKey(
+                        rows, chunk * chunkSize, Math.min(rows.length, (chunk + 1) * chunkSize), keyExtractor
+                ))
+                .reduce(GroupBy::addCounts)
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Counts the rows grouped by the {@code char} keys.
+     *
+     * @param rows         the rows
+     * @param keyExtractor the key function
+     * @param <T>          the type of the rows
+     * @return the array of {@code 65536} group counts indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> long[] countByCharKey(final T[] rows, final ToCharFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        return countByCharKey(rows, 0, rows.length, keyExtractor);
+    }
+
+    /**
+     * Counts the rows grouped by the {@code char} keys in parallel.
+     *
+     * @param rows         the rows
+     * @param keyExtractor the key function, must be safe to call concurrently
+     * @param <T>          the type of the rows
+     * @return the array of {@code 65536} group counts indexed by the key bits
+     * @throws NullPointerException if any arg is null
+     */
+    public static <T> long[] parallelCountByCharKey(final T[] rows, final ToCharFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(keyExtractor);
+        final int chunks = parallelChunks(rows.length);
+        final int chunkSize = (rows.length + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> countByCharKey(
+                        rows, chunk * chunkSize, Math.min(rows.length, (chunk + 1) * chunkSize), keyExtractor
+                ))
+                .reduce(GroupBy::addCounts)
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    private static <T> float[] aggregateFloatByByteKey(final T[] rows,
+                                                       final int fromIndex,
+                                                       final int toIndex,
+                                                       final ToByteFunction<? super T> keyExtractor,
+                                                       final ToFloatFunction<? super T> valueExtractor,
+                                                       final float identity,
+                                                       final FloatBinaryOperator combiner) {
+        final float[] values = new float[BYTE_GROUPS];
+        Arrays.fill(values, identity);
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            final T row = rows[idx];
+            final int group = keyExtractor.applyAsByte(row) & 0xFF;
+            values[group] = combiner.applyAsFloat(values[group], valueExtractor.applyAsFloat(row));
+        }
+        return values;
+    }
+
+    private static <T> float[] aggregateFloatByShortKey(final T[] rows,
+                                                        final int fromIndex,
+                                                        final int toIndex,
+                                                        final ToShortFunction<? super T> keyExtractor,
+                                                        final ToFloatFunction<? super T> valueExtractor,
+                                                        final float identity,
+                                                        final FloatBinaryOperator combiner) {
+        final float[] values = new float[SHORT_GROUPS];
+        Arrays.fill(values, identity);
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            final T row = rows[idx];
+            final int group = keyExtractor.applyAsShort(row) & 0xFFFF;
+            values[group] = combiner.applyAsFloat(values[group], valueExtractor.applyAsFloat(row));
+        }
+        return values;
+    }
+
+    private static <T> float[] aggregateFloatByCharKey(final T[] rows,
+                                                       final int fromIndex,
+                                                       final int toIndex,
+                                                       final ToCharFunction<? super T> keyExtractor,
+                                                       final ToFloatFunction<? super T> valueExtractor,
+                                                       final float identity,
+                                                       final FloatBinaryOperator combiner) {
+        final float[] values = new float[CHAR_GROUPS];
+        Arrays.fill(values, identity);
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            final T row = rows[idx];
+            final int group = keyExtractor.applyAsChar(row);
+            values[group] = combiner.applyAsFloat(values[group], valueExtractor.applyAsFloat(row));
+        }
+        return values;
+    }
+
+    private static <T> long[] aggregateLongByByteKey(final T[] rows,
+                                                     final int fromIndex,
+                                                     final int toIndex,
+                                                     final ToByteFunction<? super T> keyExtractor,
+                                                     final ToLongFunction<? super T> valueExtractor,
+                                                     final long identity,
+                                                     final LongBinaryOperator combiner) {
+        final long[] values = new long[BYTE_GROUPS];
+        Arrays.fill(values, identity);
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            final T row = rows[idx];
+            final int group = keyExtractor.applyAsByte(row) & 0xFF;
+            values[group] = combiner.applyAsLong(values[group], valueExtractor.applyAsLong(row));
+        }
+        return values;
+    }
+
+    private static <T> long[] aggregateLongByShortKey(final T[] rows,
+                                                      final int fromIndex,
+                                                      final int toIndex,
+                                                      final ToShortFunction<? super T> keyExtractor,
+                                                      final ToLongFunction<? super T> valueExtractor,
+                                                      final long identity,
+                                                      final LongBinaryOperator combiner) {
+        final long[] values = new long[SHORT_GROUPS];
+        Arrays.fill(values, identity);
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            final T row = rows[idx];
+            final int group = keyExtractor.applyAsShort(row) & 0xFFFF;
+            values[group] = combiner.applyAsLong(values[group], valueExtractor.applyAsLong(row));
+        }
+        return values;
+    }
+
+    private static <T> long[] aggregateLongByCharKey(final T[] rows,
+                                                     final int fromIndex,
+                                                     final int toIndex,
+                                                     final ToCharFunction<? super T> keyExtractor,
+                                                     final ToLongFunction<? super T> valueExtractor,
+                                                     final long identity,
+                                                     final LongBinaryOperator combiner) {
+        final long[] values = new long[CHAR_GROUPS];
+        Arrays.fill(values, identity);
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            final T row = rows[idx];
+            final int group = keyExtractor.applyAsChar(row);
+            values[group] = combiner.applyAsLong(values[group], valueExtractor.applyAsLong(row));
+        }
+        return values;
+    }
+
+    private static <T> double[] aggregateDoubleByByteKey(final T[] rows,
+                                                         final int fromIndex,
+                                                         final int toIndex,
+                                                         final ToByteFunction<? super T> keyExtractor,
+                                                         final ToDoubleFunction<? super T> valueExtractor,
+                                                         final double identity,
+                                                         final DoubleBinaryOperator combiner) {
+        final double[] values = new double[BYTE_GROUPS];
+        Arrays.fill(values, identity);
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            final T row = rows[idx];
+            final int group = keyExtractor.applyAsByte(row) & 0xFF;
+            values[group] = combiner.applyAsDouble(values[group], valueExtractor.applyAsDouble(row));
+        }
+        return values;
+    }
+
+    private static <T> double[] aggregateDoubleByShortKey(final T[] rows,
+                                                          final int fromIndex,
+                                                          final int toIndex,
+                                                          final ToShortFunction<? super T> keyExtractor,
+                                                          final ToDoubleFunction<? super T> valueExtractor,
+                                                          final double identity,
+                                                          final DoubleBinaryOperator combiner) {
+        final double[] values = new double[SHORT_GROUPS];
+        Arrays.fill(values, identity);
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            final T row = rows[idx];
+            final int group = keyExtractor.applyAsShort(row) & 0xFFFF;
+            values[group] = combiner.applyAsDouble(values[group], valueExtractor.applyAsDouble(row));
+        }
+        return values;
+    }
+
+    private static <T> double[] aggregateDoubleByCharKey(final T[] rows,
+                                                         final int fromIndex,
+                                                         final int toIndex,
+                                                         final ToCharFunction<? super T> keyExtractor,
+                                                         final ToDoubleFunction<? super T> valueExtractor,
+                                                         final double identity,
+                                                         final DoubleBinaryOperator combiner) {
+        final double[] values = new double[CHAR_GROUPS];
+        Arrays.fill(values, identity);
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            final T row = rows[idx];
+            final int group = keyExtractor.applyAsChar(row);
+            values[group] = combiner.applyAsDouble(values[group], valueExtractor.applyAsDouble(row));
+        }
+        return values;
+    }
+
+    private static <T> long[] countByByteKey(final T[] rows,
+                                             final int fromIndex,
+                                             final int toIndex,
+                                             final ToByteFunction<? super T> keyExtractor) {
+        final long[] counts = new long[BYTE_GROUPS];
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            ++counts[keyExtractor.applyAsByte(rows[idx]) & 0xFF];
+        }
+        return counts;
+    }
+
+    private static <T> long[] countByShortKey(final T[] rows,
+                                              final int fromIndex,
+                                              final int toIndex,
+                                              final ToShortFunction<? super T> keyExtractor) {
+        final long[] counts = new long[SHORT_GROUPS];
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            ++counts[keyExtractor.applyAsShort(rows[idx]) & 0xFFFF];
+        }
+        return counts;
+    }
+
+    private static <T> long[] countByCharKey(final T[] rows,
+                                             final int fromIndex,
+                                             final int toIndex,
+                                             final ToCharFunction<? super T> keyExtractor) {
+        final long[] counts = new long[CHAR_GROUPS];
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            ++counts[keyExtractor.applyAsChar(rows[idx])];
+        }
+        return counts;
+    }
+
+    private static long[] addCounts(final long[] left, final long[] right) {
+        for (int idx = 0; idx < left.length; ++idx) {
+            left[idx] += right[idx];
+        }
+        return left;
+    }
+
+    private static int parallelChunks(final int length) {
+        return ParallelChunks.count(length, ForkJoinPool.getCommonPoolParallelism());
+    }
+}
@@ -0,0 +1,1105 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Element-wise kernels that apply the primitive binary operators across
+ * {@code float}, {@code short}, {@code byte}, {@code char} and
+ * {@code boolean} arrays: zips of two arrays into an output array and
+ * reductions of an array into a single value. Values are never boxed.
+ * <p>
+ * The parallel kernels run in the {@link ForkJoinPool#commonPool() common pool}.
+ * The arrays are split into contiguous chunks of at least {@code 2^13} values,
+ * so every task streams whole cache lines and the cost of the task is
+ * amortized, and at most four chunks per worker thread. The reductions
+ * merge the values of adjacent chunks in encounter order, so operators only
+ * have to be associative, not commutative.
+ */
+public final class Kernels {
+
+    /**
+     * Utility class ctor.
+     */
+    private Kernels() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Applies the given operator to the values with equal indexes of the
+     * left and the right arrays and stores the results into the output
+     * array, i.e. {@code out[i] = operator(left[i], right[i])}. The output
+     * array may be one of the input arrays.
+     *
+     * @param left     the left array
+     * @param right    the right array
+     * @param out      the output array
+     * @param operator the operator
+     * @throws NullPointerException     if any arg is null
+     * @throws IllegalArgumentException if lengths of the arrays are not equal
+     */
+    public static void zip(final float[] left,
+                           final float[] right,
+                           final float[] out,
+                           final FloatBinaryOperator operator) {
+        checkZipArgs(left.length, right.length, out.length, operator);
+        zipRange(left, right, out, 0, left.length, operator);
+    }
+
+    /**
+     * Applies the given operator to the values with equal indexes of the
+     * left and the right arrays and stores the results into the output
+     * array in parallel, i.e. {@code out[i] = operator(left[i], right[i])}.
+     * The output array may be one of the input arrays.
+     *
+     * @param left     the left array
+     * @param right    the right array
+     * @param out      the output array
+     * @param operator the operator, must be side-effect-free
+     * @throws NullPointerException     if any arg is null
+     * @throws IllegalArgumentException if lengths of the arrays are not equal
+     */
+    public static void parallelZip(final float[] left,
+                                   final float[] right,
+                                   final float[] out,
+                                   final FloatBinaryOperator operator) {
+        checkZipArgs(left.length, right.length, out.length, operator);
+        final int length = left.length;
+        final int chunkSize = ParallelChunks.threshold(length);
+        if (chunkSize >= length) {
+            zipRange(left, right, out, 0, length, operator);
+        } else {
+            IntStream.range(0, (length + chunkSize - 1) / chunkSize).parallel().forEach(chunk -> {
+                final int from = chunk * chunkSize;
+                zipRange(left, right, out, from, Math.min(length, from + chunkSize), operator);
+            });
+        }
+    }
+
+    /**
+     * Reduces the values of the given array starting with the identity value,
+     * i.e. returns {@code operator(...operator(operator(identity, array[0]), array[1])..., array[n - 1])}.
+     *
+     * @param array    the array
+     * @param identity the identity value
+     * @param operator the operator
+     * @return the reduced value, the identity value for the empty array
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     */
+    public static float reduce(final float[] array, final float identity, final FloatBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        float value = identity;
+        for (final float element : array) {
+            value = operator.applyAsFloat(value, element);
+        }
+        return value;
+    }
+
+    /**
+     * Reduces the values of the given non-empty array starting with the
+     * first value, i.e. returns {@code operator(...operator(array[0], array[1])..., array[n - 1])}.
+     *
+     * @param array    the array
+     * @param operator the operator
+     * @return the reduced value
+     * @throws NullPointerException   if {@code array} or {@code operator} is null
+     * @throws NoSuchElementException if {@code array} is empty
+     */
+    public static float reduce(final float[] array, final FloatBinaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkNotEmpty(array.length);
+        return reduceRange(array, 0, array.length, operator);
+    }
+
+    /**
+     * Reduces the values of the given array in parallel. The identity value
+     * must be an identity for the operator, i.e. {@code operator(identity, x)}
+     * is equal to {@code x} for all {@code x}, and the operator must be
+     * associative and side-effect-free.
+     *
+     * @param array    the array
+     * @param identity the identity value
+     * @param operator the operator
+     * @return the reduced value, the identity value for the empty array
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     */
+    public static float parallelReduce(final float[] array,
+                                       final float identity,
+                                       final FloatBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        return array.length == 0
+                ? identity
+                : operator.applyAsFloat(identity, parallelReduceNonEmpty(array, operator));
+    }
+
+    /**
+     * Reduces the values of the given non-empty array in parallel. The
+     * operator must be associative and side-effect-free.
+     *
+     * @param array    the array
+     * @param operator the operator
+     * @return the reduced value
+     * @throws NullPointerException   if {@code array} or {@code operator} is null
+     * @throws NoSuchElementException if {@code array} is empty
+     */
+    public static float parallelReduce(final float[] array, final FloatBinaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkNotEmpty(array.length);
+        return parallelReduceNonEmpty(array, operator);
+    }
+
+    private static float parallelReduceNonEmpty(final float[] array, final FloatBinaryOperator operator) {
+        final FloatReduceTask task = new FloatReduceTask(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length), operator, null
+        );
+        task.invoke();
+        return task.result;
+    }
+
+    private static void zipRange(final float[] left,
+                                 final float[] right,
+                                 final float[] out,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final FloatBinaryOperator operator) {
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            out[idx] = operator.applyAsFloat(left[idx], right[idx]);
+        }
+    }
+
+    private static float reduceRange(final float[] array,
+                                     final int fromIndex,
+                                     final int toIndex,
+                                     final FloatBinaryOperator operator) {
+        float value = array[fromIndex];
+        for (int idx = fromIndex + 1; idx < toIndex; ++idx) {
+            value = operator.applyAsFloat(value, array[idx]);
+        }
+        return value;
+    }
+
+    /**
+     * Applies the given operator to the values with equal indexes of the
+     * left and the right arrays and stores the results into the output
+     * array, i.e. {@code out[i] = operator(left[i], right[i])}. The output
+     * array may be one of the input arrays.
+     *
+     * @param left     the left array
+     * @param right    the right array
+     * @param out      the output array
+     * @param operator the operator
+     * @throws NullPointerException     if any arg is null
+     * @throws IllegalArgumentException if lengths of the arrays are not equal
+     */
+    public static void zip(final short[] left,
+                           final short[] right,
+                           final short[] out,
+                           final ShortBinaryOperator operator) {
+        checkZipArgs(left.length, right.length, out.length, operator);
+        zipRange(left, right, out, 0, left.length, operator);
+    }
+
+    /**
+     * Applies the given operator to the values with equal indexes of the
+     * left and the right arrays and stores the results into the output
+     * array in parallel, i.e. {@code out[i] = operator(left[i], right[i])}.
+     * The output array may be one of the input arrays.
+     *
+     * @param left     the left array
+     * @param right    the right array
+     * @param out      the output array
+     * @param operator the operator, must be side-effect-free
+     * @throws NullPointerException     if any arg is null
+     * @throws IllegalArgumentException if lengths of the arrays are not equal
+     */
+    public static void parallelZip(final short[] left,
+                                   final short[] right,
+                                   final short[] out,
+                                   final ShortBinaryOperator operator) {
+        checkZipArgs(left.length, right.length, out.length, operator);
+        final int length = left.length;
+        final int chunkSize = ParallelChunks.threshold(length);
+        if (chunkSize >= length) {
+            zipRange(left, right, out, 0, length, operator);
+        } else {
+            IntStream.range(0, (length + chunkSize - 1) / chunkSize).parallel().forEach(chunk -> {
+                final int from = chunk * chunkSize;
+                zipRange(left, right, out, from, Math.min(length, from + chunkSize), operator);
+            });
+        }
+    }
+
+    /**
+     * Reduces the values of the given array starting with the identity value,
+     * i.e. returns {@code operator(...operator(operator(identity, array[0]), array[1])..., array[n - 1])}.
+     *
+     * @param array    the array
+     * @param identity the identity value
+     * @param operator the operator
+     * @return the reduced value, the identity value for the empty array
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     */
+    public static short reduce(final short[] array, final short identity, final ShortBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        short value = identity;
+        for (final short element : array) {
+            value = operator.applyAsShort(value, element);
+        }
+        return value;
+    }
+
+    /**
+     * Reduces the values of the given non-empty array starting with the
+     * first value, i.e. returns {@code operator(...operator(array[0], array[1])..., array[n - 1])}.
+     *
+     * @param array    the array
+     * @param operator the operator
+     * @return the reduced value
+     * @throws NullPointerException   if {@code array} or {@code operator} is null
+     * @throws NoSuchElementException if {@code array} is empty
+     */
+    public static short reduce(final short[] array, final ShortBinaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkNotEmpty(array.length);
+        return reduceRange(array, 0, array.length, operator);
+    }
+
+    /**
+     * Reduces the values of the given array in parallel. The identity value
+     * must be an identity for the operator, i.e. {@code operator(identity, x)}
+     * is equal to {@code x} for all {@code x}, and the operator must be
+     * associative and side-effect-free.
+     *
+     * @param array    the array
+     * @param identity the identity value
+     * @param operator the operator
+     * @return the reduced value, the identity value for the empty array
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     */
+    public static short parallelReduce(final short[] array,
+                                       final short identity,
+                                       final ShortBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        return array.length == 0
+                ? identity
+                : operator.applyAsShort(identity, parallelReduceNonEmpty(array, operator));
+    }
+
+    /**
+     * Reduces the values of the given non-empty array in parallel. The
+     * operator must be associative and side-effect-free.
+     *
+     * @param array    the array
+     * @param operator the operator
+     * @return the reduced value
+     * @throws NullPointerException   if {@code array} or {@code operator} is null
+     * @throws NoSuchElementException if {@code array} is empty
+     */
+    public static short parallelReduce(final short[] array, final ShortBinaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkNotEmpty(array.length);
+        return parallelReduceNonEmpty(array, operator);
+    }
+
+    private static short parallelReduceNonEmpty(final short[] array, final ShortBinaryOperator operator) {
+        final ShortReduceTask task = new ShortReduceTask(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length), operator, null
+        );
+        task.invoke();
+        return task.result;
+    }
+
+    private static void zipRange(final short[] left,
+                                 final short[] right,
+                                 final short[] out,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final ShortBinaryOperator operator) {
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            out[idx] = operator.applyAsShort(left[idx], right[idx]);
+        }
+    }
+
+    private static short reduceRange(final short[] array,
+                                     final int fromIndex,
+                                     final int toIndex,
+                                     final ShortBinaryOperator operator) {
+        short value = array[fromIndex];
+        for (int idx = fromIndex + 1; idx < toIndex; ++idx) {
+            value = operator.applyAsShort(value, array[idx]);
+        }
+        return value;
+    }
+
+    /**
+     * Applies the given operator to the values with equal indexes of the
+     * left and the right arrays and stores the results into the output
+     * array, i.e. {@code out[i] = operator(left[i], right[i])}. The output
+     * array may be one of the input arrays.
+     *
+     * @param left     the left array
+     * @param right    the right array
+     * @param out      the output array
+     * @param operator the operator
+     * @throws NullPointerException     if any arg is null
+     * @throws IllegalArgumentException if lengths of the arrays are not equal
+     */
+    public static void zip(final byte[] left,
+                           final byte[] right,
+                           final byte[] out,
+                           final ByteBinaryOperator operator) {
+        checkZipArgs(left.length, right.length, out.length, operator);
+        zipRange(left, right, out, 0, left.length, operator);
+    }
+
+    /**
+     * Applies the given operator to the values with equal indexes of the
+     * left and the right arrays and stores the results into the output
+     * array in parallel, i.e. {@code out[i] = operator(left[i], right[i])}.
+     * The output array may be one of the input arrays.
+     *
+     * @param left     the left array
+     * @param right    the right array
+     * @param out      the output array
+     * @param operator the operator, must be side-effect-free
+     * @throws NullPointerException     if any arg is null
+     * @throws IllegalArgumentException if lengths of the arrays are not equal
+     */
+    public static void parallelZip(final byte[] left,
+                                   final byte[] right,
+                                   final byte[] out,
+                                   final ByteBinaryOperator operator) {
+        checkZipArgs(left.length, right.length, out.length, operator);
+        final int length = left.length;
+        final int chunkSize = ParallelChunks.threshold(length);
+        if (chunkSize >= length) {
+            zipRange(left, right, out, 0, length, operator);
+        } else {
+            IntStream.range(0, (length + chunkSize - 1) / chunkSize).parallel().forEach(chunk -> {
+                final int from = chunk * chunkSize;
+                zipRange(left, right, out, from, Math.min(length, from + chunkSize), operator);
+            });
+        }
+    }
+
+    /**
+     * Reduces the values of the given array starting with the identity value,
+     * i.e. returns {@code operator(...operator(operator(identity, array[0]), array[1])..., array[n - 1])}.
+     *
+     * @param array    the array
+     * @param identity the identity value
+     * @param operator the operator
+     * @return the reduced value, the identity value for the empty array
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     */
+    public static byte reduce(final byte[] array, final byte identity, final ByteBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        byte value = identity;
+        for (final byte element : array) {
+            value = operator.applyAsByte(value, element);
+        }
+        return value;
+    }
+
+    /**
+     * Reduces the values of the given non-empty array starting with the
+     * first value, i.e. returns {@code operator(...operator(array[0], array[1])..., array[n - 1])}.
+     *
+     * @param array    the array
+     * @param operator the operator
+     * @return the reduced value
+     * @throws NullPointerException   if {@code array} or {@code operator} is null
+     * @throws NoSuchElementException if {@code array} is empty
+     */
+    public static byte reduce(final byte[] array, final ByteBinaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkNotEmpty(array.length);
+        return reduceRange(array, 0, array.length, operator);
+    }
+
+    /**
+     * Reduces the values of the given array in parallel. The identity value
+     * must be an identity for the operator, i.e. {@code operator(identity, x)}
+     * is equal to {@code x} for all {@code x}, and the operator must be
+     * associative and side-effect-free.
+     *
+     * @param array    the array
+     * @param identity the identity value
+     * @param operator the operator
+     * @return the reduced value, the identity value for the empty array
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     */
+    public static byte parallelReduce(final byte[] array,
+                                      final byte identity,
+                                      final ByteBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        return array.length == 0
+                ? identity
+                : operator.applyAsByte(identity, parallelReduceNonEmpty(array, operator));
+    }
+
+    /**
+     * Reduces the values of the given non-empty array in parallel. The
+     * operator must be associative and side-effect-free.
+     *
+     * @param array    the array
+     * @param operator the operator
+     * @return the reduced value
+     * @throws NullPointerException   if {@code array} or {@code operator} is null
+     * @throws NoSuchElementException if {@code array} is empty
+     */
+    public static byte parallelReduce(final byte[] array, final ByteBinaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkNotEmpty(array.length);
+        return parallelReduceNonEmpty(array, operator);
+    }
+
+    private static byte parallelReduceNonEmpty(final byte[] array, final ByteBinaryOperator operator) {
+        final ByteReduceTask task = new ByteReduceTask(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length), operator, null
+        );
+        task.invoke();
+        return task.result;
+    }
+
+    private static void zipRange(final byte[] left,
+                                 final byte[] right,
+                                 final byte[] out,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final ByteBinaryOperator operator) {
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            out[idx] = operator.applyAsByte(left[idx], right[idx]);
+        }
+    }
+
+    private static byte reduceRange(final byte[] array,
+                                    final int fromIndex,
+                                    final int toIndex,
+                                    final ByteBinaryOperator operator) {
+        byte value = array[fromIndex];
+        for (int idx = fromIndex + 1; idx < toIndex; ++idx) {
+            value = operator.applyAsByte(value, array[idx]);
+        }
+        return value;
+    }
+
+    /**
+     * Applies the given operator to the values with equal indexes of the
+     * left and the right arrays and stores the results into the output
+     * array, i.e. {@code out[i] = operator(left[i], right[i])}. The output
+     * array may be one of the input arrays.
+     *
+     * @param left     the left array
+     * @param right    the right array
+     * @param out      the output array
+     * @param operator the operator
+     * @throws NullPointerException     if any arg is null
+     * @throws IllegalArgumentException if lengths of the arrays are not equal
+     */
+    public static void zip(final char[] left,
+                           final char[] right,
+                           final char[] out,
+                           final CharBinaryOperator operator) {
+        checkZipArgs(left.length, right.length, out.length, operator);
+        zipRange(left, right, out, 0, left.length, operator);
+    }
+
+    /**
+     * Applies the given operator to the values with equal indexes of the
+     * left and the right arrays and stores the results into the output
+     * array in parallel, i.e. {@code out[i] = operator(left[i], right[i])}.
+     * The output array may be one of the input arrays.
+     *
+     * @param left     the left array
+     * @param right    the right array
+     * @param out      the output array
+     * @param operator the operator, must be side-effect-free
+     * @throws NullPointerException     if any arg is null
+     * @throws IllegalArgumentException if lengths of the arrays are not equal
+     */
+    public static void parallelZip(final char[] left,
+                                   final char[] right,
+                                   final char[] out,
+                                   final CharBinaryOperator operator) {
+        checkZipArgs(left.length, right.length, out.length, operator);
+        final int length = left.length;
+        final int chunkSize = ParallelChunks.threshold(length);
+        if (chunkSize >= length) {
+            zipRange(left, right, out, 0, length, operator);
+        } else {
+            IntStream.range(0, (length + chunkSize - 1) / chunkSize).parallel().forEach(chunk -> {
+                final int from = chunk * chunkSize;
+                zipRange(left, right, out, from, Math.min(length, from + chunkSize), operator);
+            });
+        }
+    }
+
+    /**
+     * Reduces the values of the given array starting with the identity value,
+     * i.e. returns {@code operator(...operator(operator(identity, array[0]), array[1])..., array[n - 1])}.
+     *
+     * @param array    the array
+     * @param identity the identity value
+     * @param operator the operator
+     * @return the reduced value, the identity value for the empty array
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     */
+    public static char reduce(final char[] array, final char identity, final CharBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        char value = identity;
+        for (final char element : array) {
+            value = operator.applyAsChar(value, element);
+        }
+        return value;
+    }
+
+    /**
+     * Reduces the values of the given non-empty array starting with the
+     * first value, i.e. returns {@code operator(...operator(array[0], array[1])..., array[n - 1])}.
+     *
+     * @param array    the array
+     * @param operator the operator
+     * @return the reduced value
+     * @throws NullPointerException   if {@code array} or {@code operator} is null
+     * @throws NoSuchElementException if {@code array} is empty
+     */
+    public static char reduce(final char[] array, final CharBinaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkNotEmpty(array.length);
+        return reduceRange(array, 0, array.length, operator);
+    }
+
+    /**
+     * Reduces the values of the given array in parallel. The identity value
+     * must be an identity for the operator, i.e. {@code operator(identity, x)}
+     * is equal to {@code x} for all {@code x}, and the operator must be
+     * associative and side-effect-free.
+     *
+     * @param array    the array
+     * @param identity the identity value
+     * @param operator the operator
+     * @return the reduced value, the identity value for the empty array
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     */
+    public static char parallelReduce(final char[] array,
+                                      final char identity,
+                                      final CharBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        return array.length == 0
+                ? identity
+                : operator.applyAsChar(identity, parallelReduceNonEmpty(array, operator));
+    }
+
+    /**
+     * Reduces the values of the given non-empty array in parallel. The
+     * operator must be associative and side-effect-free.
+     *
+     * @param array    the array
+     * @param operator the operator
+     * @return the reduced value
+     * @throws NullPointerException   if {@code array} or {@code operator} is null
+     * @throws NoSuchElementException if {@code array} is empty
+     */
+    public static char parallelReduce(final char[] array, final CharBinaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkNotEmpty(array.length);
+        return parallelReduceNonEmpty(array, operator);
+    }
+
+    private static char parallelReduceNonEmpty(final char[] array, final CharBinaryOperator operator) {
+        final CharReduceTask task = new CharReduceTask(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length), operator, null
+        );
+        task.invoke();
+        return task.result;
+    }
+
+    private static void zipRange(final char[] left,
+                                 final char[] right,
+                                 final char[] out,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final CharBinaryOperator operator) {
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            out[idx] = operator.applyAsChar(left[idx], right[idx]);
+        }
+    }
+
+    private static char reduceRange(final char[] array,
+                                    final int fromIndex,
+                                    final int toIndex,
+                                    final CharBinaryOperator operator) {
+        char value = array[fromIndex];
+        for (int idx = fromIndex + 1; idx < toIndex; ++idx) {
+            value = operator.applyAsChar(value, array[idx]);
+        }
+        return value;
+    }
+
+    /**
+     * Applies the given operator to the values with equal indexes of the
+     * left and the right arrays and stores the results into the output
+     * array, i.e. {@code out[i] = operator(left[i], right[i])}. The output
+     * array may be one of the input arrays.
+     *
+     * @param left     the left array
+     * @param right    the right array
+     * @param out      the output array
+     * @param operator the operator
+     * @throws NullPointerException     if any arg is null
+     * @throws IllegalArgumentException if lengths of the arrays are not equal
+     */
+    public static void zip(final boolean[] left,
+                           final boolean[] right,
+                           final boolean[] out,
+                           final BooleanBinaryOperator operator) {
+        checkZipArgs(left.length, right.length, out.length, operator);
+        zipRange(left, right, out, 0, left.length, operator);
+    }
+
+    /**
+     * Applies the given operator to the values with equal indexes of the
+     * left and the right arrays and stores the results into the output
+     * array in parallel, i.e. {@code out[i] = operator(left[i], right[i])}.
+     * The output array may be one of the input arrays.
+     *
+     * @param left     the left array
+     * @param right    the right array
+     * @param out      the output array
+     * @param operator the operator, must be side-effect-free
+     * @throws NullPointerException     if any arg is null
+     * @throws IllegalArgumentException if lengths of the arrays are not equal
+     */
+    public static void parallelZip(final boolean[] left,
+                                   final boolean[] right,
+                                   final boolean[] out,
+                                   final BooleanBinaryOperator operator) {
+        checkZipArgs(left.length, right.length, out.length, operator);
+        final int length = left.length;
+        final int chunkSize = ParallelChunks.threshold(length);
+        if (chunkSize >= length) {
+            zipRange(left, right, out, 0, length, operator);
+        } else {
+            IntStream.range(0, (length + chunkSize - 1) / chunkSize).parallel().forEach(chunk -> {
+                final int from = chunk * chunkSize;
+                zipRange(left, right, out, from, Math.min(length, from + chunkSize), operator);
+            });
+        }
+    }
+
+    /**
+     * Reduces the values of the given array starting with the identity value,
+     * i.e. returns {@code operator(...operator(operator(identity, array[0]), array[1])..., array[n - 1])}.
+     *
+     * @param array    the array
+     * @param identity the identity value
+     * @param operator the operator
+     * @return the reduced value, the identity value for the empty array
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     */
+    public static boolean reduce(final boolean[] array, final boolean identity, final BooleanBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        boolean value = identity;
+        for (final boolean element : array) {
+            value = operator.applyAsBoolean(value, element);
+        }
+        return value;
+    }
+
+    /**
+     * Reduces the values of the given non-empty array starting with the
+     * first value, i.e. returns {@code operator(...operator(array[0], array[1])..., array[n - 1])}.
+     *
+     * @param array    the array
+     * @param operator the operator
+     * @return the reduced value
+     * @throws NullPointerException   if {@code array} or {@code operator} is null
+     * @throws NoSuchElementException if {@code array} is empty
+     */
+    public static boolean reduce(final boolean[] array, final BooleanBinaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkNotEmpty(array.length);
+        return reduceRange(array, 0, array.length, operator);
+    }
+
+    /**
+     * Reduces the values of the given array in parallel. The identity value
+     * must be an identity for the operator, i.e. {@code operator(identity, x)}
+     * is equal to {@code x} for all {@code x}, and the operator must be
+     * associative and side-effect-free.
+     *
+     * @param array    the array
+     * @param identity the identity value
+     * @param operator the operator
+     * @return the reduced value, the identity value for the empty array
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     */
+    public static boolean parallelReduce(final boolean[] array,
+                                         final boolean identity,
+                                         final BooleanBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        return array.length == 0
+                ? identity
+                : operator.applyAsBoolean(identity, parallelReduceNonEmpty(array, operator));
+    }
+
+    /**
+     * Reduces the values of the given non-empty array in parallel. The
+     * operator must be associative and side-effect-free.
+     *
+     * @param array    the array
+     * @param operator the operator
+     * @return the reduced value
+     * @throws NullPointerException   if {@code array} or {@code operator} is null
+     * @throws NoSuchElementException if {@code array} is empty
+     */
+    public static boolean parallelReduce(final boolean[] array, final BooleanBinaryOperator operator) {
+        Objects.requireNonNull(operator);
+        checkNotEmpty(array.length);
+        return parallelReduceNonEmpty(array, operator);
+    }
+
+    private static boolean parallelReduceNonEmpty(final boolean[] array, final BooleanBinaryOperator operator) {
+        final BooleanReduceTask task = new BooleanReduceTask(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length), operator, null
+        );
+        task.invoke();
+        return task.result;
+    }
+
+    private static void zipRange(final boolean[] left,
+                                 final boolean[] right,
+                                 final boolean[] out,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final BooleanBinaryOperator operator) {
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            out[idx] = operator.applyAsBoolean(left[idx], right[idx]);
+        }
+    }
+
+    private static boolean reduceRange(final boolean[] array,
+                                       final int fromIndex,
+                                       final int toIndex,
+                                       final BooleanBinaryOperator operator) {
+        boolean value = array[fromIndex];
+        for (int idx = fromIndex + 1; idx < toIndex; ++idx) {
+            value = operator.applyAsBoolean(value, array[idx]);
+        }
+        return value;
+    }
+
+    private static void checkZipArgs(final int leftLength,
+                                     final int rightLength,
+                                     final int outLength,
+                                     final Object operator) {
+        Objects.requireNonNull(operator);
+        if (leftLength != rightLength || leftLength != outLength) {
+            throw new IllegalArgumentException(
+                    "Array lengths differ: " + leftLength + ", " + rightLength + ", " + outLength
+            );
+        }
+    }
+
+    private static void checkNotEmpty(final int length) {
+        if (length == 0) {
+            throw new NoSuchElementException("Empty array");
+        }
+    }
+
+    /**
+     * Parallel reduction of the non-empty {@code float} array range.
+     */
+    @SuppressWarnings("serial")
+    private static final class FloatReduceTask extends CountedCompleter<Void> {
+        private final float[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final FloatBinaryOperator operator;
+        private final FloatReduceTask next;
+        private FloatReduceTask forks;
+        private float result;
+
+        private FloatReduceTask(final CountedCompleter<?> parent,
+                                final float[] array,
+                                final int fromIndex,
+                                final int toIndex,
+                                final int threshold,
+                                final FloatBinaryOperator operator,
+                                final FloatReduceTask next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.operator = operator;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new FloatReduceTask(this, this.array, middle, to, this.threshold,
+                        this.operator, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            this.result = reduceRange(this.array, from, to, this.operator);
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                final FloatReduceTask task = (FloatReduceTask) completer;
+                for (FloatReduceTask fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.operator.applyAsFloat(task.result, fork.result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel reduction of the non-empty {@code short} array range.
+     */
+    @SuppressWarnings("serial")
+    private static final class ShortReduceTask extends CountedCompleter<Void> {
+        private final short[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final ShortBinaryOperator operator;
+        private final ShortReduceTask next;
+        private ShortReduceTask forks;
+        private short result;
+
+        private ShortReduceTask(final CountedCompleter<?> parent,
+                                final short[] array,
+                                final int fromIndex,
+                                final int toIndex,
+                                final int threshold,
+                                final ShortBinaryOperator operator,
+                                final ShortReduceTask next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.operator = operator;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new ShortReduceTask(this, this.array, middle, to, this.threshold,
+                        this.operator, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            this.result = reduceRange(this.array, from, to, this.operator);
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                final ShortReduceTask task = (ShortReduceTask) completer;
+                for (ShortReduceTask fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.operator.applyAsShort(task.result, fork.result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel reduction of the non-empty {@code byte} array range.
+     */
+    @SuppressWarnings("serial")
+    private static final class ByteReduceTask extends CountedCompleter<Void> {
+        private final byte[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final ByteBinaryOperator operator;
+        private final ByteReduceTask next;
+        private ByteReduceTask forks;
+        private byte result;
+
+        private ByteReduceTask(final CountedCompleter<?> parent,
+                               final byte[] array,
+                               final int fromIndex,
+                               final int toIndex,
+                               final int threshold,
+                               final ByteBinaryOperator operator,
+                               final ByteReduceTask next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.operator = operator;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new ByteReduceTask(this, this.array, middle, to, this.threshold,
+                        this.operator, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            this.result = reduceRange(this.array, from, to, this.operator);
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                final ByteReduceTask task = (ByteReduceTask) completer;
+                for (ByteReduceTask fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.operator.applyAsByte(task.result, fork.result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel reduction of the non-empty {@code char} array range.
+     */
+    @SuppressWarnings("serial")
+    private static final class CharReduceTask extends CountedCompleter<Void> {
+        private final char[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final CharBinaryOperator operator;
+        private final CharReduceTask next;
+        private CharReduceTask forks;
+        private char result;
+
+        private CharReduceTask(final CountedCompleter<?> parent,
+                               final char[] array,
+                               final int fromIndex,
+                               final int toIndex,
+                               final int threshold,
+                               final CharBinaryOperator operator,
+                               final CharReduceTask next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.operator = operator;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new CharReduceTask(this, this.array, middle, to, this.threshold,
+                        this.operator, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            this.result = reduceRange(this.array, from, to, this.operator);
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                final CharReduceTask task = (CharReduceTask) completer;
+                for (CharReduceTask fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.operator.applyAsChar(task.result, fork.result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel reduction of the non-empty {@code boolean} array range.
+     */
+    @SuppressWarnings("serial")
+    private static final class BooleanReduceTask extends CountedCompleter<Void> {
+        private final boolean[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final BooleanBinaryOperator operator;
+        private final BooleanReduceTask next;
+        private BooleanReduceTask forks;
+        private boolean result;
+
+        private BooleanReduceTask(final CountedCompleter<?> parent,
+                                  final boolean[] array,
+                                  final int fromIndex,
+                                  final int toIndex,
+                                  final int threshold,
+                                  final BooleanBinaryOperator operator,
+                                  final BooleanReduceTask next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.operator = operator;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new BooleanReduceTask(this, this.array, middle, to, this.threshold,
+                        this.operator, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            this.result = reduceRange(this.array, from, to, this.operator);
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                final BooleanReduceTask task = (BooleanReduceTask) completer;
+                for (BooleanReduceTask fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.operator.applyAsBoolean(task.result, fork.result);
+                }
+            }
+        }
+    }
+}
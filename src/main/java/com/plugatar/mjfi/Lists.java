@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Index-aware operations on lists. The callbacks are {@link ObjIntPredicate}
+ * and {@link ObjIntFunction} instances that accept an element and its index
+ * in the list before the operation.
+ */
+public final class Lists {
+
+    /**
+     * Utility class ctor.
+     */
+    private Lists() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Removes all of the elements of the list that satisfy the given predicate.
+     * <p>
+     * {@link RandomAccess} lists are compacted in place with a single pass of
+     * moves and a single removal of the tail, so the operation is linear. The
+     * predicate is evaluated for all elements and the tail is removed before
+     * any element is moved, so the list is unchanged if the predicate throws
+     * an exception or if the list is fixed-size. Other lists and
+     * {@link CopyOnWriteArrayList} instances, which copy the elements on every
+     * modification, are passed to {@link List#removeIf(java.util.function.Predicate)}
+     * with a predicate that counts the indexes.
+     *
+     * @param list   the list
+     * @param filter the predicate of an element and its index which returns
+     *               {@code true} for elements to be removed
+     * @param <T>    the type of the elements
+     * @return {@code true} if any elements were removed
+     * @throws NullPointerException          if {@code list} or {@code filter} is null
+     * @throws UnsupportedOperationException if elements cannot be removed from the list
+     */
+    public static <T> boolean removeIfIndexed(final List<T> list, final ObjIntPredicate<? super T> filter) {
+        Objects.requireNonNull(list);
+        Objects.requireNonNull(filter);
+        if (!(list instanceof RandomAccess) || list instanceof CopyOnWriteArrayList) {
+            final int[] idx = {0};
+            return list.removeIf(element -> filter.test(element, idx[0]++));
+        }
+        final int size = list.size();
+        final BitSet removed = new BitSet(size);
+        for (int idx = 0; idx < size; ++idx) {
+            if (filter.test(list.get(idx), idx)) {
+                removed.set(idx);
+            }
+        }
+        int target = removed.nextSetBit(0);
+        if (target < 0) {
+            return false;
+        }
+        final int newSize = size - removed.cardinality();
+        final List<T> tail = list.subList(newSize, size);
+        final Object[] tailElements = tail.toArray();
+        tail.clear();
+        for (int idx = removed.nextClearBit(target); idx < size; idx = removed.nextClearBit(idx + 1)) {
+            @SuppressWarnings("unchecked")
+            final T element = idx < newSize ? list.get(idx) : (T) tailElements[idx - newSize];
+            list.set(target++, element);
+        }
+        return true;
+    }
+
+    /**
+     * Replaces each element of the list with the result of applying the
+     * operator to that element and its index.
+     *
+     * @param list     the list
+     * @param operator the function of an element and its index
+     * @param <T>      the type of the elements
+     * @throws NullPointerException          if {@code list} or {@code operator} is null
+     * @throws UnsupportedOperationException if elements of the list cannot be replaced
+     */
+    public static <T> void replaceAllIndexed(final List<T> list,
+                                             final ObjIntFunction<? super T, ? extends T> operator) {
+        Objects.requireNonNull(list);
+        Objects.requireNonNull(operator);
+        if (list instanceof RandomAccess) {
+            for (int idx = 0, size = list.size(); idx < size; ++idx) {
+                list.set(idx, operator.apply(list.get(idx), idx));
+            }
+        } else {
+            for (final ListIterator<T> iterator = list.listIterator(); iterator.hasNext(); ) {
+                final int idx = iterator.nextIndex();
+                iterator.set(operator.apply(iterator.next(), idx));
+            }
+        }
+    }
+}
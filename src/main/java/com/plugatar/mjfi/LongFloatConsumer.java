@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Represents an operation that accepts a {@code long}-valued and a
+ * {@code float}-valued argument, and returns no result. This is the
+ * {@code (long, float)} specialization of {@link BiConsumer}.
+ *
+ * @see BiConsumer
+ */
+@FunctionalInterface
+public interface LongFloatConsumer {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param left  the first input argument
+     * @param value the second input argument
+     */
+    void accept(long left, float value);
+}
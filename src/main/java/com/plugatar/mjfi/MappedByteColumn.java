@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A read-only column of {@code byte} values persisted in a file and mapped into
+ * memory, so opening the column does not read the values and the values do
+ * not occupy the Java heap. The column is indexed by {@code long}, the file is
+ * mapped by regions of up to {@code 2^30} values, so columns larger than
+ * 2 GB are supported.
+ * <p>
+ * The file starts with a 16-byte big-endian header: the magic number
+ * {@code 0x4D4A4643}, the type code {@code 3}, the byte order of the values
+ * ({@code 0} for big-endian, {@code 1} for little-endian), two reserved bytes
+ * and the {@code long} number of the values. The values follow the header in
+ * the native byte order of the writer, the reader accepts both orders.
+ * <p>
+ * The column implements {@link LongToByteFunction}, so it can be passed to the
+ * code accepting value functions of the index. The {@link #close()} method
+ * drops the mapped buffers of the column, any access to the closed column
+ * throws {@link IllegalStateException}. The file is unmapped after the buffers
+ * are garbage collected, so a {@code close()} call racing with an access from
+ * another thread cannot make that access read unmapped memory. The callbacks
+ * of the scans cannot close the column.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class MappedByteColumn implements LongToByteFunction, AutoCloseable {
+    private static final int MAGIC = 0x4D4A4643;
+    private static final byte TYPE_CODE = 3;
+    private static final int HEADER_BYTES = 16;
+    private static final int ELEMENT_SHIFT = 0;
+    private static final int DEFAULT_REGION_SHIFT = 30 - ELEMENT_SHIFT;
+    private static final int WRITE_BUFFER_BYTES = 1 << 16;
+    private final long length;
+    private final int regionShift;
+    private final int regionMask;
+    private ByteBuffer[] regions;
+    private int scans;
+
+    private MappedByteColumn(final long length,
+                             final int regionShift,
+                             final ByteBuffer[] regions) {
+        this.length = length;
+        this.regionShift = regionShift;
+        this.regionMask = (1 << regionShift) - 1;
+        this.regions = regions;
+    }
+
+    /**
+     * Writes a new column file of the given length using the given generator
+     * function to compute every value, i.e. {@code column[i] = generator(i)}.
+     * An existing file is replaced. The header is written after the values, so
+     * the file left by a failed write is not a valid column.
+     *
+     * @param path      the path of the file
+     * @param length    the length of the column
+     * @param generator the generator function
+     * @throws NullPointerException     if {@code path} or {@code generator} is null
+     * @throws IllegalArgumentException if {@code length} is negative
+     * @throws IOException              if an I/O error occurs
+     */
+    public static void write(final Path path,
+                             final long length,
+                             final LongToByteFunction generator) throws IOException {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(generator);
+        if (length < 0L) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES).order(ByteOrder.nativeOrder());
+            channel.position(HEADER_BYTES);
+            for (long idx = 0L; idx < length; ++idx) {
+                if (!buffer.hasRemaining()) {
+                    buffer.flip();
+                    writeFully(channel, buffer);
+                    buffer.clear();
+                }
+                buffer.put(generator.applyAsByte(idx));
+            }
+            buffer.flip();
+            writeFully(channel, buffer);
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC)
+                    .put(TYPE_CODE)
+                    .put((byte) (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? 0 : 1))
+                    .putShort((short) 0)
+                    .putLong(length);
+            header.flip();
+            channel.position(0L);
+            writeFully(channel, header);
+        }
+    }
+
+    /**
+     * Opens the column file and maps it into memory.
+     *
+     * @param path the path of the file
+     * @return the column
+     * @throws NullPointerException if {@code path} is null
+     * @throws IOException          if an I/O error occurs or if the file is not a valid {@code byte} column
+     */
+    public static MappedByteColumn open(final Path path) throws IOException {
+        return open(path, DEFAULT_REGION_SHIFT);
+    }
+
+    /**
+     * Opens the column file and maps it into memory by regions of
+     * {@code 2^regionShift} values.
+     *
+     * @param path        the path of the file
+     * @param regionShift the binary logarithm of the region length
+     * @return the column
+     * @throws NullPointerException     if {@code path} is null
+     * @throws IllegalArgumentException if {@code regionShift} is out of range
+     * @throws IOException              if an I/O error occurs or if the file is not a valid {@code byte} column
+     */
+    static MappedByteColumn open(final Path path, final int regionShift) throws IOException {
+        Objects.requireNonNull(path);
+        if (regionShift < 0 || regionShift > DEFAULT_REGION_SHIFT) {
+            throw new IllegalArgumentException("Illegal region shift: " + regionShift);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Truncated column header: " + path);
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC || header.get() != TYPE_CODE) {
+                throw new IOException("Not a byte column: " + path);
+            }
+            final byte orderCode = header.get();
+            if (orderCode != 0 && orderCode != 1) {
+                throw new IOException("Unknown byte order code " + orderCode + ": " + path);
+            }
+            final ByteOrder order = orderCode == 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+            header.getShort();
+            final long length = header.getLong();
+            if (length < 0L || length > (channel.size() - HEADER_BYTES) >> ELEMENT_SHIFT) {
+                throw new IOException("Truncated column values: " + path);
+            }
+            final int regionsCount = (int) ((length + (1L << regionShift) - 1) >>> regionShift);
+            final ByteBuffer[] regions = new ByteBuffer[regionsCount];
+            for (int region = 0; region < regionsCount; ++region) {
+                final long from = (long) region << regionShift;
+                final long regionLength = Math.min(1L << regionShift, length - from);
+                regions[region] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_BYTES + (from << ELEMENT_SHIFT), regionLength << ELEMENT_SHIFT)
+                        .order(order);
+            }
+            return new MappedByteColumn(length, regionShift, regions);
+        }
+    }
+
+    /**
+     * Returns the length of this column.
+     *
+     * @return the length
+     */
+    public long length() {
+        return this.length;
+    }
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @param index the index
+     * @return the value
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     * @throws IllegalStateException     if this column is closed
+     */
+    public byte get(final long index) {
+        final ByteBuffer[] regions = this.openRegions();
+        if (index < 0L || index >= this.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.length);
+        }
+        return regions[(int) (index >>> this.regionShift)].get((int) index & this.regionMask);
+    }
+
+    /**
+     * Returns the value at the given index, same as {@link #get(long)}.
+     *
+     * @param index the index
+     * @return the value
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     * @throws IllegalStateException     if this column is closed
+     */
+    @Override
+    public byte applyAsByte(final long index) {
+        return this.get(index);
+    }
+
+    /**
+     * Performs the given action for every value of this column in ascending
+     * order of the indexes.
+     *
+     * @param action the action
+     * @throws NullPointerException  if {@code action} is null
+     * @throws IllegalStateException if this column is closed
+     */
+    public void forEach(final ByteConsumer action) {
+        Objects.requireNonNull(action);
+        final ByteBuffer[] regions = this.beginScan();
+        try {
+            for (final ByteBuffer region : regions) {
+                for (int idx = 0, limit = region.limit(); idx < limit; ++idx) {
+                    action.accept(region.get(idx));
+                }
+            }
+        } finally {
+            this.endScan();
+        }
+    }
+
+    /**
+     * Returns the number of values of this column matching the given predicate.
+     *
+     * @param predicate the predicate
+     * @return the number of matching values
+     * @throws NullPointerException  if {@code predicate} is null
+     * @throws IllegalStateException if this column is closed
+     */
+    public long count(final BytePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        long count = 0L;
+        final ByteBuffer[] regions = this.beginScan();
+        try {
+            for (final ByteBuffer region : regions) {
+                for (int idx = 0, limit = region.limit(); idx < limit; ++idx) {
+                    if (predicate.test(region.get(idx))) {
+                        ++count;
+                    }
+                }
+            }
+        } finally {
+            this.endScan();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index of the first value of this column matching the given
+     * predicate.
+     *
+     * @param predicate the predicate
+     * @return the index of the first matching value or {@code -1} if there is no such value
+     * @throws NullPointerException  if {@code predicate} is null
+     * @throws IllegalStateException if this column is closed
+     */
+    public long indexOf(final BytePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        final ByteBuffer[] regions = this.beginScan();
+        try {
+            for (int regionIdx = 0; regionIdx < regions.length; ++regionIdx) {
+                final ByteBuffer region = regions[regionIdx];
+                for (int idx = 0, limit = region.limit(); idx < limit; ++idx) {
+                    if (predicate.test(region.get(idx))) {
+                        return ((long) regionIdx << this.regionShift) + idx;
+                    }
+                }
+            }
+        } finally {
+            this.endScan();
+        }
+        return -1L;
+    }
+
+    /**
+     * Returns {@code true} if this column is closed.
+     *
+     * @return {@code true} if this column is closed
+     */
+    public boolean isClosed() {
+        return this.regions == null;
+    }
+
+    /**
+     * Closes this column, the file is unmapped after the buffers are garbage
+     * collected. Subsequent calls have no effect.
+     *
+     * @throws IllegalStateException if called by a callback of a scan of this column
+     */
+    @Override
+    public void close() {
+        if (this.scans != 0) {
+            throw new IllegalStateException("Column is in use by a scan");
+        }
+        this.regions = null;
+    }
+
+    private ByteBuffer[] openRegions() {
+        final ByteBuffer[] regions = this.regions;
+        if (regions == null) {
+            throw new IllegalStateException("Column is closed");
+        }
+        return regions;
+    }
+
+    private ByteBuffer[] beginScan() {
+        final ByteBuffer[] regions = this.openRegions();
+        ++this.scans;
+        return regions;
+    }
+
+    private void endScan() {
+        --this.scans;
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
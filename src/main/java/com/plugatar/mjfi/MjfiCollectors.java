@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Implementations of {@link Collector} that extract primitive values from the
+ * stream elements with the {@code ToXFunction} interfaces and accumulate them
+ * into primitive storage, so values are never boxed.
+ * <p>
+ * Result containers of parallel streams are merged with a single array copy.
+ */
+public final class MjfiCollectors {
+
+    /**
+     * Utility class ctor.
+     */
+    private MjfiCollectors() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns a collector that accumulates the {@code float}-valued results of
+     * the given mapper into a new {@code float} array in encounter order.
+     *
+     * @param mapper the mapper
+     * @param <T>    the type of the input elements
+     * @return the collector
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    public static <T> Collector<T, ?, float[]> toFloatArray(final ToFloatFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return Collector.<T, ArrayBuilders.OfFloat, float[]>of(
+                ArrayBuilders.OfFloat::new,
+                (builder, element) -> builder.add(mapper.applyAsFloat(element)),
+                ArrayBuilders.OfFloat::addAll,
+                ArrayBuilders.OfFloat::toArray
+        );
+    }
+
+    /**
+     * Returns a collector that accumulates the {@code short}-valued results of
+     * the given mapper into a new {@code short} array in encounter order.
+     *
+     * @param mapper the mapper
+     * @param <T>    the type of the input elements
+     * @return the collector
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    public static <T> Collector<T, ?, short[]> toShortArray(final ToShortFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return Collector.<T, ArrayBuilders.OfShort, short[]>of(
+                ArrayBuilders.OfShort::new,
+                (builder, element) -> builder.add(mapper.applyAsShort(element)),
+                ArrayBuilders.OfShort::addAll,
+                ArrayBuilders.OfShort::toArray
+        );
+    }
+
+    /**
+     * Returns a collector that accumulates the {@code byte}-valued results of
+     * the given mapper into a new {@code byte} array in encounter order.
+     *
+     * @param mapper the mapper
+     * @param <T>    the type of the input elements
+     * @return the collector
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    public static <T> Collector<T, ?, byte[]> toByteArray(final ToByteFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return Collector.<T, ArrayBuilders.OfByte, byte[]>of(
+                ArrayBuilders.OfByte::new,
+                (builder, element) -> builder.add(mapper.applyAsByte(element)),
+                ArrayBuilders.OfByte::addAll,
+                ArrayBuilders.OfByte::toArray
+        );
+    }
+
+    /**
+     * Returns a collector that accumulates the {@code char}-valued results of
+     * the given mapper into a new {@code String} in encounter order.
+     *
+     * @param mapper the mapper
+     * @param <T>    the type of the input elements
+     * @return the collector
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    public static <T> Collector<T, ?, String> toCharString(final ToCharFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return Collector.<T, StringBuilder, String>of(
+                StringBuilder::new,
+                (builder, element) -> builder.append(mapper.applyAsChar(element)),
+                StringBuilder::append,
+                StringBuilder::toString
+        );
+    }
+
+    /**
+     * Returns a collector that produces summary statistics of the
+     * {@code float}-valued results of the given mapper.
+     *
+     * @param mapper the mapper
+     * @param <T>    the type of the input elements
+     * @return the collector
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    public static <T> Collector<T, ?, DoubleSummaryStatistics> summarizingFloat(
+            final ToFloatFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return Collector.<T, DoubleSummaryStatistics>of(
+                DoubleSummaryStatistics::new,
+                (stats, element) -> stats.accept(mapper.applyAsFloat(element)),
+                (left, right) -> {
+                    left.combine(right);
+                    return left;
+                }
+        );
+    }
+
+    /**
+     * Returns a collector that groups the input elements into lists by the
+     * {@code char} key of the given classifier. Iteration order of the
+     * resulting map is the ascending order of the keys.
+     *
+     * @param classifier the classifier
+     * @param <T>        the type of the input elements
+     * @return the collector
+     * @throws NullPointerException if {@code classifier} is null
+     */
+    public static <T> Collector<T, ?, Map<Character, List<T>>> groupingByChar(
+            final ToCharFunction<? super T> classifier) {
+        return groupingByChar(classifier, Collectors.toList());
+    }
+
+    /**
+     * Returns a collector that groups the input elements by the {@code char}
+     * key of the given classifier and reduces the elements of every group
+     * with the given downstream collector. Iteration order of the resulting
+     * map is the ascending order of the keys.
+     * <p>
+     * Intermediate containers are kept in a table indexed by the key, so
+     * classifying an element does not box the key.
+     *
+     * @param classifier the classifier
+     * @param downstream the downstream collector
+     * @param <T>        the type of the input elements
+     * @param <A>        the intermediate accumulation type of the downstream collector
+     * @param <D>        the result type of the downstream collector
+     * @return the collector
+     * @throws NullPointerException if {@code classifier} or {@code downstream} is null
+     */
+    public static <T, A, D> Collector<T, ?, Map<Character, D>> groupingByChar(
+            final ToCharFunction<? super T> classifier,
+            final Collector<? super T, A, D> downstream) {
+        Objects.requireNonNull(classifier);
+        Objects.requireNonNull(downstream);
+        final Supplier<A> downstreamSupplier = downstream.supplier();
+        final BiConsumer<A, ? super T> downstreamAccumulator = downstream.accumulator();
+        final BinaryOperator<A> downstreamCombiner = downstream.combiner();
+        final Function<A, D> downstreamFinisher = downstream.finisher();
+        return Collector.<T, CharTable<A>, Map<Character, D>>of(
+                CharTable::new,
+                (table, element) -> downstreamAccumulator.accept(
+                        table.computeIfAbsent(classifier.applyAsChar(element), downstreamSupplier), element
+                ),
+                (left, right) -> left.merge(right, downstreamCombiner),
+                table -> table.toMap(downstreamFinisher)
+        );
+    }
+
+    /**
+     * Table of values indexed by {@code char} keys. The table is split into
+     * {@code 256} lazily allocated pages, so sparse keys do not require the
+     * full {@code 65536} slots.
+     *
+     * @param <V> the type of the values
+     */
+    private static final class CharTable<V> {
+        private static final int PAGE_SHIFT = 8;
+        private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+        private final Object[][] pages = new Object[1 << (Character.SIZE - PAGE_SHIFT)][];
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        private V get(final char key) {
+            final Object[] page = this.pages[key >>> PAGE_SHIFT];
+            return page == null ? null : (V) page[key & PAGE_MASK];
+        }
+
+        private void put(final char key, final V value) {
+            Object[] page = this.pages[key >>> PAGE_SHIFT];
+            if (page == null) {
+                page = new Object[PAGE_MASK + 1];
+                this.pages[key >>> PAGE_SHIFT] = page;
+            }
+            if (page[key & PAGE_MASK] == null) {
+                ++this.size;
+            }
+            page[key & PAGE_MASK] = value;
+        }
+
+        private V computeIfAbsent(final char key, final Supplier<? extends V> supplier) {
+            V value = this.get(key);
+            if (value == null) {
+                value = supplier.get();
+                this.put(key, value);
+            }
+            return value;
+        }
+
+        private CharTable<V> merge(final CharTable<V> other, final BinaryOperator<V> combiner) {
+            for (int pageIdx = 0; pageIdx < other.pages.length; ++pageIdx) {
+                final Object[] otherPage = other.pages[pageIdx];
+                if (otherPage != null) {
+                    for (int idx = 0; idx < otherPage.length; ++idx) {
+                        @SuppressWarnings("unchecked") final V otherValue = (V) otherPage[idx];
+                        if (otherValue != null) {
+                            final char key = (char) (pageIdx << PAGE_SHIFT | idx);
+                            final V value = this.get(key);
+                            this.put(key, value == null ? otherValue : combiner.apply(value, otherValue));
+                        }
+                    }
+                }
+            }
+            return this;
+        }
+
+        private <R> Map<Character, R> toMap(final Function<? super V, ? extends R> finisher) {
+            final Map<Character, R> map = new LinkedHashMap<>((int) (this.size / 0.75f) + 1);
+            for (int pageIdx = 0; pageIdx < this.pages.length; ++pageIdx) {
+                final Object[] page = this.pages[pageIdx];
+                if (page != null) {
+                    for (int idx = 0; idx < page.length; ++idx) {
+                        @SuppressWarnings("unchecked") final V value = (V) page[idx];
+                        if (value != null) {
+                            map.put((char) (pageIdx << PAGE_SHIFT | idx), finisher.apply(value));
+                        }
+                    }
+                }
+            }
+            return map;
+        }
+    }
+}
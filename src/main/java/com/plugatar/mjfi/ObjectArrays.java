@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Index-aware operations on object arrays. The callbacks are
+ * {@link ObjIntPredicate} and {@link ObjIntFunction} instances that accept an
+ * element and its index in the array.
+ * <p>
+ * Parallel variants evaluate the callbacks in the
+ * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool} in the
+ * same way as {@link Arrays#parallelSetAll(Object[], IntFunction)}, so the
+ * callbacks must be side-effect-free.
+ */
+public final class ObjectArrays {
+
+    /**
+     * Utility class ctor.
+     */
+    private ObjectArrays() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns a new array of the results of applying the mapper to the
+     * elements of the given array and their indexes.
+     *
+     * @param array     the array
+     * @param mapper    the function of an element and its index
+     * @param generator the function which produces a new array of the desired type and the given length
+     * @param <T>       the type of the elements
+     * @param <R>       the type of the result elements
+     * @return the new array
+     * @throws NullPointerException if {@code array}, {@code mapper} or {@code generator} is null
+     */
+    public static <T, R> R[] mapIndexed(final T[] array,
+                                        final ObjIntFunction<? super T, ? extends R> mapper,
+                                        final IntFunction<R[]> generator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(mapper);
+        final R[] result = generator.apply(array.length);
+        for (int idx = 0; idx < array.length; ++idx) {
+            result[idx] = mapper.apply(array[idx], idx);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new array of the results of applying the mapper to the
+     * elements of the given array and their indexes in parallel.
+     *
+     * @param array     the array
+     * @param mapper    the side-effect-free function of an element and its index
+     * @param generator the function which produces a new array of the desired type and the given length
+     * @param <T>       the type of the elements
+     * @param <R>       the type of the result elements
+     * @return the new array
+     * @throws NullPointerException if {@code array}, {@code mapper} or {@code generator} is null
+     */
+    public static <T, R> R[] parallelMapIndexed(final T[] array,
+                                                final ObjIntFunction<? super T, ? extends R> mapper,
+                                                final IntFunction<R[]> generator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(mapper);
+        final R[] result = generator.apply(array.length);
+        IntStream.range(0, array.length).parallel().forEach(idx -> result[idx] = mapper.apply(array[idx], idx));
+        return result;
+    }
+
+    /**
+     * Replaces each element of the array with the result of applying the
+     * operator to that element and its index.
+     *
+     * @param array    the array
+     * @param operator the function of an element and its index
+     * @param <T>      the type of the elements
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     */
+    public static <T> void replaceAllIndexed(final T[] array, final ObjIntFunction<? super T, ? extends T> operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        for (int idx = 0; idx < array.length; ++idx) {
+            array[idx] = operator.apply(array[idx], idx);
+        }
+    }
+
+    /**
+     * Replaces each element of the array with the result of applying the
+     * operator to that element and its index in parallel.
+     *
+     * @param array    the array
+     * @param operator the side-effect-free function of an element and its index
+     * @param <T>      the type of the elements
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     */
+    public static <T> void parallelReplaceAllIndexed(final T[] array,
+                                                     final ObjIntFunction<? super T, ? extends T> operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        IntStream.range(0, array.length).parallel().forEach(idx -> array[idx] = operator.apply(array[idx], idx));
+    }
+
+    /**
+     * Returns a new array of the same type with the elements of the given
+     * array that satisfy the given predicate, in encounter order.
+     *
+     * @param array  the array
+     * @param filter the predicate of an element and its index which returns
+     *               {@code true} for elements to be kept
+     * @param <T>    the type of the elements
+     * @return the new array
+     * @throws NullPointerException if {@code array} or {@code filter} is null
+     */
+    public static <T> T[] filterIndexed(final T[] array, final ObjIntPredicate<? super T> filter) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(filter);
+        final T[] result = Arrays.copyOf(array, array.length);
+        int size = 0;
+        for (int idx = 0; idx < array.length; ++idx) {
+            if (filter.test(array[idx], idx)) {
+                result[size++] = array[idx];
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Returns a new array of the same type with the elements of the given
+     * array that satisfy the given predicate, in encounter order. The
+     * predicate is evaluated in parallel, the kept elements are copied
+     * in a single sequential pass.
+     *
+     * @param array  the array
+     * @param filter the side-effect-free predicate of an element and its index
+     *               which returns {@code true} for elements to be kept
+     * @param <T>    the type of the elements
+     * @return the new array
+     * @throws NullPointerException if {@code array} or {@code filter} is null
+     */
+    public static <T> T[] parallelFilterIndexed(final T[] array, final ObjIntPredicate<? super T> filter) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(filter);
+        final boolean[] kept = new boolean[array.length];
+        final int size = IntStream.range(0, array.length).parallel()
+                .map(idx -> (kept[idx] = filter.test(array[idx], idx)) ? 1 : 0)
+                .sum();
+        final T[] result = Arrays.copyOf(array, size);
+        for (int idx = 0, target = 0; target < size; ++idx) {
+            if (kept[idx]) {
+                result[target++] = array[idx];
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A fixed-length array of {@code byte} values stored off the Java heap in
+ * direct byte buffers of the native byte order, so the values are neither
+ * scanned nor copied by the garbage collector. The array is indexed by
+ * {@code long}, every buffer holds up to {@code 2^30} values.
+ * <p>
+ * The {@link #close()} method drops the buffers of the array, any access to
+ * the closed array throws {@link IllegalStateException}. The memory is never
+ * released explicitly, it is released by the cleaners of the buffers after
+ * they are garbage collected, so a {@code close()} call racing with an access
+ * from another thread cannot make that access read released memory. The
+ * callbacks of the bulk operations cannot close the array.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class OffHeapByteArray implements AutoCloseable {
+    private static final int ELEMENT_SHIFT = 0;
+    private static final int DEFAULT_SEGMENT_SHIFT = 30 - ELEMENT_SHIFT;
+    private final long length;
+    private final int segmentShift;
+    private final int segmentMask;
+    private ByteBuffer[] segments;
+    private int iterations;
+
+    /**
+     * Creates a new OffHeapByteArray of the given length, all values are zero.
+     *
+     * @param length the length
+     * @throws IllegalArgumentException if {@code length} is negative
+     * @throws OutOfMemoryError         if the direct memory cannot be allocated
+     */
+    public OffHeapByteArray(final long length) {
+        this(length, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Creates a new OffHeapByteArray of the given length with segments of
+     * {@code 2^segmentShift} values.
+     *
+     * @param length       the length
+     * @param segmentShift the binary logarithm of the segment length
+     * @throws IllegalArgumentException if {@code length} is negative or {@code segmentShift} is out of range
+     * @throws OutOfMemoryError         if the direct memory cannot be allocated
+     */
+    OffHeapByteArray(final long length, final int segmentShift) {
+        if (length < 0L) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        if (segmentShift < 0 || segmentShift > DEFAULT_SEGMENT_SHIFT) {
+            throw new IllegalArgumentException("Illegal segment shift: " + segmentShift);
+        }
+        final long segmentsCount = (length + (1L << segmentShift) - 1) >>> segmentShift;
+        if (segmentsCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too large length: " + length);
+        }
+        this.length = length;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1 << segmentShift) - 1;
+        this.segments = new ByteBuffer[(int) segmentsCount];
+        try {
+            for (int segment = 0; segment < this.segments.length; ++segment) {
+                final long segmentLength = Math.min(1L << segmentShift, length - ((long) segment << segmentShift));
+                final ByteBuffer buffer = ByteBuffer.allocateDirect((int) segmentLength << ELEMENT_SHIFT)
+                        .order(ByteOrder.nativeOrder());
+                this.segments[segment] = buffer;
+            }
+        } catch (final OutOfMemoryError error) {
+            this.close();
+            throw error;
+        }
+    }
+
+    /**
+     * Returns the length of this array.
+     *
+     * @return the length
+     */
+    public long length() {
+        return this.length;
+    }
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @param index the index
+     * @return the value
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     * @throws IllegalStateException     if this array is closed
+     */
+    public byte get(final long index) {
+        final ByteBuffer[] segments = this.openSegments();
+        this.checkIndex(index);
+        return segments[(int) (index >>> this.segmentShift)].get((int) index & this.segmentMask);
+    }
+
+    /**
+     * Sets the value at the given index.
+     *
+     * @param index the index
+     * @param value the value
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     * @throws IllegalStateException     if this array is closed
+     */
+    public void set(final long index, final byte value) {
+        final ByteBuffer[] segments = this.openSegments();
+        this.checkIndex(index);
+        segments[(int) (index >>> this.segmentShift)].put((int) index & this.segmentMask, value);
+    }
+
+    /**
+     * Sets all values of this array to the values of the given supplier in
+     * ascending order of the indexes.
+     *
+     * @param supplier the supplier
+     * @throws NullPointerException  if {@code supplier} is null
+     * @throws IllegalStateException if this array is closed
+     */
+    public void fill(final ByteSupplier supplier) {
+        Objects.requireNonNull(supplier);
+        final ByteBuffer[] segments = this.beginIteration();
+        try {
+            for (final ByteBuffer segment : segments) {
+                for (int idx = 0, limit = segment.limit(); idx < limit; ++idx) {
+                    segment.put(idx, supplier.getAsByte());
+                }
+            }
+        } finally {
+            this.endIteration();
+        }
+    }
+
+    /**
+     * Replaces every value of this array with the result of the given
+     * operator applied to the value.
+     *
+     * @param operator the operator
+     * @throws NullPointerException  if {@code operator} is null
+     * @throws IllegalStateException if this array is closed
+     */
+    public void replaceAll(final ByteUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final ByteBuffer[] segments = this.beginIteration();
+        try {
+            for (final ByteBuffer segment : segments) {
+                for (int idx = 0, limit = segment.limit(); idx < limit; ++idx) {
+                    segment.put(idx, operator.applyAsByte(segment.get(idx)));
+                }
+            }
+        } finally {
+            this.endIteration();
+        }
+    }
+
+    /**
+     * Performs the given action for every value of this array in ascending
+     * order of the indexes.
+     *
+     * @param action the action
+     * @throws NullPointerException  if {@code action} is null
+     * @throws IllegalStateException if this array is closed
+     */
+    public void forEach(final ByteConsumer action) {
+        Objects.requireNonNull(action);
+        final ByteBuffer[] segments = this.beginIteration();
+        try {
+            for (final ByteBuffer segment : segments) {
+                for (int idx = 0, limit = segment.limit(); idx < limit; ++idx) {
+                    action.accept(segment.get(idx));
+                }
+            }
+        } finally {
+            this.endIteration();
+        }
+    }
+
+    /**
+     * Reduces the values of this array starting with the identity value.
+     *
+     * @param identity the identity value
+     * @param operator the operator
+     * @return the reduced value, the identity value for the empty array
+     * @throws NullPointerException  if {@code operator} is null
+     * @throws IllegalStateException if this array is closed
+     */
+    public byte reduce(final byte identity, final ByteBinaryOperator operator) {
+        Objects.requireNonNull(operator);
+        byte value = identity;
+        final ByteBuffer[] segments = this.beginIteration();
+        try {
+            for (final ByteBuffer segment : segments) {
+                for (int idx = 0, limit = segment.limit(); idx < limit; ++idx) {
+                    value = operator.applyAsByte(value, segment.get(idx));
+                }
+            }
+        } finally {
+            this.endIteration();
+        }
+        return value;
+    }
+
+    /**
+     * Reduces the values of this non-empty array starting with the first value.
+     *
+     * @param operator the operator
+     * @return the reduced value
+     * @throws NullPointerException   if {@code operator} is null
+     * @throws NoSuchElementException if this array is empty
+     * @throws IllegalStateException  if this array is closed
+     */
+    public byte reduce(final ByteBinaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final ByteBuffer[] segments = this.beginIteration();
+        try {
+            if (this.length == 0L) {
+                throw new NoSuchElementException("Empty array");
+            }
+            byte value = segments[0].get(0);
+            for (int segmentIdx = 0; segmentIdx < segments.length; ++segmentIdx) {
+                final ByteBuffer segment = segments[segmentIdx];
+                for (int idx = segmentIdx == 0 ? 1 : 0, limit = segment.limit(); idx < limit; ++idx) {
+                    value = operator.applyAsByte(value, segment.get(idx));
+                }
+            }
+            return value;
+        } finally {
+            this.endIteration();
+        }
+    }
+
+    /**
+     * Returns {@code true} if this array is closed.
+     *
+     * @return {@code true} if this array is closed
+     */
+    public boolean isClosed() {
+        return this.segments == null;
+    }
+
+    /**
+     * Closes this array, the memory is released after the buffers are garbage
+     * collected. Subsequent calls have no effect.
+     *
+     * @throws IllegalStateException if called by a callback of a bulk operation of this array
+     */
+    @Override
+    public void close() {
+        if (this.iterations != 0) {
+            throw new IllegalStateException("Array is in use by a bulk operation");
+        }
+        this.segments = null;
+    }
+
+    private ByteBuffer[] openSegments() {
+        final ByteBuffer[] segments = this.segments;
+        if (segments == null) {
+            throw new IllegalStateException("Array is closed");
+        }
+        return segments;
+    }
+
+    private ByteBuffer[] beginIteration() {
+        final ByteBuffer[] segments = this.openSegments();
+        ++this.iterations;
+        return segments;
+    }
+
+    private void endIteration() {
+        --this.iterations;
+    }
+
+    private void checkIndex(final long index) {
+        if (index < 0L || index >= this.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.length);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Chunk sizes of the parallel methods. All parallel methods split the arrays
+ * into chunks of at least {@link #MIN_CHUNK} values, so the parallel overhead
+ * is the same for all of them.
+ */
+final class ParallelChunks {
+
+    /**
+     * The binary logarithm of the min chunk size.
+     */
+    static final int MIN_CHUNK_SHIFT = 13;
+
+    /**
+     * The min chunk size.
+     */
+    static final int MIN_CHUNK = 1 << MIN_CHUNK_SHIFT;
+
+    /**
+     * Utility class ctor.
+     */
+    private ParallelChunks() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the size of the chunk below which the fork-join tasks compute the
+     * range sequentially: the array is split into about four chunks per thread
+     * of the common pool, but not smaller than {@link #MIN_CHUNK} values.
+     *
+     * @param length the length of the array
+     * @return the chunk size
+     */
+    static int threshold(final int length) {
+        return Math.max(length / (ForkJoinPool.getCommonPoolParallelism() << 2), MIN_CHUNK);
+    }
+
+    /**
+     * Returns the number of the chunks for the methods splitting the array into
+     * a fixed number of chunks: as many chunks of at least {@link #MIN_CHUNK}
+     * values as fit into the array, but not more than the given max count and
+     * not less than one.
+     *
+     * @param length   the length of the array
+     * @param maxCount the max number of the chunks
+     * @return the number of the chunks
+     */
+    static int count(final int length, final int maxCount) {
+        return Math.max(1, Math.min(length / MIN_CHUNK, maxCount));
+    }
+}
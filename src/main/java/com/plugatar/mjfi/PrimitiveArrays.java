@@ -0,0 +1,2016 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Operations on {@code byte}, {@code short}, {@code char}, {@code float} and
+ * {@code boolean} arrays missing in the {@link java.util.Arrays} class, such as
+ * fills by generator functions, parallel prefix computations and sorts in the
+ * order of the given "less than" predicates. Values are never boxed.
+ * <p>
+ * The sequential sorts are introsorts: quicksorts with median-of-three pivots
+ * that switch to heapsort when the recursion gets too deep and to insertion
+ * sort for short ranges, they sort in place in {@code O(n log n)} time in the
+ * worst case. The parallel sorts are merge sorts in the
+ * {@link ForkJoinPool#commonPool() common pool}, chunks of the array are
+ * sorted by the introsort and merged by parallel merges, they require a
+ * buffer of the range length. The sorts are not guaranteed to be stable.
+ * <p>
+ * The "less than" predicate must define a strict weak ordering of the values.
+ */
+public final class PrimitiveArrays {
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Utility class ctor.
+     */
+    private PrimitiveArrays() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sorts the given array in the order of the given "less than" predicate.
+     *
+     * @param array the array
+     * @param less  the "less than" predicate
+     * @throws NullPointerException if {@code array} or {@code less} is null
+     */
+    public static void sort(final byte[] array, final ByteBiPredicate less) {
+        Objects.requireNonNull(array);
+        sort(array, 0, array.length, less);
+    }
+
+    /**
+     * Sorts the given array range in the order of the given "less than" predicate.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param less      the "less than" predicate
+     * @throws NullPointerException           if {@code array} or {@code less} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static void sort(final byte[] array, final int fromIndex, final int toIndex, final ByteBiPredicate less) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(less);
+        checkRange(array.length, fromIndex, toIndex);
+        introSort(array, fromIndex, toIndex, maxDepth(toIndex - fromIndex), less);
+    }
+
+    /**
+     * Sorts the given array in parallel in the order of the given "less than"
+     * predicate.
+     *
+     * @param array the array
+     * @param less  the "less than" predicate, must be safe to call concurrently
+     * @throws NullPointerException if {@code array} or {@code less} is null
+     */
+    public static void parallelSort(final byte[] array, final ByteBiPredicate less) {
+        Objects.requireNonNull(array);
+        parallelSort(array, 0, array.length, less);
+    }
+
+    /**
+     * Sorts the given array range in parallel in the order of the given
+     * "less than" predicate.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param less      the "less than" predicate, must be safe to call concurrently
+     * @throws NullPointerException           if {@code array} or {@code less} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static void parallelSort(final byte[] array,
+                                    final int fromIndex,
+                                    final int toIndex,
+                                    final ByteBiPredicate less) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(less);
+        checkRange(array.length, fromIndex, toIndex);
+        final int length = toIndex - fromIndex;
+        final int threshold = ParallelChunks.threshold(length);
+        if (length <= threshold) {
+            introSort(array, fromIndex, toIndex, maxDepth(length), less);
+        } else {
+            new ByteSortTask(array, new byte[length], fromIndex, fromIndex, toIndex, false, threshold, less).invoke();
+        }
+    }
+
+    private static void introSort(final byte[] array,
+                                  final int fromIndex,
+                                  final int toIndex,
+                                  final int maxDepth,
+                                  final ByteBiPredicate less) {
+        int low = fromIndex;
+        int high = toIndex;
+        int depth = maxDepth;
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(array, low, high, less);
+                return;
+            }
+            final int split = partition(array, low, high, less);
+            if (split - low < high - split) {
+                introSort(array, low, split, depth, less);
+                low = split;
+            } else {
+                introSort(array, split, high, depth, less);
+                high = split;
+            }
+        }
+        insertionSort(array, low, high, less);
+    }
+
+    /**
+     * Hoare partition of the array range around the median of the first, the
+     * middle and the last values.
+     *
+     * @return the index splitting the range into two non-empty ranges
+     */
+    private static int partition(final byte[] array,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final ByteBiPredicate less) {
+        final int middle = (fromIndex + toIndex) >>> 1;
+        final int last = toIndex - 1;
+        if (less.test(array[middle], array[fromIndex])) {
+            swap(array, middle, fromIndex);
+        }
+        if (less.test(array[last], array[middle])) {
+            swap(array, last, middle);
+            if (less.test(array[middle], array[fromIndex])) {
+                swap(array, middle, fromIndex);
+            }
+        }
+        swap(array, fromIndex, middle);
+        final byte pivot = array[fromIndex];
+        int left = fromIndex - 1;
+        int right = toIndex;
+        while (true) {
+            do {
+                ++left;
+            } while (less.test(array[left], pivot));
+            do {
+                --right;
+            } while (less.test(pivot, array[right]));
+            if (left >= right) {
+                return right + 1;
+            }
+            swap(array, left, right);
+        }
+    }
+
+    private static void insertionSort(final byte[] array,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      final ByteBiPredicate less) {
+        for (int idx = fromIndex + 1; idx < toIndex; ++idx) {
+            final byte value = array[idx];
+            int position = idx;
+            while (position > fromIndex && less.test(value, array[position - 1])) {
+                array[position] = array[position - 1];
+                --position;
+            }
+            array[position] = value;
+        }
+    }
+
+    private static void heapSort(final byte[] array,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final ByteBiPredicate less) {
+        final int length = toIndex - fromIndex;
+        for (int idx = (length >>> 1) - 1; idx >= 0; --idx) {
+            siftDown(array, fromIndex, idx, length, less);
+        }
+        for (int end = length - 1; end > 0; --end) {
+            swap(array, fromIndex, fromIndex + end);
+            siftDown(array, fromIndex, 0, end, less);
+        }
+    }
+
+    private static void siftDown(final byte[] array,
+                                 final int offset,
+                                 final int index,
+                                 final int length,
+                                 final ByteBiPredicate less) {
+        final byte value = array[offset + index];
+        int parent = index;
+        int child;
+        while ((child = (parent << 1) + 1) < length) {
+            if (child + 1 < length && less.test(array[offset + child], array[offset + child + 1])) {
+                ++child;
+            }
+            if (!less.test(value, array[offset + child])) {
+                break;
+            }
+            array[offset + parent] = array[offset + child];
+            parent = child;
+        }
+        array[offset + parent] = value;
+    }
+
+    private static void swap(final byte[] array, final int first, final int second) {
+        final byte value = array[first];
+        array[first] = array[second];
+        array[second] = value;
+    }
+
+    /**
+     * Sorts the given array in the order of the given "less than" predicate.
+     *
+     * @param array the array
+     * @param less  the "less than" predicate
+     * @throws NullPointerException if {@code array} or {@code less} is null
+     */
+    public static void sort(final short[] array, final ShortBiPredicate less) {
+        Objects.requireNonNull(array);
+        sort(array, 0, array.length, less);
+    }
+
+    /**
+     * Sorts the given array range in the order of the given "less than" predicate.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param less      the "less than" predicate
+     * @throws NullPointerException           if {@code array} or {@code less} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static void sort(final short[] array, final int fromIndex, final int toIndex, final ShortBiPredicate less) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(less);
+        checkRange(array.length, fromIndex, toIndex);
+        introSort(array, fromIndex, toIndex, maxDepth(toIndex - fromIndex), less);
+    }
+
+    /**
+     * Sorts the given array in parallel in the order of the given "less than"
+     * predicate.
+     *
+     * @param array the array
+     * @param less  the "less than" predicate, must be safe to call concurrently
+     * @throws NullPointerException if {@code array} or {@code less} is null
+     */
+    public static void parallelSort(final short[] array, final ShortBiPredicate less) {
+        Objects.requireNonNull(array);
+        parallelSort(array, 0, array.length, less);
+    }
+
+    /**
+     * Sorts the given array range in parallel in the order of the given
+     * "less than" predicate.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param less      the "less than" predicate, must be safe to call concurrently
+     * @throws NullPointerException           if {@code array} or {@code less} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static void parallelSort(final short[] array,
+                                    final int fromIndex,
+                                    final int toIndex,
+                                    final ShortBiPredicate less) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(less);
+        checkRange(array.length, fromIndex, toIndex);
+        final int length = toIndex - fromIndex;
+        final int threshold = ParallelChunks.threshold(length);
+        if (length <= threshold) {
+            introSort(array, fromIndex, toIndex, maxDepth(length), less);
+        } else {
+            new ShortSortTask(array, new short[length], fromIndex, fromIndex, toIndex, false, threshold, less).invoke();
+        }
+    }
+
+    private static void introSort(final short[] array,
+                                  final int fromIndex,
+                                  final int toIndex,
+                                  final int maxDepth,
+                                  final ShortBiPredicate less) {
+        int low = fromIndex;
+        int high = toIndex;
+        int depth = maxDepth;
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(array, low, high, less);
+                return;
+            }
+            final int split = partition(array, low, high, less);
+            if (split - low < high - split) {
+                introSort(array, low, split, depth, less);
+                low = split;
+            } else {
+                introSort(array, split, high, depth, less);
+                high = split;
+            }
+        }
+        insertionSort(array, low, high, less);
+    }
+
+    /**
+     * Hoare partition of the array range around the median of the first, the
+     * middle and the last values.
+     *
+     * @return the index splitting the range into two non-empty ranges
+     */
+    private static int partition(final short[] array,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final ShortBiPredicate less) {
+        final int middle = (fromIndex + toIndex) >>> 1;
+        final int last = toIndex - 1;
+        if (less.test(array[middle], array[fromIndex])) {
+            swap(array, middle, fromIndex);
+        }
+        if (less.test(array[last], array[middle])) {
+            swap(array, last, middle);
+            if (less.test(array[middle], array[fromIndex])) {
+                swap(array, middle, fromIndex);
+            }
+        }
+        swap(array, fromIndex, middle);
+        final short pivot = array[fromIndex];
+        int left = fromIndex - 1;
+        int right = toIndex;
+        while (true) {
+            do {
+                ++left;
+            } while (less.test(array[left], pivot));
+            do {
+                --right;
+            } while (less.test(pivot, array[right]));
+            if (left >= right) {
+                return right + 1;
+            }
+            swap(array, left, right);
+        }
+    }
+
+    private static void insertionSort(final short[] array,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      final ShortBiPredicate less) {
+        for (int idx = fromIndex + 1; idx < toIndex; ++idx) {
+            final short value = array[idx];
+            int position = idx;
+            while (position > fromIndex && less.test(value, array[position - 1])) {
+                array[position] = array[position - 1];
+                --position;
+            }
+            array[position] = value;
+        }
+    }
+
+    private static void heapSort(final short[] array,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final ShortBiPredicate less) {
+        final int length = toIndex - fromIndex;
+        for (int idx = (length >>> 1) - 1; idx >= 0; --idx) {
+            siftDown(array, fromIndex, idx, length, less);
+        }
+        for (int end = length - 1; end > 0; --end) {
+            swap(array, fromIndex, fromIndex + end);
+            siftDown(array, fromIndex, 0, end, less);
+        }
+    }
+
+    private static void siftDown(final short[] array,
+                                 final int offset,
+                                 final int index,
+                                 final int length,
+                                 final ShortBiPredicate less) {
+        final short value = array[offset + index];
+        int parent = index;
+        int child;
+        while ((child = (parent << 1) + 1) < length) {
+            if (child + 1 < length && less.test(array[offset + child], array[offset + child + 1])) {
+                ++child;
+            }
+            if (!less.test(value, array[offset + child])) {
+                break;
+            }
+            array[offset + parent] = array[offset + child];
+            parent = child;
+        }
+        array[offset + parent] = value;
+    }
+
+    private static void swap(final short[] array, final int first, final int second) {
+        final short value = array[first];
+        array[first] = array[second];
+        array[second] = value;
+    }
+
+    /**
+     * Sorts the given array in the order of the given "less than" predicate.
+     *
+     * @param array the array
+     * @param less  the "less than" predicate
+     * @throws NullPointerException if {@code array} or {@code less} is null
+     */
+    public static void sort(final char[] array, final CharBiPredicate less) {
+        Objects.requireNonNull(array);
+        sort(array, 0, array.length, less);
+    }
+
+    /**
+     * Sorts the given array range in the order of the given "less than" predicate.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param less      the "less than" predicate
+     * @throws NullPointerException           if {@code array} or {@code less} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static void sort(final char[] array, final int fromIndex, final int toIndex, final CharBiPredicate less) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(less);
+        checkRange(array.length, fromIndex, toIndex);
+        introSort(array, fromIndex, toIndex, maxDepth(toIndex - fromIndex), less);
+    }
+
+    /**
+     * Sorts the given array in parallel in the order of the given "less than"
+     * predicate.
+     *
+     * @param array the array
+     * @param less  the "less than" predicate, must be safe to call concurrently
+     * @throws NullPointerException if {@code array} or {@code less} is null
+     */
+    public static void parallelSort(final char[] array, final CharBiPredicate less) {
+        Objects.requireNonNull(array);
+        parallelSort(array, 0, array.length, less);
+    }
+
+    /**
+     * Sorts the given array range in parallel in the order of the given
+     * "less than" predicate.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param less      the "less than" predicate, must be safe to call concurrently
+     * @throws NullPointerException           if {@code array} or {@code less} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static void parallelSort(final char[] array,
+                                    final int fromIndex,
+                                    final int toIndex,
+                                    final CharBiPredicate less) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(less);
+        checkRange(array.length, fromIndex, toIndex);
+        final int length = toIndex - fromIndex;
+        final int threshold = ParallelChunks.threshold(length);
+        if (length <= threshold) {
+            introSort(array, fromIndex, toIndex, maxDepth(length), less);
+        } else {
+            new CharSortTask(array, new char[length], fromIndex, fromIndex, toIndex, false, threshold, less).invoke();
+        }
+    }
+
+    private static void introSort(final char[] array,
+                                  final int fromIndex,
+                                  final int toIndex,
+                                  final int maxDepth,
+                                  final CharBiPredicate less) {
+        int low = fromIndex;
+        int high = toIndex;
+        int depth = maxDepth;
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(array, low, high, less);
+                return;
+            }
+            final int split = partition(array, low, high, less);
+            if (split - low < high - split) {
+                introSort(array, low, split, depth, less);
+                low = split;
+            } else {
+                introSort(array, split, high, depth, less);
+                high = split;
+            }
+        }
+        insertionSort(array, low, high, less);
+    }
+
+    /**
+     * Hoare partition of the array range around the median of the first, the
+     * middle and the last values.
+     *
+     * @return the index splitting the range into two non-empty ranges
+     */
+    private static int partition(final char[] array,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final CharBiPredicate less) {
+        final int middle = (fromIndex + toIndex) >>> 1;
+        final int last = toIndex - 1;
+        if (less.test(array[middle], array[fromIndex])) {
+            swap(array, middle, fromIndex);
+        }
+        if (less.test(array[last], array[middle])) {
+            swap(array, last, middle);
+            if (less.test(array[middle], array[fromIndex])) {
+                swap(array, middle, fromIndex);
+            }
+        }
+        swap(array, fromIndex, middle);
+        final char pivot = array[fromIndex];
+        int left = fromIndex - 1;
+        int right = toIndex;
+        while (true) {
+            do {
+                ++left;
+            } while (less.test(array[left], pivot));
+            do {
+                --right;
+            } while (less.test(pivot, array[right]));
+            if (left >= right) {
+                return right + 1;
+            }
+            swap(array, left, right);
+        }
+    }
+
+    private static void insertionSort(final char[] array,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      final CharBiPredicate less) {
+        for (int idx = fromIndex + 1; idx < toIndex; ++idx) {
+            final char value = array[idx];
+            int position = idx;
+            while (position > fromIndex && less.test(value, array[position - 1])) {
+                array[position] = array[position - 1];
+                --position;
+            }
+            array[position] = value;
+        }
+    }
+
+    private static void heapSort(final char[] array,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final CharBiPredicate less) {
+        final int length = toIndex - fromIndex;
+        for (int idx = (length >>> 1) - 1; idx >= 0; --idx) {
+            siftDown(array, fromIndex, idx, length, less);
+        }
+        for (int end = length - 1; end > 0; --end) {
+            swap(array, fromIndex, fromIndex + end);
+            siftDown(array, fromIndex, 0, end, less);
+        }
+    }
+
+    private static void siftDown(final char[] array,
+                                 final int offset,
+                                 final int index,
+                                 final int length,
+                                 final CharBiPredicate less) {
+        final char value = array[offset + index];
+        int parent = index;
+        int child;
+        while ((child = (parent << 1) + 1) < length) {
+            if (child + 1 < length && less.test(array[offset + child], array[offset + child + 1])) {
+                ++child;
+            }
+            if (!less.test(value, array[offset + child])) {
+                break;
+            }
+            array[offset + parent] = array[offset + child];
+            parent = child;
+        }
+        array[offset + parent] = value;
+    }
+
+    private static void swap(final char[] array, final int first, final int second) {
+        final char value = array[first];
+        array[first] = array[second];
+        array[second] = value;
+    }
+
+    /**
+     * Sorts the given array in the order of the given "less than" predicate.
+     *
+     * @param array the array
+     * @param less  the "less than" predicate
+     * @throws NullPointerException if {@code array} or {@code less} is null
+     */
+    public static void sort(final float[] array, final FloatBiPredicate less) {
+        Objects.requireNonNull(array);
+        sort(array, 0, array.length, less);
+    }
+
+    /**
+     * Sorts the given array range in the order of the given "less than" predicate.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param less      the "less than" predicate
+     * @throws NullPointerException           if {@code array} or {@code less} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static void sort(final float[] array, final int fromIndex, final int toIndex, final FloatBiPredicate less) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(less);
+        checkRange(array.length, fromIndex, toIndex);
+        introSort(array, fromIndex, toIndex, maxDepth(toIndex - fromIndex), less);
+    }
+
+    /**
+     * Sorts the given array in parallel in the order of the given "less than"
+     * predicate.
+     *
+     * @param array the array
+     * @param less  the "less than" predicate, must be safe to call concurrently
+     * @throws NullPointerException if {@code array} or {@code less} is null
+     */
+    public static void parallelSort(final float[] array, final FloatBiPredicate less) {
+        Objects.requireNonNull(array);
+        parallelSort(array, 0, array.length, less);
+    }
+
+    /**
+     * Sorts the given array range in parallel in the order of the given
+     * "less than" predicate.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param less      the "less than" predicate, must be safe to call concurrently
+     * @throws NullPointerException           if {@code array} or {@code less} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static void parallelSort(final float[] array,
+                                    final int fromIndex,
+                                    final int toIndex,
+                                    final FloatBiPredicate less) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(less);
+        checkRange(array.length, fromIndex, toIndex);
+        final int length = toIndex - fromIndex;
+        final int threshold = ParallelChunks.threshold(length);
+        if (length <= threshold) {
+            introSort(array, fromIndex, toIndex, maxDepth(length), less);
+        } else {
+            new FloatSortTask(array, new float[length], fromIndex, fromIndex, toIndex, false, threshold, less).invoke();
+        }
+    }
+
+    private static void introSort(final float[] array,
+                                  final int fromIndex,
+                                  final int toIndex,
+                                  final int maxDepth,
+                                  final FloatBiPredicate less) {
+        int low = fromIndex;
+        int high = toIndex;
+        int depth = maxDepth;
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(array, low, high, less);
+                return;
+            }
+            final int split = partition(array, low, high, less);
+            if (split - low < high - split) {
+                introSort(array, low, split, depth, less);
+                low = split;
+            } else {
+                introSort(array, split, high, depth, less);
+                high = split;
+            }
+        }
+        insertionSort(array, low, high, less);
+    }
+
+    /**
+     * Hoare partition of the array range around the median of the first, the
+     * middle and the last values.
+     *
+     * @return the index splitting the range into two non-empty ranges
+     */
+    private static int partition(final float[] array,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final FloatBiPredicate less) {
+        final int middle = (fromIndex + toIndex) >>> 1;
+        final int last = toIndex - 1;
+        if (less.test(array[middle], array[fromIndex])) {
+            swap(array, middle, fromIndex);
+        }
+        if (less.test(array[last], array[middle])) {
+            swap(array, last, middle);
+            if (less.test(array[middle], array[fromIndex])) {
+                swap(array, middle, fromIndex);
+            }
+        }
+        swap(array, fromIndex, middle);
+        final float pivot = array[fromIndex];
+        int left = fromIndex - 1;
+        int right = toIndex;
+        while (true) {
+            do {
+                ++left;
+            } while (less.test(array[left], pivot));
+            do {
+                --right;
+            } while (less.test(pivot, array[right]));
+            if (left >= right) {
+                return right + 1;
+            }
+            swap(array, left, right);
+        }
+    }
+
+    private static void insertionSort(final float[] array,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      final FloatBiPredicate less) {
+        for (int idx = fromIndex + 1; idx < toIndex; ++idx) {
+            final float value = array[idx];
+            int position = idx;
+            while (position > fromIndex && less.test(value, array[position - 1])) {
+                array[position] = array[position - 1];
+                --position;
+            }
+            array[position] = value;
+        }
+    }
+
+    private static void heapSort(final float[] array,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final FloatBiPredicate less) {
+        final int length = toIndex - fromIndex;
+        for (int idx = (length >>> 1) - 1; idx >= 0; --idx) {
+            siftDown(array, fromIndex, idx, length, less);
+        }
+        for (int end = length - 1; end > 0; --end) {
+            swap(array, fromIndex, fromIndex + end);
+            siftDown(array, fromIndex, 0, end, less);
+        }
+    }
+
+    private static void siftDown(final float[] array,
+                                 final int offset,
+                                 final int index,
+                                 final int length,
+                                 final FloatBiPredicate less) {
+        final float value = array[offset + index];
+        int parent = index;
+        int child;
+        while ((child = (parent << 1) + 1) < length) {
+            if (child + 1 < length && less.test(array[offset + child], array[offset + child + 1])) {
+                ++child;
+            }
+            if (!less.test(value, array[offset + child])) {
+                break;
+            }
+            array[offset + parent] = array[offset + child];
+            parent = child;
+        }
+        array[offset + parent] = value;
+    }
+
+    private static void swap(final float[] array, final int first, final int second) {
+        final float value = array[first];
+        array[first] = array[second];
+        array[second] = value;
+    }
+
+    /**
+     * Sets all values of the given array using the given generator function
+     * to compute every value, i.e. {@code array[i] = generator(i)}.
+     *
+     * @param array     the array
+     * @param generator the generator function
+     * @throws NullPointerException if {@code array} or {@code generator} is null
+     * @see java.util.Arrays#setAll(int[], java.util.function.IntUnaryOperator)
+     */
+    public static void setAll(final byte[] array, final IntToByteFunction generator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(generator);
+        for (int idx = 0; idx < array.length; ++idx) {
+            array[idx] = generator.applyAsByte(idx);
+        }
+    }
+
+    /**
+     * Sets all values of the given array in parallel using the given
+     * generator function to compute every value, i.e.
+     * {@code array[i] = generator(i)}.
+     *
+     * @param array     the array
+     * @param generator the generator function, must be safe to call concurrently
+     * @throws NullPointerException if {@code array} or {@code generator} is null
+     * @see java.util.Arrays#parallelSetAll(int[], java.util.function.IntUnaryOperator)
+     */
+    public static void parallelSetAll(final byte[] array, final IntToByteFunction generator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(generator);
+        IntStream.range(0, array.length).parallel().forEach(idx -> array[idx] = generator.applyAsByte(idx));
+    }
+
+    /**
+     * Cumulates in parallel each value of the given array in place using the
+     * given operator, i.e. {@code array[i] = operator(array[i - 1], array[i])}
+     * for every {@code i > 0} in ascending order.
+     *
+     * @param array    the array
+     * @param operator the associative side-effect-free operator
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     * @see java.util.Arrays#parallelPrefix(int[], java.util.function.IntBinaryOperator)
+     */
+    public static void parallelPrefix(final byte[] array, final ByteBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        parallelPrefix(array, 0, array.length, operator);
+    }
+
+    /**
+     * Cumulates in parallel each value of the given array range in place
+     * using the given operator, i.e. {@code array[i] = operator(array[i - 1], array[i])}
+     * for every {@code i} from {@code fromIndex + 1} to {@code toIndex - 1} in
+     * ascending order.
+     * <p>
+     * The range is split into chunks and processed in three phases: prefixes
+     * of the chunks are computed in parallel, the carries of the chunks are
+     * cumulated sequentially from the last values of the chunks and the
+     * carries are applied to the values of the chunks in parallel.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param operator  the associative side-effect-free operator
+     * @throws NullPointerException           if {@code array} or {@code operator} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     * @see java.util.Arrays#parallelPrefix(int[], int, int, java.util.function.IntBinaryOperator)
+     */
+    public static void parallelPrefix(final byte[] array,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      final ByteBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        checkRange(array.length, fromIndex, toIndex);
+        final int chunkSize = ParallelChunks.threshold(toIndex - fromIndex);
+        if (toIndex - fromIndex <= chunkSize) {
+            prefix(array, fromIndex, toIndex, operator);
+            return;
+        }
+        final int chunks = (toIndex - fromIndex + chunkSize - 1) / chunkSize;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final int from = fromIndex + chunk * chunkSize;
+            prefix(array, from, Math.min(toIndex, from + chunkSize), operator);
+        });
+        final byte[] carries = new byte[chunks];
+        carries[1] = array[fromIndex + chunkSize - 1];
+        for (int chunk = 2; chunk < chunks; ++chunk) {
+            carries[chunk] = operator.applyAsByte(carries[chunk - 1], array[fromIndex + chunk * chunkSize - 1]);
+        }
+        IntStream.range(1, chunks).parallel().forEach(chunk -> {
+            final byte carry = carries[chunk];
+            final int from = fromIndex + chunk * chunkSize;
+            final int to = Math.min(toIndex, from + chunkSize);
+            for (int idx = from; idx < to; ++idx) {
+                array[idx] = operator.applyAsByte(carry, array[idx]);
+            }
+        });
+    }
+
+    private static void prefix(final byte[] array,
+                               final int fromIndex,
+                               final int toIndex,
+                               final ByteBinaryOperator operator) {
+        for (int idx = fromIndex + 1; idx < toIndex; ++idx) {
+            array[idx] = operator.applyAsByte(array[idx - 1], array[idx]);
+        }
+    }
+
+    /**
+     * Sets all values of the given array using the given generator function
+     * to compute every value, i.e. {@code array[i] = generator(i)}.
+     *
+     * @param array     the array
+     * @param generator the generator function
+     * @throws NullPointerException if {@code array} or {@code generator} is null
+     * @see java.util.Arrays#setAll(int[], java.util.function.IntUnaryOperator)
+     */
+    public static void setAll(final short[] array, final IntToShortFunction generator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(generator);
+        for (int idx = 0; idx < array.length; ++idx) {
+            array[idx] = generator.applyAsShort(idx);
+        }
+    }
+
+    /**
+     * Sets all values of the given array in parallel using the given
+     * generator function to compute every value, i.e.
+     * {@code array[i] = generator(i)}.
+     *
+     * @param array     the array
+     * @param generator the generator function, must be safe to call concurrently
+     * @throws NullPointerException if {@code array} or {@code generator} is null
+     * @see java.util.Arrays#parallelSetAll(int[], java.util.function.IntUnaryOperator)
+     */
+    public static void parallelSetAll(final short[] array, final IntToShortFunction generator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(generator);
+        IntStream.range(0, array.length).parallel().forEach(idx -> array[idx] = generator.applyAsShort(idx));
+    }
+
+    /**
+     * Cumulates in parallel each value of the given array in place using the
+     * given operator, i.e. {@code array[i] = operator(array[i - 1], array[i])}
+     * for every {@code i > 0} in ascending order.
+     *
+     * @param array    the array
+     * @param operator the associative side-effect-free operator
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     * @see java.util.Arrays#parallelPrefix(int[], java.util.function.IntBinaryOperator)
+     */
+    public static void parallelPrefix(final short[] array, final ShortBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        parallelPrefix(array, 0, array.length, operator);
+    }
+
+    /**
+     * Cumulates in parallel each value of the given array range in place
+     * using the given operator, i.e. {@code array[i] = operator(array[i - 1], array[i])}
+     * for every {@code i} from {@code fromIndex + 1} to {@code toIndex - 1} in
+     * ascending order.
+     * <p>
+     * The range is split into chunks and processed in three phases: prefixes
+     * of the chunks are computed in parallel, the carries of the chunks are
+     * cumulated sequentially from the last values of the chunks and the
+     * carries are applied to the values of the chunks in parallel.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param operator  the associative side-effect-free operator
+     * @throws NullPointerException           if {@code array} or {@code operator} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     * @see java.util.Arrays#parallelPrefix(int[], int, int, java.util.function.IntBinaryOperator)
+     */
+    public static void parallelPrefix(final short[] array,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      final ShortBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        checkRange(array.length, fromIndex, toIndex);
+        final int chunkSize = ParallelChunks.threshold(toIndex - fromIndex);
+        if (toIndex - fromIndex <= chunkSize) {
+            prefix(array, fromIndex, toIndex, operator);
+            return;
+        }
+        final int chunks = (toIndex - fromIndex + chunkSize - 1) / chunkSize;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final int from = fromIndex + chunk * chunkSize;
+            prefix(array, from, Math.min(toIndex, from + chunkSize), operator);
+        });
+        final short[] carries = new short[chunks];
+        carries[1] = array[fromIndex + chunkSize - 1];
+        for (int chunk = 2; chunk < chunks; ++chunk) {
+            carries[chunk] = operator.applyAsShort(carries[chunk - 1], array[fromIndex + chunk * chunkSize - 1]);
+        }
+        IntStream.range(1, chunks).parallel().forEach(chunk -> {
+            final short carry = carries[chunk];
+            final int from = fromIndex + chunk * chunkSize;
+            final int to = Math.min(toIndex, from + chunkSize);
+            for (int idx = from; idx < to; ++idx) {
+                array[idx] = operator.applyAsShort(carry, array[idx]);
+            }
+        });
+    }
+
+    private static void prefix(final short[] array,
+                               final int fromIndex,
+                               final int toIndex,
+                               final ShortBinaryOperator operator) {
+        for (int idx = fromIndex + 1; idx < toIndex; ++idx) {
+            array[idx] = operator.applyAsShort(array[idx - 1], array[idx]);
+        }
+    }
+
+    /**
+     * Sets all values of the given array using the given generator function
+     * to compute every value, i.e. {@code array[i] = generator(i)}.
+     *
+     * @param array     the array
+     * @param generator the generator function
+     * @throws NullPointerException if {@code array} or {@code generator} is null
+     * @see java.util.Arrays#setAll(int[], java.util.function.IntUnaryOperator)
+     */
+    public static void setAll(final char[] array, final IntToCharFunction generator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(generator);
+        for (int idx = 0; idx < array.length; ++idx) {
+            array[idx] = generator.applyAsChar(idx);
+        }
+    }
+
+    /**
+     * Sets all values of the given array in parallel using the given
+     * generator function to compute every value, i.e.
+     * {@code array[i] = generator(i)}.
+     *
+     * @param array     the array
+     * @param generator the generator function, must be safe to call concurrently
+     * @throws NullPointerException if {@code array} or {@code generator} is null
+     * @see java.util.Arrays#parallelSetAll(int[], java.util.function.IntUnaryOperator)
+     */
+    public static void parallelSetAll(final char[] array, final IntToCharFunction generator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(generator);
+        IntStream.range(0, array.length).parallel().forEach(idx -> array[idx] = generator.applyAsChar(idx));
+    }
+
+    /**
+     * Cumulates in parallel each value of the given array in place using the
+     * given operator, i.e. {@code array[i] = operator(array[i - 1], array[i])}
+     * for every {@code i > 0} in ascending order.
+     *
+     * @param array    the array
+     * @param operator the associative side-effect-free operator
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     * @see java.util.Arrays#parallelPrefix(int[], java.util.function.IntBinaryOperator)
+     */
+    public static void parallelPrefix(final char[] array, final CharBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        parallelPrefix(array, 0, array.length, operator);
+    }
+
+    /**
+     * Cumulates in parallel each value of the given array range in place
+     * using the given operator, i.e. {@code array[i] = operator(array[i - 1], array[i])}
+     * for every {@code i} from {@code fromIndex + 1} to {@code toIndex - 1} in
+     * ascending order.
+     * <p>
+     * The range is split into chunks and processed in three phases: prefixes
+     * of the chunks are computed in parallel, the carries of the chunks are
+     * cumulated sequentially from the last values of the chunks and the
+     * carries are applied to the values of the chunks in parallel.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param operator  the associative side-effect-free operator
+     * @throws NullPointerException           if {@code array} or {@code operator} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     * @see java.util.Arrays#parallelPrefix(int[], int, int, java.util.function.IntBinaryOperator)
+     */
+    public static void parallelPrefix(final char[] array,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      final CharBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        checkRange(array.length, fromIndex, toIndex);
+        final int chunkSize = ParallelChunks.threshold(toIndex - fromIndex);
+        if (toIndex - fromIndex <= chunkSize) {
+            prefix(array, fromIndex, toIndex, operator);
+            return;
+        }
+        final int chunks = (toIndex - fromIndex + chunkSize - 1) / chunkSize;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final int from = fromIndex + chunk * chunkSize;
+            prefix(array, from, Math.min(toIndex, from + chunkSize), operator);
+        });
+        final char[] carries = new char[chunks];
+        carries[1] = array[fromIndex + chunkSize - 1];
+        for (int chunk = 2; chunk < chunks; ++chunk) {
+            carries[chunk] = operator.applyAsChar(carries[chunk - 1], array[fromIndex + chunk * chunkSize - 1]);
+        }
+        IntStream.range(1, chunks).parallel().forEach(chunk -> {
+            final char carry = carries[chunk];
+            final int from = fromIndex + chunk * chunkSize;
+            final int to = Math.min(toIndex, from + chunkSize);
+            for (int idx = from; idx < to; ++idx) {
+                array[idx] = operator.applyAsChar(carry, array[idx]);
+            }
+        });
+    }
+
+    private static void prefix(final char[] array,
+                               final int fromIndex,
+                               final int toIndex,
+                               final CharBinaryOperator operator) {
+        for (int idx = fromIndex + 1; idx < toIndex; ++idx) {
+            array[idx] = operator.applyAsChar(array[idx - 1], array[idx]);
+        }
+    }
+
+    /**
+     * Sets all values of the given array using the given generator function
+     * to compute every value, i.e. {@code array[i] = generator(i)}.
+     *
+     * @param array     the array
+     * @param generator the generator function
+     * @throws NullPointerException if {@code array} or {@code generator} is null
+     * @see java.util.Arrays#setAll(int[], java.util.function.IntUnaryOperator)
+     */
+    public static void setAll(final float[] array, final IntToFloatFunction generator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(generator);
+        for (int idx = 0; idx < array.length; ++idx) {
+            array[idx] = generator.applyAsFloat(idx);
+        }
+    }
+
+    /**
+     * Sets all values of the given array in parallel using the given
+     * generator function to compute every value, i.e.
+     * {@code array[i] = generator(i)}.
+     *
+     * @param array     the array
+     * @param generator the generator function, must be safe to call concurrently
+     * @throws NullPointerException if {@code array} or {@code generator} is null
+     * @see java.util.Arrays#parallelSetAll(int[], java.util.function.IntUnaryOperator)
+     */
+    public static void parallelSetAll(final float[] array, final IntToFloatFunction generator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(generator);
+        IntStream.range(0, array.length).parallel().forEach(idx -> array[idx] = generator.applyAsFloat(idx));
+    }
+
+    /**
+     * Cumulates in parallel each value of the given array in place using the
+     * given operator, i.e. {@code array[i] = operator(array[i - 1], array[i])}
+     * for every {@code i > 0} in ascending order.
+     *
+     * @param array    the array
+     * @param operator the associative side-effect-free operator
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     * @see java.util.Arrays#parallelPrefix(int[], java.util.function.IntBinaryOperator)
+     */
+    public static void parallelPrefix(final float[] array, final FloatBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        parallelPrefix(array, 0, array.length, operator);
+    }
+
+    /**
+     * Cumulates in parallel each value of the given array range in place
+     * using the given operator, i.e. {@code array[i] = operator(array[i - 1], array[i])}
+     * for every {@code i} from {@code fromIndex + 1} to {@code toIndex - 1} in
+     * ascending order.
+     * <p>
+     * The range is split into chunks and processed in three phases: prefixes
+     * of the chunks are computed in parallel, the carries of the chunks are
+     * cumulated sequentially from the last values of the chunks and the
+     * carries are applied to the values of the chunks in parallel.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param operator  the associative side-effect-free operator
+     * @throws NullPointerException           if {@code array} or {@code operator} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     * @see java.util.Arrays#parallelPrefix(int[], int, int, java.util.function.IntBinaryOperator)
+     */
+    public static void parallelPrefix(final float[] array,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      final FloatBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        checkRange(array.length, fromIndex, toIndex);
+        final int chunkSize = ParallelChunks.threshold(toIndex - fromIndex);
+        if (toIndex - fromIndex <= chunkSize) {
+            prefix(array, fromIndex, toIndex, operator);
+            return;
+        }
+        final int chunks = (toIndex - fromIndex + chunkSize - 1) / chunkSize;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final int from = fromIndex + chunk * chunkSize;
+            prefix(array, from, Math.min(toIndex, from + chunkSize), operator);
+        });
+        final float[] carries = new float[chunks];
+        carries[1] = array[fromIndex + chunkSize - 1];
+        for (int chunk = 2; chunk < chunks; ++chunk) {
+            carries[chunk] = operator.applyAsFloat(carries[chunk - 1], array[fromIndex + chunk * chunkSize - 1]);
+        }
+        IntStream.range(1, chunks).parallel().forEach(chunk -> {
+            final float carry = carries[chunk];
+            final int from = fromIndex + chunk * chunkSize;
+            final int to = Math.min(toIndex, from + chunkSize);
+            for (int idx = from; idx < to; ++idx) {
+                array[idx] = operator.applyAsFloat(carry, array[idx]);
+            }
+        });
+    }
+
+    private static void prefix(final float[] array,
+                               final int fromIndex,
+                               final int toIndex,
+                               final FloatBinaryOperator operator) {
+        for (int idx = fromIndex + 1; idx < toIndex; ++idx) {
+            array[idx] = operator.applyAsFloat(array[idx - 1], array[idx]);
+        }
+    }
+
+    /**
+     * Sets all values of the given array using the given generator function
+     * to compute every value, i.e. {@code array[i] = generator(i)}.
+     *
+     * @param array     the array
+     * @param generator the generator function
+     * @throws NullPointerException if {@code array} or {@code generator} is null
+     * @see java.util.Arrays#setAll(int[], java.util.function.IntUnaryOperator)
+     */
+    public static void setAll(final boolean[] array, final IntPredicate generator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(generator);
+        for (int idx = 0; idx < array.length; ++idx) {
+            array[idx] = generator.test(idx);
+        }
+    }
+
+    /**
+     * Sets all values of the given array in parallel using the given
+     * generator function to compute every value, i.e.
+     * {@code array[i] = generator(i)}.
+     *
+     * @param array     the array
+     * @param generator the generator function, must be safe to call concurrently
+     * @throws NullPointerException if {@code array} or {@code generator} is null
+     * @see java.util.Arrays#parallelSetAll(int[], java.util.function.IntUnaryOperator)
+     */
+    public static void parallelSetAll(final boolean[] array, final IntPredicate generator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(generator);
+        IntStream.range(0, array.length).parallel().forEach(idx -> array[idx] = generator.test(idx));
+    }
+
+    /**
+     * Cumulates in parallel each value of the given array in place using the
+     * given operator, i.e. {@code array[i] = operator(array[i - 1], array[i])}
+     * for every {@code i > 0} in ascending order.
+     *
+     * @param array    the array
+     * @param operator the associative side-effect-free operator
+     * @throws NullPointerException if {@code array} or {@code operator} is null
+     * @see java.util.Arrays#parallelPrefix(int[], java.util.function.IntBinaryOperator)
+     */
+    public static void parallelPrefix(final boolean[] array, final BooleanBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        parallelPrefix(array, 0, array.length, operator);
+    }
+
+    /**
+     * Cumulates in parallel each value of the given array range in place
+     * using the given operator, i.e. {@code array[i] = operator(array[i - 1], array[i])}
+     * for every {@code i} from {@code fromIndex + 1} to {@code toIndex - 1} in
+     * ascending order.
+     * <p>
+     * The range is split into chunks and processed in three phases: prefixes
+     * of the chunks are computed in parallel, the carries of the chunks are
+     * cumulated sequentially from the last values of the chunks and the
+     * carries are applied to the values of the chunks in parallel.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param operator  the associative side-effect-free operator
+     * @throws NullPointerException           if {@code array} or {@code operator} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     * @see java.util.Arrays#parallelPrefix(int[], int, int, java.util.function.IntBinaryOperator)
+     */
+    public static void parallelPrefix(final boolean[] array,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      final BooleanBinaryOperator operator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(operator);
+        checkRange(array.length, fromIndex, toIndex);
+        final int chunkSize = ParallelChunks.threshold(toIndex - fromIndex);
+        if (toIndex - fromIndex <= chunkSize) {
+            prefix(array, fromIndex, toIndex, operator);
+            return;
+        }
+        final int chunks = (toIndex - fromIndex + chunkSize - 1) / chunkSize;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final int from = fromIndex + chunk * chunkSize;
+            prefix(array, from, Math.min(toIndex, from + chunkSize), operator);
+        });
+        final boolean[] carries = new boolean[chunks];
+        carries[1] = array[fromIndex + chunkSize - 1];
+        for (int chunk = 2; chunk < chunks; ++chunk) {
+            carries[chunk] = operator.applyAsBoolean(carries[chunk - 1], array[fromIndex + chunk * chunkSize - 1]);
+        }
+        IntStream.range(1, chunks).parallel().forEach(chunk -> {
+            final boolean carry = carries[chunk];
+            final int from = fromIndex + chunk * chunkSize;
+            final int to = Math.min(toIndex, from + chunkSize);
+            for (int idx = from; idx < to; ++idx) {
+                array[idx] = operator.applyAsBoolean(carry, array[idx]);
+            }
+        });
+    }
+
+    private static void prefix(final boolean[] array,
+                               final int fromIndex,
+                               final int toIndex,
+                               final BooleanBinaryOperator operator) {
+        for (int idx = fromIndex + 1; idx < toIndex; ++idx) {
+            array[idx] = operator.applyAsBoolean(array[idx - 1], array[idx]);
+        }
+    }
+
+    private static int maxDepth(final int length) {
+        return length == 0 ? 0 : 2 * (31 - Integer.numberOfLeadingZeros(length));
+    }
+
+    private static void checkRange(final int length, final int fromIndex, final int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    /**
+     * Parallel merge sort of the {@code byte} array range. Value with the index
+     * {@code i} of the array is mirrored by the value with the index
+     * {@code i - base} of the buffer, the sorted range is placed into the
+     * buffer or into the array.
+     */
+    @SuppressWarnings("serial")
+    private static final class ByteSortTask extends RecursiveAction {
+        private final byte[] array;
+        private final byte[] buffer;
+        private final int base;
+        private final int fromIndex;
+        private final int toIndex;
+        private final boolean intoBuffer;
+        private final int threshold;
+        private final ByteBiPredicate less;
+
+        private ByteSortTask(final byte[] array,
+                             final byte[] buffer,
+                             final int base,
+                             final int fromIndex,
+                             final int toIndex,
+                             final boolean intoBuffer,
+                             final int threshold,
+                             final ByteBiPredicate less) {
+            this.array = array;
+            this.buffer = buffer;
+            this.base = base;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.intoBuffer = intoBuffer;
+            this.threshold = threshold;
+            this.less = less;
+        }
+
+        @Override
+        protected void compute() {
+            final int length = this.toIndex - this.fromIndex;
+            if (length <= this.threshold) {
+                introSort(this.array, this.fromIndex, this.toIndex, maxDepth(length), this.less);
+                if (this.intoBuffer) {
+                    System.arraycopy(this.array, this.fromIndex, this.buffer, this.fromIndex - this.base, length);
+                }
+                return;
+            }
+            final int middle = (this.fromIndex + this.toIndex) >>> 1;
+            invokeAll(
+                    new ByteSortTask(this.array, this.buffer, this.base, this.fromIndex, middle,
+                            !this.intoBuffer, this.threshold, this.less),
+                    new ByteSortTask(this.array, this.buffer, this.base, middle, this.toIndex,
+                            !this.intoBuffer, this.threshold, this.less)
+            );
+            final byte[] source = this.intoBuffer ? this.array : this.buffer;
+            final byte[] target = this.intoBuffer ? this.buffer : this.array;
+            final int sourceShift = this.intoBuffer ? 0 : this.base;
+            final int targetShift = this.intoBuffer ? this.base : 0;
+            new ByteMergeTask(source, target,
+                    this.fromIndex - sourceShift, middle - sourceShift,
+                    middle - sourceShift, this.toIndex - sourceShift,
+                    this.fromIndex - targetShift, this.threshold, this.less).invoke();
+        }
+    }
+
+    /**
+     * Parallel merge of two sorted {@code byte} array ranges into the target array.
+     */
+    @SuppressWarnings("serial")
+    private static final class ByteMergeTask extends RecursiveAction {
+        private final byte[] source;
+        private final byte[] target;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final int targetFrom;
+        private final int threshold;
+        private final ByteBiPredicate less;
+
+        private ByteMergeTask(final byte[] source,
+                              final byte[] target,
+                              final int leftFrom,
+                              final int leftTo,
+                              final int rightFrom,
+                              final int rightTo,
+                              final int targetFrom,
+                              final int threshold,
+                              final ByteBiPredicate less) {
+            this.source = source;
+            this.target = target;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.targetFrom = targetFrom;
+            this.threshold = threshold;
+            this.less = less;
+        }
+
+        @Override
+        protected void compute() {
+            final int leftLength = this.leftTo - this.leftFrom;
+            final int rightLength = this.rightTo - this.rightFrom;
+            if (leftLength + rightLength <= this.threshold) {
+                this.merge();
+                return;
+            }
+            final int leftSplit;
+            final int rightSplit;
+            if (leftLength >= rightLength) {
+                leftSplit = (this.leftFrom + this.leftTo) >>> 1;
+                final byte pivot = this.source[leftSplit];
+                int low = this.rightFrom;
+                int high = this.rightTo;
+                while (low < high) {
+                    final int middle = (low + high) >>> 1;
+                    if (this.less.test(this.source[middle], pivot)) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                rightSplit = low;
+            } else {
+                rightSplit = (this.rightFrom + this.rightTo) >>> 1;
+                final byte pivot = this.source[rightSplit];
+                int low = this.leftFrom;
+                int high = this.leftTo;
+                while (low < high) {
+                    final int middle = (low + high) >>> 1;
+                    if (this.less.test(pivot, this.source[middle])) {
+                        high = middle;
+                    } else {
+                        low = middle + 1;
+                    }
+                }
+                leftSplit = low;
+            }
+            invokeAll(
+                    new ByteMergeTask(this.source, this.target, this.leftFrom, leftSplit, this.rightFrom, rightSplit,
+                            this.targetFrom, this.threshold, this.less),
+                    new ByteMergeTask(this.source, this.target, leftSplit, this.leftTo, rightSplit, this.rightTo,
+                            this.targetFrom + (leftSplit - this.leftFrom) + (rightSplit - this.rightFrom),
+                            this.threshold, this.less)
+            );
+        }
+
+        private void merge() {
+            int left = this.leftFrom;
+            int right = this.rightFrom;
+            int position = this.targetFrom;
+            while (left < this.leftTo && right < this.rightTo) {
+                this.target[position++] = this.less.test(this.source[right], this.source[left])
+                        ? this.source[right++]
+                        : this.source[left++];
+            }
+            System.arraycopy(this.source, left, this.target, position, this.leftTo - left);
+            System.arraycopy(this.source, right, this.target, position + this.leftTo - left, this.rightTo - right);
+        }
+    }
+
+    /**
+     * Parallel merge sort of the {@code short} array range. Value with the index
+     * {@code i} of the array is mirrored by the value with the index
+     * {@code i - base} of the buffer, the sorted range is placed into the
+     * buffer or into the array.
+     */
+    @SuppressWarnings("serial")
+    private static final class ShortSortTask extends RecursiveAction {
+        private final short[] array;
+        private final short[] buffer;
+        private final int base;
+        private final int fromIndex;
+        private final int toIndex;
+        private final boolean intoBuffer;
+        private final int threshold;
+        private final ShortBiPredicate less;
+
+        private ShortSortTask(final short[] array,
+                              final short[] buffer,
+                              final int base,
+                              final int fromIndex,
+                              final int toIndex,
+                              final boolean intoBuffer,
+                              final int threshold,
+                              final ShortBiPredicate less) {
+            this.array = array;
+            this.buffer = buffer;
+            this.base = base;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.intoBuffer = intoBuffer;
+            this.threshold = threshold;
+            this.less = less;
+        }
+
+        @Override
+        protected void compute() {
+            final int length = this.toIndex - this.fromIndex;
+            if (length <= this.threshold) {
+                introSort(this.array, this.fromIndex, this.toIndex, maxDepth(length), this.less);
+                if (this.intoBuffer) {
+                    System.arraycopy(this.array, this.fromIndex, this.buffer, this.fromIndex - this.base, length);
+                }
+                return;
+            }
+            final int middle = (this.fromIndex + this.toIndex) >>> 1;
+            invokeAll(
+                    new ShortSortTask(this.array, this.buffer, this.base, this.fromIndex, middle,
+                            !this.intoBuffer, this.threshold, this.less),
+                    new ShortSortTask(this.array, this.buffer, this.base, middle, this.toIndex,
+                            !this.intoBuffer, this.threshold, this.less)
+            );
+            final short[] source = this.intoBuffer ? this.array : this.buffer;
+            final short[] target = this.intoBuffer ? this.buffer : this.array;
+            final int sourceShift = this.intoBuffer ? 0 : this.base;
+            final int targetShift = this.intoBuffer ? this.base : 0;
+            new ShortMergeTask(source, target,
+                    this.fromIndex - sourceShift, middle - sourceShift,
+                    middle - sourceShift, this.toIndex - sourceShift,
+                    this.fromIndex - targetShift, this.threshold, this.less).invoke();
+        }
+    }
+
+    /**
+     * Parallel merge of two sorted {@code short} array ranges into the target array.
+     */
+    @SuppressWarnings("serial")
+    private static final class ShortMergeTask extends RecursiveAction {
+        private final short[] source;
+        private final short[] target;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final int targetFrom;
+        private final int threshold;
+        private final ShortBiPredicate less;
+
+        private ShortMergeTask(final short[] source,
+                               final short[] target,
+                               final int leftFrom,
+                               final int leftTo,
+                               final int rightFrom,
+                               final int rightTo,
+                               final int targetFrom,
+                               final int threshold,
+                               final ShortBiPredicate less) {
+            this.source = source;
+            this.target = target;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.targetFrom = targetFrom;
+            this.threshold = threshold;
+            this.less = less;
+        }
+
+        @Override
+        protected void compute() {
+            final int leftLength = this.leftTo - this.leftFrom;
+            final int rightLength = this.rightTo - this.rightFrom;
+            if (leftLength + rightLength <= this.threshold) {
+                this.merge();
+                return;
+            }
+            final int leftSplit;
+            final int rightSplit;
+            if (leftLength >= rightLength) {
+                leftSplit = (this.leftFrom + this.leftTo) >>> 1;
+                final short pivot = this.source[leftSplit];
+                int low = this.rightFrom;
+                int high = this.rightTo;
+                while (low < high) {
+                    final int middle = (low + high) >>> 1;
+                    if (this.less.test(this.source[middle], pivot)) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                rightSplit = low;
+            } else {
+                rightSplit = (this.rightFrom + this.rightTo) >>> 1;
+                final short pivot = this.source[rightSplit];
+                int low = this.leftFrom;
+                int high = this.leftTo;
+                while (low < high) {
+                    final int middle = (low + high) >>> 1;
+                    if (this.less.test(pivot, this.source[middle])) {
+                        high = middle;
+                    } else {
+                        low = middle + 1;
+                    }
+                }
+                leftSplit = low;
+            }
+            invokeAll(
+                    new ShortMergeTask(this.source, this.target, this.leftFrom, leftSplit, this.rightFrom, rightSplit,
+                            this.targetFrom, this.threshold, this.less),
+                    new ShortMergeTask(this.source, this.target, leftSplit, this.leftTo, rightSplit, this.rightTo,
+                            this.targetFrom + (leftSplit - this.leftFrom) + (rightSplit - this.rightFrom),
+                            this.threshold, this.less)
+            );
+        }
+
+        private void merge() {
+            int left = this.leftFrom;
+            int right = this.rightFrom;
+            int position = this.targetFrom;
+            while (left < this.leftTo && right < this.rightTo) {
+                this.target[position++] = this.less.test(this.source[right], this.source[left])
+                        ? this.source[right++]
+                        : this.source[left++];
+            }
+            System.arraycopy(this.source, left, this.target, position, this.leftTo - left);
+            System.arraycopy(this.source, right, this.target, position + this.leftTo - left, this.rightTo - right);
+        }
+    }
+
+    /**
+     * Parallel merge sort of the {@code char} array range. Value with the index
+     * {@code i} of the array is mirrored by the value with the index
+     * {@code i - base} of the buffer, the sorted range is placed into the
+     * buffer or into the array.
+     */
+    @SuppressWarnings("serial")
+    private static final class CharSortTask extends RecursiveAction {
+        private final char[] array;
+        private final char[] buffer;
+        private final int base;
+        private final int fromIndex;
+        private final int toIndex;
+        private final boolean intoBuffer;
+        private final int threshold;
+        private final CharBiPredicate less;
+
+        private CharSortTask(final char[] array,
+                             final char[] buffer,
+                             final int base,
+                             final int fromIndex,
+                             final int toIndex,
+                             final boolean intoBuffer,
+                             final int threshold,
+                             final CharBiPredicate less) {
+            this.array = array;
+            this.buffer = buffer;
+            this.base = base;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.intoBuffer = intoBuffer;
+            this.threshold = threshold;
+            this.less = less;
+        }
+
+        @Override
+        protected void compute() {
+            final int length = this.toIndex - this.fromIndex;
+            if (length <= this.threshold) {
+                introSort(this.array, this.fromIndex, this.toIndex, maxDepth(length), this.less);
+                if (this.intoBuffer) {
+                    System.arraycopy(this.array, this.fromIndex, this.buffer, this.fromIndex - this.base, length);
+                }
+                return;
+            }
+            final int middle = (this.fromIndex + this.toIndex) >>> 1;
+            invokeAll(
+                    new CharSortTask(this.array, this.buffer, this.base, this.fromIndex, middle,
+                            !this.intoBuffer, this.threshold, this.less),
+                    new CharSortTask(this.array, this.buffer, this.base, middle, this.toIndex,
+                            !this.intoBuffer, this.threshold, this.less)
+            );
+            final char[] source = this.intoBuffer ? this.array : this.buffer;
+            final char[] target = this.intoBuffer ? this.buffer : this.array;
+            final int sourceShift = this.intoBuffer ? 0 : this.base;
+            final int targetShift = this.intoBuffer ? this.base : 0;
+            new CharMergeTask(source, target,
+                    this.fromIndex - sourceShift, middle - sourceShift,
+                    middle - sourceShift, this.toIndex - sourceShift,
+                    this.fromIndex - targetShift, this.threshold, this.less).invoke();
+        }
+    }
+
+    /**
+     * Parallel merge of two sorted {@code char} array ranges into the target array.
+     */
+    @SuppressWarnings("serial")
+    private static final class CharMergeTask extends RecursiveAction {
+        private final char[] source;
+        private final char[] target;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final int targetFrom;
+        private final int threshold;
+        private final CharBiPredicate less;
+
+        private CharMergeTask(final char[] source,
+                              final char[] target,
+                              final int leftFrom,
+                              final int leftTo,
+                              final int rightFrom,
+                              final int rightTo,
+                              final int targetFrom,
+                              final int threshold,
+                              final CharBiPredicate less) {
+            this.source = source;
+            this.target = target;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.targetFrom = targetFrom;
+            this.threshold = threshold;
+            this.less = less;
+        }
+
+        @Override
+        protected void compute() {
+            final int leftLength = this.leftTo - this.leftFrom;
+            final int rightLength = this.rightTo - this.rightFrom;
+            if (leftLength + rightLength <= this.threshold) {
+                this.merge();
+                return;
+            }
+            final int leftSplit;
+            final int rightSplit;
+            if (leftLength >= rightLength) {
+                leftSplit = (this.leftFrom + this.leftTo) >>> 1;
+                final char pivot = this.source[leftSplit];
+                int low = this.rightFrom;
+                int high = this.rightTo;
+                while (low < high) {
+                    final int middle = (low + high) >>> 1;
+                    if (this.less.test(this.source[middle], pivot)) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                rightSplit = low;
+            } else {
+                rightSplit = (this.rightFrom + this.rightTo) >>> 1;
+                final char pivot = this.source[rightSplit];
+                int low = this.leftFrom;
+                int high = this.leftTo;
+                while (low < high) {
+                    final int middle = (low + high) >>> 1;
+                    if (this.less.test(pivot, this.source[middle])) {
+                        high = middle;
+                    } else {
+                        low = middle + 1;
+                    }
+                }
+                leftSplit = low;
+            }
+            invokeAll(
+                    new CharMergeTask(this.source, this.target, this.leftFrom, leftSplit, this.rightFrom, rightSplit,
+                            this.targetFrom, this.threshold, this.less),
+                    new CharMergeTask(this.source, this.target, leftSplit, this.leftTo, rightSplit, this.rightTo,
+                            this.targetFrom + (leftSplit - this.leftFrom) + (rightSplit - this.rightFrom),
+                            this.threshold, this.less)
+            );
+        }
+
+        private void merge() {
+            int left = this.leftFrom;
+            int right = this.rightFrom;
+            int position = this.targetFrom;
+            while (left < this.leftTo && right < this.rightTo) {
+                this.target[position++] = this.less.test(this.source[right], this.source[left])
+                        ? this.source[right++]
+                        : this.source[left++];
+            }
+            System.arraycopy(this.source, left, this.target, position, this.leftTo - left);
+            System.arraycopy(this.source, right, this.target, position + this.leftTo - left, this.rightTo - right);
+        }
+    }
+
+    /**
+     * Parallel merge sort of the {@code float} array range. Value with the index
+     * {@code i} of the array is mirrored by the value with the index
+     * {@code i - base} of the buffer, the sorted range is placed into the
+     * buffer or into the array.
+     */
+    @SuppressWarnings("serial")
+    private static final class FloatSortTask extends RecursiveAction {
+        private final float[] array;
+        private final float[] buffer;
+        private final int base;
+        private final int fromIndex;
+        private final int toIndex;
+        private final boolean intoBuffer;
+        private final int threshold;
+        private final FloatBiPredicate less;
+
+        private FloatSortTask(final float[] array,
+                              final float[] buffer,
+                              final int base,
+                              final int fromIndex,
+                              final int toIndex,
+                              final boolean intoBuffer,
+                              final int threshold,
+                              final FloatBiPredicate less) {
+            this.array = array;
+            this.buffer = buffer;
+            this.base = base;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.intoBuffer = intoBuffer;
+            this.threshold = threshold;
+            this.less = less;
+        }
+
+        @Override
+        protected void compute() {
+            final int length = this.toIndex - this.fromIndex;
+            if (length <= this.threshold) {
+                introSort(this.array, this.fromIndex, this.toIndex, maxDepth(length), this.less);
+                if (this.intoBuffer) {
+                    System.arraycopy(this.array, this.fromIndex, this.buffer, this.fromIndex - this.base, length);
+                }
+                return;
+            }
+            final int middle = (this.fromIndex + this.toIndex) >>> 1;
+            invokeAll(
+                    new FloatSortTask(this.array, this.buffer, this.base, this.fromIndex, middle,
+                            !this.intoBuffer, this.threshold, this.less),
+                    new FloatSortTask(this.array, this.buffer, this.base, middle, this.toIndex,
+                            !this.intoBuffer, this.threshold, this.less)
+            );
+            final float[] source = this.intoBuffer ? this.array : this.buffer;
+            final float[] target = this.intoBuffer ? this.buffer : this.array;
+            final int sourceShift = this.intoBuffer ? 0 : this.base;
+            final int targetShift = this.intoBuffer ? this.base : 0;
+            new FloatMergeTask(source, target,
+                    this.fromIndex - sourceShift, middle - sourceShift,
+                    middle - sourceShift, this.toIndex - sourceShift,
+                    this.fromIndex - targetShift, this.threshold, this.less).invoke();
+        }
+    }
+
+    /**
+     * Parallel merge of two sorted {@code float} array ranges into the target array.
+     */
+    @SuppressWarnings("serial")
+    private static final class FloatMergeTask extends RecursiveAction {
+        private final float[] source;
+        private final float[] target;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final int targetFrom;
+        private final int threshold;
+        private final FloatBiPredicate less;
+
+        private FloatMergeTask(final float[] source,
+                               final float[] target,
+                               final int leftFrom,
+                               final int leftTo,
+                               final int rightFrom,
+                               final int rightTo,
+                               final int targetFrom,
+                               final int threshold,
+                               final FloatBiPredicate less) {
+            this.source = source;
+            this.target = target;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.targetFrom = targetFrom;
+            this.threshold = threshold;
+            this.less = less;
+        }
+
+        @Override
+        protected void compute() {
+            final int leftLength = this.leftTo - this.leftFrom;
+            final int rightLength = this.rightTo - this.rightFrom;
+            if (leftLength + rightLength <= this.threshold) {
+                this.merge();
+                return;
+            }
+            final int leftSplit;
+            final int rightSplit;
+            if (leftLength >= rightLength) {
+                leftSplit = (this.leftFrom + this.leftTo) >>> 1;
+                final float pivot = this.source[leftSplit];
+                int low = this.rightFrom;
+                int high = this.rightTo;
+                while (low < high) {
+                    final int middle = (low + high) >>> 1;
+                    if (this.less.test(this.source[middle], pivot)) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                rightSplit = low;
+            } else {
+                rightSplit = (this.rightFrom + this.rightTo) >>> 1;
+                final float pivot = this.source[rightSplit];
+                int low = this.leftFrom;
+                int high = this.leftTo;
+                while (low < high) {
+                    final int middle = (low + high) >>> 1;
+                    if (this.less.test(pivot, this.source[middle])) {
+                        high = middle;
+                    } else {
+                        low = middle + 1;
+                    }
+                }
+                leftSplit = low;
+            }
+            invokeAll(
+                    new FloatMergeTask(this.source, this.target, this.leftFrom, leftSplit, this.rightFrom, rightSplit,
+                            this.targetFrom, this.threshold, this.less),
+                    new FloatMergeTask(this.source, this.target, leftSplit, this.leftTo, rightSplit, this.rightTo,
+                            this.targetFrom + (leftSplit - this.leftFrom) + (rightSplit - this.rightFrom),
+                            this.threshold, this.less)
+            );
+        }
+
+        private void merge() {
+            int left = this.leftFrom;
+            int right = this.rightFrom;
+            int position = this.targetFrom;
+            while (left < this.leftTo && right < this.rightTo) {
+                this.target[position++] = this.less.test(this.source[right], this.source[left])
+                        ? this.source[right++]
+                        : this.source[left++];
+            }
+            System.arraycopy(this.source, left, this.target, position, this.leftTo - left);
+            System.arraycopy(this.source, right, this.target, position + this.leftTo - left, this.rightTo - right);
+        }
+    }
+}
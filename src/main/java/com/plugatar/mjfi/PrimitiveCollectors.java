@@ -0,0 +1,927 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.Objects;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Applications of the primitive collectors ({@link ByteCollector},
+ * {@link ShortCollector}, {@link CharCollector}, {@link FloatCollector} and
+ * {@link BooleanCollector}) to primitive arrays and implementations of the
+ * common collectors, such as collecting values into arrays, summarizing
+ * values and counting values into histograms. Values are never boxed.
+ * <p>
+ * Parallel collections run in the {@link ForkJoinPool#commonPool() common pool},
+ * every task collects a chunk of the array into its own result container and
+ * the containers of adjacent chunks are merged by the combiner of the
+ * collector in encounter order.
+ */
+public final class PrimitiveCollectors {
+
+    /**
+     * Utility class ctor.
+     */
+    private PrimitiveCollectors() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * using the given collector.
+     *
+     * @param array     the array
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException if {@code array} or {@code collector} is null
+     */
+    public static <A, R> R collect(final byte[] array, final ByteCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        return collect(array, 0, array.length, collector);
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * range using the given collector.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException           if {@code array} or {@code collector} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static <A, R> R collect(final byte[] array,
+                                   final int fromIndex,
+                                   final int toIndex,
+                                   final ByteCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(collector);
+        checkRange(array.length, fromIndex, toIndex);
+        final A container = collector.supplier().get();
+        final ObjByteConsumer<A> accumulator = collector.accumulator();
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            accumulator.accept(container, array[idx]);
+        }
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * in parallel using the given collector.
+     *
+     * @param array     the array
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException if {@code array} or {@code collector} is null
+     */
+    public static <A, R> R parallelCollect(final byte[] array, final ByteCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(collector);
+        final ByteCollectTask<A> task = new ByteCollectTask<>(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length), collector, null
+        );
+        task.invoke();
+        return collector.finisher().apply(task.result);
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * using the given collector.
+     *
+     * @param array     the array
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException if {@code array} or {@code collector} is null
+     */
+    public static <A, R> R collect(final short[] array, final ShortCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        return collect(array, 0, array.length, collector);
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * range using the given collector.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException           if {@code array} or {@code collector} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static <A, R> R collect(final short[] array,
+                                   final int fromIndex,
+                                   final int toIndex,
+                                   final ShortCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(collector);
+        checkRange(array.length, fromIndex, toIndex);
+        final A container = collector.supplier().get();
+        final ObjShortConsumer<A> accumulator = collector.accumulator();
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            accumulator.accept(container, array[idx]);
+        }
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * in parallel using the given collector.
+     *
+     * @param array     the array
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException if {@code array} or {@code collector} is null
+     */
+    public static <A, R> R parallelCollect(final short[] array, final ShortCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(collector);
+        final ShortCollectTask<A> task = new ShortCollectTask<>(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length), collector, null
+        );
+        task.invoke();
+        return collector.finisher().apply(task.result);
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * using the given collector.
+     *
+     * @param array     the array
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException if {@code array} or {@code collector} is null
+     */
+    public static <A, R> R collect(final char[] array, final CharCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        return collect(array, 0, array.length, collector);
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * range using the given collector.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException           if {@code array} or {@code collector} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static <A, R> R collect(final char[] array,
+                                   final int fromIndex,
+                                   final int toIndex,
+                                   final CharCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(collector);
+        checkRange(array.length, fromIndex, toIndex);
+        final A container = collector.supplier().get();
+        final ObjCharConsumer<A> accumulator = collector.accumulator();
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            accumulator.accept(container, array[idx]);
+        }
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * in parallel using the given collector.
+     *
+     * @param array     the array
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException if {@code array} or {@code collector} is null
+     */
+    public static <A, R> R parallelCollect(final char[] array, final CharCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(collector);
+        final CharCollectTask<A> task = new CharCollectTask<>(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length), collector, null
+        );
+        task.invoke();
+        return collector.finisher().apply(task.result);
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * using the given collector.
+     *
+     * @param array     the array
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException if {@code array} or {@code collector} is null
+     */
+    public static <A, R> R collect(final float[] array, final FloatCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        return collect(array, 0, array.length, collector);
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * range using the given collector.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException           if {@code array} or {@code collector} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static <A, R> R collect(final float[] array,
+                                   final int fromIndex,
+                                   final int toIndex,
+                                   final FloatCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(collector);
+        checkRange(array.length, fromIndex, toIndex);
+        final A container = collector.supplier().get();
+        final ObjFloatConsumer<A> accumulator = collector.accumulator();
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            accumulator.accept(container, array[idx]);
+        }
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * in parallel using the given collector.
+     *
+     * @param array     the array
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException if {@code array} or {@code collector} is null
+     */
+    public static <A, R> R parallelCollect(final float[] array, final FloatCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(collector);
+        final FloatCollectTask<A> task = new FloatCollectTask<>(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length), collector, null
+        );
+        task.invoke();
+        return collector.finisher().apply(task.result);
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * using the given collector.
+     *
+     * @param array     the array
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException if {@code array} or {@code collector} is null
+     */
+    public static <A, R> R collect(final boolean[] array, final BooleanCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        return collect(array, 0, array.length, collector);
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * range using the given collector.
+     *
+     * @param array     the array
+     * @param fromIndex the index of the first value, inclusive
+     * @param toIndex   the index of the last value, exclusive
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException           if {@code array} or {@code collector} is null
+     * @throws IllegalArgumentException       if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    public static <A, R> R collect(final boolean[] array,
+                                   final int fromIndex,
+                                   final int toIndex,
+                                   final BooleanCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(collector);
+        checkRange(array.length, fromIndex, toIndex);
+        final A container = collector.supplier().get();
+        final ObjBooleanConsumer<A> accumulator = collector.accumulator();
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            accumulator.accept(container, array[idx]);
+        }
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Performs a mutable reduction operation on the values of the given array
+     * in parallel using the given collector.
+     *
+     * @param array     the array
+     * @param collector the collector
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     * @throws NullPointerException if {@code array} or {@code collector} is null
+     */
+    public static <A, R> R parallelCollect(final boolean[] array, final BooleanCollector<A, R> collector) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(collector);
+        final BooleanCollectTask<A> task = new BooleanCollectTask<>(
+                null, array, 0, array.length, ParallelChunks.threshold(array.length), collector, null
+        );
+        task.invoke();
+        return collector.finisher().apply(task.result);
+    }
+
+    /**
+     * Returns a collector that accumulates the values into a new {@code byte} array.
+     *
+     * @return the collector
+     */
+    public static ByteCollector<?, byte[]> toByteArray() {
+        return ByteCollector.<ArrayBuilders.OfByte, byte[]>of(
+                ArrayBuilders.OfByte::new,
+                ArrayBuilders.OfByte::add,
+                ArrayBuilders.OfByte::addAll,
+                ArrayBuilders.OfByte::toArray
+        );
+    }
+
+    /**
+     * Returns a collector that accumulates the values into a new {@code short} array.
+     *
+     * @return the collector
+     */
+    public static ShortCollector<?, short[]> toShortArray() {
+        return ShortCollector.<ArrayBuilders.OfShort, short[]>of(
+                ArrayBuilders.OfShort::new,
+                ArrayBuilders.OfShort::add,
+                ArrayBuilders.OfShort::addAll,
+                ArrayBuilders.OfShort::toArray
+        );
+    }
+
+    /**
+     * Returns a collector that accumulates the values into a new {@code char} array.
+     *
+     * @return the collector
+     */
+    public static CharCollector<?, char[]> toCharArray() {
+        return CharCollector.<ArrayBuilders.OfChar, char[]>of(
+                ArrayBuilders.OfChar::new,
+                ArrayBuilders.OfChar::add,
+                ArrayBuilders.OfChar::addAll,
+                ArrayBuilders.OfChar::toArray
+        );
+    }
+
+    /**
+     * Returns a collector that accumulates the values into a new {@code float} array.
+     *
+     * @return the collector
+     */
+    public static FloatCollector<?, float[]> toFloatArray() {
+        return FloatCollector.<ArrayBuilders.OfFloat, float[]>of(
+                ArrayBuilders.OfFloat::new,
+                ArrayBuilders.OfFloat::add,
+                ArrayBuilders.OfFloat::addAll,
+                ArrayBuilders.OfFloat::toArray
+        );
+    }
+
+    /**
+     * Returns a collector that accumulates the values into a new {@code boolean} array.
+     *
+     * @return the collector
+     */
+    public static BooleanCollector<?, boolean[]> toBooleanArray() {
+        return BooleanCollector.<ArrayBuilders.OfBoolean, boolean[]>of(
+                ArrayBuilders.OfBoolean::new,
+                ArrayBuilders.OfBoolean::add,
+                ArrayBuilders.OfBoolean::addAll,
+                ArrayBuilders.OfBoolean::toArray
+        );
+    }
+
+    /**
+     * Returns a collector that produces summary statistics of the values.
+     *
+     * @return the collector
+     */
+    public static ByteCollector<?, IntSummaryStatistics> summarizingByte() {
+        return ByteCollector.<IntSummaryStatistics>of(
+                IntSummaryStatistics::new,
+                IntSummaryStatistics::accept,
+                (left, right) -> {
+                    left.combine(right);
+                    return left;
+                }
+        );
+    }
+
+    /**
+     * Returns a collector that produces summary statistics of the values.
+     *
+     * @return the collector
+     */
+    public static ShortCollector<?, IntSummaryStatistics> summarizingShort() {
+        return ShortCollector.<IntSummaryStatistics>of(
+                IntSummaryStatistics::new,
+                IntSummaryStatistics::accept,
+                (left, right) -> {
+                    left.combine(right);
+                    return left;
+                }
+        );
+    }
+
+    /**
+     * Returns a collector that produces summary statistics of the values.
+     *
+     * @return the collector
+     */
+    public static CharCollector<?, IntSummaryStatistics> summarizingChar() {
+        return CharCollector.<IntSummaryStatistics>of(
+                IntSummaryStatistics::new,
+                IntSummaryStatistics::accept,
+                (left, right) -> {
+                    left.combine(right);
+                    return left;
+                }
+        );
+    }
+
+    /**
+     * Returns a collector that produces summary statistics of the values.
+     *
+     * @return the collector
+     */
+    public static FloatCollector<?, DoubleSummaryStatistics> summarizingFloat() {
+        return FloatCollector.<DoubleSummaryStatistics>of(
+                DoubleSummaryStatistics::new,
+                DoubleSummaryStatistics::accept,
+                (left, right) -> {
+                    left.combine(right);
+                    return left;
+                }
+        );
+    }
+
+    /**
+     * Returns a collector that counts the values into a histogram. The
+     * histogram has {@code 256} buckets, the count of value {@code v} is in the
+     * bucket with index {@code v & 0xFF}. The values are counted by a
+     * {@link ByteHistogram}.
+     *
+     * @return the collector
+     * @see ByteHistogram#collector()
+     */
+    public static ByteCollector<?, long[]> byteHistogram() {
+        final ByteCollector<ByteHistogram, ByteHistogram> collector = ByteHistogram.collector();
+        return ByteCollector.of(
+                collector.supplier(),
+                collector.accumulator(),
+                collector.combiner(),
+                ByteHistogram::counts
+        );
+    }
+
+    /**
+     * Returns a collector that counts the values into a histogram. The
+     * histogram has {@code 65536} buckets, the count of value {@code v} is in the
+     * bucket with index {@code v & 0xFFFF}.
+     *
+     * @return the collector
+     */
+    public static ShortCollector<?, long[]> shortHistogram() {
+        return ShortCollector.<long[]>of(
+                () -> new long[1 << 16],
+                (histogram, value) -> ++histogram[value & 0xFFFF],
+                PrimitiveCollectors::mergeHistograms
+        );
+    }
+
+    /**
+     * Returns a collector that counts the values into a histogram. The
+     * histogram has {@code 65536} buckets, the count of value {@code v} is in the
+     * bucket with index {@code v}.
+     *
+     * @return the collector
+     */
+    public static CharCollector<?, long[]> charHistogram() {
+        return CharCollector.<long[]>of(
+                () -> new long[1 << 16],
+                (histogram, value) -> ++histogram[value],
+                PrimitiveCollectors::mergeHistograms
+        );
+    }
+
+    /**
+     * Returns a collector that counts the values into a histogram. The
+     * histogram has two buckets, the count of value {@code v} is in the
+     * bucket with index {@code v ? 1 : 0}.
+     *
+     * @return the collector
+     */
+    public static BooleanCollector<?, long[]> booleanHistogram() {
+        return BooleanCollector.<long[]>of(
+                () -> new long[2],
+                (histogram, value) -> ++histogram[value ? 1 : 0],
+                PrimitiveCollectors::mergeHistograms
+        );
+    }
+
+    /**
+     * Returns a collector that counts the values into a histogram of
+     * equal-width buckets between the given bounds. Values below the lower
+     * bound are counted in the first bucket, values above the upper bound are
+     * counted in the last bucket and {@code NaN} values are not counted.
+     *
+     * @param min     the lower bound of the first bucket
+     * @param max     the upper bound of the last bucket
+     * @param buckets the number of buckets
+     * @return the collector
+     * @throws IllegalArgumentException if {@code min} or {@code max} is not finite,
+     *                                  if {@code min >= max} or if {@code buckets < 1}
+     */
+    public static FloatCollector<?, long[]> floatHistogram(final float min, final float max, final int buckets) {
+        if (!Float.isFinite(min) || !Float.isFinite(max) || min >= max || buckets < 1) {
+            throw new IllegalArgumentException("Illegal histogram bounds or buckets");
+        }
+        final double scale = buckets / ((double) max - min);
+        return FloatCollector.<long[]>of(
+                () -> new long[buckets],
+                (histogram, value) -> {
+                    if (!Float.isNaN(value)) {
+                        ++histogram[(int) Math.max(0.0, Math.min(buckets - 1, (value - (double) min) * scale))];
+                    }
+                },
+                PrimitiveCollectors::mergeHistograms
+        );
+    }
+
+    private static long[] mergeHistograms(final long[] left, final long[] right) {
+        for (int idx = 0; idx < left.length; ++idx) {
+            left[idx] += right[idx];
+        }
+        return left;
+    }
+
+    private static void checkRange(final int length, final int fromIndex, final int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    /**
+     * Parallel collection of the {@code byte} array range.
+     *
+     * @param <A> the intermediate accumulation type of the collector
+     */
+    @SuppressWarnings("serial")
+    private static final class ByteCollectTask<A> extends CountedCompleter<Void> {
+        private final byte[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final ByteCollector<A, ?> collector;
+        private final ByteCollectTask<A> next;
+        private ByteCollectTask<A> forks;
+        private A result;
+
+        private ByteCollectTask(final CountedCompleter<?> parent,
+                                final byte[] array,
+                                final int fromIndex,
+                                final int toIndex,
+                                final int threshold,
+                                final ByteCollector<A, ?> collector,
+                                final ByteCollectTask<A> next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.collector = collector;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new ByteCollectTask<>(this, this.array, middle, to, this.threshold,
+                        this.collector, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            final A container = this.collector.supplier().get();
+            final ObjByteConsumer<A> accumulator = this.collector.accumulator();
+            for (int idx = from; idx < to; ++idx) {
+                accumulator.accept(container, this.array[idx]);
+            }
+            this.result = container;
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                @SuppressWarnings("unchecked") final ByteCollectTask<A> task = (ByteCollectTask<A>) completer;
+                for (ByteCollectTask<A> fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.collector.combiner().apply(task.result, fork.result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel collection of the {@code short} array range.
+     *
+     * @param <A> the intermediate accumulation type of the collector
+     */
+    @SuppressWarnings("serial")
+    private static final class ShortCollectTask<A> extends CountedCompleter<Void> {
+        private final short[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final ShortCollector<A, ?> collector;
+        private final ShortCollectTask<A> next;
+        private ShortCollectTask<A> forks;
+        private A result;
+
+        private ShortCollectTask(final CountedCompleter<?> parent,
+                                 final short[] array,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final int threshold,
+                                 final ShortCollector<A, ?> collector,
+                                 final ShortCollectTask<A> next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.collector = collector;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new ShortCollectTask<>(this, this.array, middle, to, this.threshold,
+                        this.collector, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            final A container = this.collector.supplier().get();
+            final ObjShortConsumer<A> accumulator = this.collector.accumulator();
+            for (int idx = from; idx < to; ++idx) {
+                accumulator.accept(container, this.array[idx]);
+            }
+            this.result = container;
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                @SuppressWarnings("unchecked") final ShortCollectTask<A> task = (ShortCollectTask<A>) completer;
+                for (ShortCollectTask<A> fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.collector.combiner().apply(task.result, fork.result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel collection of the {@code char} array range.
+     *
+     * @param <A> the intermediate accumulation type of the collector
+     */
+    @SuppressWarnings("serial")
+    private static final class CharCollectTask<A> extends CountedCompleter<Void> {
+        private final char[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final CharCollector<A, ?> collector;
+        private final CharCollectTask<A> next;
+        private CharCollectTask<A> forks;
+        private A result;
+
+        private CharCollectTask(final CountedCompleter<?> parent,
+                                final char[] array,
+                                final int fromIndex,
+                                final int toIndex,
+                                final int threshold,
+                                final CharCollector<A, ?> collector,
+                                final CharCollectTask<A> next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.collector = collector;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new CharCollectTask<>(this, this.array, middle, to, this.threshold,
+                        this.collector, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            final A container = this.collector.supplier().get();
+            final ObjCharConsumer<A> accumulator = this.collector.accumulator();
+            for (int idx = from; idx < to; ++idx) {
+                accumulator.accept(container, this.array[idx]);
+            }
+            this.result = container;
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                @SuppressWarnings("unchecked") final CharCollectTask<A> task = (CharCollectTask<A>) completer;
+                for (CharCollectTask<A> fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.collector.combiner().apply(task.result, fork.result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel collection of the {@code float} array range.
+     *
+     * @param <A> the intermediate accumulation type of the collector
+     */
+    @SuppressWarnings("serial")
+    private static final class FloatCollectTask<A> extends CountedCompleter<Void> {
+        private final float[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final FloatCollector<A, ?> collector;
+        private final FloatCollectTask<A> next;
+        private FloatCollectTask<A> forks;
+        private A result;
+
+        private FloatCollectTask(final CountedCompleter<?> parent,
+                                 final float[] array,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final int threshold,
+                                 final FloatCollector<A, ?> collector,
+                                 final FloatCollectTask<A> next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.collector = collector;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new FloatCollectTask<>(this, this.array, middle, to, this.threshold,
+                        this.collector, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            final A container = this.collector.supplier().get();
+            final ObjFloatConsumer<A> accumulator = this.collector.accumulator();
+            for (int idx = from; idx < to; ++idx) {
+                accumulator.accept(container, this.array[idx]);
+            }
+            this.result = container;
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                @SuppressWarnings("unchecked") final FloatCollectTask<A> task = (FloatCollectTask<A>) completer;
+                for (FloatCollectTask<A> fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.collector.combiner().apply(task.result, fork.result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parallel collection of the {@code boolean} array range.
+     *
+     * @param <A> the intermediate accumulation type of the collector
+     */
+    @SuppressWarnings("serial")
+    private static final class BooleanCollectTask<A> extends CountedCompleter<Void> {
+        private final boolean[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private final BooleanCollector<A, ?> collector;
+        private final BooleanCollectTask<A> next;
+        private BooleanCollectTask<A> forks;
+        private A result;
+
+        private BooleanCollectTask(final CountedCompleter<?> parent,
+                                   final boolean[] array,
+                                   final int fromIndex,
+                                   final int toIndex,
+                                   final int threshold,
+                                   final BooleanCollector<A, ?> collector,
+                                   final BooleanCollectTask<A> next) {
+            super(parent);
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+            this.collector = collector;
+            this.next = next;
+        }
+
+        @Override
+        public void compute() {
+            final int from = this.fromIndex;
+            int to = this.toIndex;
+            while (to - from > this.threshold) {
+                final int middle = (from + to) >>> 1;
+                this.addToPendingCount(1);
+                this.forks = new BooleanCollectTask<>(this, this.array, middle, to, this.threshold,
+                        this.collector, this.forks);
+                this.forks.fork();
+                to = middle;
+            }
+            final A container = this.collector.supplier().get();
+            final ObjBooleanConsumer<A> accumulator = this.collector.accumulator();
+            for (int idx = from; idx < to; ++idx) {
+                accumulator.accept(container, this.array[idx]);
+            }
+            this.result = container;
+            for (CountedCompleter<?> completer = this.firstComplete(); completer != null;
+                 completer = completer.nextComplete()) {
+                @SuppressWarnings("unchecked") final BooleanCollectTask<A> task = (BooleanCollectTask<A>) completer;
+                for (BooleanCollectTask<A> fork = task.forks; fork != null; fork = task.forks = fork.next) {
+                    task.result = task.collector.combiner().apply(task.result, fork.result);
+                }
+            }
+        }
+    }
+}
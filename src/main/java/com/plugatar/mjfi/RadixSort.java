@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Stable least significant digit radix sorts of object arrays by primitive
+ * keys. The sorts run in linear time: the key function is called exactly once
+ * per element and every 8-bit digit of the keys takes one counting pass over
+ * the array, passes in which all keys have the same digit are skipped. Keys
+ * are ordered as by {@code compare} method of the corresponding wrapper class.
+ * <p>
+ * The parallel sorts split the array into chunks, count digits of every chunk
+ * and scatter every chunk into its own regions of the buffer concurrently.
+ * <p>
+ * The sorts allocate an array of keys and, unless all passes are skipped,
+ * buffers of the array length.
+ */
+public final class RadixSort {
+    private static final int DIGIT_BITS = 8;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    /**
+     * Utility class ctor.
+     */
+    private RadixSort() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sorts the given array by the {@code byte} keys of the given function.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void sortByByte(final T[] array, final ToByteFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final int[] keys = new int[array.length];
+        for (int idx = 0; idx < array.length; ++idx) {
+            keys[idx] = (keyExtractor.applyAsByte(array[idx]) & 0xFF) ^ 0x80;
+        }
+        sort(array, keys, 1, 1);
+    }
+
+    /**
+     * Sorts the given array in parallel by the {@code byte} keys of the given
+     * function.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function, must be safe to call concurrently
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void parallelSortByByte(final T[] array, final ToByteFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final int[] keys = new int[array.length];
+        Arrays.parallelSetAll(keys, idx -> (keyExtractor.applyAsByte(array[idx]) & 0xFF) ^ 0x80);
+        sort(array, keys, 1, parallelChunks(array.length));
+    }
+
+    /**
+     * Sorts the given array by the {@code short} keys of the given function.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void sortByShort(final T[] array, final ToShortFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final int[] keys = new int[array.length];
+        for (int idx = 0; idx < array.length; ++idx) {
+            keys[idx] = (keyExtractor.applyAsShort(array[idx]) & 0xFFFF) ^ 0x8000;
+        }
+        sort(array, keys, 2, 1);
+    }
+
+    /**
+     * Sorts the given array in parallel by the {@code short} keys of the given
+     * function.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function, must be safe to call concurrently
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void parallelSortByShort(final T[] array, final ToShortFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final int[] keys = new int[array.length];
+        Arrays.parallelSetAll(keys, idx -> (keyExtractor.applyAsShort(array[idx]) & 0xFFFF) ^ 0x8000);
+        sort(array, keys, 2, parallelChunks(array.length));
+    }
+
+    /**
+     * Sorts the given array by the {@code char} keys of the given function.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void sortByChar(final T[] array, final ToCharFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final int[] keys = new int[array.length];
+        for (int idx = 0; idx < array.length; ++idx) {
+            keys[idx] = keyExtractor.applyAsChar(array[idx]);
+        }
+        sort(array, keys, 2, 1);
+    }
+
+    /**
+     * Sorts the given array in parallel by the {@code char} keys of the given
+     * function.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function, must be safe to call concurrently
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void parallelSortByChar(final T[] array, final ToCharFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final int[] keys = new int[array.length];
+        Arrays.parallelSetAll(keys, idx -> keyExtractor.applyAsChar(array[idx]));
+        sort(array, keys, 2, parallelChunks(array.length));
+    }
+
+    /**
+     * Sorts the given array by the {@code float} keys of the given function.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void sortByFloat(final T[] array, final ToFloatFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final int[] keys = new int[array.length];
+        for (int idx = 0; idx < array.length; ++idx) {
+            keys[idx] = Comparators.sortableBits(keyExtractor.applyAsFloat(array[idx])) ^ Integer.MIN_VALUE;
+        }
+        sort(array, keys, 4, 1);
+    }
+
+    /**
+     * Sorts the given array in parallel by the {@code float} keys of the given
+     * function.
+     *
+     * @param array        the array
+     * @param keyExtractor the key function, must be safe to call concurrently
+     * @param <T>          the type of the array elements
+     * @throws NullPointerException if {@code array} or {@code keyExtractor} is null
+     */
+    public static <T> void parallelSortByFloat(final T[] array, final ToFloatFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final int[] keys = new int[array.length];
+        Arrays.parallelSetAll(
+                keys, idx -> Comparators.sortableBits(keyExtractor.applyAsFloat(array[idx])) ^ Integer.MIN_VALUE
+        );
+        sort(array, keys, 4, parallelChunks(array.length));
+    }
+
+    private static int parallelChunks(final int length) {
+        return ParallelChunks.count(length, ForkJoinPool.getCommonPoolParallelism() << 2);
+    }
+
+    /**
+     * Sorts the given array by the given unsigned keys.
+     *
+     * @param array  the array
+     * @param keys   the unsigned keys of the array elements
+     * @param passes the number of significant digits of the keys
+     * @param chunks the number of concurrently processed chunks
+     */
+    private static void sort(final Object[] array, final int[] keys, final int passes, final int chunks) {
+        final int length = array.length;
+        final int chunkSize = (length + chunks - 1) / chunks;
+        final int[][] counts = new int[chunks][RADIX];
+        Object[] elements = array;
+        int[] elementKeys = keys;
+        Object[] bufferElements = null;
+        int[] bufferKeys = null;
+        for (int pass = 0; pass < passes; ++pass) {
+            final int shift = pass * DIGIT_BITS;
+            final Object[] fromElements = elements;
+            final int[] fromKeys = elementKeys;
+            forEachChunk(chunks, chunk -> {
+                final int[] chunkCounts = counts[chunk];
+                Arrays.fill(chunkCounts, 0);
+                final int to = Math.min(length, (chunk + 1) * chunkSize);
+                for (int idx = chunk * chunkSize; idx < to; ++idx) {
+                    ++chunkCounts[(fromKeys[idx] >>> shift) & DIGIT_MASK];
+                }
+            });
+            if (toOffsets(counts, length)) {
+                if (bufferElements == null) {
+                    bufferElements = new Object[length];
+                    bufferKeys = new int[length];
+                }
+                final Object[] toElements = bufferElements;
+                final int[] toKeys = bufferKeys;
+                forEachChunk(chunks, chunk -> {
+                    final int[] offsets = counts[chunk];
+                    final int to = Math.min(length, (chunk + 1) * chunkSize);
+                    for (int idx = chunk * chunkSize; idx < to; ++idx) {
+                        final int key = fromKeys[idx];
+                        final int position = offsets[(key >>> shift) & DIGIT_MASK]++;
+                        toElements[position] = fromElements[idx];
+                        toKeys[position] = key;
+                    }
+                });
+                bufferElements = fromElements;
+                bufferKeys = fromKeys;
+                elements = toElements;
+                elementKeys = toKeys;
+            }
+        }
+        if (elements != array) {
+            System.arraycopy(elements, 0, array, 0, length);
+        }
+    }
+
+    /**
+     * Replaces the digit counts of the chunks with the scatter offsets of the
+     * chunks. Offsets of the digit are ordered by the chunk index, so equal
+     * keys keep their relative order.
+     *
+     * @param counts the digit counts of the chunks
+     * @param length the number of counted keys
+     * @return {@code false} if all keys have the same digit and the pass can be skipped
+     */
+    private static boolean toOffsets(final int[][] counts, final int length) {
+        int offset = 0;
+        for (int digit = 0; digit < RADIX; ++digit) {
+            final int digitStart = offset;
+            for (final int[] chunkCounts : counts) {
+                final int count = chunkCounts[digit];
+                chunkCounts[digit] = offset;
+                offset += count;
+            }
+            if (offset - digitStart == length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void forEachChunk(final int chunks, final IntConsumer action) {
+        if (chunks == 1) {
+            action.accept(0);
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(action);
+        }
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Splits the bytes of a {@link ReadableByteChannel} into records without
+ * copying or allocating anything per record. The bytes are read into a
+ * single reusable buffer and every record is reported as a range of the
+ * {@link #buffer() buffer}; the buffer only grows if a record does not fit.
+ * <p>
+ * Records are either delimited by the values that match a {@link BytePredicate},
+ * the delimiters are not included into the records and the last record may
+ * have no delimiter, or prefixed by their length as a 4-byte big-endian
+ * {@code int}. Delimiters are found with {@link ByteScan}, so a compiled
+ * predicate such as {@code ByteScan.matching((byte) '\n')} is evaluated
+ * for eight bytes at a time.
+ * <p>
+ * The reported ranges and the content of the buffer are valid only until the
+ * next record is read. The channel should be in blocking mode. This class is
+ * not thread-safe.
+ */
+public final class RecordFramer {
+    private static final int DEFAULT_CAPACITY = 1 << 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private final ReadableByteChannel channel;
+    private final BytePredicate delimiter;
+    private final int maxCapacity;
+    private ByteBuffer buffer;
+    private long bufferOffset;
+    private int start;
+    private int filled;
+    private int scanned;
+    private int recordStart;
+    private int recordEnd;
+    private boolean endOfStream;
+
+    private RecordFramer(final ReadableByteChannel channel,
+                         final BytePredicate delimiter,
+                         final int initialCapacity,
+                         final int maxCapacity) throws IOException {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity(" + initialCapacity + ") < 1");
+        }
+        if (maxCapacity < initialCapacity || maxCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal maxCapacity: " + maxCapacity);
+        }
+        this.channel = Objects.requireNonNull(channel);
+        this.delimiter = delimiter;
+        this.maxCapacity = maxCapacity;
+        this.buffer = ByteBuffer.allocate(initialCapacity);
+        this.buffer.limit(0);
+        if (channel instanceof SeekableByteChannel) {
+            this.bufferOffset = ((SeekableByteChannel) channel).position();
+        }
+    }
+
+    /**
+     * Returns a framer of the records delimited by the values that match the
+     * given predicate.
+     *
+     * @param channel   the channel
+     * @param delimiter the delimiter predicate
+     * @return new framer
+     * @throws NullPointerException if any arg is null
+     * @throws IOException          if an I/O error occurs while getting the position of the channel
+     */
+    public static RecordFramer delimited(final ReadableByteChannel channel,
+                                         final BytePredicate delimiter) throws IOException {
+        return delimited(channel, delimiter, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns a framer of the records delimited by the values that match the
+     * given predicate.
+     *
+     * @param channel         the channel
+     * @param delimiter       the delimiter predicate
+     * @param initialCapacity the initial capacity of the buffer
+     * @return new framer
+     * @throws NullPointerException     if {@code channel} or {@code delimiter} is null
+     * @throws IllegalArgumentException if {@code initialCapacity} is less than 1
+     * @throws IOException              if an I/O error occurs while getting the position of the channel
+     */
+    public static RecordFramer delimited(final ReadableByteChannel channel,
+                                         final BytePredicate delimiter,
+                                         final int initialCapacity) throws IOException {
+        return delimited(channel, delimiter, initialCapacity, MAX_CAPACITY);
+    }
+
+    /**
+     * Returns a framer of the records delimited by the values that match the
+     * given predicate with the buffer that does not grow beyond the given
+     * capacity.
+     *
+     * @param channel         the channel
+     * @param delimiter       the delimiter predicate
+     * @param initialCapacity the initial capacity of the buffer
+     * @param maxCapacity     the max capacity of the buffer
+     * @return new framer
+     * @throws NullPointerException     if {@code channel} or {@code delimiter} is null
+     * @throws IllegalArgumentException if {@code initialCapacity} is less than 1 or {@code maxCapacity} is illegal
+     * @throws IOException              if an I/O error occurs while getting the position of the channel
+     */
+    static RecordFramer delimited(final ReadableByteChannel channel,
+                                  final BytePredicate delimiter,
+                                  final int initialCapacity,
+                                  final int maxCapacity) throws IOException {
+        return new RecordFramer(channel, Objects.requireNonNull(delimiter), initialCapacity, maxCapacity);
+    }
+
+    /**
+     * Returns a framer of the records prefixed by their length as a 4-byte
+     * big-endian {@code int}.
+     *
+     * @param channel the channel
+     * @return new framer
+     * @throws NullPointerException if {@code channel} is null
+     * @throws IOException          if an I/O error occurs while getting the position of the channel
+     */
+    public static RecordFramer lengthPrefixed(final ReadableByteChannel channel) throws IOException {
+        return lengthPrefixed(channel, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns a framer of the records prefixed by their length as a 4-byte
+     * big-endian {@code int}.
+     *
+     * @param channel         the channel
+     * @param initialCapacity the initial capacity of the buffer
+     * @return new framer
+     * @throws NullPointerException     if {@code channel} is null
+     * @throws IllegalArgumentException if {@code initialCapacity} is less than 1
+     * @throws IOException              if an I/O error occurs while getting the position of the channel
+     */
+    public static RecordFramer lengthPrefixed(final ReadableByteChannel channel,
+                                              final int initialCapacity) throws IOException {
+        return new RecordFramer(channel, null, initialCapacity, MAX_CAPACITY);
+    }
+
+    /**
+     * Returns the buffer that holds the current record. The buffer may be
+     * replaced with a larger one when a record is read.
+     *
+     * @return the buffer
+     */
+    public ByteBuffer buffer() {
+        return this.buffer;
+    }
+
+    /**
+     * Reads the next record and performs the given action for the start index,
+     * inclusive, and the end index, exclusive, of the record in the
+     * {@link #buffer() buffer}.
+     *
+     * @param action the action
+     * @return {@code false} if there are no records left, otherwise {@code true}
+     * @throws NullPointerException if {@code action} is null
+     * @throws EOFException         if the channel ends inside a length-prefixed record
+     * @throws IOException          if an I/O error occurs, if a record length is negative or if a record
+     *                              exceeds the max capacity of the buffer
+     */
+    public boolean tryAdvance(final IntBiConsumer action) throws IOException {
+        Objects.requireNonNull(action);
+        if (!this.advance()) {
+            return false;
+        }
+        action.accept(this.recordStart, this.recordEnd);
+        return true;
+    }
+
+    /**
+     * Reads the remaining records and performs the given action for the start
+     * index, inclusive, and the end index, exclusive, of each record in the
+     * {@link #buffer() buffer}.
+     *
+     * @param action the action
+     * @return the count of the records
+     * @throws NullPointerException if {@code action} is null
+     * @throws EOFException         if the channel ends inside a length-prefixed record
+     * @throws IOException          if an I/O error occurs, if a record length is negative or if a record
+     *                              exceeds the max capacity of the buffer
+     */
+    public long forEachRange(final IntBiConsumer action) throws IOException {
+        Objects.requireNonNull(action);
+        long count = 0L;
+        while (this.advance()) {
+            action.accept(this.recordStart, this.recordEnd);
+            ++count;
+        }
+        return count;
+    }
+
+    /**
+     * Reads the remaining records and performs the given action for the
+     * {@link #buffer() buffer}, with the position and the limit set to the
+     * bounds of each record, and for the length of the record. The action may
+     * change the position and the limit of the buffer.
+     *
+     * @param action the action
+     * @return the count of the records
+     * @throws NullPointerException if {@code action} is null
+     * @throws EOFException         if the channel ends inside a length-prefixed record
+     * @throws IOException          if an I/O error occurs, if a record length is negative or if a record
+     *                              exceeds the max capacity of the buffer
+     */
+    public long forEachRecord(final ObjIntConsumer<ByteBuffer> action) throws IOException {
+        Objects.requireNonNull(action);
+        long count = 0L;
+        while (this.advance()) {
+            final ByteBuffer record = this.buffer;
+            record.limit(this.recordEnd).position(this.recordStart);
+            action.accept(record, this.recordEnd - this.recordStart);
+            record.limit(this.filled);
+            ++count;
+        }
+        return count;
+    }
+
+    /**
+     * Reads the remaining records and performs the given action for the start
+     * offset, inclusive, and the end offset, exclusive, of each record in the
+     * channel. If the channel is a {@link SeekableByteChannel}, such as a file
+     * channel, the offsets are the positions in the channel, counted from the
+     * position of the channel when this framer was created. Otherwise the
+     * offsets are counted from the first byte read by this framer.
+     *
+     * @param action the action
+     * @return the count of the records
+     * @throws NullPointerException if {@code action} is null
+     * @throws EOFException         if the channel ends inside a length-prefixed record
+     * @throws IOException          if an I/O error occurs, if a record length is negative or if a record
+     *                              exceeds the max capacity of the buffer
+     */
+    public long forEachOffset(final LongBiConsumer action) throws IOException {
+        Objects.requireNonNull(action);
+        long count = 0L;
+        while (this.advance()) {
+            action.accept(this.bufferOffset + this.recordStart, this.bufferOffset + this.recordEnd);
+            ++count;
+        }
+        return count;
+    }
+
+    private boolean advance() throws IOException {
+        return this.delimiter == null ? this.advanceLengthPrefixed() : this.advanceDelimited();
+    }
+
+    private boolean advanceDelimited() throws IOException {
+        while (true) {
+            final int idx = ByteScan.indexOf(this.buffer, this.delimiter, this.scanned, this.filled);
+            if (idx >= 0) {
+                this.recordStart = this.start;
+                this.recordEnd = idx;
+                this.start = idx + 1;
+                this.scanned = this.start;
+                return true;
+            }
+            this.scanned = this.filled;
+            if (this.endOfStream) {
+                if (this.start == this.filled) {
+                    return false;
+                }
+                this.recordStart = this.start;
+                this.recordEnd = this.filled;
+                this.start = this.filled;
+                return true;
+            }
+            this.fill(this.filled - this.start + 1);
+        }
+    }
+
+    private boolean advanceLengthPrefixed() throws IOException {
+        while (this.filled - this.start < LENGTH_BYTES) {
+            if (this.endOfStream) {
+                if (this.start == this.filled) {
+                    return false;
+                }
+                throw new EOFException("Truncated record length at offset " + (this.bufferOffset + this.start));
+            }
+            this.fill(LENGTH_BYTES);
+        }
+        final int length = this.buffer.getInt(this.start);
+        if (length < 0 || length > this.maxCapacity - LENGTH_BYTES) {
+            throw new IOException(
+                    "Illegal record length " + length + " at offset " + (this.bufferOffset + this.start)
+            );
+        }
+        final int required = LENGTH_BYTES + length;
+        while (this.filled - this.start < required) {
+            if (this.endOfStream) {
+                throw new EOFException("Truncated record at offset " + (this.bufferOffset + this.start));
+            }
+            this.fill(required);
+        }
+        this.recordStart = this.start + LENGTH_BYTES;
+        this.recordEnd = this.start + required;
+        this.start = this.recordEnd;
+        return true;
+    }
+
+    /**
+     * Moves the unconsumed bytes to the beginning of the buffer, grows the
+     * buffer if it cannot hold the given count of bytes and reads the channel
+     * once into the free space of the buffer.
+     *
+     * @param required the count of the unconsumed bytes the buffer has to hold
+     * @throws IOException if an I/O error occurs or if the buffer cannot hold the required count of bytes
+     */
+    private void fill(final int required) throws IOException {
+        if (required > this.maxCapacity) {
+            throw new IOException(
+                    "Record exceeds max capacity " + this.maxCapacity + " at offset " + (this.bufferOffset + this.start)
+            );
+        }
+        ByteBuffer target = this.buffer;
+        final int pending = this.filled - this.start;
+        if (required > target.capacity()) {
+            final long capacity = Math.max((long) target.capacity() << 1, required);
+            target = ByteBuffer.allocate((int) Math.min(capacity, this.maxCapacity));
+            System.arraycopy(this.buffer.array(), this.start, target.array(), 0, pending);
+        } else if (this.start != 0 && (pending == 0 || this.filled == target.capacity())) {
+            System.arraycopy(target.array(), this.start, target.array(), 0, pending);
+        } else {
+            this.readChannel(target, this.filled);
+            return;
+        }
+        this.bufferOffset += this.start;
+        this.scanned -= this.start;
+        this.start = 0;
+        this.filled = pending;
+        this.buffer = target;
+        this.readChannel(target, pending);
+    }
+
+    private void readChannel(final ByteBuffer target, final int from) throws IOException {
+        target.limit(target.capacity()).position(from);
+        final int read = this.channel.read(target);
+        if (read < 0) {
+            this.endOfStream = true;
+        } else {
+            this.filled = from + read;
+        }
+        target.limit(this.filled).position(0);
+    }
+}
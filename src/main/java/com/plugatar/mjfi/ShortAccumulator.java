@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * One or more variables that together maintain a running {@code short} value
+ * updated using a supplied function. This is the {@code short} counterpart
+ * of {@link java.util.concurrent.atomic.LongAccumulator}. When updates
+ * (method {@link #accumulate}) are contended across threads, the set of
+ * variables may grow dynamically to reduce contention. Method {@link #get}
+ * (or, equivalently, {@link #intValue}) returns the current value
+ * across the variables maintaining updates.
+ * <p>
+ * This class is usually preferable to {@link AtomicShort} when multiple threads
+ * update a common value that is used for purposes such as collecting
+ * statistics, not for fine-grained synchronization control. Under high
+ * contention, expected throughput of this class is significantly higher,
+ * at the expense of higher space consumption.
+ * <p>
+ * The order of accumulation within or across threads is not guaranteed and
+ * cannot be depended upon, so this class is only applicable to functions for
+ * which the order of accumulation does not matter. The supplied accumulator
+ * function should be side-effect-free, since it may be re-applied when
+ * attempted updates fail due to contention among threads. The function is
+ * applied with the current value as its first argument, and the given update
+ * as the second argument. For example, to maintain a running maximum value,
+ * you could supply {@code (x, y) -> (short) Math.max(x, y)}
+ * along with {@code Short.MIN_VALUE} as the identity.
+ *
+ * @see java.util.concurrent.atomic.LongAccumulator
+ */
+public class ShortAccumulator extends Number {
+    private static final long serialVersionUID = 1L;
+    private final ShortBinaryOperator function;
+    private final short identity;
+    private final transient Striped32 striped;
+
+    /**
+     * Creates a new instance using the given accumulator function
+     * and identity element.
+     *
+     * @param accumulatorFunction a side-effect-free function of two arguments
+     * @param identity            identity (initial value) for the accumulator function
+     * @throws NullPointerException if {@code accumulatorFunction} is null
+     */
+    public ShortAccumulator(final ShortBinaryOperator accumulatorFunction, final short identity) {
+        Objects.requireNonNull(accumulatorFunction);
+        this.function = accumulatorFunction;
+        this.identity = identity;
+        this.striped = new Striped32(
+                (left, right) -> accumulatorFunction.applyAsShort((short) left, (short) right),
+                identity
+        );
+    }
+
+    /**
+     * Updates with the given value.
+     *
+     * @param x the value
+     */
+    public void accumulate(final short x) {
+        this.striped.accumulate(x);
+    }
+
+    /**
+     * Returns the current value. The returned value is <em>NOT</em>
+     * an atomic snapshot; invocation in the absence of concurrent
+     * updates returns an accurate result, but concurrent updates that
+     * occur while the value is being calculated might not be
+     * incorporated.
+     *
+     * @return the current value
+     */
+    public short get() {
+        return (short) this.striped.get();
+    }
+
+    /**
+     * Resets variables maintaining updates to the identity value.
+     * This method may be a useful alternative to creating a new
+     * updater, but is only effective if there are no concurrent
+     * updates. Because this method is intrinsically racy, it should
+     * only be used when it is known that no threads are concurrently
+     * updating.
+     */
+    public void reset() {
+        this.striped.reset();
+    }
+
+    /**
+     * Equivalent in effect to {@link #get} followed by {@link #reset}.
+     * This method may apply for example during quiescent points between
+     * multithreaded computations. If there are updates concurrent with
+     * this method, the returned value is <em>not</em> guaranteed to be
+     * the final value occurring before the reset.
+     *
+     * @return the value before reset
+     */
+    public short getThenReset() {
+        return (short) this.striped.getThenReset();
+    }
+
+    /**
+     * Returns the String representation of the current value.
+     *
+     * @return the String representation of the current value
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(this.get());
+    }
+
+    /**
+     * Returns the {@linkplain #get current value} as an {@code int}
+     * after a widening primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code int}
+     */
+    @Override
+    public int intValue() {
+        return (int) this.get();
+    }
+
+    /**
+     * Returns the {@linkplain #get current value} as a {@code long}
+     * after a widening primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code long}
+     */
+    @Override
+    public long longValue() {
+        return (long) this.get();
+    }
+
+    /**
+     * Returns the {@linkplain #get current value} as a {@code float}
+     * after a widening primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code float}
+     */
+    @Override
+    public float floatValue() {
+        return (float) this.get();
+    }
+
+    /**
+     * Returns the {@linkplain #get current value} as a {@code double}
+     * after a widening primitive conversion.
+     *
+     * @return the numeric value represented by this object after conversion to type {@code double}
+     */
+    @Override
+    public double doubleValue() {
+        return (double) this.get();
+    }
+
+    private Object writeReplace() {
+        return new SerializationProxy(this.get(), this.function, this.identity);
+    }
+
+    private void readObject(final ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("Proxy required");
+    }
+
+    /**
+     * Serialization proxy, used to avoid reference to the non-public
+     * {@link Striped32} class in serialized forms.
+     */
+    private static final class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final short value;
+        private final ShortBinaryOperator function;
+        private final short identity;
+
+        private SerializationProxy(final short value,
+                                   final ShortBinaryOperator function,
+                                   final short identity) {
+            this.value = value;
+            this.function = function;
+            this.identity = identity;
+        }
+
+        private Object readResolve() {
+            final ShortAccumulator accumulator = new ShortAccumulator(this.function, this.identity);
+            accumulator.striped.setBase(this.value);
+            return accumulator;
+        }
+    }
+}
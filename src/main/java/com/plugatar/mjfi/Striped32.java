@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Contention-striped accumulation of {@code int}-encoded values. This is the
+ * {@code int} counterpart of {@code java.util.concurrent.atomic.Striped64}
+ * used by the primitive accumulators of this package.
+ * <p>
+ * Updates go to a single base value while there is no contention. When a CAS
+ * of the base value fails, the table of cells is created and every thread
+ * updates the cell selected by its probe. A thread that fails to update its
+ * cell changes its probe, and the table is doubled on repeated collisions
+ * until it reaches the number of CPUs. The cells are padded to avoid false
+ * sharing.
+ */
+final class Striped32 {
+    private static final int NCPU = Runtime.getRuntime().availableProcessors();
+    private static final AtomicIntegerFieldUpdater<Striped32> BASE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(Striped32.class, "base");
+    private static final AtomicIntegerFieldUpdater<Striped32> CELLS_BUSY_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(Striped32.class, "cellsBusy");
+    private static final ThreadLocal<int[]> PROBE =
+            ThreadLocal.withInitial(() -> new int[]{ThreadLocalRandom.current().nextInt() | 1});
+    private final IntBinaryOperator function;
+    private final int identity;
+    private volatile int base;
+    private volatile int cellsBusy;
+    private volatile Cell[] cells;
+
+    /**
+     * Ctor.
+     *
+     * @param function the accumulator function of encoded values
+     * @param identity the encoded identity of the accumulator function
+     */
+    Striped32(final IntBinaryOperator function, final int identity) {
+        this.function = function;
+        this.identity = identity;
+        this.base = identity;
+    }
+
+    /**
+     * Sets the base value to the given encoded value. Used to restore the
+     * value of a deserialized accumulator before any update.
+     *
+     * @param value the encoded value
+     */
+    void setBase(final int value) {
+        this.base = value;
+    }
+
+    /**
+     * Updates with the given encoded value.
+     *
+     * @param x the encoded value
+     */
+    void accumulate(final int x) {
+        final Cell[] cs = this.cells;
+        final int b;
+        if (cs == null && BASE_UPDATER.compareAndSet(this, b = this.base, this.function.applyAsInt(b, x))) {
+            return;
+        }
+        final int[] probe = PROBE.get();
+        final Cell c;
+        final int v;
+        if (cs == null || (c = cs[probe[0] & (cs.length - 1)]) == null) {
+            this.accumulateSlow(x, probe, true);
+        } else if (!c.compareAndSet(v = c.value, this.function.applyAsInt(v, x))) {
+            this.accumulateSlow(x, probe, false);
+        }
+    }
+
+    /**
+     * Returns the encoded current value.
+     *
+     * @return the encoded current value
+     */
+    int get() {
+        final Cell[] cs = this.cells;
+        int result = this.base;
+        if (cs != null) {
+            for (final Cell c : cs) {
+                if (c != null) {
+                    result = this.function.applyAsInt(result, c.value);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Resets variables maintaining updates to the identity value.
+     */
+    void reset() {
+        final Cell[] cs = this.cells;
+        this.base = this.identity;
+        if (cs != null) {
+            for (final Cell c : cs) {
+                if (c != null) {
+                    c.value = this.identity;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the encoded current value and resets variables maintaining
+     * updates to the identity value.
+     *
+     * @return the encoded current value
+     */
+    int getThenReset() {
+        final Cell[] cs = this.cells;
+        int result = BASE_UPDATER.getAndSet(this, this.identity);
+        if (cs != null) {
+            for (final Cell c : cs) {
+                if (c != null) {
+                    result = this.function.applyAsInt(result, Cell.VALUE_UPDATER.getAndSet(c, this.identity));
+                }
+            }
+        }
+        return result;
+    }
+
+    private void accumulateSlow(final int x, final int[] probe, final boolean wasUncontended) {
+        int h = probe[0];
+        boolean uncontended = wasUncontended;
+        boolean collide = false;
+        for (; ; ) {
+            final Cell[] cs = this.cells;
+            final int n;
+            if (cs != null && (n = cs.length) > 0) {
+                final Cell c = cs[(n - 1) & h];
+                final int v;
+                if (c == null) {
+                    if (this.cellsBusy == 0) {
+                        final Cell created = new Cell(this.function.applyAsInt(this.identity, x));
+                        if (this.cellsBusy == 0 && CELLS_BUSY_UPDATER.compareAndSet(this, 0, 1)) {
+                            try {
+                                final Cell[] rs = this.cells;
+                                final int j;
+                                if (rs != null && rs[j = (rs.length - 1) & h] == null) {
+                                    rs[j] = created;
+                                    return;
+                                }
+                            } finally {
+                                this.cellsBusy = 0;
+                            }
+                            continue;
+                        }
+                    }
+                    collide = false;
+                } else if (!uncontended) {
+                    uncontended = true;
+                } else if (c.compareAndSet(v = c.value, this.function.applyAsInt(v, x))) {
+                    return;
+                } else if (n >= NCPU || this.cells != cs) {
+                    collide = false;
+                } else if (!collide) {
+                    collide = true;
+                } else if (this.cellsBusy == 0 && CELLS_BUSY_UPDATER.compareAndSet(this, 0, 1)) {
+                    try {
+                        if (this.cells == cs) {
+                            this.cells = Arrays.copyOf(cs, n << 1);
+                        }
+                    } finally {
+                        this.cellsBusy = 0;
+                    }
+                    collide = false;
+                    continue;
+                }
+                h ^= h << 13;
+                h ^= h >>> 17;
+                h ^= h << 5;
+                probe[0] = h;
+            } else if (this.cellsBusy == 0 && this.cells == cs && CELLS_BUSY_UPDATER.compareAndSet(this, 0, 1)) {
+                try {
+                    if (this.cells == cs) {
+                        final Cell[] rs = new Cell[2];
+                        rs[h & 1] = new Cell(this.function.applyAsInt(this.identity, x));
+                        this.cells = rs;
+                        return;
+                    }
+                } finally {
+                    this.cellsBusy = 0;
+                }
+            } else {
+                final int b;
+                if (BASE_UPDATER.compareAndSet(this, b = this.base, this.function.applyAsInt(b, x))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Padding before the value of the cell.
+     */
+    @SuppressWarnings("unused")
+    private static class CellLhsPadding {
+        private long p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    /**
+     * The value of the cell.
+     */
+    private static class CellValue extends CellLhsPadding {
+        volatile int value;
+    }
+
+    /**
+     * Padded variant of {@code AtomicInteger} supporting only raw accesses
+     * plus CAS. Superclass fields are laid out before subclass fields,
+     * so the value is surrounded by padding on both sides.
+     */
+    @SuppressWarnings("unused")
+    private static final class Cell extends CellValue {
+        private static final AtomicIntegerFieldUpdater<CellValue> VALUE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(CellValue.class, "value");
+        private long q1, q2, q3, q4, q5, q6, q7;
+
+        private Cell(final int value) {
+            this.value = value;
+        }
+
+        private boolean compareAndSet(final int expect, final int update) {
+            return VALUE_UPDATER.compareAndSet(this, expect, update);
+        }
+    }
+}
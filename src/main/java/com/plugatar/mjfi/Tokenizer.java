@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.Objects;
+
+/**
+ * Splits {@link CharSequence}s into tokens without allocating substrings:
+ * every token is reported to an {@link IntBiConsumer} as its start index,
+ * inclusive, and end index, exclusive, in the sequence.
+ * <p>
+ * Each delimiter separates two tokens, so a sequence with {@code n}
+ * delimiters always has {@code n + 1} tokens, including the empty tokens
+ * between adjacent delimiters and at both ends of the sequence.
+ */
+public final class Tokenizer {
+
+    /**
+     * Utility class ctor.
+     */
+    private Tokenizer() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Splits the given sequence around the given delimiter. Strings are
+     * searched with {@link String#indexOf(int, int)}.
+     *
+     * @param sequence  the sequence
+     * @param delimiter the delimiter
+     * @param onToken   the action performed for the start and the end index of each token
+     * @return the count of the tokens
+     * @throws NullPointerException if {@code sequence} or {@code onToken} is null
+     */
+    public static int split(final CharSequence sequence, final char delimiter, final IntBiConsumer onToken) {
+        Objects.requireNonNull(onToken);
+        final int length = sequence.length();
+        int count = 1;
+        int start = 0;
+        if (sequence instanceof String) {
+            final String string = (String) sequence;
+            for (int idx; (idx = string.indexOf(delimiter, start)) >= 0; start = idx + 1, ++count) {
+                onToken.accept(start, idx);
+            }
+        } else {
+            for (int idx = 0; idx < length; ++idx) {
+                if (sequence.charAt(idx) == delimiter) {
+                    onToken.accept(start, idx);
+                    start = idx + 1;
+                    ++count;
+                }
+            }
+        }
+        onToken.accept(start, length);
+        return count;
+    }
+
+    /**
+     * Splits the given sequence around the characters that match the given
+     * delimiter predicate.
+     *
+     * @param sequence   the sequence
+     * @param delimiters the delimiter predicate
+     * @param onToken    the action performed for the start and the end index of each token
+     * @return the count of the tokens
+     * @throws NullPointerException if any arg is null
+     */
+    public static int split(final CharSequence sequence,
+                            final CharPredicate delimiters,
+                            final IntBiConsumer onToken) {
+        Objects.requireNonNull(delimiters);
+        Objects.requireNonNull(onToken);
+        final int length = sequence.length();
+        int count = 1;
+        int start = 0;
+        for (int idx = 0; idx < length; ++idx) {
+            if (delimiters.test(sequence.charAt(idx))) {
+                onToken.accept(start, idx);
+                start = idx + 1;
+                ++count;
+            }
+        }
+        onToken.accept(start, length);
+        return count;
+    }
+
+    /**
+     * Splits the given sequence around the characters that match the given
+     * delimiter predicate, except the delimiters inside quotes and the
+     * escaped delimiters.
+     * <p>
+     * A quote character starts a quoted part of a token and the next
+     * unescaped quote character ends it. An escape character takes the next
+     * character literally. If the escape character is equal to the quote
+     * character, then only doubled quote characters inside quotes are
+     * escaped, like in CSV. If a token starts with a quote character and ends
+     * with the quote character that ends its quoted part, then the reported
+     * range excludes these two quote characters; escape characters inside the
+     * range are reported as is. An unterminated quoted part lasts until the end
+     * of the sequence.
+     *
+     * @param sequence   the sequence
+     * @param delimiters the delimiter predicate
+     * @param quote      the quote character
+     * @param escape     the escape character
+     * @param onToken    the action performed for the start and the end index of each token
+     * @return the count of the tokens
+     * @throws NullPointerException if {@code sequence}, {@code delimiters} or {@code onToken} is null
+     */
+    public static int split(final CharSequence sequence,
+                            final CharPredicate delimiters,
+                            final char quote,
+                            final char escape,
+                            final IntBiConsumer onToken) {
+        Objects.requireNonNull(delimiters);
+        Objects.requireNonNull(onToken);
+        final boolean doubledQuotes = quote == escape;
+        final int length = sequence.length();
+        int count = 1;
+        int start = 0;
+        int closingQuote = -1;
+        boolean quoted = false;
+        for (int idx = 0; idx < length; ++idx) {
+            final char ch = sequence.charAt(idx);
+            if (ch == escape && !doubledQuotes) {
+                ++idx;
+            } else if (quoted) {
+                if (ch == quote) {
+                    if (doubledQuotes && idx + 1 < length && sequence.charAt(idx + 1) == quote) {
+                        ++idx;
+                    } else {
+                        quoted = false;
+                        closingQuote = idx;
+                    }
+                }
+            } else if (ch == quote) {
+                quoted = true;
+            } else if (delimiters.test(ch)) {
+                acceptQuoted(sequence, quote, start, idx, closingQuote, onToken);
+                start = idx + 1;
+                ++count;
+            }
+        }
+        acceptQuoted(sequence, quote, start, length, closingQuote, onToken);
+        return count;
+    }
+
+    private static void acceptQuoted(final CharSequence sequence,
+                                     final char quote,
+                                     final int start,
+                                     final int end,
+                                     final int closingQuote,
+                                     final IntBiConsumer onToken) {
+        if (closingQuote == end - 1 && end - start >= 2 && sequence.charAt(start) == quote) {
+            onToken.accept(start + 1, end - 1);
+        } else {
+            onToken.accept(start, end);
+        }
+    }
+}
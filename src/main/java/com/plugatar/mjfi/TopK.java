@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Selections of the elements with the greatest primitive keys. The key
+ * function is called exactly once per element and the selected elements are
+ * kept in binary heaps of primitive keys, see {@link FloatTopK} and
+ * {@link ShortTopK}. The selections take {@code O(n log k)} time.
+ * <p>
+ * The parallel selections split the array into parts, select the elements of
+ * every part into its own heap and merge the heaps.
+ */
+public final class TopK {
+
+    /**
+     * Utility class ctor.
+     */
+    private TopK() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns at most {@code k} elements of the given iterable with the
+     * greatest {@code float} keys in descending order of the keys.
+     *
+     * @param iterable     the iterable
+     * @param k            the maximum number of selected elements
+     * @param keyExtractor the key function
+     * @param <T>          the type of the elements
+     * @return the list of the selected elements
+     * @throws NullPointerException     if {@code iterable} or {@code keyExtractor} is null
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static <T> List<T> selectByFloat(final Iterable<? extends T> iterable,
+                                            final int k,
+                                            final ToFloatFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(keyExtractor);
+        final FloatTopK<T> topK = new FloatTopK<>(k);
+        for (final T element : iterable) {
+            topK.accept(element, keyExtractor.applyAsFloat(element));
+        }
+        return topK.toList();
+    }
+
+    /**
+     * Returns at most {@code k} elements of the given array with the greatest
+     * {@code float} keys in descending order of the keys.
+     *
+     * @param array        the array
+     * @param k            the maximum number of selected elements
+     * @param keyExtractor the key function
+     * @param <T>          the type of the elements
+     * @return the list of the selected elements
+     * @throws NullPointerException     if {@code array} or {@code keyExtractor} is null
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static <T> List<T> selectByFloat(final T[] array,
+                                            final int k,
+                                            final ToFloatFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final FloatTopK<T> topK = new FloatTopK<>(k);
+        for (final T element : array) {
+            topK.accept(element, keyExtractor.applyAsFloat(element));
+        }
+        return topK.toList();
+    }
+
+    /**
+     * Returns at most {@code k} elements of the given array with the greatest
+     * {@code float} keys in descending order of the keys. The elements are
+     * selected in parallel.
+     *
+     * @param array        the array
+     * @param k            the maximum number of selected elements
+     * @param keyExtractor the key function, must be safe to call concurrently
+     * @param <T>          the type of the elements
+     * @return the list of the selected elements
+     * @throws NullPointerException     if {@code array} or {@code keyExtractor} is null
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static <T> List<T> parallelSelectByFloat(final T[] array,
+                                                    final int k,
+                                                    final ToFloatFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        if (k < 0) {
+            throw new IllegalArgumentException("Negative k: " + k);
+        }
+        return IntStream.range(0, array.length).parallel().collect(
+                () -> new FloatTopK<T>(k),
+                (topK, idx) -> topK.accept(array[idx], keyExtractor.applyAsFloat(array[idx])),
+                FloatTopK::merge
+        ).toList();
+    }
+
+    /**
+     * Returns at most {@code k} elements of the given iterable with the
+     * greatest {@code short} keys in descending order of the keys.
+     *
+     * @param iterable     the iterable
+     * @param k            the maximum number of selected elements
+     * @param keyExtractor the key function
+     * @param <T>          the type of the elements
+     * @return the list of the selected elements
+     * @throws NullPointerException     if {@code iterable} or {@code keyExtractor} is null
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static <T> List<T> selectByShort(final Iterable<? extends T> iterable,
+                                            final int k,
+                                            final ToShortFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(iterable);
+        Objects.requireNonNull(keyExtractor);
+        final ShortTopK<T> topK = new ShortTopK<>(k);
+        for (final T element : iterable) {
+            topK.accept(element, keyExtractor.applyAsShort(element));
+        }
+        return topK.toList();
+    }
+
+    /**
+     * Returns at most {@code k} elements of the given array with the greatest
+     * {@code short} keys in descending order of the keys.
+     *
+     * @param array        the array
+     * @param k            the maximum number of selected elements
+     * @param keyExtractor the key function
+     * @param <T>          the type of the elements
+     * @return the list of the selected elements
+     * @throws NullPointerException     if {@code array} or {@code keyExtractor} is null
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static <T> List<T> selectByShort(final T[] array,
+                                            final int k,
+                                            final ToShortFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        final ShortTopK<T> topK = new ShortTopK<>(k);
+        for (final T element : array) {
+            topK.accept(element, keyExtractor.applyAsShort(element));
+        }
+        return topK.toList();
+    }
+
+    /**
+     * Returns at most {@code k} elements of the given array with the greatest
+     * {@code short} keys in descending order of the keys. The elements are
+     * selected in parallel.
+     *
+     * @param array        the array
+     * @param k            the maximum number of selected elements
+     * @param keyExtractor the key function, must be safe to call concurrently
+     * @param <T>          the type of the elements
+     * @return the list of the selected elements
+     * @throws NullPointerException     if {@code array} or {@code keyExtractor} is null
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static <T> List<T> parallelSelectByShort(final T[] array,
+                                                    final int k,
+                                                    final ToShortFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(keyExtractor);
+        if (k < 0) {
+            throw new IllegalArgumentException("Negative k: " + k);
+        }
+        return IntStream.range(0, array.length).parallel().collect(
+                () -> new ShortTopK<T>(k),
+                (topK, idx) -> topK.accept(array[idx], keyExtractor.applyAsShort(array[idx])),
+                ShortTopK::merge
+        ).toList();
+    }
+}
@@ -136,6 +136,10 @@
  * <tr><td> long, long       </td><td> boolean </td><td> {@link com.plugatar.mjfi.LongBiPredicate}           </td></tr>
  * <tr><td> long, long       </td><td> R       </td><td> {@link com.plugatar.mjfi.LongBiFunction}            </td></tr>
  * <tr><td> long, long       </td><td> void    </td><td> {@link com.plugatar.mjfi.LongBiConsumer}            </td></tr>
+ * <tr><td> long, byte       </td><td> void    </td><td> {@link com.plugatar.mjfi.LongByteConsumer}          </td></tr>
+ * <tr><td> long, short      </td><td> void    </td><td> {@link com.plugatar.mjfi.LongShortConsumer}         </td></tr>
+ * <tr><td> long, float      </td><td> void    </td><td> {@link com.plugatar.mjfi.LongFloatConsumer}         </td></tr>
+ * <tr><td> long, char       </td><td> void    </td><td> {@link com.plugatar.mjfi.LongCharConsumer}          </td></tr>
  * <tr><td> void             </td><td> float   </td><td> {@link com.plugatar.mjfi.FloatSupplier}             </td></tr>
  * <tr><td> float            </td><td> R       </td><td> {@link com.plugatar.mjfi.FloatFunction}             </td></tr>
  * <tr><td> float            </td><td> byte    </td><td> {@link com.plugatar.mjfi.FloatToByteFunction}       </td></tr>
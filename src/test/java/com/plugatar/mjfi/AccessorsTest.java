@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.lang.invoke.MethodHandles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link Accessors}.
+ */
+final class AccessorsTest {
+    private static final MethodHandles.Lookup LOOKUP = Bean.LOOKUP;
+
+    @Test
+    void getterMethodsThrowNPEForNullArgs() throws Exception {
+        assertThatCode(() -> Accessors.floatGetter(null, Bean.class.getDeclaredMethod("getFloat")))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Accessors.floatGetter(LOOKUP, (java.lang.reflect.Method) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Accessors.floatGetter(LOOKUP, (java.lang.reflect.Field) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void getterMethodsThrowIAEForWrongMember() {
+        assertThatCode(() -> Accessors.shortGetter(LOOKUP, Bean.class.getDeclaredMethod("getFloat")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> Accessors.floatGetter(LOOKUP, Bean.class.getDeclaredMethod("setFloat", float.class)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> Accessors.charGetter(LOOKUP, Bean.class.getDeclaredField("floatValue")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> Accessors.byteSetter(LOOKUP, Bean.class.getDeclaredField("CONSTANT")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void methodAccessorsInvokeMethods() throws Exception {
+        final Bean bean = new Bean();
+        Accessors.<Bean>floatSetter(LOOKUP, Bean.class.getDeclaredMethod("setFloat", float.class))
+                .accept(bean, 1.5f);
+        Accessors.<Bean>shortSetter(LOOKUP, Bean.class.getDeclaredMethod("setShort", short.class))
+                .accept(bean, (short) 2);
+        Accessors.<Bean>byteSetter(LOOKUP, Bean.class.getDeclaredMethod("setByte", byte.class))
+                .accept(bean, (byte) 3);
+        Accessors.<Bean>charSetter(LOOKUP, Bean.class.getDeclaredMethod("setChar", char.class))
+                .accept(bean, 'c');
+        Accessors.<Bean>booleanSetter(LOOKUP, Bean.class.getDeclaredMethod("setBoolean", boolean.class))
+                .accept(bean, true);
+        assertThat(Accessors.<Bean>floatGetter(LOOKUP, Bean.class.getDeclaredMethod("getFloat")).applyAsFloat(bean))
+                .isEqualTo(1.5f);
+        assertThat(Accessors.<Bean>shortGetter(LOOKUP, Bean.class.getDeclaredMethod("getShort")).applyAsShort(bean))
+                .isEqualTo((short) 2);
+        assertThat(Accessors.<Bean>byteGetter(LOOKUP, Bean.class.getDeclaredMethod("getByte")).applyAsByte(bean))
+                .isEqualTo((byte) 3);
+        assertThat(Accessors.<Bean>charGetter(LOOKUP, Bean.class.getDeclaredMethod("getChar")).applyAsChar(bean))
+                .isEqualTo('c');
+        assertThat(bean.booleanValue)
+                .isTrue();
+    }
+
+    @Test
+    void fieldAccessorsAccessFields() throws Exception {
+        final Bean bean = new Bean();
+        Accessors.<Bean>floatSetter(LOOKUP, Bean.class.getDeclaredField("floatValue"))
+                .accept(bean, 2.5f);
+        Accessors.<Bean>shortSetter(LOOKUP, Bean.class.getDeclaredField("shortValue"))
+                .accept(bean, (short) 4);
+        Accessors.<Bean>byteSetter(LOOKUP, Bean.class.getDeclaredField("byteValue"))
+                .accept(bean, (byte) 5);
+        Accessors.<Bean>charSetter(LOOKUP, Bean.class.getDeclaredField("charValue"))
+                .accept(bean, 'd');
+        Accessors.<Bean>booleanSetter(LOOKUP, Bean.class.getDeclaredField("booleanValue"))
+                .accept(bean, true);
+        assertThat(Accessors.<Bean>floatGetter(LOOKUP, Bean.class.getDeclaredField("floatValue")).applyAsFloat(bean))
+                .isEqualTo(2.5f);
+        assertThat(Accessors.<Bean>shortGetter(LOOKUP, Bean.class.getDeclaredField("shortValue")).applyAsShort(bean))
+                .isEqualTo((short) 4);
+        assertThat(Accessors.<Bean>byteGetter(LOOKUP, Bean.class.getDeclaredField("byteValue")).applyAsByte(bean))
+                .isEqualTo((byte) 5);
+        assertThat(Accessors.<Bean>charGetter(LOOKUP, Bean.class.getDeclaredField("charValue")).applyAsChar(bean))
+                .isEqualTo('d');
+        assertThat(bean.getBoolean())
+                .isTrue();
+    }
+
+    /**
+     * Bean with primitive properties.
+     */
+    @SuppressWarnings("unused")
+    private static final class Bean {
+        private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+        private static final byte CONSTANT = 1;
+        private float floatValue;
+        private short shortValue;
+        private byte byteValue;
+        private char charValue;
+        private boolean booleanValue;
+
+        private float getFloat() {
+            return this.floatValue;
+        }
+
+        private void setFloat(final float value) {
+            this.floatValue = value;
+        }
+
+        private short getShort() {
+            return this.shortValue;
+        }
+
+        private void setShort(final short value) {
+            this.shortValue = value;
+        }
+
+        private byte getByte() {
+            return this.byteValue;
+        }
+
+        private void setByte(final byte value) {
+            this.byteValue = value;
+        }
+
+        private char getChar() {
+            return this.charValue;
+        }
+
+        private void setChar(final char value) {
+            this.charValue = value;
+        }
+
+        private boolean getBoolean() {
+            return this.booleanValue;
+        }
+
+        private void setBoolean(final boolean value) {
+            this.booleanValue = value;
+        }
+    }
+}
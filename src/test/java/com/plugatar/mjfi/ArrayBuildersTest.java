@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ArrayBuilders}.
+ */
+final class ArrayBuildersTest {
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    @Test
+    void newCapacityMethodDoublesCapacity() {
+        assertThat(ArrayBuilders.newCapacity(16, 17))
+                .isEqualTo(32);
+        assertThat(ArrayBuilders.newCapacity(16, 100))
+                .isEqualTo(100);
+        assertThat(ArrayBuilders.newCapacity(0, 1))
+                .isEqualTo(16);
+    }
+
+    @Test
+    void newCapacityMethodGrowsToMaxCapacityNearMaxCapacity() {
+        assertThat(ArrayBuilders.newCapacity(Integer.MAX_VALUE / 2 + 1, Integer.MAX_VALUE / 2 + 2))
+                .isEqualTo(MAX_CAPACITY);
+        assertThat(ArrayBuilders.newCapacity(MAX_CAPACITY - 1, MAX_CAPACITY))
+                .isEqualTo(MAX_CAPACITY);
+    }
+
+    @Test
+    void newCapacityMethodThrowsOOMEForTooLargeCapacity() {
+        assertThatCode(() -> ArrayBuilders.newCapacity(MAX_CAPACITY, MAX_CAPACITY + 1))
+                .isInstanceOf(OutOfMemoryError.class);
+        assertThatCode(() -> ArrayBuilders.newCapacity(16, Integer.MIN_VALUE))
+                .isInstanceOf(OutOfMemoryError.class);
+    }
+
+    @Test
+    void addAllMethodAppendsValues() {
+        final ArrayBuilders.OfFloat left = new ArrayBuilders.OfFloat();
+        final ArrayBuilders.OfFloat right = new ArrayBuilders.OfFloat();
+        for (int idx = 0; idx < 20; ++idx) {
+            left.add(idx);
+            right.add(-idx);
+        }
+        assertThat(left.addAll(right).size())
+                .isEqualTo(40);
+        assertThat(left.toArray())
+                .hasSize(40)
+                .startsWith(0.0f, 1.0f)
+                .endsWith(-18.0f, -19.0f);
+    }
+}
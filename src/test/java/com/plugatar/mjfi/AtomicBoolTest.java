@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for {@link AtomicBool}.
+ */
+final class AtomicBoolTest {
+
+    @Test
+    void defaultCtorInitialValue() {
+        final AtomicBool atomic = new AtomicBool();
+        assertThat(atomic.get())
+                .isEqualTo(false);
+    }
+
+    @Test
+    void getAndSetMethods() {
+        final AtomicBool atomic = new AtomicBool(true);
+        assertThat(atomic.getAndSet(false))
+                .isEqualTo(true);
+        atomic.set(true);
+        assertThat(atomic.get())
+                .isEqualTo(true);
+        atomic.lazySet(false);
+        assertThat(atomic.get())
+                .isEqualTo(false);
+    }
+
+    @Test
+    void compareAndSetMethodUpdatesOnlyExpectedValue() {
+        final AtomicBool atomic = new AtomicBool(true);
+        assertThat(atomic.compareAndSet(false, false))
+                .isFalse();
+        assertThat(atomic.get())
+                .isEqualTo(true);
+        assertThat(atomic.compareAndSet(true, false))
+                .isTrue();
+        assertThat(atomic.get())
+                .isEqualTo(false);
+    }
+
+    @Test
+    void updateMethodsReturnCorrectValues() {
+        final AtomicBool atomic = new AtomicBool(true);
+        assertThat(atomic.getAndUpdate(value -> !value))
+                .isEqualTo(true);
+        assertThat(atomic.get())
+                .isEqualTo(false);
+        atomic.set(true);
+        assertThat(atomic.updateAndGet(value -> !value))
+                .isEqualTo(false);
+    }
+
+    @Test
+    void accumulateMethodsReturnCorrectValues() {
+        final AtomicBool atomic = new AtomicBool(true);
+        assertThat(atomic.getAndAccumulate(false, (left, right) -> left && right))
+                .isEqualTo(true);
+        assertThat(atomic.get())
+                .isEqualTo(false);
+        atomic.set(true);
+        assertThat(atomic.accumulateAndGet(false, (left, right) -> left && right))
+                .isEqualTo(false);
+    }
+}
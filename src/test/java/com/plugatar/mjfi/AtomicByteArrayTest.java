@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link AtomicByteArray}.
+ */
+final class AtomicByteArrayTest {
+
+    @Test
+    void arrayCtorCopiesElements() {
+        final AtomicByteArray array = new AtomicByteArray(new byte[]{(byte) 1, (byte) -2, (byte) 3});
+        assertThat(array.length())
+                .isEqualTo(3);
+        assertThat(array.toString())
+                .isEqualTo("[1, -2, 3]");
+    }
+
+    @Test
+    void getMethodThrowsIOOBEForIndexOutOfBounds() {
+        final AtomicByteArray array = new AtomicByteArray(3);
+        assertThatCode(() -> array.get(3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> array.get(-1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void setMethodDoesNotChangeNeighbours() {
+        final AtomicByteArray array = new AtomicByteArray(5);
+        array.set(1, (byte) -1);
+        array.set(2, (byte) 7);
+        assertThat(array.get(0))
+                .isEqualTo((byte) 0);
+        assertThat(array.get(1))
+                .isEqualTo((byte) -1);
+        assertThat(array.get(2))
+                .isEqualTo((byte) 7);
+        assertThat(array.get(3))
+                .isEqualTo((byte) 0);
+    }
+
+    @Test
+    void compareAndSetMethodUpdatesOnlyExpectedValue() {
+        final AtomicByteArray array = new AtomicByteArray(4);
+        array.set(2, (byte) 5);
+        assertThat(array.compareAndSet(2, (byte) 6, (byte) 7))
+                .isFalse();
+        assertThat(array.compareAndSet(2, (byte) 5, (byte) 7))
+                .isTrue();
+        assertThat(array.get(2))
+                .isEqualTo((byte) 7);
+    }
+
+    @Test
+    void functionalUpdateMethodsReturnCorrectValues() {
+        final AtomicByteArray array = new AtomicByteArray(3);
+        array.set(1, (byte) 10);
+        assertThat(array.getAndUpdate(1, value -> (byte) (value * 2)))
+                .isEqualTo((byte) 10);
+        assertThat(array.updateAndGet(1, value -> (byte) (value + 1)))
+                .isEqualTo((byte) 21);
+        assertThat(array.getAndAccumulate(1, (byte) 30, (left, right) -> (byte) Math.max(left, right)))
+                .isEqualTo((byte) 21);
+        assertThat(array.accumulateAndGet(1, (byte) 3, (left, right) -> (byte) (left - right)))
+                .isEqualTo((byte) 27);
+        assertThat(array.getAndAdd(1, (byte) 1))
+                .isEqualTo((byte) 27);
+        assertThat(array.addAndGet(1, (byte) 1))
+                .isEqualTo((byte) 29);
+    }
+
+    @Test
+    void concurrentUpdatesOfNeighboursAreNotLost() throws InterruptedException {
+        final int threads = 4;
+        final int increments = 100;
+        final AtomicByteArray array = new AtomicByteArray(threads);
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            final int index = idx;
+            new Thread(() -> {
+                for (int inc = 0; inc < increments; ++inc) {
+                    array.updateAndGet(index, value -> (byte) (value + 1));
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+        for (int idx = 0; idx < threads; ++idx) {
+            assertThat(array.get(idx))
+                    .isEqualTo((byte) increments);
+        }
+    }
+}
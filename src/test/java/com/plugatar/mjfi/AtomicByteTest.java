@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for {@link AtomicByte}.
+ */
+final class AtomicByteTest {
+
+    @Test
+    void defaultCtorInitialValue() {
+        final AtomicByte atomic = new AtomicByte();
+        assertThat(atomic.get())
+                .isEqualTo((byte) 0);
+    }
+
+    @Test
+    void getAndSetMethods() {
+        final AtomicByte atomic = new AtomicByte((byte) 15);
+        assertThat(atomic.getAndSet((byte) 20))
+                .isEqualTo((byte) 15);
+        atomic.set((byte) 15);
+        assertThat(atomic.get())
+                .isEqualTo((byte) 15);
+        atomic.lazySet((byte) 20);
+        assertThat(atomic.get())
+                .isEqualTo((byte) 20);
+    }
+
+    @Test
+    void compareAndSetMethodUpdatesOnlyExpectedValue() {
+        final AtomicByte atomic = new AtomicByte((byte) 15);
+        assertThat(atomic.compareAndSet((byte) 20, (byte) 20))
+                .isFalse();
+        assertThat(atomic.get())
+                .isEqualTo((byte) 15);
+        assertThat(atomic.compareAndSet((byte) 15, (byte) 20))
+                .isTrue();
+        assertThat(atomic.get())
+                .isEqualTo((byte) 20);
+    }
+
+    @Test
+    void updateMethodsReturnCorrectValues() {
+        final AtomicByte atomic = new AtomicByte((byte) 15);
+        assertThat(atomic.getAndUpdate(value -> (byte) (value * 2)))
+                .isEqualTo((byte) 15);
+        assertThat(atomic.get())
+                .isEqualTo((byte) 30);
+        atomic.set((byte) 15);
+        assertThat(atomic.updateAndGet(value -> (byte) (value * 2)))
+                .isEqualTo((byte) 30);
+    }
+
+    @Test
+    void accumulateMethodsReturnCorrectValues() {
+        final AtomicByte atomic = new AtomicByte((byte) 15);
+        assertThat(atomic.getAndAccumulate((byte) 20, (left, right) -> (byte) Math.max(left, right)))
+                .isEqualTo((byte) 15);
+        assertThat(atomic.get())
+                .isEqualTo((byte) 20);
+        atomic.set((byte) 15);
+        assertThat(atomic.accumulateAndGet((byte) 20, (left, right) -> (byte) Math.max(left, right)))
+                .isEqualTo((byte) 20);
+    }
+
+    @Test
+    void addMethodsReturnCorrectValues() {
+        final AtomicByte atomic = new AtomicByte((byte) 10);
+        assertThat(atomic.getAndAdd((byte) 5))
+                .isEqualTo((byte) 10);
+        assertThat(atomic.addAndGet((byte) 5))
+                .isEqualTo((byte) 20);
+    }
+
+    @Test
+    void concurrentUpdatesAreNotLost() throws InterruptedException {
+        final AtomicByte atomic = new AtomicByte();
+        final int threads = 4;
+        final int increments = 25;
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            new Thread(() -> {
+                for (int inc = 0; inc < increments; ++inc) {
+                    atomic.updateAndGet(value -> (byte) (value + 1));
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+        assertThat(atomic.intValue())
+                .isEqualTo(threads * increments);
+    }
+}
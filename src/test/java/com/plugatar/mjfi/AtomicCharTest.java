@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for {@link AtomicChar}.
+ */
+final class AtomicCharTest {
+
+    @Test
+    void defaultCtorInitialValue() {
+        final AtomicChar atomic = new AtomicChar();
+        assertThat(atomic.get())
+                .isEqualTo((char) 0);
+    }
+
+    @Test
+    void getAndSetMethods() {
+        final AtomicChar atomic = new AtomicChar('a');
+        assertThat(atomic.getAndSet('z'))
+                .isEqualTo('a');
+        atomic.set('a');
+        assertThat(atomic.get())
+                .isEqualTo('a');
+        atomic.lazySet('z');
+        assertThat(atomic.get())
+                .isEqualTo('z');
+    }
+
+    @Test
+    void compareAndSetMethodUpdatesOnlyExpectedValue() {
+        final AtomicChar atomic = new AtomicChar('a');
+        assertThat(atomic.compareAndSet('z', 'z'))
+                .isFalse();
+        assertThat(atomic.get())
+                .isEqualTo('a');
+        assertThat(atomic.compareAndSet('a', 'z'))
+                .isTrue();
+        assertThat(atomic.get())
+                .isEqualTo('z');
+    }
+
+    @Test
+    void updateMethodsReturnCorrectValues() {
+        final AtomicChar atomic = new AtomicChar('a');
+        assertThat(atomic.getAndUpdate(value -> Character.toUpperCase(value)))
+                .isEqualTo('a');
+        assertThat(atomic.get())
+                .isEqualTo('A');
+        atomic.set('a');
+        assertThat(atomic.updateAndGet(value -> Character.toUpperCase(value)))
+                .isEqualTo('A');
+    }
+
+    @Test
+    void accumulateMethodsReturnCorrectValues() {
+        final AtomicChar atomic = new AtomicChar('a');
+        assertThat(atomic.getAndAccumulate('z', (left, right) -> (char) Math.max(left, right)))
+                .isEqualTo('a');
+        assertThat(atomic.get())
+                .isEqualTo('z');
+        atomic.set('a');
+        assertThat(atomic.accumulateAndGet('z', (left, right) -> (char) Math.max(left, right)))
+                .isEqualTo('z');
+    }
+}
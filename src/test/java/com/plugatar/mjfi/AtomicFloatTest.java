@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for {@link AtomicFloat}.
+ */
+final class AtomicFloatTest {
+
+    @Test
+    void defaultCtorInitialValue() {
+        final AtomicFloat atomic = new AtomicFloat();
+        assertThat(atomic.get())
+                .isEqualTo(0.0f);
+    }
+
+    @Test
+    void getAndSetMethods() {
+        final AtomicFloat atomic = new AtomicFloat(1.5f);
+        assertThat(atomic.getAndSet(2.5f))
+                .isEqualTo(1.5f);
+        atomic.set(1.5f);
+        assertThat(atomic.get())
+                .isEqualTo(1.5f);
+        atomic.lazySet(2.5f);
+        assertThat(atomic.get())
+                .isEqualTo(2.5f);
+    }
+
+    @Test
+    void compareAndSetMethodUpdatesOnlyExpectedValue() {
+        final AtomicFloat atomic = new AtomicFloat(1.5f);
+        assertThat(atomic.compareAndSet(2.5f, 2.5f))
+                .isFalse();
+        assertThat(atomic.get())
+                .isEqualTo(1.5f);
+        assertThat(atomic.compareAndSet(1.5f, 2.5f))
+                .isTrue();
+        assertThat(atomic.get())
+                .isEqualTo(2.5f);
+    }
+
+    @Test
+    void updateMethodsReturnCorrectValues() {
+        final AtomicFloat atomic = new AtomicFloat(1.5f);
+        assertThat(atomic.getAndUpdate(value -> value * 2))
+                .isEqualTo(1.5f);
+        assertThat(atomic.get())
+                .isEqualTo(3.0f);
+        atomic.set(1.5f);
+        assertThat(atomic.updateAndGet(value -> value * 2))
+                .isEqualTo(3.0f);
+    }
+
+    @Test
+    void accumulateMethodsReturnCorrectValues() {
+        final AtomicFloat atomic = new AtomicFloat(1.5f);
+        assertThat(atomic.getAndAccumulate(2.5f, (left, right) -> Math.max(left, right)))
+                .isEqualTo(1.5f);
+        assertThat(atomic.get())
+                .isEqualTo(2.5f);
+        atomic.set(1.5f);
+        assertThat(atomic.accumulateAndGet(2.5f, (left, right) -> Math.max(left, right)))
+                .isEqualTo(2.5f);
+    }
+
+    @Test
+    void addMethodsReturnCorrectValues() {
+        final AtomicFloat atomic = new AtomicFloat((float) 10);
+        assertThat(atomic.getAndAdd((float) 5))
+                .isEqualTo((float) 10);
+        assertThat(atomic.addAndGet((float) 5))
+                .isEqualTo((float) 20);
+    }
+
+    @Test
+    void concurrentUpdatesAreNotLost() throws InterruptedException {
+        final AtomicFloat atomic = new AtomicFloat();
+        final int threads = 4;
+        final int increments = 25;
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            new Thread(() -> {
+                for (int inc = 0; inc < increments; ++inc) {
+                    atomic.updateAndGet(value -> (float) (value + 1));
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+        assertThat(atomic.intValue())
+                .isEqualTo(threads * increments);
+    }
+
+    @Test
+    void compareAndSetMethodComparesBitwise() {
+        final AtomicFloat atomic = new AtomicFloat(Float.NaN);
+        assertThat(atomic.compareAndSet(Float.NaN, 1.0f))
+                .isTrue();
+        atomic.set(0.0f);
+        assertThat(atomic.compareAndSet(-0.0f, 1.0f))
+                .isFalse();
+    }
+}
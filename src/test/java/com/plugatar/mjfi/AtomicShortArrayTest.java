@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link AtomicShortArray}.
+ */
+final class AtomicShortArrayTest {
+
+    @Test
+    void arrayCtorCopiesElements() {
+        final AtomicShortArray array = new AtomicShortArray(new short[]{(short) 1, (short) -2, (short) 3});
+        assertThat(array.length())
+                .isEqualTo(3);
+        assertThat(array.toString())
+                .isEqualTo("[1, -2, 3]");
+    }
+
+    @Test
+    void getMethodThrowsIOOBEForIndexOutOfBounds() {
+        final AtomicShortArray array = new AtomicShortArray(3);
+        assertThatCode(() -> array.get(3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> array.get(-1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void setMethodDoesNotChangeNeighbours() {
+        final AtomicShortArray array = new AtomicShortArray(5);
+        array.set(1, (short) -1);
+        array.set(2, (short) 7);
+        assertThat(array.get(0))
+                .isEqualTo((short) 0);
+        assertThat(array.get(1))
+                .isEqualTo((short) -1);
+        assertThat(array.get(2))
+                .isEqualTo((short) 7);
+        assertThat(array.get(3))
+                .isEqualTo((short) 0);
+    }
+
+    @Test
+    void compareAndSetMethodUpdatesOnlyExpectedValue() {
+        final AtomicShortArray array = new AtomicShortArray(4);
+        array.set(2, (short) 5);
+        assertThat(array.compareAndSet(2, (short) 6, (short) 7))
+                .isFalse();
+        assertThat(array.compareAndSet(2, (short) 5, (short) 7))
+                .isTrue();
+        assertThat(array.get(2))
+                .isEqualTo((short) 7);
+    }
+
+    @Test
+    void functionalUpdateMethodsReturnCorrectValues() {
+        final AtomicShortArray array = new AtomicShortArray(3);
+        array.set(1, (short) 10);
+        assertThat(array.getAndUpdate(1, value -> (short) (value * 2)))
+                .isEqualTo((short) 10);
+        assertThat(array.updateAndGet(1, value -> (short) (value + 1)))
+                .isEqualTo((short) 21);
+        assertThat(array.getAndAccumulate(1, (short) 30, (left, right) -> (short) Math.max(left, right)))
+                .isEqualTo((short) 21);
+        assertThat(array.accumulateAndGet(1, (short) 3, (left, right) -> (short) (left - right)))
+                .isEqualTo((short) 27);
+        assertThat(array.getAndAdd(1, (short) 1))
+                .isEqualTo((short) 27);
+        assertThat(array.addAndGet(1, (short) 1))
+                .isEqualTo((short) 29);
+    }
+
+    @Test
+    void concurrentUpdatesOfNeighboursAreNotLost() throws InterruptedException {
+        final int threads = 4;
+        final int increments = 100;
+        final AtomicShortArray array = new AtomicShortArray(threads);
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            final int index = idx;
+            new Thread(() -> {
+                for (int inc = 0; inc < increments; ++inc) {
+                    array.updateAndGet(index, value -> (short) (value + 1));
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+        for (int idx = 0; idx < threads; ++idx) {
+            assertThat(array.get(idx))
+                    .isEqualTo((short) increments);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for {@link AtomicShort}.
+ */
+final class AtomicShortTest {
+
+    @Test
+    void defaultCtorInitialValue() {
+        final AtomicShort atomic = new AtomicShort();
+        assertThat(atomic.get())
+                .isEqualTo((short) 0);
+    }
+
+    @Test
+    void getAndSetMethods() {
+        final AtomicShort atomic = new AtomicShort((short) 15);
+        assertThat(atomic.getAndSet((short) 20))
+                .isEqualTo((short) 15);
+        atomic.set((short) 15);
+        assertThat(atomic.get())
+                .isEqualTo((short) 15);
+        atomic.lazySet((short) 20);
+        assertThat(atomic.get())
+                .isEqualTo((short) 20);
+    }
+
+    @Test
+    void compareAndSetMethodUpdatesOnlyExpectedValue() {
+        final AtomicShort atomic = new AtomicShort((short) 15);
+        assertThat(atomic.compareAndSet((short) 20, (short) 20))
+                .isFalse();
+        assertThat(atomic.get())
+                .isEqualTo((short) 15);
+        assertThat(atomic.compareAndSet((short) 15, (short) 20))
+                .isTrue();
+        assertThat(atomic.get())
+                .isEqualTo((short) 20);
+    }
+
+    @Test
+    void updateMethodsReturnCorrectValues() {
+        final AtomicShort atomic = new AtomicShort((short) 15);
+        assertThat(atomic.getAndUpdate(value -> (short) (value * 2)))
+                .isEqualTo((short) 15);
+        assertThat(atomic.get())
+                .isEqualTo((short) 30);
+        atomic.set((short) 15);
+        assertThat(atomic.updateAndGet(value -> (short) (value * 2)))
+                .isEqualTo((short) 30);
+    }
+
+    @Test
+    void accumulateMethodsReturnCorrectValues() {
+        final AtomicShort atomic = new AtomicShort((short) 15);
+        assertThat(atomic.getAndAccumulate((short) 20, (left, right) -> (short) Math.max(left, right)))
+                .isEqualTo((short) 15);
+        assertThat(atomic.get())
+                .isEqualTo((short) 20);
+        atomic.set((short) 15);
+        assertThat(atomic.accumulateAndGet((short) 20, (left, right) -> (short) Math.max(left, right)))
+                .isEqualTo((short) 20);
+    }
+
+    @Test
+    void addMethodsReturnCorrectValues() {
+        final AtomicShort atomic = new AtomicShort((short) 10);
+        assertThat(atomic.getAndAdd((short) 5))
+                .isEqualTo((short) 10);
+        assertThat(atomic.addAndGet((short) 5))
+                .isEqualTo((short) 20);
+    }
+
+    @Test
+    void concurrentUpdatesAreNotLost() throws InterruptedException {
+        final AtomicShort atomic = new AtomicShort();
+        final int threads = 4;
+        final int increments = 25;
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            new Thread(() -> {
+                for (int inc = 0; inc < increments; ++inc) {
+                    atomic.updateAndGet(value -> (short) (value + 1));
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+        assertThat(atomic.intValue())
+                .isEqualTo(threads * increments);
+    }
+}
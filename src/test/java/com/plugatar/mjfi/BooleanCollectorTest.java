@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link BooleanCollector}.
+ */
+final class BooleanCollectorTest {
+
+    @Test
+    void ofMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> BooleanCollector.<List<Boolean>>of(null, List::add, (l, r) -> l))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> BooleanCollector.<List<Boolean>>of(ArrayList::new, null, (l, r) -> l))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> BooleanCollector.<List<Boolean>>of(ArrayList::new, List::add, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> BooleanCollector.<List<Boolean>, Integer>of(ArrayList::new, List::add, (l, r) -> l, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ofMethodReturnsCollectorWithIdentityFinisher() {
+        final List<Boolean> container = new ArrayList<>();
+        final BooleanCollector<List<Boolean>, List<Boolean>> collector = BooleanCollector.of(
+                () -> container,
+                List::add,
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                }
+        );
+        final List<Boolean> result = collector.supplier().get();
+        collector.accumulator().accept(result, true);
+        final List<Boolean> other = new ArrayList<>();
+        other.add(false);
+        assertThat(collector.combiner().apply(result, other))
+                .isSameAs(container)
+                .containsExactly(true, false);
+        assertThat(collector.finisher().apply(container))
+                .isSameAs(container);
+    }
+
+    @Test
+    void ofMethodReturnsCollectorWithGivenFinisher() {
+        final BooleanCollector<List<Boolean>, Integer> collector = BooleanCollector.of(
+                ArrayList::new,
+                List::add,
+                (left, right) -> left,
+                List::size
+        );
+        final List<Boolean> container = collector.supplier().get();
+        collector.accumulator().accept(container, true);
+        assertThat(collector.finisher().apply(container))
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link Buffers}.
+ */
+final class BuffersTest {
+
+    private static FloatBuffer[] floatBuffers() {
+        final FloatBuffer heap = FloatBuffer.wrap(new float[12]);
+        final FloatBuffer offset = FloatBuffer.wrap(new float[16], 2, 14).slice();
+        final FloatBuffer direct = ByteBuffer.allocateDirect(48).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        for (final FloatBuffer buffer : new FloatBuffer[]{heap, offset, direct}) {
+            for (int idx = 0; idx < 12; ++idx) {
+                buffer.put(idx, idx * 1.5f);
+            }
+            buffer.position(2).limit(10);
+        }
+        return new FloatBuffer[]{heap, offset, direct};
+    }
+
+    @Test
+    void floatMethodsThrowExceptionsForIllegalArgs() {
+        final FloatBuffer buffer = FloatBuffer.allocate(4);
+        final FloatBuffer readOnly = buffer.asReadOnlyBuffer();
+        assertThatCode(() -> Buffers.replaceAll((FloatBuffer) null, value -> value))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.forEach(buffer, (FloatConsumer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.indexOf((FloatBuffer) null, (FloatPredicate) value -> true))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.transform(buffer, null, (FloatUnaryOperator) value -> value))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.replaceAll(readOnly, (FloatUnaryOperator) value -> value))
+                .isInstanceOf(ReadOnlyBufferException.class);
+        assertThatCode(() -> Buffers.transform(buffer, readOnly, (FloatUnaryOperator) value -> value))
+                .isInstanceOf(ReadOnlyBufferException.class);
+        assertThatCode(() -> Buffers.transform(buffer, FloatBuffer.allocate(3), (FloatUnaryOperator) value -> value))
+                .isInstanceOf(BufferOverflowException.class);
+    }
+
+    @Test
+    void floatReplaceAllMethodReplacesRemainingValues() {
+        for (final FloatBuffer buffer : floatBuffers()) {
+            Buffers.replaceAll(buffer, value -> value * 2.0f + 1.0f);
+            assertThat(buffer.position()).isEqualTo(2);
+            assertThat(buffer.limit()).isEqualTo(10);
+            buffer.limit(12);
+            for (int idx = 0; idx < 12; ++idx) {
+                final float value = idx * 1.5f;
+                assertThat(buffer.get(idx)).isEqualTo(idx >= 2 && idx < 10 ? value * 2.0f + 1.0f : value);
+            }
+        }
+    }
+
+    @Test
+    void floatForEachAndIndexOfMethodsProcessRemainingValues() {
+        for (final FloatBuffer buffer : floatBuffers()) {
+            final FloatBuffer readOnly = buffer.asReadOnlyBuffer();
+            final List<Float> values = new ArrayList<>();
+            Buffers.forEach(readOnly, values::add);
+            final List<Float> expected = new ArrayList<>();
+            for (int idx = 2; idx < 10; ++idx) {
+                expected.add(buffer.get(idx));
+            }
+            assertThat(values).isEqualTo(expected);
+            assertThat(Buffers.indexOf(buffer, (FloatPredicate) value -> value == buffer.get(5))).isEqualTo(3);
+            assertThat(Buffers.indexOf(readOnly, (FloatPredicate) value -> value == buffer.get(5))).isEqualTo(3);
+            assertThat(Buffers.indexOf(buffer, (FloatPredicate) value -> value == buffer.get(0))).isEqualTo(-1);
+            assertThat(readOnly.position()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void floatTransformMethodWritesIntoDestination() {
+        for (final FloatBuffer src : floatBuffers()) {
+            for (final FloatBuffer dst : floatBuffers()) {
+                dst.limit(12).position(4);
+                Buffers.transform(src.asReadOnlyBuffer(), dst, value -> value * 2.0f + 1.0f);
+                assertThat(dst.position()).isEqualTo(4);
+                for (int idx = 0; idx < 8; ++idx) {
+                    final float value = src.get(2 + idx);
+                    assertThat(dst.get(4 + idx)).isEqualTo(value * 2.0f + 1.0f);
+                }
+            }
+        }
+    }
+
+    private static ShortBuffer[] shortBuffers() {
+        final ShortBuffer heap = ShortBuffer.wrap(new short[12]);
+        final ShortBuffer offset = ShortBuffer.wrap(new short[16], 2, 14).slice();
+        final ShortBuffer direct = ByteBuffer.allocateDirect(24).order(ByteOrder.nativeOrder()).asShortBuffer();
+        for (final ShortBuffer buffer : new ShortBuffer[]{heap, offset, direct}) {
+            for (int idx = 0; idx < 12; ++idx) {
+                buffer.put(idx, (short) (idx * 100));
+            }
+            buffer.position(2).limit(10);
+        }
+        return new ShortBuffer[]{heap, offset, direct};
+    }
+
+    @Test
+    void shortMethodsThrowExceptionsForIllegalArgs() {
+        final ShortBuffer buffer = ShortBuffer.allocate(4);
+        final ShortBuffer readOnly = buffer.asReadOnlyBuffer();
+        assertThatCode(() -> Buffers.replaceAll((ShortBuffer) null, value -> value))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.forEach(buffer, (ShortConsumer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.indexOf((ShortBuffer) null, (ShortPredicate) value -> true))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.transform(buffer, null, (ShortUnaryOperator) value -> value))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.replaceAll(readOnly, (ShortUnaryOperator) value -> value))
+                .isInstanceOf(ReadOnlyBufferException.class);
+        assertThatCode(() -> Buffers.transform(buffer, readOnly, (ShortUnaryOperator) value -> value))
+                .isInstanceOf(ReadOnlyBufferException.class);
+        assertThatCode(() -> Buffers.transform(buffer, ShortBuffer.allocate(3), (ShortUnaryOperator) value -> value))
+                .isInstanceOf(BufferOverflowException.class);
+    }
+
+    @Test
+    void shortReplaceAllMethodReplacesRemainingValues() {
+        for (final ShortBuffer buffer : shortBuffers()) {
+            Buffers.replaceAll(buffer, value -> (short) (value * 3 + 1));
+            assertThat(buffer.position()).isEqualTo(2);
+            assertThat(buffer.limit()).isEqualTo(10);
+            buffer.limit(12);
+            for (int idx = 0; idx < 12; ++idx) {
+                final short value = (short) (idx * 100);
+                assertThat(buffer.get(idx)).isEqualTo(idx >= 2 && idx < 10 ? (short) (value * 3 + 1) : value);
+            }
+        }
+    }
+
+    @Test
+    void shortForEachAndIndexOfMethodsProcessRemainingValues() {
+        for (final ShortBuffer buffer : shortBuffers()) {
+            final ShortBuffer readOnly = buffer.asReadOnlyBuffer();
+            final List<Short> values = new ArrayList<>();
+            Buffers.forEach(readOnly, values::add);
+            final List<Short> expected = new ArrayList<>();
+            for (int idx = 2; idx < 10; ++idx) {
+                expected.add(buffer.get(idx));
+            }
+            assertThat(values).isEqualTo(expected);
+            assertThat(Buffers.indexOf(buffer, (ShortPredicate) value -> value == buffer.get(5))).isEqualTo(3);
+            assertThat(Buffers.indexOf(readOnly, (ShortPredicate) value -> value == buffer.get(5))).isEqualTo(3);
+            assertThat(Buffers.indexOf(buffer, (ShortPredicate) value -> value == buffer.get(0))).isEqualTo(-1);
+            assertThat(readOnly.position()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shortTransformMethodWritesIntoDestination() {
+        for (final ShortBuffer src : shortBuffers()) {
+            for (final ShortBuffer dst : shortBuffers()) {
+                dst.limit(12).position(4);
+                Buffers.transform(src.asReadOnlyBuffer(), dst, value -> (short) (value * 3 + 1));
+                assertThat(dst.position()).isEqualTo(4);
+                for (int idx = 0; idx < 8; ++idx) {
+                    final short value = src.get(2 + idx);
+                    assertThat(dst.get(4 + idx)).isEqualTo((short) (value * 3 + 1));
+                }
+            }
+        }
+    }
+
+    private static ByteBuffer[] byteBuffers() {
+        final ByteBuffer heap = ByteBuffer.wrap(new byte[12]);
+        final ByteBuffer offset = ByteBuffer.wrap(new byte[16], 2, 14).slice();
+        final ByteBuffer direct = ByteBuffer.allocateDirect(12);
+        for (final ByteBuffer buffer : new ByteBuffer[]{heap, offset, direct}) {
+            for (int idx = 0; idx < 12; ++idx) {
+                buffer.put(idx, (byte) (idx * 20));
+            }
+            buffer.position(2).limit(10);
+        }
+        return new ByteBuffer[]{heap, offset, direct};
+    }
+
+    @Test
+    void byteMethodsThrowExceptionsForIllegalArgs() {
+        final ByteBuffer buffer = ByteBuffer.allocate(4);
+        final ByteBuffer readOnly = buffer.asReadOnlyBuffer();
+        assertThatCode(() -> Buffers.replaceAll((ByteBuffer) null, value -> value))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.forEach(buffer, (ByteConsumer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.indexOf((ByteBuffer) null, (BytePredicate) value -> true))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.transform(buffer, null, (ByteUnaryOperator) value -> value))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.replaceAll(readOnly, (ByteUnaryOperator) value -> value))
+                .isInstanceOf(ReadOnlyBufferException.class);
+        assertThatCode(() -> Buffers.transform(buffer, readOnly, (ByteUnaryOperator) value -> value))
+                .isInstanceOf(ReadOnlyBufferException.class);
+        assertThatCode(() -> Buffers.transform(buffer, ByteBuffer.allocate(3), (ByteUnaryOperator) value -> value))
+                .isInstanceOf(BufferOverflowException.class);
+    }
+
+    @Test
+    void byteReplaceAllMethodReplacesRemainingValues() {
+        for (final ByteBuffer buffer : byteBuffers()) {
+            Buffers.replaceAll(buffer, value -> (byte) (value * 3 + 1));
+            assertThat(buffer.position()).isEqualTo(2);
+            assertThat(buffer.limit()).isEqualTo(10);
+            buffer.limit(12);
+            for (int idx = 0; idx < 12; ++idx) {
+                final byte value = (byte) (idx * 20);
+                assertThat(buffer.get(idx)).isEqualTo(idx >= 2 && idx < 10 ? (byte) (value * 3 + 1) : value);
+            }
+        }
+    }
+
+    @Test
+    void byteForEachAndIndexOfMethodsProcessRemainingValues() {
+        for (final ByteBuffer buffer : byteBuffers()) {
+            final ByteBuffer readOnly = buffer.asReadOnlyBuffer();
+            final List<Byte> values = new ArrayList<>();
+            Buffers.forEach(readOnly, values::add);
+            final List<Byte> expected = new ArrayList<>();
+            for (int idx = 2; idx < 10; ++idx) {
+                expected.add(buffer.get(idx));
+            }
+            assertThat(values).isEqualTo(expected);
+            assertThat(Buffers.indexOf(buffer, (BytePredicate) value -> value == buffer.get(5))).isEqualTo(3);
+            assertThat(Buffers.indexOf(readOnly, (BytePredicate) value -> value == buffer.get(5))).isEqualTo(3);
+            assertThat(Buffers.indexOf(buffer, (BytePredicate) value -> value == buffer.get(0))).isEqualTo(-1);
+            assertThat(readOnly.position()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void byteTransformMethodWritesIntoDestination() {
+        for (final ByteBuffer src : byteBuffers()) {
+            for (final ByteBuffer dst : byteBuffers()) {
+                dst.limit(12).position(4);
+                Buffers.transform(src.asReadOnlyBuffer(), dst, value -> (byte) (value * 3 + 1));
+                assertThat(dst.position()).isEqualTo(4);
+                for (int idx = 0; idx < 8; ++idx) {
+                    final byte value = src.get(2 + idx);
+                    assertThat(dst.get(4 + idx)).isEqualTo((byte) (value * 3 + 1));
+                }
+            }
+        }
+    }
+
+    private static CharBuffer[] charBuffers() {
+        final CharBuffer heap = CharBuffer.wrap(new char[12]);
+        final CharBuffer offset = CharBuffer.wrap(new char[16], 2, 14).slice();
+        final CharBuffer direct = ByteBuffer.allocateDirect(24).order(ByteOrder.nativeOrder()).asCharBuffer();
+        for (final CharBuffer buffer : new CharBuffer[]{heap, offset, direct}) {
+            for (int idx = 0; idx < 12; ++idx) {
+                buffer.put(idx, (char) ('a' + idx));
+            }
+            buffer.position(2).limit(10);
+        }
+        return new CharBuffer[]{heap, offset, direct};
+    }
+
+    @Test
+    void charMethodsThrowExceptionsForIllegalArgs() {
+        final CharBuffer buffer = CharBuffer.allocate(4);
+        final CharBuffer readOnly = buffer.asReadOnlyBuffer();
+        assertThatCode(() -> Buffers.replaceAll((CharBuffer) null, value -> value))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.forEach(buffer, (CharConsumer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.indexOf((CharBuffer) null, (CharPredicate) value -> true))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.transform(buffer, null, (CharUnaryOperator) value -> value))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Buffers.replaceAll(readOnly, (CharUnaryOperator) value -> value))
+                .isInstanceOf(ReadOnlyBufferException.class);
+        assertThatCode(() -> Buffers.transform(buffer, readOnly, (CharUnaryOperator) value -> value))
+                .isInstanceOf(ReadOnlyBufferException.class);
+        assertThatCode(() -> Buffers.transform(buffer, CharBuffer.allocate(3), (CharUnaryOperator) value -> value))
+                .isInstanceOf(BufferOverflowException.class);
+    }
+
+    @Test
+    void charReplaceAllMethodReplacesRemainingValues() {
+        for (final CharBuffer buffer : charBuffers()) {
+            Buffers.replaceAll(buffer, value -> (char) (value + 1));
+            assertThat(buffer.position()).isEqualTo(2);
+            assertThat(buffer.limit()).isEqualTo(10);
+            buffer.limit(12);
+            for (int idx = 0; idx < 12; ++idx) {
+                final char value = (char) ('a' + idx);
+                assertThat(buffer.get(idx)).isEqualTo(idx >= 2 && idx < 10 ? (char) (value + 1) : value);
+            }
+        }
+    }
+
+    @Test
+    void charForEachAndIndexOfMethodsProcessRemainingValues() {
+        for (final CharBuffer buffer : charBuffers()) {
+            final CharBuffer readOnly = buffer.asReadOnlyBuffer();
+            final List<Character> values = new ArrayList<>();
+            Buffers.forEach(readOnly, values::add);
+            final List<Character> expected = new ArrayList<>();
+            for (int idx = 2; idx < 10; ++idx) {
+                expected.add(buffer.get(idx));
+            }
+            assertThat(values).isEqualTo(expected);
+            assertThat(Buffers.indexOf(buffer, (CharPredicate) value -> value == buffer.get(5))).isEqualTo(3);
+            assertThat(Buffers.indexOf(readOnly, (CharPredicate) value -> value == buffer.get(5))).isEqualTo(3);
+            assertThat(Buffers.indexOf(buffer, (CharPredicate) value -> value == buffer.get(0))).isEqualTo(-1);
+            assertThat(readOnly.position()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void charTransformMethodWritesIntoDestination() {
+        for (final CharBuffer src : charBuffers()) {
+            for (final CharBuffer dst : charBuffers()) {
+                dst.limit(12).position(4);
+                Buffers.transform(src.asReadOnlyBuffer(), dst, value -> (char) (value + 1));
+                assertThat(dst.position()).isEqualTo(4);
+                for (int idx = 0; idx < 8; ++idx) {
+                    final char value = src.get(2 + idx);
+                    assertThat(dst.get(4 + idx)).isEqualTo((char) (value + 1));
+                }
+            }
+        }
+    }
+}
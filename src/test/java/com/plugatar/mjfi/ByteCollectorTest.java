@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteCollector}.
+ */
+final class ByteCollectorTest {
+
+    @Test
+    void ofMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> ByteCollector.<List<Byte>>of(null, List::add, (l, r) -> l))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> ByteCollector.<List<Byte>>of(ArrayList::new, null, (l, r) -> l))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> ByteCollector.<List<Byte>>of(ArrayList::new, List::add, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> ByteCollector.<List<Byte>, Integer>of(ArrayList::new, List::add, (l, r) -> l, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ofMethodReturnsCollectorWithIdentityFinisher() {
+        final List<Byte> container = new ArrayList<>();
+        final ByteCollector<List<Byte>, List<Byte>> collector = ByteCollector.of(
+                () -> container,
+                List::add,
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                }
+        );
+        final List<Byte> result = collector.supplier().get();
+        collector.accumulator().accept(result, (byte) 1);
+        final List<Byte> other = new ArrayList<>();
+        other.add((byte) 2);
+        assertThat(collector.combiner().apply(result, other))
+                .isSameAs(container)
+                .containsExactly((byte) 1, (byte) 2);
+        assertThat(collector.finisher().apply(container))
+                .isSameAs(container);
+    }
+
+    @Test
+    void ofMethodReturnsCollectorWithGivenFinisher() {
+        final ByteCollector<List<Byte>, Integer> collector = ByteCollector.of(
+                ArrayList::new,
+                List::add,
+                (left, right) -> left,
+                List::size
+        );
+        final List<Byte> container = collector.supplier().get();
+        collector.accumulator().accept(container, (byte) 1);
+        assertThat(collector.finisher().apply(container))
+                .isEqualTo(1);
+    }
+}
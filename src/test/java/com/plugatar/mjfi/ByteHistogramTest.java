@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteHistogram}.
+ */
+final class ByteHistogramTest {
+    private static final byte[] DATA = randomBytes(1_000_003);
+
+    @Test
+    void methodsThrowNPEForNullArgs() {
+        assertThatCode(() -> ByteHistogram.of(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> ByteHistogram.of(new String[0], null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> ByteHistogram.parallelOf(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> ByteHistogram.collector(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ByteHistogram().add(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ByteHistogram().merge(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void addMethodThrowsIOOBEForIllegalRange() {
+        final ByteHistogram histogram = new ByteHistogram();
+        assertThatCode(() -> histogram.add(new byte[4], -1, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> histogram.add(new byte[4], 1, -1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> histogram.add(new byte[4], 3, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void acceptMethodCountsValues() {
+        final ByteHistogram histogram = new ByteHistogram();
+        histogram.accept((byte) 0);
+        histogram.accept((byte) -1);
+        histogram.accept((byte) -1);
+        assertThat(histogram.count((byte) 0)).isEqualTo(1);
+        assertThat(histogram.count((byte) -1)).isEqualTo(2);
+        assertThat(histogram.counts()[255]).isEqualTo(2);
+        assertThat(histogram.total()).isEqualTo(3);
+        assertThat(histogram.toString()).isEqualTo("ByteHistogram[total=3]");
+        histogram.reset();
+        assertThat(histogram.total()).isZero();
+    }
+
+    @Test
+    void addMethodCountsArrayRange() {
+        final long[] expected = new long[256];
+        for (int idx = 7; idx < DATA.length - 5; ++idx) {
+            ++expected[DATA[idx] & 0xFF];
+        }
+        final ByteHistogram histogram = new ByteHistogram();
+        histogram.add(DATA, 7, DATA.length - 12);
+        assertThat(histogram.counts()).containsExactly(expected);
+        final ByteHistogram small = new ByteHistogram();
+        small.add(DATA, 0, 10);
+        assertThat(small.total()).isEqualTo(10);
+    }
+
+    @Test
+    void addMethodCountsRunsOfEqualValues() {
+        final byte[] array = new byte[10_001];
+        final ByteHistogram histogram = ByteHistogram.of(array);
+        assertThat(histogram.count((byte) 0)).isEqualTo(10_001);
+        assertThat(histogram.total()).isEqualTo(10_001);
+    }
+
+    @Test
+    void factoryMethodsAndCollectorsProduceSameCounts() {
+        final long[] expected = expectedCounts();
+        final Byte[] boxed = new Byte[DATA.length];
+        for (int idx = 0; idx < DATA.length; ++idx) {
+            boxed[idx] = DATA[idx];
+        }
+        assertThat(ByteHistogram.of(DATA).counts())
+                .containsExactly(expected);
+        assertThat(ByteHistogram.parallelOf(DATA).counts())
+                .containsExactly(expected);
+        assertThat(ByteHistogram.of(boxed, Byte::byteValue).counts())
+                .containsExactly(expected);
+        assertThat(ByteHistogram.parallelOf(boxed, Byte::byteValue).counts())
+                .containsExactly(expected);
+        assertThat(PrimitiveCollectors.parallelCollect(DATA, ByteHistogram.collector()).counts())
+                .containsExactly(expected);
+        assertThat(Stream.of(boxed).parallel().collect(ByteHistogram.collector(Byte::byteValue)).counts())
+                .containsExactly(expected);
+    }
+
+    @Test
+    void mergeMethodAddsCounts() {
+        final ByteHistogram first = ByteHistogram.of(new byte[]{1, 2, 2});
+        final ByteHistogram second = ByteHistogram.of(new byte[]{2, 3});
+        assertThat(first.merge(second))
+                .isSameAs(first);
+        assertThat(first.count((byte) 2)).isEqualTo(3);
+        assertThat(first.count((byte) 3)).isEqualTo(1);
+        assertThat(second.total()).isEqualTo(2);
+    }
+
+    private static long[] expectedCounts() {
+        final long[] counts = new long[256];
+        for (final byte value : DATA) {
+            ++counts[value & 0xFF];
+        }
+        return counts;
+    }
+
+    private static byte[] randomBytes(final int length) {
+        final byte[] array = new byte[length];
+        new Random(1).nextBytes(array);
+        return array;
+    }
+}
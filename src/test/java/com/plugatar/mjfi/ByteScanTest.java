@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteScan}.
+ */
+final class ByteScanTest {
+
+    private static BytePredicate[] predicates() {
+        return new BytePredicate[]{
+                ByteScan.matching((byte) '\n'),
+                ByteScan.matching((byte) -1),
+                ByteScan.matching((byte) 0),
+                ByteScan.anyOf((byte) ',', (byte) ';', (byte) -128),
+                ByteScan.anyOf((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 100, (byte) -100),
+                ByteScan.anyOf(),
+                ByteScan.inRange((byte) '0', (byte) '9'),
+                ByteScan.inRange((byte) 0, (byte) 127),
+                ByteScan.inRange((byte) -128, (byte) -1),
+                ByteScan.inRange((byte) -20, (byte) -3),
+                ByteScan.inRange((byte) -5, (byte) 5),
+                ByteScan.compile(value -> value % 3 == 0),
+                ByteScan.compile(value -> value < 0 || value == 'a'),
+                value -> value == 42
+        };
+    }
+
+    private static int expectedIndexOf(final byte[] array,
+                                       final BytePredicate predicate,
+                                       final int fromIndex,
+                                       final int toIndex) {
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            if (predicate.test(array[idx])) {
+                return idx;
+            }
+        }
+        return -1;
+    }
+
+    private static int expectedCount(final byte[] array,
+                                     final BytePredicate predicate,
+                                     final int fromIndex,
+                                     final int toIndex) {
+        int count = 0;
+        for (int idx = fromIndex; idx < toIndex; ++idx) {
+            if (predicate.test(array[idx])) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    void methodsThrowExceptionsForIllegalArgs() {
+        final byte[] array = new byte[8];
+        final ByteBuffer buffer = ByteBuffer.wrap(array);
+        buffer.limit(6);
+        final BytePredicate predicate = ByteScan.matching((byte) 1);
+        assertThatCode(() -> ByteScan.indexOf((byte[]) null, predicate))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> ByteScan.countMatches(array, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> ByteScan.indexOf((ByteBuffer) null, predicate, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> ByteScan.compile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> ByteScan.anyOf((byte[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> ByteScan.inRange((byte) 2, (byte) 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> ByteScan.indexOf(array, predicate, 3, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> ByteScan.countMatches(array, predicate, -1, 2))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+        assertThatCode(() -> ByteScan.indexOf(array, predicate, 0, 9))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+        assertThatCode(() -> ByteScan.countMatches(buffer, predicate, 0, 7))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void compiledPredicatesMatchSameValues() {
+        final BytePredicate source = value -> value == 7 || value >= 90 && value <= 110;
+        final BytePredicate compiled = ByteScan.compile(source);
+        final BytePredicate range = ByteScan.inRange((byte) -5, (byte) 60);
+        final BytePredicate set = ByteScan.anyOf((byte) -7, (byte) 0, (byte) 9);
+        for (int value = Byte.MIN_VALUE; value <= Byte.MAX_VALUE; ++value) {
+            final byte b = (byte) value;
+            assertThat(compiled.test(b)).isEqualTo(source.test(b));
+            assertThat(range.test(b)).isEqualTo(value >= -5 && value <= 60);
+            assertThat(set.test(b)).isEqualTo(value == -7 || value == 0 || value == 9);
+            assertThat(ByteScan.matching(b).test(b)).isTrue();
+            assertThat(ByteScan.matching(b).test((byte) (value + 1))).isFalse();
+        }
+        assertThat(ByteScan.compile(compiled)).isSameAs(compiled);
+    }
+
+    @Test
+    void arrayMethodsFindMatchingValues() {
+        final Random random = new Random(48);
+        for (final BytePredicate predicate : predicates()) {
+            for (final int length : new int[]{0, 1, 7, 8, 9, 63, 1000}) {
+                final byte[] array = new byte[length];
+                for (int round = 0; round < 20; ++round) {
+                    random.nextBytes(array);
+                    for (int idx = 0; idx < length; ++idx) {
+                        if (random.nextInt(4) != 0) {
+                            array[idx] = (byte) random.nextInt(128);
+                        }
+                    }
+                    final int fromIndex = length == 0 ? 0 : random.nextInt(length);
+                    final int toIndex = fromIndex + random.nextInt(length - fromIndex + 1);
+                    assertThat(ByteScan.indexOf(array, predicate))
+                            .isEqualTo(expectedIndexOf(array, predicate, 0, length));
+                    assertThat(ByteScan.countMatches(array, predicate))
+                            .isEqualTo(expectedCount(array, predicate, 0, length));
+                    assertThat(ByteScan.indexOf(array, predicate, fromIndex, toIndex))
+                            .isEqualTo(expectedIndexOf(array, predicate, fromIndex, toIndex));
+                    assertThat(ByteScan.countMatches(array, predicate, fromIndex, toIndex))
+                            .isEqualTo(expectedCount(array, predicate, fromIndex, toIndex));
+                }
+            }
+        }
+    }
+
+    @Test
+    void bufferMethodsFindMatchingValues() {
+        final Random random = new Random(480);
+        final byte[] array = new byte[1000];
+        final ByteBuffer[] buffers = {
+                ByteBuffer.allocate(1000),
+                ByteBuffer.allocate(1000).order(ByteOrder.LITTLE_ENDIAN),
+                ByteBuffer.allocateDirect(1000).order(ByteOrder.nativeOrder()),
+                ByteBuffer.allocateDirect(1000).order(ByteOrder.BIG_ENDIAN)
+        };
+        for (final BytePredicate predicate : predicates()) {
+            for (int round = 0; round < 10; ++round) {
+                random.nextBytes(array);
+                final int fromIndex = random.nextInt(100);
+                final int toIndex = 900 + random.nextInt(100);
+                for (final ByteBuffer buffer : buffers) {
+                    buffer.clear();
+                    buffer.put(array).position(5).limit(toIndex);
+                    assertThat(ByteScan.indexOf(buffer, predicate, fromIndex, toIndex))
+                            .isEqualTo(expectedIndexOf(array, predicate, fromIndex, toIndex));
+                    assertThat(ByteScan.countMatches(buffer.asReadOnlyBuffer(), predicate, fromIndex, toIndex))
+                            .isEqualTo(expectedCount(array, predicate, fromIndex, toIndex));
+                    assertThat(buffer.position()).isEqualTo(5);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link CharAccumulator}.
+ */
+final class CharAccumulatorTest {
+
+    @Test
+    void ctorThrowsNPEForNullFunction() {
+        assertThatCode(() -> new CharAccumulator(null, (char) 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void getMethodReturnsIdentityForNewAccumulator() {
+        final CharAccumulator accumulator = new CharAccumulator((left, right) -> (char) Math.max(left, right), Character.MIN_VALUE);
+        assertThat(accumulator.get())
+                .isEqualTo(Character.MIN_VALUE);
+    }
+
+    @Test
+    void resetMethodsRestoreIdentity() {
+        final CharAccumulator accumulator = new CharAccumulator((left, right) -> (char) Math.max(left, right), Character.MIN_VALUE);
+        accumulator.accumulate('b');
+        assertThat(accumulator.getThenReset())
+                .isEqualTo('b');
+        assertThat(accumulator.get())
+                .isEqualTo(Character.MIN_VALUE);
+        accumulator.accumulate('b');
+        accumulator.reset();
+        assertThat(accumulator.get())
+                .isEqualTo(Character.MIN_VALUE);
+    }
+
+    @Test
+    void concurrentUpdatesAreFolded() throws InterruptedException {
+        final CharAccumulator max = new CharAccumulator((left, right) -> (char) Math.max(left, right), Character.MIN_VALUE);
+        final CharAccumulator sum = new CharAccumulator((left, right) -> (char) (left + right), (char) 0);
+        final int threads = 8;
+        final int updates = 1000;
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            final int thread = idx;
+            new Thread(() -> {
+                for (int upd = 0; upd < updates; ++upd) {
+                    max.accumulate((char) (thread * 10 + upd % 10));
+                    sum.accumulate((char) 1);
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+        assertThat(max.get())
+                .isEqualTo((char) ((threads - 1) * 10 + 9));
+        assertThat(sum.get())
+                .isEqualTo((char) (threads * updates));
+    }
+
+    @Test
+    void serializationKeepsValue() throws Exception {
+        final CharAccumulator accumulator = new CharAccumulator(
+                (CharBinaryOperator & Serializable) (left, right) -> (char) Math.max(left, right), Character.MIN_VALUE
+        );
+        accumulator.accumulate('b');
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(accumulator);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final CharAccumulator copy = (CharAccumulator) in.readObject();
+            assertThat(copy.get())
+                    .isEqualTo('b');
+            copy.accumulate('c');
+            assertThat(copy.get())
+                    .isEqualTo('c');
+        }
+    }
+
+    @Test
+    void serializationKeepsValueOfAccumulatorWithNonIdempotentFunction() throws Exception {
+        final CharAccumulator accumulator = new CharAccumulator(
+                (CharBinaryOperator & Serializable) (left, right) -> (char) (left + right), (char) 1);
+        accumulator.accumulate((char) 2);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(accumulator);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(((CharAccumulator) in.readObject()).get())
+                    .isEqualTo((char) 3
+        );
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link Comparators}.
+ */
+final class ComparatorsTest {
+
+    @Test
+    void comparingMethodsThrowNPEForNullArg() {
+        assertThatCode(() -> Comparators.comparingFloat(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Comparators.comparingShort(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Comparators.comparingByte(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Comparators.comparingChar(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void comparingMethodsCompareByKeys() {
+        final Comparator<Item> floatComparator = Comparators.comparingFloat(item -> item.floatKey);
+        assertThat(floatComparator.compare(new Item(1.0f), new Item(2.0f))).isNegative();
+        assertThat(floatComparator.compare(new Item(0.0f), new Item(-0.0f))).isPositive();
+        assertThat(floatComparator.compare(new Item(Float.NaN), new Item(Float.POSITIVE_INFINITY))).isPositive();
+        assertThat(floatComparator.compare(new Item(3.0f), new Item(3.0f))).isZero();
+        final Comparator<String> shortComparator = Comparators.comparingShort(str -> Short.parseShort(str));
+        assertThat(shortComparator.compare("-300", "200")).isNegative();
+        final Comparator<String> byteComparator = Comparators.comparingByte(str -> Byte.parseByte(str));
+        assertThat(byteComparator.compare("100", "-100")).isPositive();
+        final Comparator<String> charComparator = Comparators.comparingChar(str -> str.charAt(0));
+        assertThat(charComparator.compare("b", "a")).isPositive();
+        assertThat(charComparator.compare("\uffff", "a")).isPositive();
+    }
+
+    @Test
+    void comparingMethodReturnsSerializableComparatorForSerializableKeyExtractor() throws Exception {
+        final Comparator<String> comparator =
+                Comparators.comparingChar((ToCharFunction<String> & Serializable) str -> str.charAt(1));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream objOut = new ObjectOutputStream(out)) {
+            objOut.writeObject(comparator);
+        }
+        try (ObjectInputStream objIn = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            @SuppressWarnings("unchecked") final Comparator<String> deserialized =
+                    (Comparator<String>) objIn.readObject();
+            assertThat(deserialized.compare("ab", "ba")).isPositive();
+        }
+    }
+
+    @Test
+    void sortByKeyMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> Comparators.sortByKey(null, obj -> 0.0f))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Comparators.sortByKey(new Object[0], null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Comparators.parallelSortByShortKey(null, obj -> (short) 0))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Comparators.parallelSortByShortKey(new Object[0], null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void sortByFloatKeyMethodCallsKeyFunctionOncePerElement() {
+        final Item[] array = randomItems(1000, 1);
+        final AtomicInteger calls = new AtomicInteger();
+        Comparators.sortByKey(array, item -> {
+            calls.incrementAndGet();
+            return item.floatKey;
+        });
+        assertThat(calls.get()).isEqualTo(1000);
+        assertThat(array).isSortedAccordingTo(Comparators.comparingFloat(item -> item.floatKey));
+    }
+
+    @Test
+    void sortByFloatKeyMethodsSortSpecialValuesAsFloatCompare() {
+        final float[] keys = {Float.NaN, 1.0f, -0.0f, Float.NEGATIVE_INFINITY, 0.0f, -1.0f, Float.POSITIVE_INFINITY};
+        final Item[] array = new Item[keys.length];
+        for (int idx = 0; idx < keys.length; ++idx) {
+            array[idx] = new Item(keys[idx]);
+        }
+        final Item[] parallelArray = array.clone();
+        Comparators.sortByKey(array, item -> item.floatKey);
+        Comparators.parallelSortByKey(parallelArray, item -> item.floatKey);
+        final float[] expected = keys.clone();
+        Arrays.sort(expected);
+        for (int idx = 0; idx < keys.length; ++idx) {
+            assertThat(Float.floatToIntBits(array[idx].floatKey)).isEqualTo(Float.floatToIntBits(expected[idx]));
+            assertThat(parallelArray[idx]).isSameAs(array[idx]);
+        }
+    }
+
+    @Test
+    void sortByKeyMethodsAreStable() {
+        final Item[] array = randomItems(100_000, 2);
+        final Item[] expected = array.clone();
+        Arrays.sort(expected, Comparator.comparingInt(item -> (short) item.intKey));
+        final Item[] sequential = array.clone();
+        final Item[] parallel = array.clone();
+        Comparators.sortByShortKey(sequential, item -> (short) item.intKey);
+        Comparators.parallelSortByShortKey(parallel, item -> (short) item.intKey);
+        assertThat(sequential).containsExactly(expected);
+        assertThat(parallel).containsExactly(expected);
+    }
+
+    @Test
+    void sortByByteAndCharKeyMethodsSortArrays() {
+        final Item[] array = randomItems(10_000, 3);
+        final Item[] byByte = array.clone();
+        final Item[] byChar = array.clone();
+        final Item[] parallelByChar = array.clone();
+        Comparators.sortByByteKey(byByte, item -> (byte) item.intKey);
+        Comparators.sortByCharKey(byChar, item -> (char) (item.floatKey * 100));
+        Comparators.parallelSortByCharKey(parallelByChar, item -> (char) (item.floatKey * 100));
+        final Item[] expectedByByte = array.clone();
+        Arrays.sort(expectedByByte, Comparator.comparingInt(item -> (byte) item.intKey));
+        final Item[] expectedByChar = array.clone();
+        Arrays.sort(expectedByChar, Comparator.comparingInt(item -> (char) (item.floatKey * 100)));
+        assertThat(byByte).containsExactly(expectedByByte);
+        assertThat(byChar).containsExactly(expectedByChar);
+        assertThat(parallelByChar).containsExactly(expectedByChar);
+    }
+
+    private static Item[] randomItems(final int size, final long seed) {
+        final Random random = new Random(seed);
+        final Item[] items = new Item[size];
+        for (int idx = 0; idx < size; ++idx) {
+            items[idx] = new Item(random.nextFloat() * 500, random.nextInt());
+        }
+        return items;
+    }
+
+    private static final class Item {
+        private final float floatKey;
+        private final int intKey;
+
+        private Item(final float floatKey) {
+            this(floatKey, 0);
+        }
+
+        private Item(final float floatKey, final int intKey) {
+            this.floatKey = floatKey;
+            this.intKey = intKey;
+        }
+    }
+}
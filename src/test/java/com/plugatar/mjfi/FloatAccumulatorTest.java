@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link FloatAccumulator}.
+ */
+final class FloatAccumulatorTest {
+
+    @Test
+    void ctorThrowsNPEForNullFunction() {
+        assertThatCode(() -> new FloatAccumulator(null, 0.0f))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void getMethodReturnsIdentityForNewAccumulator() {
+        final FloatAccumulator accumulator = new FloatAccumulator(Math::max, Float.NEGATIVE_INFINITY);
+        assertThat(accumulator.get())
+                .isEqualTo(Float.NEGATIVE_INFINITY);
+    }
+
+    @Test
+    void resetMethodsRestoreIdentity() {
+        final FloatAccumulator accumulator = new FloatAccumulator(Math::max, Float.NEGATIVE_INFINITY);
+        accumulator.accumulate(1.5f);
+        assertThat(accumulator.getThenReset())
+                .isEqualTo(1.5f);
+        assertThat(accumulator.get())
+                .isEqualTo(Float.NEGATIVE_INFINITY);
+        accumulator.accumulate(1.5f);
+        accumulator.reset();
+        assertThat(accumulator.get())
+                .isEqualTo(Float.NEGATIVE_INFINITY);
+    }
+
+    @Test
+    void concurrentUpdatesAreFolded() throws InterruptedException {
+        final FloatAccumulator max = new FloatAccumulator(Math::max, Float.NEGATIVE_INFINITY);
+        final FloatAccumulator sum = new FloatAccumulator((left, right) -> (float) (left + right), 0.0f);
+        final int threads = 8;
+        final int updates = 1000;
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            final int thread = idx;
+            new Thread(() -> {
+                for (int upd = 0; upd < updates; ++upd) {
+                    max.accumulate((float) (thread * 10 + upd % 10));
+                    sum.accumulate((float) 1);
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+        assertThat(max.get())
+                .isEqualTo((float) ((threads - 1) * 10 + 9));
+        assertThat(sum.get())
+                .isEqualTo((float) (threads * updates));
+    }
+
+    @Test
+    void serializationKeepsValue() throws Exception {
+        final FloatAccumulator accumulator = new FloatAccumulator(
+                (FloatBinaryOperator & Serializable) Math::max, Float.NEGATIVE_INFINITY);
+        accumulator.accumulate(1.5f);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(accumulator);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final FloatAccumulator copy = (FloatAccumulator) in.readObject();
+            assertThat(copy.get())
+                    .isEqualTo(1.5f);
+            copy.accumulate(2.5f);
+            assertThat(copy.get())
+                    .isEqualTo(2.5f
+        );
+        }
+    }
+
+    @Test
+    void serializationKeepsValueOfAccumulatorWithNonIdempotentFunction() throws Exception {
+        final FloatAccumulator accumulator = new FloatAccumulator(
+                (FloatBinaryOperator & Serializable) (left, right) -> left + right, 1.0f);
+        accumulator.accumulate(2.0f);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(accumulator);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(((FloatAccumulator) in.readObject()).get())
+                    .isEqualTo(3.0f
+        );
+        }
+    }
+}
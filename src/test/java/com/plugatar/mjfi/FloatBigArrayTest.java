@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link FloatBigArray}.
+ */
+final class FloatBigArrayTest {
+
+    @Test
+    void ctorThrowsIAEForIllegalArgs() {
+        assertThatCode(() -> new FloatBigArray(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new FloatBigArray(10L, 31))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new FloatBigArray(Long.MAX_VALUE, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void methodsThrowNPEForNullArgs() {
+        final FloatBigArray array = new FloatBigArray(10L);
+        assertThatCode(() -> array.setAll(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> array.parallelSetAll(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> array.replaceAll(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> array.parallelReplaceAll(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> array.forEach(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> array.forEachIndexed(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> array.parallelForEach(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> array.parallelForEachIndexed(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void getAndSetMethodsThrowIOOBEForIllegalIndex() {
+        final FloatBigArray array = new FloatBigArray(10L, 2);
+        assertThatCode(() -> array.get(-1L))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> array.get(10L))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> array.set(10L, 1.0f))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void getAndSetMethodsAccessValuesAcrossChunks() {
+        final FloatBigArray array = new FloatBigArray(10L, 2);
+        assertThat(array.length()).isEqualTo(10L);
+        assertThat(array.get(9L)).isEqualTo(0.0f);
+        array.set(3L, 1.0f);
+        array.set(4L, 2.0f);
+        array.set(9L, 1.0f);
+        assertThat(array.get(3L)).isEqualTo(1.0f);
+        assertThat(array.get(4L)).isEqualTo(2.0f);
+        assertThat(array.get(9L)).isEqualTo(1.0f);
+        array.fill(2.0f);
+        for (long idx = 0L; idx < array.length(); ++idx) {
+            assertThat(array.get(idx)).isEqualTo(2.0f);
+        }
+    }
+
+    @Test
+    void setAllMethodsSetValuesByGenerator() {
+        final FloatBigArray sequential = new FloatBigArray(100_003L, 10);
+        final FloatBigArray parallel = new FloatBigArray(100_003L, 10);
+        sequential.setAll(idx -> idx * 0.5f);
+        parallel.parallelSetAll(idx -> idx * 0.5f);
+        for (long idx = 0L; idx < 100_003L; ++idx) {
+            assertThat(sequential.get(idx)).isEqualTo(idx * 0.5f);
+            assertThat(parallel.get(idx)).isEqualTo(idx * 0.5f);
+        }
+    }
+
+    @Test
+    void replaceAllMethodsReplaceValues() {
+        final FloatBigArray sequential = new FloatBigArray(100_003L, 20);
+        final FloatBigArray parallel = new FloatBigArray(100_003L, 4);
+        sequential.setAll(idx -> idx * 0.5f);
+        parallel.setAll(idx -> idx * 0.5f);
+        sequential.replaceAll(value -> value * -2.0f);
+        parallel.parallelReplaceAll(value -> value * -2.0f);
+        for (long idx = 0L; idx < 100_003L; ++idx) {
+            final float value = idx * 0.5f;
+            assertThat(sequential.get(idx)).isEqualTo(value * -2.0f);
+            assertThat(parallel.get(idx)).isEqualTo(value * -2.0f);
+        }
+    }
+
+    @Test
+    void forEachMethodIteratesValuesInIndexOrder() {
+        final FloatBigArray array = new FloatBigArray(13L, 2);
+        array.setAll(idx -> idx * 0.5f);
+        final List<Float> values = new ArrayList<>();
+        array.forEach(values::add);
+        assertThat(values).hasSize(13);
+        for (int idx = 0; idx < 13; ++idx) {
+            assertThat(values.get(idx)).isEqualTo(idx * 0.5f);
+        }
+    }
+
+    @Test
+    void forEachIndexedMethodIteratesIndexesAndValuesInIndexOrder() {
+        final FloatBigArray array = new FloatBigArray(13L, 2);
+        array.setAll(idx -> idx * 0.5f);
+        final List<Long> indexes = new ArrayList<>();
+        final List<Float> values = new ArrayList<>();
+        array.forEachIndexed((idx, value) -> {
+            indexes.add(idx);
+            values.add(value);
+        });
+        assertThat(indexes).hasSize(13);
+        for (int idx = 0; idx < 13; ++idx) {
+            assertThat(indexes.get(idx)).isEqualTo(idx);
+            assertThat(values.get(idx)).isEqualTo(idx * 0.5f);
+        }
+    }
+
+    @Test
+    void parallelForEachMethodsProcessAllValues() {
+        final int length = 300_000;
+        final FloatBigArray array = new FloatBigArray(length, 17);
+        array.setAll(idx -> (int) idx * 0.5f);
+        final LongAdder count = new LongAdder();
+        array.parallelForEach(value -> count.increment());
+        assertThat(count.sum()).isEqualTo(length);
+        final float[] values = new float[length];
+        final boolean[] visited = new boolean[length];
+        array.parallelForEachIndexed((idx, value) -> {
+            values[(int) idx] = value;
+            visited[(int) idx] = true;
+        });
+        for (int idx = 0; idx < length; ++idx) {
+            assertThat(visited[idx]).isTrue();
+            assertThat(values[idx]).isEqualTo(idx * 0.5f);
+        }
+    }
+}
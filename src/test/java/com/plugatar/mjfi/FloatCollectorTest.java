@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link FloatCollector}.
+ */
+final class FloatCollectorTest {
+
+    @Test
+    void ofMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> FloatCollector.<List<Float>>of(null, List::add, (l, r) -> l))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> FloatCollector.<List<Float>>of(ArrayList::new, null, (l, r) -> l))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> FloatCollector.<List<Float>>of(ArrayList::new, List::add, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> FloatCollector.<List<Float>, Integer>of(ArrayList::new, List::add, (l, r) -> l, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ofMethodReturnsCollectorWithIdentityFinisher() {
+        final List<Float> container = new ArrayList<>();
+        final FloatCollector<List<Float>, List<Float>> collector = FloatCollector.of(
+                () -> container,
+                List::add,
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                }
+        );
+        final List<Float> result = collector.supplier().get();
+        collector.accumulator().accept(result, 1.5f);
+        final List<Float> other = new ArrayList<>();
+        other.add(2.5f);
+        assertThat(collector.combiner().apply(result, other))
+                .isSameAs(container)
+                .containsExactly(1.5f, 2.5f);
+        assertThat(collector.finisher().apply(container))
+                .isSameAs(container);
+    }
+
+    @Test
+    void ofMethodReturnsCollectorWithGivenFinisher() {
+        final FloatCollector<List<Float>, Integer> collector = FloatCollector.of(
+                ArrayList::new,
+                List::add,
+                (left, right) -> left,
+                List::size
+        );
+        final List<Float> container = collector.supplier().get();
+        collector.accumulator().accept(container, 1.5f);
+        assertThat(collector.finisher().apply(container))
+                .isEqualTo(1);
+    }
+}
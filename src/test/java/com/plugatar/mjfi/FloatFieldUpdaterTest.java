@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link FloatFieldUpdater}.
+ */
+final class FloatFieldUpdaterTest {
+    private static final FloatFieldUpdater<Holder> UPDATER = FloatFieldUpdater.newUpdater(Holder.class, "value");
+
+    @Test
+    void newUpdaterMethodThrowsNPEForNullUpdater() {
+        assertThatCode(() -> FloatFieldUpdater.newUpdater(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void newUpdaterMethodThrowsExceptionForNonVolatileField() {
+        assertThatCode(() -> FloatFieldUpdater.newUpdater(Holder.class, "plain"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void newUpdaterMethodUsesGivenUpdater() {
+        final FloatFieldUpdater<Holder> updater = FloatFieldUpdater.newUpdater(
+                AtomicIntegerFieldUpdater.newUpdater(Holder.class, "value")
+        );
+        final Holder holder = new Holder();
+        updater.set(holder, 1.5f);
+        assertThat(UPDATER.get(holder))
+                .isEqualTo(1.5f);
+    }
+
+    @Test
+    void getAndSetMethods() {
+        final Holder holder = new Holder();
+        UPDATER.set(holder, 1.5f);
+        assertThat(UPDATER.getAndSet(holder, 2.5f))
+                .isEqualTo(1.5f);
+        UPDATER.lazySet(holder, 1.5f);
+        assertThat(UPDATER.get(holder))
+                .isEqualTo(1.5f);
+    }
+
+    @Test
+    void compareAndSetMethodUpdatesOnlyExpectedValue() {
+        final Holder holder = new Holder();
+        UPDATER.set(holder, 1.5f);
+        assertThat(UPDATER.compareAndSet(holder, 2.5f, 2.5f))
+                .isFalse();
+        assertThat(UPDATER.compareAndSet(holder, 1.5f, 2.5f))
+                .isTrue();
+        assertThat(UPDATER.get(holder))
+                .isEqualTo(2.5f);
+    }
+
+    @Test
+    void updateMethodsPassObjectAndCurrentValue() {
+        final Holder holder = new Holder();
+        holder.step = (float) 3;
+        UPDATER.set(holder, (float) 10);
+        assertThat(UPDATER.getAndUpdate(holder, (obj, value) -> (float) (value + obj.step)))
+                .isEqualTo((float) 10);
+        assertThat(UPDATER.updateAndGet(holder, (obj, value) -> (float) (value + obj.step)))
+                .isEqualTo((float) 16);
+    }
+
+    @Test
+    void accumulateMethodsReturnCorrectValues() {
+        final Holder holder = new Holder();
+        UPDATER.set(holder, (float) 10);
+        assertThat(UPDATER.getAndAccumulate(holder, (float) 20, (left, right) -> (float) Math.max(left, right)))
+                .isEqualTo((float) 10);
+        assertThat(UPDATER.accumulateAndGet(holder, (float) 5, (left, right) -> (float) (left - right)))
+                .isEqualTo((float) 15);
+    }
+
+    @Test
+    void concurrentUpdatesAreNotLost() throws InterruptedException {
+        final Holder holder = new Holder();
+        final int threads = 4;
+        final int increments = 25;
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            new Thread(() -> {
+                for (int inc = 0; inc < increments; ++inc) {
+                    UPDATER.updateAndGet(holder, (obj, value) -> (float) (value + 1));
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+        assertThat(UPDATER.get(holder))
+                .isEqualTo((float) (threads * increments));
+    }
+
+    /**
+     * Holder of the updatable field.
+     */
+    static final class Holder {
+        volatile int value;
+        int plain;
+        float step;
+    }
+}
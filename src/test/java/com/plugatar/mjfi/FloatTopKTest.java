@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link FloatTopK}.
+ */
+final class FloatTopKTest {
+
+    @Test
+    void ctorThrowsIAEForNegativeK() {
+        assertThatCode(() -> new FloatTopK<>(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void acceptMethodSelectsElementsWithGreatestKeys() {
+        final FloatTopK<String> topK = new FloatTopK<>(3);
+        topK.accept("a", 5.0f);
+        topK.accept("b", 1.0f);
+        topK.accept("c", 9.0f);
+        assertThat(topK.size()).isEqualTo(3);
+        assertThat(topK.toList()).containsExactly("c", "a", "b");
+        topK.accept("d", 7.0f);
+        topK.accept("e", 0.0f);
+        assertThat(topK.k()).isEqualTo(3);
+        assertThat(topK.size()).isEqualTo(3);
+        assertThat(topK.toList()).containsExactly("c", "d", "a");
+        assertThat(topK.toList()).containsExactly("c", "d", "a");
+    }
+
+    @Test
+    void acceptMethodDoesNotSelectElementsForZeroK() {
+        final FloatTopK<String> topK = new FloatTopK<>(0);
+        topK.accept("a", 5.0f);
+        assertThat(topK.size()).isZero();
+        assertThat(topK.toList()).isEmpty();
+    }
+
+    @Test
+    void mergeMethodCombinesSelections() {
+        final FloatTopK<String> first = new FloatTopK<>(2);
+        first.accept("a", 5.0f);
+        first.accept("b", 1.0f);
+        final FloatTopK<String> second = new FloatTopK<>(3);
+        second.accept("c", 9.0f);
+        second.accept("d", 0.0f);
+        second.accept("e", 7.0f);
+        assertThat(first.merge(second))
+                .isSameAs(first);
+        assertThat(first.toList()).containsExactly("c", "e");
+    }
+
+    @Test
+    void acceptMethodSelectsAllElementsForKGreaterThanCount() {
+        final FloatTopK<Integer> topK = new FloatTopK<>(Integer.MAX_VALUE);
+        for (int idx = 0; idx < 100; ++idx) {
+            topK.accept(idx, (float) idx);
+        }
+        assertThat(topK.size()).isEqualTo(100);
+        assertThat(topK.toList()).hasSize(100).startsWith(99, 98).endsWith(1, 0);
+    }
+
+    @Test
+    void toListMethodSortsManyElements() {
+        final FloatTopK<Integer> topK = new FloatTopK<>(100);
+        final Integer[] values = new Integer[1000];
+        for (int idx = 0; idx < values.length; ++idx) {
+            values[idx] = idx;
+        }
+        Collections.shuffle(Arrays.asList(values), new Random(1));
+        for (final Integer value : values) {
+            topK.accept(value, (float) value.intValue());
+        }
+        final Integer[] expected = new Integer[100];
+        for (int idx = 0; idx < expected.length; ++idx) {
+            expected[idx] = 999 - idx;
+        }
+        assertThat(topK.toList()).containsExactly(expected);
+        assertThat(topK.toString()).startsWith("[999, 998");
+    }
+
+    @Test
+    void acceptMethodComparesKeysAsFloatCompare() {
+        final FloatTopK<String> topK = new FloatTopK<>(3);
+        topK.accept("nan", Float.NaN);
+        topK.accept("negZero", -0.0f);
+        topK.accept("posZero", 0.0f);
+        topK.accept("negInf", Float.NEGATIVE_INFINITY);
+        assertThat(topK.toList()).containsExactly("nan", "posZero", "negZero");
+    }
+}
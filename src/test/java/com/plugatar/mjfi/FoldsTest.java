@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link Folds}.
+ */
+final class FoldsTest {
+    private static final String[] ARRAY = {"a", "bb", "ccc", "dddd"};
+    private static final List<String> ARRAY_LIST = Arrays.asList(ARRAY);
+    private static final List<String> LINKED_LIST = new LinkedList<>(ARRAY_LIST);
+    private static final Integer[] LARGE_ARRAY = IntStream.range(0, 100_000).boxed().toArray(Integer[]::new);
+
+    @Test
+    void foldMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> Folds.foldInt((String[]) null, 0, (str, acc) -> acc))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Folds.foldInt(ARRAY, 0, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Folds.foldFloat(ARRAY_LIST, 0.0f, (str, acc) -> acc, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Folds.foldChar((Spliterator<String>) null, 'a', (str, acc) -> acc))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void parallelFoldMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> Folds.parallelFoldInt((String[]) null, 0, (str, acc) -> acc, Integer::sum))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Folds.parallelFoldInt(ARRAY, 0, null, Integer::sum))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Folds.parallelFoldInt(ARRAY, 0, (str, acc) -> acc, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void parallelFoldMethodCombinesChunksInEncounterOrder() {
+        final long firstIdx = Folds.parallelFoldLong(LARGE_ARRAY, -1L,
+                (value, acc) -> acc == -1L ? value : acc, (left, right) -> left == -1L ? right : left);
+        assertThat(firstIdx)
+                .isEqualTo(0L);
+        final long lastIdx = Folds.parallelFoldLong(LARGE_ARRAY, -1L,
+                (value, acc) -> value, (left, right) -> right == -1L ? left : right);
+        assertThat(lastIdx)
+                .isEqualTo(LARGE_ARRAY.length - 1L);
+    }
+
+    @Test
+    void foldMethodsApplyAccumulatorInEncounterOrder() {
+        final StringBuilder order = new StringBuilder();
+        Folds.foldInt(LINKED_LIST, 0, (str, acc) -> {
+            order.append(str);
+            return acc;
+        });
+        assertThat(order.toString())
+                .isEqualTo("abbcccdddd");
+    }
+
+    @Test
+    void foldIntMethodsReturnCorrectValue() {
+        final int expected = (int) 10;
+        assertThat(Folds.foldInt(ARRAY, (int) 0, (str, acc) -> (int) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldInt(ARRAY_LIST, (int) 0, (str, acc) -> (int) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldInt(LINKED_LIST, (int) 0, (str, acc) -> (int) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldInt(ARRAY_LIST.spliterator(), (int) 0, (str, acc) -> (int) (acc + str.length())))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void foldIntMethodsStopOnCondition() {
+        final int expected = (int) 3;
+        assertThat(Folds.foldInt(ARRAY, (int) 0, (str, acc) -> (int) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(Folds.foldInt(ARRAY_LIST, (int) 0, (str, acc) -> (int) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(Folds.foldInt(LINKED_LIST, (int) 0, (str, acc) -> (int) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        final Spliterator<String> spliterator = ARRAY_LIST.spliterator();
+        assertThat(Folds.foldInt(spliterator, (int) 0, (str, acc) -> (int) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void foldLongMethodsReturnCorrectValue() {
+        final long expected = (long) 10;
+        assertThat(Folds.foldLong(ARRAY, (long) 0, (str, acc) -> (long) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldLong(ARRAY_LIST, (long) 0, (str, acc) -> (long) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldLong(LINKED_LIST, (long) 0, (str, acc) -> (long) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldLong(ARRAY_LIST.spliterator(), (long) 0, (str, acc) -> (long) (acc + str.length())))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void foldLongMethodsStopOnCondition() {
+        final long expected = (long) 3;
+        assertThat(Folds.foldLong(ARRAY, (long) 0, (str, acc) -> (long) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(Folds.foldLong(ARRAY_LIST, (long) 0, (str, acc) -> (long) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(Folds.foldLong(LINKED_LIST, (long) 0, (str, acc) -> (long) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        final Spliterator<String> spliterator = ARRAY_LIST.spliterator();
+        assertThat(Folds.foldLong(spliterator, (long) 0, (str, acc) -> (long) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void foldDoubleMethodsReturnCorrectValue() {
+        final double expected = (double) 10;
+        assertThat(Folds.foldDouble(ARRAY, (double) 0, (str, acc) -> (double) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldDouble(ARRAY_LIST, (double) 0, (str, acc) -> (double) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldDouble(LINKED_LIST, (double) 0, (str, acc) -> (double) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldDouble(ARRAY_LIST.spliterator(), (double) 0, (str, acc) -> (double) (acc + str.length())))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void foldDoubleMethodsStopOnCondition() {
+        final double expected = (double) 3;
+        assertThat(Folds.foldDouble(ARRAY, (double) 0, (str, acc) -> (double) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(Folds.foldDouble(ARRAY_LIST, (double) 0, (str, acc) -> (double) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(Folds.foldDouble(LINKED_LIST, (double) 0, (str, acc) -> (double) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        final Spliterator<String> spliterator = ARRAY_LIST.spliterator();
+        assertThat(Folds.foldDouble(spliterator, (double) 0, (str, acc) -> (double) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void foldFloatMethodsReturnCorrectValue() {
+        final float expected = (float) 10;
+        assertThat(Folds.foldFloat(ARRAY, (float) 0, (str, acc) -> (float) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldFloat(ARRAY_LIST, (float) 0, (str, acc) -> (float) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldFloat(LINKED_LIST, (float) 0, (str, acc) -> (float) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldFloat(ARRAY_LIST.spliterator(), (float) 0, (str, acc) -> (float) (acc + str.length())))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void foldFloatMethodsStopOnCondition() {
+        final float expected = (float) 3;
+        assertThat(Folds.foldFloat(ARRAY, (float) 0, (str, acc) -> (float) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(Folds.foldFloat(ARRAY_LIST, (float) 0, (str, acc) -> (float) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(Folds.foldFloat(LINKED_LIST, (float) 0, (str, acc) -> (float) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        final Spliterator<String> spliterator = ARRAY_LIST.spliterator();
+        assertThat(Folds.foldFloat(spliterator, (float) 0, (str, acc) -> (float) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void foldShortMethodsReturnCorrectValue() {
+        final short expected = (short) 10;
+        assertThat(Folds.foldShort(ARRAY, (short) 0, (str, acc) -> (short) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldShort(ARRAY_LIST, (short) 0, (str, acc) -> (short) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldShort(LINKED_LIST, (short) 0, (str, acc) -> (short) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldShort(ARRAY_LIST.spliterator(), (short) 0, (str, acc) -> (short) (acc + str.length())))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void foldShortMethodsStopOnCondition() {
+        final short expected = (short) 3;
+        assertThat(Folds.foldShort(ARRAY, (short) 0, (str, acc) -> (short) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(Folds.foldShort(ARRAY_LIST, (short) 0, (str, acc) -> (short) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(Folds.foldShort(LINKED_LIST, (short) 0, (str, acc) -> (short) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        final Spliterator<String> spliterator = ARRAY_LIST.spliterator();
+        assertThat(Folds.foldShort(spliterator, (short) 0, (str, acc) -> (short) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void foldByteMethodsReturnCorrectValue() {
+        final byte expected = (byte) 10;
+        assertThat(Folds.foldByte(ARRAY, (byte) 0, (str, acc) -> (byte) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldByte(ARRAY_LIST, (byte) 0, (str, acc) -> (byte) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldByte(LINKED_LIST, (byte) 0, (str, acc) -> (byte) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldByte(ARRAY_LIST.spliterator(), (byte) 0, (str, acc) -> (byte) (acc + str.length())))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void foldByteMethodsStopOnCondition() {
+        final byte expected = (byte) 3;
+        assertThat(Folds.foldByte(ARRAY, (byte) 0, (str, acc) -> (byte) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(Folds.foldByte(ARRAY_LIST, (byte) 0, (str, acc) -> (byte) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(Folds.foldByte(LINKED_LIST, (byte) 0, (str, acc) -> (byte) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        final Spliterator<String> spliterator = ARRAY_LIST.spliterator();
+        assertThat(Folds.foldByte(spliterator, (byte) 0, (str, acc) -> (byte) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void foldCharMethodsReturnCorrectValue() {
+        final char expected = (char) 10;
+        assertThat(Folds.foldChar(ARRAY, (char) 0, (str, acc) -> (char) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldChar(ARRAY_LIST, (char) 0, (str, acc) -> (char) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldChar(LINKED_LIST, (char) 0, (str, acc) -> (char) (acc + str.length())))
+                .isEqualTo(expected);
+        assertThat(Folds.foldChar(ARRAY_LIST.spliterator(), (char) 0, (str, acc) -> (char) (acc + str.length())))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void foldCharMethodsStopOnCondition() {
+        final char expected = (char) 3;
+        assertThat(Folds.foldChar(ARRAY, (char) 0, (str, acc) -> (char) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(Folds.foldChar(ARRAY_LIST, (char) 0, (str, acc) -> (char) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(Folds.foldChar(LINKED_LIST, (char) 0, (str, acc) -> (char) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        final Spliterator<String> spliterator = ARRAY_LIST.spliterator();
+        assertThat(Folds.foldChar(spliterator, (char) 0, (str, acc) -> (char) (acc + str.length()), acc -> acc >= 3))
+                .isEqualTo(expected);
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void parallelFoldIntMethodReturnsCorrectValue() {
+        assertThat(Folds.parallelFoldInt(LARGE_ARRAY, Integer.MIN_VALUE, (value, acc) -> (int) Math.max(acc, (int) value),
+                (left, right) -> (int) Math.max(left, right)))
+                .isEqualTo(Folds.foldInt(LARGE_ARRAY, Integer.MIN_VALUE, (value, acc) -> (int) Math.max(acc, (int) value)));
+        assertThat(Folds.parallelFoldInt(ARRAY, (int) 0, (str, acc) -> (int) (acc + str.length()),
+                (left, right) -> (int) (left + right)))
+                .isEqualTo((int) 10);
+    }
+
+    @Test
+    void parallelFoldLongMethodReturnsCorrectValue() {
+        assertThat(Folds.parallelFoldLong(LARGE_ARRAY, Long.MIN_VALUE, (value, acc) -> (long) Math.max(acc, (long) value),
+                (left, right) -> (long) Math.max(left, right)))
+                .isEqualTo(Folds.foldLong(LARGE_ARRAY, Long.MIN_VALUE, (value, acc) -> (long) Math.max(acc, (long) value)));
+        assertThat(Folds.parallelFoldLong(ARRAY, (long) 0, (str, acc) -> (long) (acc + str.length()),
+                (left, right) -> (long) (left + right)))
+                .isEqualTo((long) 10);
+    }
+
+    @Test
+    void parallelFoldDoubleMethodReturnsCorrectValue() {
+        assertThat(Folds.parallelFoldDouble(LARGE_ARRAY, -Double.MAX_VALUE, (value, acc) -> (double) Math.max(acc, (double) value),
+                (left, right) -> (double) Math.max(left, right)))
+                .isEqualTo(Folds.foldDouble(LARGE_ARRAY, -Double.MAX_VALUE, (value, acc) -> (double) Math.max(acc, (double) value)));
+        assertThat(Folds.parallelFoldDouble(ARRAY, (double) 0, (str, acc) -> (double) (acc + str.length()),
+                (left, right) -> (double) (left + right)))
+                .isEqualTo((double) 10);
+    }
+
+    @Test
+    void parallelFoldFloatMethodReturnsCorrectValue() {
+        assertThat(Folds.parallelFoldFloat(LARGE_ARRAY, -Float.MAX_VALUE, (value, acc) -> (float) Math.max(acc, (float) value),
+                (left, right) -> (float) Math.max(left, right)))
+                .isEqualTo(Folds.foldFloat(LARGE_ARRAY, -Float.MAX_VALUE, (value, acc) -> (float) Math.max(acc, (float) value)));
+        assertThat(Folds.parallelFoldFloat(ARRAY, (float) 0, (str, acc) -> (float) (acc + str.length()),
+                (left, right) -> (float) (left + right)))
+                .isEqualTo((float) 10);
+    }
+
+    @Test
+    void parallelFoldShortMethodReturnsCorrectValue() {
+        assertThat(Folds.parallelFoldShort(LARGE_ARRAY, Short.MIN_VALUE, (value, acc) -> (short) Math.max(acc, (short) value.intValue()),
+                (left, right) -> (short) Math.max(left, right)))
+                .isEqualTo(Folds.foldShort(LARGE_ARRAY, Short.MIN_VALUE, (value, acc) -> (short) Math.max(acc, (short) value.intValue())));
+        assertThat(Folds.parallelFoldShort(ARRAY, (short) 0, (str, acc) -> (short) (acc + str.length()),
+                (left, right) -> (short) (left + right)))
+                .isEqualTo((short) 10);
+    }
+
+    @Test
+    void parallelFoldByteMethodReturnsCorrectValue() {
+        assertThat(Folds.parallelFoldByte(LARGE_ARRAY, Byte.MIN_VALUE, (value, acc) -> (byte) Math.max(acc, (byte) value.intValue()),
+                (left, right) -> (byte) Math.max(left, right)))
+                .isEqualTo(Folds.foldByte(LARGE_ARRAY, Byte.MIN_VALUE, (value, acc) -> (byte) Math.max(acc, (byte) value.intValue())));
+        assertThat(Folds.parallelFoldByte(ARRAY, (byte) 0, (str, acc) -> (byte) (acc + str.length()),
+                (left, right) -> (byte) (left + right)))
+                .isEqualTo((byte) 10);
+    }
+
+    @Test
+    void parallelFoldCharMethodReturnsCorrectValue() {
+        assertThat(Folds.parallelFoldChar(LARGE_ARRAY, Character.MIN_VALUE, (value, acc) -> (char) Math.max(acc, (char) value.intValue()),
+                (left, right) -> (char) Math.max(left, right)))
+                .isEqualTo(Folds.foldChar(LARGE_ARRAY, Character.MIN_VALUE, (value, acc) -> (char) Math.max(acc, (char) value.intValue())));
+        assertThat(Folds.parallelFoldChar(ARRAY, (char) 0, (str, acc) -> (char) (acc + str.length()),
+                (left, right) -> (char) (left + right)))
+                .isEqualTo((char) 10);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link GroupBy}.
+ */
+final class GroupByTest {
+    private static final Row[] ROWS = rows(100_000);
+
+    @Test
+    void methodsThrowNPEForNullArgs() {
+        assertThatCode(() -> GroupBy.aggregateFloatByShortKey(null, Row::hour, Row::amount, 0.0f, Float::sum))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> GroupBy.aggregateFloatByShortKey(ROWS, null, Row::amount, 0.0f, Float::sum))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> GroupBy.aggregateLongByShortKey(ROWS, Row::hour, null, 0L, Long::sum))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> GroupBy.parallelAggregateDoubleByShortKey(ROWS, Row::hour, Row::amount, 0.0, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> GroupBy.countByByteKey(null, Row::region))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> GroupBy.parallelCountByCharKey(ROWS, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void aggregateMethodsGroupRowsByShortKey() {
+        final double[] expectedSums = new double[65536];
+        final long[] expectedCounts = new long[65536];
+        for (final Row row : ROWS) {
+            expectedSums[row.hour() & 0xFFFF] += row.amount();
+            ++expectedCounts[row.hour() & 0xFFFF];
+        }
+        assertThat(GroupBy.aggregateDoubleByShortKey(ROWS, Row::hour, Row::amount, 0.0, Double::sum))
+                .containsExactly(expectedSums);
+        assertThat(GroupBy.parallelAggregateLongByShortKey(ROWS, row -> row.hour(), row -> 1L, 0L, Long::sum))
+                .containsExactly(expectedCounts);
+        assertThat(GroupBy.countByShortKey(ROWS, row -> row.hour()))
+                .containsExactly(expectedCounts);
+        assertThat(GroupBy.parallelCountByShortKey(ROWS, Row::hour))
+                .containsExactly(expectedCounts);
+    }
+
+    @Test
+    void aggregateMethodsGroupRowsByByteKey() {
+        final float[] expectedMax = new float[256];
+        Arrays.fill(expectedMax, Float.NEGATIVE_INFINITY);
+        final long[] expectedCounts = new long[256];
+        for (final Row row : ROWS) {
+            expectedMax[row.region() & 0xFF] = Math.max(expectedMax[row.region() & 0xFF], row.amount());
+            ++expectedCounts[row.region() & 0xFF];
+        }
+        assertThat(GroupBy.aggregateFloatByByteKey(
+                ROWS, row -> row.region(), row -> row.amount(), Float.NEGATIVE_INFINITY, Math::max
+        )).containsExactly(expectedMax);
+        assertThat(GroupBy.parallelAggregateFloatByByteKey(
+                ROWS, Row::region, Row::amount, Float.NEGATIVE_INFINITY, Math::max
+        )).containsExactly(expectedMax);
+        assertThat(GroupBy.countByByteKey(ROWS, row -> row.region()))
+                .containsExactly(expectedCounts);
+        assertThat(GroupBy.parallelCountByByteKey(ROWS, Row::region))
+                .containsExactly(expectedCounts);
+    }
+
+    @Test
+    void aggregateMethodsGroupRowsByCharKey() {
+        final long[] expectedSums = new long[65536];
+        for (final Row row : ROWS) {
+            expectedSums[row.code()] += row.quantity();
+        }
+        assertThat(GroupBy.aggregateLongByCharKey(ROWS, row -> row.code(), row -> row.quantity(), 0L, Long::sum))
+                .containsExactly(expectedSums);
+        assertThat(GroupBy.parallelAggregateLongByCharKey(ROWS, Row::code, Row::quantity, 0L, Long::sum))
+                .containsExactly(expectedSums);
+        final double[] doubleSums = GroupBy.parallelAggregateDoubleByCharKey(
+                ROWS, Row::code, Row::quantity, 0.0, Double::sum
+        );
+        for (int idx = 0; idx < expectedSums.length; ++idx) {
+            assertThat(doubleSums[idx]).isEqualTo((double) expectedSums[idx]);
+        }
+    }
+
+    @Test
+    void aggregateMethodsKeepIdentityForEmptyGroups() {
+        final float[] values = GroupBy.aggregateFloatByByteKey(
+                new Row[0], row -> row.region(), row -> row.amount(), -1.0f, Float::sum
+        );
+        assertThat(values).hasSize(256).containsOnly(-1.0f);
+        assertThat(GroupBy.parallelCountByCharKey(new Row[0], Row::code))
+                .hasSize(65536)
+                .containsOnly(0L);
+    }
+
+    private static Row[] rows(final int size) {
+        final Random random = new Random(1);
+        final Row[] rows = new Row[size];
+        for (int idx = 0; idx < size; ++idx) {
+            rows[idx] = new Row(
+                    (short) (random.nextInt(48) - 24),
+                    (byte) random.nextInt(),
+                    (char) random.nextInt(1000),
+                    random.nextInt(100),
+                    random.nextInt(1000) / 4.0f
+            );
+        }
+        return rows;
+    }
+
+    private static final class Row {
+        private final short hour;
+        private final byte region;
+        private final char code;
+        private final long quantity;
+        private final float amount;
+
+        private Row(final short hour, final byte region, final char code, final long quantity, final float amount) {
+            this.hour = hour;
+            this.region = region;
+            this.code = code;
+            this.quantity = quantity;
+            this.amount = amount;
+        }
+
+        private short hour() {
+            return this.hour;
+        }
+
+        private byte region() {
+            return this.region;
+        }
+
+        private char code() {
+            return this.code;
+        }
+
+        private long quantity() {
+            return this.quantity;
+        }
+
+        private float amount() {
+            return this.amount;
+        }
+    }
+}
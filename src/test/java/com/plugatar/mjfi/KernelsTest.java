@@ -0,0 +1,425 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link Kernels}.
+ */
+final class KernelsTest {
+    private static final int LARGE_LENGTH = 1_000_003;
+
+    @Test
+    void floatMethodsThrowNPEForNullArgs() {
+        final float[] array = new float[1];
+        final FloatBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.zip(null, array, array, operator))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.parallelZip(array, array, array, (FloatBinaryOperator) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.reduce((float[]) null, operator))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.parallelReduce(array, 0.0f, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void floatZipMethodsThrowIAEForDifferentLengths() {
+        final FloatBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.zip(new float[2], new float[3], new float[2], operator))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> Kernels.parallelZip(new float[2], new float[2], new float[1], operator))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void floatReduceMethodsThrowNSEEForEmptyArray() {
+        final FloatBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.reduce(new float[0], operator))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatCode(() -> Kernels.parallelReduce(new float[0], operator))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void floatZipMethodsApplyOperatorElementWise() {
+        final float[] left = randomFloatArray(LARGE_LENGTH, 1);
+        final float[] right = randomFloatArray(LARGE_LENGTH, 2);
+        final FloatBinaryOperator operator = (l, r) -> l * 0.5f + r;
+        final float[] expected = new float[LARGE_LENGTH];
+        for (int idx = 0; idx < LARGE_LENGTH; ++idx) {
+            expected[idx] = operator.applyAsFloat(left[idx], right[idx]);
+        }
+        final float[] out = new float[LARGE_LENGTH];
+        Kernels.zip(left, right, out, operator);
+        assertThat(out).isEqualTo(expected);
+        final float[] parallelOut = new float[LARGE_LENGTH];
+        Kernels.parallelZip(left, right, parallelOut, operator);
+        assertThat(parallelOut).isEqualTo(expected);
+        Kernels.parallelZip(left, right, left, operator);
+        assertThat(left).isEqualTo(expected);
+    }
+
+    @Test
+    void floatReduceMethodsReduceValues() {
+        final float[] array = randomFloatArray(LARGE_LENGTH, 3);
+        final FloatBinaryOperator operator = (l, r) -> Math.max(l, r);
+        float expected = 0.0f;
+        for (final float value : array) {
+            expected = operator.applyAsFloat(expected, value);
+        }
+        assertThat(Kernels.reduce(array, 0.0f, operator)).isEqualTo(expected);
+        assertThat(Kernels.reduce(array, operator)).isEqualTo(expected);
+        assertThat(Kernels.parallelReduce(array, 0.0f, operator)).isEqualTo(expected);
+        assertThat(Kernels.parallelReduce(array, operator)).isEqualTo(expected);
+        assertThat(Kernels.reduce(new float[0], 0.0f, operator)).isEqualTo(0.0f);
+        assertThat(Kernels.parallelReduce(new float[0], 0.0f, operator)).isEqualTo(0.0f);
+    }
+
+    private static float[] randomFloatArray(final int length, final long seed) {
+        final Random random = new Random(seed);
+        final float[] array = new float[length];
+        for (int idx = 0; idx < length; ++idx) {
+            array[idx] = random.nextFloat();
+        }
+        return array;
+    }
+
+    @Test
+    void shortMethodsThrowNPEForNullArgs() {
+        final short[] array = new short[1];
+        final ShortBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.zip(null, array, array, operator))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.parallelZip(array, array, array, (ShortBinaryOperator) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.reduce((short[]) null, operator))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.parallelReduce(array, (short) 0, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shortZipMethodsThrowIAEForDifferentLengths() {
+        final ShortBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.zip(new short[2], new short[3], new short[2], operator))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> Kernels.parallelZip(new short[2], new short[2], new short[1], operator))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shortReduceMethodsThrowNSEEForEmptyArray() {
+        final ShortBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.reduce(new short[0], operator))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatCode(() -> Kernels.parallelReduce(new short[0], operator))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void shortZipMethodsApplyOperatorElementWise() {
+        final short[] left = randomShortArray(LARGE_LENGTH, 1);
+        final short[] right = randomShortArray(LARGE_LENGTH, 2);
+        final ShortBinaryOperator operator = (l, r) -> (short) (l - r);
+        final short[] expected = new short[LARGE_LENGTH];
+        for (int idx = 0; idx < LARGE_LENGTH; ++idx) {
+            expected[idx] = operator.applyAsShort(left[idx], right[idx]);
+        }
+        final short[] out = new short[LARGE_LENGTH];
+        Kernels.zip(left, right, out, operator);
+        assertThat(out).isEqualTo(expected);
+        final short[] parallelOut = new short[LARGE_LENGTH];
+        Kernels.parallelZip(left, right, parallelOut, operator);
+        assertThat(parallelOut).isEqualTo(expected);
+        Kernels.parallelZip(left, right, left, operator);
+        assertThat(left).isEqualTo(expected);
+    }
+
+    @Test
+    void shortReduceMethodsReduceValues() {
+        final short[] array = randomShortArray(LARGE_LENGTH, 3);
+        final ShortBinaryOperator operator = (l, r) -> (short) (l ^ r);
+        short expected = (short) 0;
+        for (final short value : array) {
+            expected = operator.applyAsShort(expected, value);
+        }
+        assertThat(Kernels.reduce(array, (short) 0, operator)).isEqualTo(expected);
+        assertThat(Kernels.reduce(array, operator)).isEqualTo(expected);
+        assertThat(Kernels.parallelReduce(array, (short) 0, operator)).isEqualTo(expected);
+        assertThat(Kernels.parallelReduce(array, operator)).isEqualTo(expected);
+        assertThat(Kernels.reduce(new short[0], (short) 0, operator)).isEqualTo((short) 0);
+        assertThat(Kernels.parallelReduce(new short[0], (short) 0, operator)).isEqualTo((short) 0);
+    }
+
+    private static short[] randomShortArray(final int length, final long seed) {
+        final Random random = new Random(seed);
+        final short[] array = new short[length];
+        for (int idx = 0; idx < length; ++idx) {
+            array[idx] = (short) random.nextInt();
+        }
+        return array;
+    }
+
+    @Test
+    void byteMethodsThrowNPEForNullArgs() {
+        final byte[] array = new byte[1];
+        final ByteBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.zip(null, array, array, operator))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.parallelZip(array, array, array, (ByteBinaryOperator) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.reduce((byte[]) null, operator))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.parallelReduce(array, (byte) 0, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void byteZipMethodsThrowIAEForDifferentLengths() {
+        final ByteBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.zip(new byte[2], new byte[3], new byte[2], operator))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> Kernels.parallelZip(new byte[2], new byte[2], new byte[1], operator))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void byteReduceMethodsThrowNSEEForEmptyArray() {
+        final ByteBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.reduce(new byte[0], operator))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatCode(() -> Kernels.parallelReduce(new byte[0], operator))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void byteZipMethodsApplyOperatorElementWise() {
+        final byte[] left = randomByteArray(LARGE_LENGTH, 1);
+        final byte[] right = randomByteArray(LARGE_LENGTH, 2);
+        final ByteBinaryOperator operator = (l, r) -> (byte) (l + 2 * r);
+        final byte[] expected = new byte[LARGE_LENGTH];
+        for (int idx = 0; idx < LARGE_LENGTH; ++idx) {
+            expected[idx] = operator.applyAsByte(left[idx], right[idx]);
+        }
+        final byte[] out = new byte[LARGE_LENGTH];
+        Kernels.zip(left, right, out, operator);
+        assertThat(out).isEqualTo(expected);
+        final byte[] parallelOut = new byte[LARGE_LENGTH];
+        Kernels.parallelZip(left, right, parallelOut, operator);
+        assertThat(parallelOut).isEqualTo(expected);
+        Kernels.parallelZip(left, right, left, operator);
+        assertThat(left).isEqualTo(expected);
+    }
+
+    @Test
+    void byteReduceMethodsReduceValues() {
+        final byte[] array = randomByteArray(LARGE_LENGTH, 3);
+        final ByteBinaryOperator operator = (l, r) -> (byte) (l + r);
+        byte expected = (byte) 0;
+        for (final byte value : array) {
+            expected = operator.applyAsByte(expected, value);
+        }
+        assertThat(Kernels.reduce(array, (byte) 0, operator)).isEqualTo(expected);
+        assertThat(Kernels.reduce(array, operator)).isEqualTo(expected);
+        assertThat(Kernels.parallelReduce(array, (byte) 0, operator)).isEqualTo(expected);
+        assertThat(Kernels.parallelReduce(array, operator)).isEqualTo(expected);
+        assertThat(Kernels.reduce(new byte[0], (byte) 0, operator)).isEqualTo((byte) 0);
+        assertThat(Kernels.parallelReduce(new byte[0], (byte) 0, operator)).isEqualTo((byte) 0);
+    }
+
+    private static byte[] randomByteArray(final int length, final long seed) {
+        final Random random = new Random(seed);
+        final byte[] array = new byte[length];
+        for (int idx = 0; idx < length; ++idx) {
+            array[idx] = (byte) random.nextInt();
+        }
+        return array;
+    }
+
+    @Test
+    void charMethodsThrowNPEForNullArgs() {
+        final char[] array = new char[1];
+        final CharBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.zip(null, array, array, operator))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.parallelZip(array, array, array, (CharBinaryOperator) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.reduce((char[]) null, operator))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.parallelReduce(array, (char) 0, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void charZipMethodsThrowIAEForDifferentLengths() {
+        final CharBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.zip(new char[2], new char[3], new char[2], operator))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> Kernels.parallelZip(new char[2], new char[2], new char[1], operator))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void charReduceMethodsThrowNSEEForEmptyArray() {
+        final CharBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.reduce(new char[0], operator))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatCode(() -> Kernels.parallelReduce(new char[0], operator))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void charZipMethodsApplyOperatorElementWise() {
+        final char[] left = randomCharArray(LARGE_LENGTH, 1);
+        final char[] right = randomCharArray(LARGE_LENGTH, 2);
+        final CharBinaryOperator operator = (l, r) -> (char) (l | r);
+        final char[] expected = new char[LARGE_LENGTH];
+        for (int idx = 0; idx < LARGE_LENGTH; ++idx) {
+            expected[idx] = operator.applyAsChar(left[idx], right[idx]);
+        }
+        final char[] out = new char[LARGE_LENGTH];
+        Kernels.zip(left, right, out, operator);
+        assertThat(out).isEqualTo(expected);
+        final char[] parallelOut = new char[LARGE_LENGTH];
+        Kernels.parallelZip(left, right, parallelOut, operator);
+        assertThat(parallelOut).isEqualTo(expected);
+        Kernels.parallelZip(left, right, left, operator);
+        assertThat(left).isEqualTo(expected);
+    }
+
+    @Test
+    void charReduceMethodsReduceValues() {
+        final char[] array = randomCharArray(LARGE_LENGTH, 3);
+        final CharBinaryOperator operator = (l, r) -> (char) Math.max(l, r);
+        char expected = (char) 0;
+        for (final char value : array) {
+            expected = operator.applyAsChar(expected, value);
+        }
+        assertThat(Kernels.reduce(array, (char) 0, operator)).isEqualTo(expected);
+        assertThat(Kernels.reduce(array, operator)).isEqualTo(expected);
+        assertThat(Kernels.parallelReduce(array, (char) 0, operator)).isEqualTo(expected);
+        assertThat(Kernels.parallelReduce(array, operator)).isEqualTo(expected);
+        assertThat(Kernels.reduce(new char[0], (char) 0, operator)).isEqualTo((char) 0);
+        assertThat(Kernels.parallelReduce(new char[0], (char) 0, operator)).isEqualTo((char) 0);
+    }
+
+    private static char[] randomCharArray(final int length, final long seed) {
+        final Random random = new Random(seed);
+        final char[] array = new char[length];
+        for (int idx = 0; idx < length; ++idx) {
+            array[idx] = (char) random.nextInt();
+        }
+        return array;
+    }
+
+    @Test
+    void booleanMethodsThrowNPEForNullArgs() {
+        final boolean[] array = new boolean[1];
+        final BooleanBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.zip(null, array, array, operator))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.parallelZip(array, array, array, (BooleanBinaryOperator) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.reduce((boolean[]) null, operator))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Kernels.parallelReduce(array, false, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void booleanZipMethodsThrowIAEForDifferentLengths() {
+        final BooleanBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.zip(new boolean[2], new boolean[3], new boolean[2], operator))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> Kernels.parallelZip(new boolean[2], new boolean[2], new boolean[1], operator))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void booleanReduceMethodsThrowNSEEForEmptyArray() {
+        final BooleanBinaryOperator operator = (left, right) -> left;
+        assertThatCode(() -> Kernels.reduce(new boolean[0], operator))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatCode(() -> Kernels.parallelReduce(new boolean[0], operator))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void booleanZipMethodsApplyOperatorElementWise() {
+        final boolean[] left = randomBooleanArray(LARGE_LENGTH, 1);
+        final boolean[] right = randomBooleanArray(LARGE_LENGTH, 2);
+        final BooleanBinaryOperator operator = (l, r) -> l ^ r;
+        final boolean[] expected = new boolean[LARGE_LENGTH];
+        for (int idx = 0; idx < LARGE_LENGTH; ++idx) {
+            expected[idx] = operator.applyAsBoolean(left[idx], right[idx]);
+        }
+        final boolean[] out = new boolean[LARGE_LENGTH];
+        Kernels.zip(left, right, out, operator);
+        assertThat(out).isEqualTo(expected);
+        final boolean[] parallelOut = new boolean[LARGE_LENGTH];
+        Kernels.parallelZip(left, right, parallelOut, operator);
+        assertThat(parallelOut).isEqualTo(expected);
+        Kernels.parallelZip(left, right, left, operator);
+        assertThat(left).isEqualTo(expected);
+    }
+
+    @Test
+    void booleanReduceMethodsReduceValues() {
+        final boolean[] array = randomBooleanArray(LARGE_LENGTH, 3);
+        final BooleanBinaryOperator operator = (l, r) -> l || r;
+        boolean expected = false;
+        for (final boolean value : array) {
+            expected = operator.applyAsBoolean(expected, value);
+        }
+        assertThat(Kernels.reduce(array, false, operator)).isEqualTo(expected);
+        assertThat(Kernels.reduce(array, operator)).isEqualTo(expected);
+        assertThat(Kernels.parallelReduce(array, false, operator)).isEqualTo(expected);
+        assertThat(Kernels.parallelReduce(array, operator)).isEqualTo(expected);
+        assertThat(Kernels.reduce(new boolean[0], false, operator)).isEqualTo(false);
+        assertThat(Kernels.parallelReduce(new boolean[0], false, operator)).isEqualTo(false);
+    }
+
+    private static boolean[] randomBooleanArray(final int length, final long seed) {
+        final Random random = new Random(seed);
+        final boolean[] array = new boolean[length];
+        for (int idx = 0; idx < length; ++idx) {
+            array[idx] = random.nextInt(1000) == 0;
+        }
+        return array;
+    }
+
+    @Test
+    void parallelReduceMethodMergesChunksInEncounterOrder() {
+        final char[] array = new char[LARGE_LENGTH];
+        for (int idx = 0; idx < LARGE_LENGTH; ++idx) {
+            array[idx] = (char) idx;
+        }
+        assertThat(Kernels.parallelReduce(array, (left, right) -> right))
+                .isEqualTo(array[LARGE_LENGTH - 1]);
+        assertThat(Kernels.parallelReduce(array, (left, right) -> left))
+                .isEqualTo(array[0]);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link Lists}.
+ */
+final class ListsTest {
+
+    @Test
+    void removeIfIndexedMethodThrowsNPEForNullArgs() {
+        assertThatCode(() -> Lists.removeIfIndexed(null, (str, idx) -> true))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Lists.removeIfIndexed(new ArrayList<>(), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void removeIfIndexedMethodRemovesMatchingElementsOfRandomAccessList() {
+        final List<String> list = new ArrayList<>(Arrays.asList("a", "b", "c", "d", "e", "f"));
+        assertThat(Lists.removeIfIndexed(list, (str, idx) -> idx % 2 == 0 || str.equals("d")))
+                .isTrue();
+        assertThat(list)
+                .containsExactly("b", "f");
+        assertThat(Lists.removeIfIndexed(list, (str, idx) -> false))
+                .isFalse();
+        assertThat(list)
+                .containsExactly("b", "f");
+    }
+
+    @Test
+    void removeIfIndexedMethodRemovesMatchingElementsOfSequentialList() {
+        final List<String> list = new LinkedList<>(Arrays.asList("a", "b", "c", "d", "e", "f"));
+        assertThat(Lists.removeIfIndexed(list, (str, idx) -> idx % 2 == 0 || str.equals("d")))
+                .isTrue();
+        assertThat(list)
+                .containsExactly("b", "f");
+    }
+
+    @Test
+    void removeIfIndexedMethodRemovesMatchingElementsOfOtherRandomAccessLists() {
+        final List<String> vector = new Vector<>(Arrays.asList("a", "b", "c", "d", "e", "f"));
+        final List<String> outer = new ArrayList<>(Arrays.asList("x", "a", "b", "c", "d", "e", "f", "y"));
+        final List<String> subList = outer.subList(1, 7);
+        assertThat(Lists.removeIfIndexed(vector, (str, idx) -> idx % 2 == 0 || str.equals("d")))
+                .isTrue();
+        assertThat(Lists.removeIfIndexed(subList, (str, idx) -> idx % 2 == 0 || str.equals("d")))
+                .isTrue();
+        assertThat(vector)
+                .containsExactly("b", "f");
+        assertThat(outer)
+                .containsExactly("x", "b", "f", "y");
+        final List<String> tail = new ArrayList<>(Arrays.asList("a", "b", "c", "d", "e"));
+        assertThat(Lists.removeIfIndexed(tail, (str, idx) -> idx < 3))
+                .isTrue();
+        assertThat(tail)
+                .containsExactly("d", "e");
+    }
+
+    @Test
+    void removeIfIndexedMethodRemovesMatchingElementsOfCopyOnWriteList() {
+        final List<String> list = new CopyOnWriteArrayList<>(Arrays.asList("a", "b", "c", "d", "e", "f"));
+        assertThat(Lists.removeIfIndexed(list, (str, idx) -> idx % 2 == 0 || str.equals("d")))
+                .isTrue();
+        assertThat(list)
+                .containsExactly("b", "f");
+    }
+
+    @Test
+    void removeIfIndexedMethodDoesNotChangeFixedSizeList() {
+        final List<String> list = Arrays.asList("a", "b", "c", "d");
+        assertThatCode(() -> Lists.removeIfIndexed(list, (str, idx) -> idx == 0))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(list)
+                .containsExactly("a", "b", "c", "d");
+        assertThat(Lists.removeIfIndexed(list, (str, idx) -> false))
+                .isFalse();
+    }
+
+    @Test
+    void removeIfIndexedMethodDoesNotChangeListIfPredicateThrowsException() {
+        final List<String> list = new ArrayList<>(Arrays.asList("a", "b", "c"));
+        assertThatCode(() -> Lists.removeIfIndexed(list, (str, idx) -> {
+            if (idx == 2) {
+                throw new TestException();
+            }
+            return true;
+        })).isInstanceOf(TestException.class);
+        assertThat(list)
+                .containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void replaceAllIndexedMethodReplacesElements() {
+        final List<String> arrayList = new ArrayList<>(Arrays.asList("a", "b", "c"));
+        final List<String> linkedList = new LinkedList<>(arrayList);
+        Lists.replaceAllIndexed(arrayList, (str, idx) -> str + idx);
+        Lists.replaceAllIndexed(linkedList, (str, idx) -> str + idx);
+        assertThat(arrayList)
+                .containsExactly("a0", "b1", "c2");
+        assertThat(linkedList)
+                .containsExactly("a0", "b1", "c2");
+    }
+}
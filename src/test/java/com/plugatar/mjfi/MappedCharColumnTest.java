@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link MappedCharColumn}.
+ */
+final class MappedCharColumnTest {
+    private Path directory;
+
+    @BeforeClass
+    void createDirectory() throws IOException {
+        this.directory = Files.createTempDirectory("mapped-column");
+    }
+
+    @AfterClass
+    void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(this.directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void methodsThrowExceptionsForIllegalArgs() {
+        final Path path = this.directory.resolve("illegal");
+        assertThatCode(() -> MappedCharColumn.write(null, 1L, idx -> 'a'))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> MappedCharColumn.write(path, 1L, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> MappedCharColumn.write(path, -1L, idx -> 'a'))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> MappedCharColumn.open(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void openMethodThrowsIOExceptionForInvalidFile() throws IOException {
+        final Path foreign = this.directory.resolve("foreign");
+        Files.write(foreign, new byte[64]);
+        assertThatCode(() -> MappedCharColumn.open(foreign))
+                .isInstanceOf(IOException.class);
+        final Path otherType = this.directory.resolve("other-type");
+        MappedByteColumn.write(otherType, 10L, idx -> (byte) 1);
+        assertThatCode(() -> MappedCharColumn.open(otherType))
+                .isInstanceOf(IOException.class);
+        final Path truncated = this.directory.resolve("truncated");
+        MappedCharColumn.write(truncated, 100L, idx -> 'a');
+        final byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThatCode(() -> MappedCharColumn.open(truncated))
+                .isInstanceOf(IOException.class);
+        final Path unknownOrder = this.directory.resolve("unknown-order");
+        MappedCharColumn.write(unknownOrder, 10L, idx -> 'a');
+        final byte[] header = Files.readAllBytes(unknownOrder);
+        header[5] = 2;
+        Files.write(unknownOrder, header);
+        assertThatCode(() -> MappedCharColumn.open(unknownOrder))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void failedWriteLeavesInvalidFile() throws IOException {
+        final Path path = this.directory.resolve("failed");
+        MappedCharColumn.write(path, 10L, idx -> 'a');
+        assertThatCode(() -> MappedCharColumn.write(path, 100_000L, idx -> {
+            if (idx == 90_000L) {
+                throw new IllegalStateException();
+            }
+            return 'a';
+        })).isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> MappedCharColumn.open(path))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void columnReadsWrittenValuesAcrossRegions() throws IOException {
+        final Path path = this.directory.resolve("values");
+        MappedCharColumn.write(path, 100_003L, idx -> (char) (idx * 7));
+        try (MappedCharColumn column = MappedCharColumn.open(path, 10)) {
+            assertThat(column.length()).isEqualTo(100_003L);
+            for (long idx = 0L; idx < 100_003L; ++idx) {
+                assertThat(column.get(idx)).isEqualTo((char) (idx * 7));
+            }
+            final LongToCharFunction function = column;
+            assertThat(function.applyAsChar(12_345L)).isEqualTo(column.get(12_345L));
+            assertThatCode(() -> column.get(100_003L))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatCode(() -> column.get(-1L))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+        try (MappedCharColumn column = MappedCharColumn.open(path)) {
+            assertThat(column.get(100_002L)).isEqualTo((char) (char) (100_002L * 7));
+        }
+    }
+
+    @Test
+    void scanMethodsProcessValuesInIndexOrder() throws IOException {
+        final Path path = this.directory.resolve("scan");
+        MappedCharColumn.write(path, 1000L, idx -> (char) (idx * 7));
+        try (MappedCharColumn column = MappedCharColumn.open(path, 6)) {
+            final List<Character> values = new ArrayList<>();
+            column.forEach(values::add);
+            assertThat(values).hasSize(1000);
+            long expectedCount = 0L;
+            long expectedIndex = -1L;
+            for (long idx = 0L; idx < 1000L; ++idx) {
+                final char value = (char) (idx * 7);
+                assertThat(values.get((int) idx)).isEqualTo(value);
+                if (value > 'z') {
+                    ++expectedCount;
+                    if (expectedIndex == -1L) {
+                        expectedIndex = idx;
+                    }
+                }
+            }
+            assertThat(column.count(value -> value > 'z')).isEqualTo(expectedCount);
+            assertThat(column.indexOf(value -> value > 'z')).isEqualTo(expectedIndex);
+            assertThat(column.indexOf(value -> false)).isEqualTo(-1L);
+        }
+    }
+
+    @Test
+    void emptyColumnHasNoValues() throws IOException {
+        final Path path = this.directory.resolve("empty");
+        MappedCharColumn.write(path, 0L, idx -> 'a');
+        try (MappedCharColumn column = MappedCharColumn.open(path)) {
+            assertThat(column.length()).isZero();
+            assertThat(column.count(value -> true)).isZero();
+            assertThat(column.indexOf(value -> true)).isEqualTo(-1L);
+        }
+    }
+
+    @Test
+    void closeMethodClosesColumn() throws IOException {
+        final Path path = this.directory.resolve("closed");
+        MappedCharColumn.write(path, 10L, idx -> 'a');
+        final MappedCharColumn column = MappedCharColumn.open(path);
+        assertThat(column.isClosed()).isFalse();
+        column.close();
+        column.close();
+        assertThat(column.isClosed()).isTrue();
+        assertThatCode(() -> column.get(0L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> column.count(value -> true))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void closeMethodThrowsISEInsideScans() throws IOException {
+        final Path path = this.directory.resolve("scanned");
+        MappedCharColumn.write(path, 100L, idx -> 'a');
+        try (MappedCharColumn column = MappedCharColumn.open(path, 4)) {
+            assertThatCode(() -> column.forEach(value -> column.close()))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatCode(() -> column.count(value -> {
+                column.close();
+                return true;
+            })).isInstanceOf(IllegalStateException.class);
+            assertThatCode(() -> column.indexOf(value -> {
+                column.close();
+                return true;
+            })).isInstanceOf(IllegalStateException.class);
+            assertThat(column.isClosed()).isFalse();
+            assertThat(column.get(99L)).isEqualTo('a');
+        }
+    }
+}
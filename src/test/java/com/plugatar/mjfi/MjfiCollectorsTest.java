@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Test case for {@link MjfiCollectors}.
+ */
+final class MjfiCollectorsTest {
+
+    @Test
+    void methodsThrowNPEForNullArgs() {
+        assertThatCode(() -> MjfiCollectors.toFloatArray(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> MjfiCollectors.toShortArray(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> MjfiCollectors.toByteArray(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> MjfiCollectors.toCharString(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> MjfiCollectors.summarizingFloat(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> MjfiCollectors.groupingByChar(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> MjfiCollectors.groupingByChar(str -> 'a', null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void toArrayCollectorsCollectMappedValues() {
+        assertThat(Stream.of("1", "22", "333").collect(MjfiCollectors.toFloatArray(str -> str.length() * 0.5f)))
+                .containsExactly(0.5f, 1.0f, 1.5f);
+        assertThat(Stream.of("1", "22", "333").collect(MjfiCollectors.toShortArray(str -> (short) -str.length())))
+                .containsExactly((short) -1, (short) -2, (short) -3);
+        assertThat(Stream.of("1", "22", "333").collect(MjfiCollectors.toByteArray(str -> (byte) str.length())))
+                .containsExactly((byte) 1, (byte) 2, (byte) 3);
+        assertThat(Stream.<String>empty().collect(MjfiCollectors.toFloatArray(str -> 1.0f)))
+                .isEmpty();
+    }
+
+    @Test
+    void toArrayCollectorsCollectValuesOfParallelStreamInEncounterOrder() {
+        final float[] floats = IntStream.range(0, 100_000).boxed().parallel()
+                .collect(MjfiCollectors.toFloatArray(Integer::floatValue));
+        final short[] shorts = IntStream.range(0, 100_000).boxed().parallel()
+                .collect(MjfiCollectors.toShortArray(Integer::shortValue));
+        final byte[] bytes = IntStream.range(0, 100_000).boxed().parallel()
+                .collect(MjfiCollectors.toByteArray(Integer::byteValue));
+        assertThat(floats).hasSize(100_000);
+        assertThat(shorts).hasSize(100_000);
+        assertThat(bytes).hasSize(100_000);
+        for (int idx = 0; idx < 100_000; ++idx) {
+            assertThat(floats[idx]).isEqualTo((float) idx);
+            assertThat(shorts[idx]).isEqualTo((short) idx);
+            assertThat(bytes[idx]).isEqualTo((byte) idx);
+        }
+    }
+
+    @Test
+    void toCharStringCollectorCollectsMappedChars() {
+        assertThat(Stream.of("apple", "banana", "cherry").collect(MjfiCollectors.toCharString(str -> str.charAt(0))))
+                .isEqualTo("abc");
+        final String expected = IntStream.range(0, 10_000)
+                .mapToObj(idx -> String.valueOf((char) ('a' + idx % 26)))
+                .collect(Collectors.joining());
+        assertThat(IntStream.range(0, 10_000).boxed().parallel()
+                .collect(MjfiCollectors.toCharString(idx -> (char) ('a' + idx % 26))))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void summarizingFloatCollectorProducesStatistics() {
+        final DoubleSummaryStatistics stats = Stream.of("1", "22", "333")
+                .collect(MjfiCollectors.summarizingFloat(str -> str.length() * 1.5f));
+        assertThat(stats.getCount()).isEqualTo(3);
+        assertThat(stats.getMin()).isEqualTo(1.5);
+        assertThat(stats.getMax()).isEqualTo(4.5);
+        assertThat(stats.getSum()).isEqualTo(9.0);
+    }
+
+    @Test
+    void groupingByCharCollectorGroupsElementsInKeyOrder() {
+        final Map<Character, List<String>> map = Stream.of("cat", "ant", "cow", "\uffffz", "bee", "ape")
+                .collect(MjfiCollectors.groupingByChar(str -> str.charAt(0)));
+        assertThat(map)
+                .containsExactly(
+                        entry('a', Arrays.asList("ant", "ape")),
+                        entry('b', Arrays.asList("bee")),
+                        entry('c', Arrays.asList("cat", "cow")),
+                        entry('\uffff', Arrays.asList("\uffffz"))
+                );
+    }
+
+    @Test
+    void groupingByCharCollectorWithDownstreamGroupsElementsOfParallelStream() {
+        final Map<Character, Long> map = IntStream.range(0, 100_000).boxed().parallel()
+                .collect(MjfiCollectors.groupingByChar(idx -> (char) (idx % 1000 * 60), Collectors.counting()));
+        assertThat(map).hasSize(1000);
+        assertThat(map.values()).allMatch(count -> count == 100L);
+        assertThat(new ArrayList<>(map.keySet())).isSorted();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ObjectArrays}.
+ */
+final class ObjectArraysTest {
+    private static final Integer[] LARGE_ARRAY = IntStream.range(0, 100_000).boxed().toArray(Integer[]::new);
+
+    @Test
+    void methodsThrowNPEForNullArgs() {
+        assertThatCode(() -> ObjectArrays.mapIndexed(null, (str, idx) -> str, String[]::new))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> ObjectArrays.parallelMapIndexed(new String[0], null, String[]::new))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> ObjectArrays.replaceAllIndexed(new String[0], null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> ObjectArrays.parallelFilterIndexed(null, (str, idx) -> true))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void mapIndexedMethodsReturnMappedArray() {
+        final String[] array = {"a", "b", "c"};
+        assertThat(ObjectArrays.mapIndexed(array, (str, idx) -> str + idx, String[]::new))
+                .containsExactly("a0", "b1", "c2");
+        assertThat(ObjectArrays.parallelMapIndexed(LARGE_ARRAY, (value, idx) -> value - idx, Integer[]::new))
+                .containsOnly(0);
+    }
+
+    @Test
+    void replaceAllIndexedMethodsReplaceElements() {
+        final String[] array = {"a", "b", "c"};
+        ObjectArrays.replaceAllIndexed(array, (str, idx) -> str + idx);
+        assertThat(array)
+                .containsExactly("a0", "b1", "c2");
+        final Integer[] largeArray = LARGE_ARRAY.clone();
+        ObjectArrays.parallelReplaceAllIndexed(largeArray, (value, idx) -> value + idx);
+        assertThat(largeArray[99_999])
+                .isEqualTo(199_998);
+    }
+
+    @Test
+    void filterIndexedMethodsReturnKeptElementsInOrder() {
+        final String[] array = {"a", "b", "c", "d"};
+        final String[] filtered = ObjectArrays.filterIndexed(array, (str, idx) -> idx != 1);
+        assertThat(filtered)
+                .containsExactly("a", "c", "d");
+        assertThat(ObjectArrays.filterIndexed(array, (str, idx) -> true))
+                .containsExactly(array);
+        final Integer[] parallelFiltered = ObjectArrays.parallelFilterIndexed(LARGE_ARRAY, (value, idx) -> idx % 3 == 0);
+        assertThat(parallelFiltered)
+                .hasSize(33_334)
+                .startsWith(0, 3, 6)
+                .endsWith(99_999);
+    }
+}
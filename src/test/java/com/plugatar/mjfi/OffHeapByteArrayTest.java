@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link OffHeapByteArray}.
+ */
+final class OffHeapByteArrayTest {
+
+    @Test
+    void ctorThrowsIAEForIllegalArgs() {
+        assertThatCode(() -> new OffHeapByteArray(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new OffHeapByteArray(10L, 31))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new OffHeapByteArray(Long.MAX_VALUE, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void methodsThrowNPEForNullArgs() {
+        try (OffHeapByteArray array = new OffHeapByteArray(10L)) {
+            assertThatCode(() -> array.fill(null))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> array.replaceAll(null))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> array.forEach(null))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> array.reduce((byte) 0, null))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> array.reduce(null))
+                    .isInstanceOf(NullPointerException.class);
+        }
+    }
+
+    @Test
+    void getAndSetMethodsAccessValuesAcrossSegments() {
+        try (OffHeapByteArray array = new OffHeapByteArray(10L, 2)) {
+            assertThat(array.length()).isEqualTo(10L);
+            assertThat(array.get(9L)).isEqualTo((byte) 0);
+            array.set(3L, (byte) 1);
+            array.set(4L, (byte) 2);
+            assertThat(array.get(3L)).isEqualTo((byte) 1);
+            assertThat(array.get(4L)).isEqualTo((byte) 2);
+            assertThatCode(() -> array.get(10L))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatCode(() -> array.set(-1L, (byte) 1))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    void bulkMethodsProcessValuesInIndexOrder() {
+        try (OffHeapByteArray array = new OffHeapByteArray(1003L, 6)) {
+            final int[] counter = {0};
+            array.fill(() -> {
+                final int idx = counter[0]++;
+                return (byte) idx;
+            });
+            array.replaceAll(value -> (byte) (value ^ 0x55));
+            final List<Byte> values = new ArrayList<>();
+            array.forEach(values::add);
+            assertThat(values).hasSize(1003);
+            final ByteBinaryOperator reducer = (left, right) -> (byte) (left + right);
+            byte expected = (byte) 0;
+            byte expectedWithoutIdentity = (byte) 0;
+            for (int idx = 0; idx < 1003; ++idx) {
+                final byte value = (byte) idx;
+                final byte replaced = (byte) (value ^ 0x55);
+                assertThat(values.get(idx)).isEqualTo(replaced);
+                assertThat(array.get(idx)).isEqualTo(replaced);
+                expected = reducer.applyAsByte(expected, replaced);
+                expectedWithoutIdentity = idx == 0 ? replaced : reducer.applyAsByte(expectedWithoutIdentity, replaced);
+            }
+            assertThat(array.reduce((byte) 0, reducer)).isEqualTo(expected);
+            assertThat(array.reduce(reducer)).isEqualTo(expectedWithoutIdentity);
+        }
+    }
+
+    @Test
+    void reduceMethodsHandleEmptyArray() {
+        try (OffHeapByteArray array = new OffHeapByteArray(0L)) {
+            assertThat(array.reduce((byte) 1, (left, right) -> left)).isEqualTo((byte) 1);
+            assertThatCode(() -> array.reduce((left, right) -> left))
+                    .isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Test
+    void closeMethodReleasesArray() {
+        final OffHeapByteArray array = new OffHeapByteArray(100L, 4);
+        assertThat(array.isClosed()).isFalse();
+        array.close();
+        assertThat(array.isClosed()).isTrue();
+        array.close();
+        assertThat(array.length()).isEqualTo(100L);
+        assertThatCode(() -> array.get(0L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> array.set(0L, (byte) 1))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> array.forEach(value -> {
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void closeMethodThrowsISEInsideBulkOperations() {
+        try (OffHeapByteArray array = new OffHeapByteArray(100L, 4)) {
+            assertThatCode(() -> array.forEach(value -> array.close()))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatCode(() -> array.replaceAll(value -> {
+                array.close();
+                return value;
+            })).isInstanceOf(IllegalStateException.class);
+            assertThatCode(() -> array.fill(() -> {
+                array.close();
+                return (byte) 1;
+            })).isInstanceOf(IllegalStateException.class);
+            assertThatCode(() -> array.reduce((byte) 1, (left, right) -> {
+                array.close();
+                return left;
+            })).isInstanceOf(IllegalStateException.class);
+            assertThatCode(() -> array.reduce((left, right) -> {
+                array.close();
+                return left;
+            })).isInstanceOf(IllegalStateException.class);
+            assertThat(array.isClosed()).isFalse();
+            array.set(99L, (byte) 1);
+            assertThat(array.get(99L)).isEqualTo((byte) 1);
+        }
+    }
+}
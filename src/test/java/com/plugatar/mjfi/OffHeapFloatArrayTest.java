@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link OffHeapFloatArray}.
+ */
+final class OffHeapFloatArrayTest {
+
+    @Test
+    void ctorThrowsIAEForIllegalArgs() {
+        assertThatCode(() -> new OffHeapFloatArray(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new OffHeapFloatArray(10L, 31))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new OffHeapFloatArray(Long.MAX_VALUE, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void methodsThrowNPEForNullArgs() {
+        try (OffHeapFloatArray array = new OffHeapFloatArray(10L)) {
+            assertThatCode(() -> array.fill(null))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> array.replaceAll(null))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> array.forEach(null))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> array.reduce(0.0f, null))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> array.reduce(null))
+                    .isInstanceOf(NullPointerException.class);
+        }
+    }
+
+    @Test
+    void getAndSetMethodsAccessValuesAcrossSegments() {
+        try (OffHeapFloatArray array = new OffHeapFloatArray(10L, 2)) {
+            assertThat(array.length()).isEqualTo(10L);
+            assertThat(array.get(9L)).isEqualTo(0.0f);
+            array.set(3L, 1.0f);
+            array.set(4L, 2.0f);
+            assertThat(array.get(3L)).isEqualTo(1.0f);
+            assertThat(array.get(4L)).isEqualTo(2.0f);
+            assertThatCode(() -> array.get(10L))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatCode(() -> array.set(-1L, 1.0f))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    void bulkMethodsProcessValuesInIndexOrder() {
+        try (OffHeapFloatArray array = new OffHeapFloatArray(1003L, 6)) {
+            final int[] counter = {0};
+            array.fill(() -> {
+                final int idx = counter[0]++;
+                return idx * 0.5f;
+            });
+            array.replaceAll(value -> (value * 2.0f));
+            final List<Float> values = new ArrayList<>();
+            array.forEach(values::add);
+            assertThat(values).hasSize(1003);
+            final FloatBinaryOperator reducer = (left, right) -> left + right;
+            float expected = 0.0f;
+            float expectedWithoutIdentity = 0.0f;
+            for (int idx = 0; idx < 1003; ++idx) {
+                final float value = idx * 0.5f;
+                final float replaced = (value * 2.0f);
+                assertThat(values.get(idx)).isEqualTo(replaced);
+                assertThat(array.get(idx)).isEqualTo(replaced);
+                expected = reducer.applyAsFloat(expected, replaced);
+                expectedWithoutIdentity = idx == 0 ? replaced : reducer.applyAsFloat(expectedWithoutIdentity, replaced);
+            }
+            assertThat(array.reduce(0.0f, reducer)).isEqualTo(expected);
+            assertThat(array.reduce(reducer)).isEqualTo(expectedWithoutIdentity);
+        }
+    }
+
+    @Test
+    void reduceMethodsHandleEmptyArray() {
+        try (OffHeapFloatArray array = new OffHeapFloatArray(0L)) {
+            assertThat(array.reduce(1.0f, (left, right) -> left)).isEqualTo(1.0f);
+            assertThatCode(() -> array.reduce((left, right) -> left))
+                    .isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Test
+    void closeMethodReleasesArray() {
+        final OffHeapFloatArray array = new OffHeapFloatArray(100L, 4);
+        assertThat(array.isClosed()).isFalse();
+        array.close();
+        assertThat(array.isClosed()).isTrue();
+        array.close();
+        assertThat(array.length()).isEqualTo(100L);
+        assertThatCode(() -> array.get(0L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> array.set(0L, 1.0f))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> array.forEach(value -> {
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void closeMethodThrowsISEInsideBulkOperations() {
+        try (OffHeapFloatArray array = new OffHeapFloatArray(100L, 4)) {
+            assertThatCode(() -> array.forEach(value -> array.close()))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatCode(() -> array.replaceAll(value -> {
+                array.close();
+                return value;
+            })).isInstanceOf(IllegalStateException.class);
+            assertThatCode(() -> array.fill(() -> {
+                array.close();
+                return 1.0f;
+            })).isInstanceOf(IllegalStateException.class);
+            assertThatCode(() -> array.reduce(1.0f, (left, right) -> {
+                array.close();
+                return left;
+            })).isInstanceOf(IllegalStateException.class);
+            assertThatCode(() -> array.reduce((left, right) -> {
+                array.close();
+                return left;
+            })).isInstanceOf(IllegalStateException.class);
+            assertThat(array.isClosed()).isFalse();
+            array.set(99L, 1.0f);
+            assertThat(array.get(99L)).isEqualTo(1.0f);
+        }
+    }
+}
@@ -0,0 +1,711 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link PrimitiveArrays}.
+ */
+final class PrimitiveArraysTest {
+
+    @Test
+    void byteSortMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> PrimitiveArrays.sort((byte[]) null, (ByteBiPredicate) (l, r) -> false))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.sort(new byte[0], (ByteBiPredicate) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSort((byte[]) null, (ByteBiPredicate) (l, r) -> false))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSort(new byte[0], (ByteBiPredicate) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void byteSortMethodsThrowExceptionsForIllegalRange() {
+        final byte[] array = new byte[4];
+        final ByteBiPredicate less = (left, right) -> left < right;
+        assertThatCode(() -> PrimitiveArrays.sort(array, 3, 2, less))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> PrimitiveArrays.sort(array, -1, 2, less))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSort(array, 0, 5, less))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void byteSortMethodsSortInDescendingOrder() {
+        for (final int length : new int[]{0, 1, 2, 17, 1000, 100_000}) {
+            final byte[] array = randomByteArray(length, length);
+            final byte[] expected = descending(array.clone());
+            final byte[] sequential = array.clone();
+            final byte[] parallel = array.clone();
+            PrimitiveArrays.sort(sequential, (left, right) -> left > right);
+            PrimitiveArrays.parallelSort(parallel, (left, right) -> left > right);
+            assertThat(sequential).isEqualTo(expected);
+            assertThat(parallel).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void byteSortMethodsSortArrayRange() {
+        final byte[] array = randomByteArray(50_000, 7);
+        final byte[] expected = array.clone();
+        Arrays.sort(expected, 100, 40_000);
+        final byte[] sequential = array.clone();
+        final byte[] parallel = array.clone();
+        PrimitiveArrays.sort(sequential, 100, 40_000, (left, right) -> left < right);
+        PrimitiveArrays.parallelSort(parallel, 100, 40_000, (left, right) -> left < right);
+        assertThat(sequential).isEqualTo(expected);
+        assertThat(parallel).isEqualTo(expected);
+    }
+
+    @Test
+    void byteSortMethodsSortSortedAndConstantArrays() {
+        final byte[] sorted = randomByteArray(100_000, 8);
+        Arrays.sort(sorted);
+        final byte[] constant = new byte[100_000];
+        Arrays.fill(constant, (byte) 1);
+        final byte[] sequentialSorted = sorted.clone();
+        final byte[] parallelSorted = sorted.clone();
+        final byte[] sequentialConstant = constant.clone();
+        PrimitiveArrays.sort(sequentialSorted, (left, right) -> left < right);
+        PrimitiveArrays.parallelSort(parallelSorted, (left, right) -> left < right);
+        PrimitiveArrays.sort(sequentialConstant, (left, right) -> left < right);
+        assertThat(sequentialSorted).isEqualTo(sorted);
+        assertThat(parallelSorted).isEqualTo(sorted);
+        assertThat(sequentialConstant).isEqualTo(constant);
+    }
+
+    private static byte[] randomByteArray(final int length, final long seed) {
+        final Random random = new Random(seed);
+        final byte[] array = new byte[length];
+        for (int idx = 0; idx < length; ++idx) {
+            array[idx] = (byte) random.nextInt();
+        }
+        return array;
+    }
+
+    private static byte[] descending(final byte[] array) {
+        Arrays.sort(array);
+        for (int left = 0, right = array.length - 1; left < right; ++left, --right) {
+            final byte value = array[left];
+            array[left] = array[right];
+            array[right] = value;
+        }
+        return array;
+    }
+
+    @Test
+    void shortSortMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> PrimitiveArrays.sort((short[]) null, (ShortBiPredicate) (l, r) -> false))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.sort(new short[0], (ShortBiPredicate) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSort((short[]) null, (ShortBiPredicate) (l, r) -> false))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSort(new short[0], (ShortBiPredicate) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shortSortMethodsThrowExceptionsForIllegalRange() {
+        final short[] array = new short[4];
+        final ShortBiPredicate less = (left, right) -> left < right;
+        assertThatCode(() -> PrimitiveArrays.sort(array, 3, 2, less))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> PrimitiveArrays.sort(array, -1, 2, less))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSort(array, 0, 5, less))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shortSortMethodsSortInDescendingOrder() {
+        for (final int length : new int[]{0, 1, 2, 17, 1000, 100_000}) {
+            final short[] array = randomShortArray(length, length);
+            final short[] expected = descending(array.clone());
+            final short[] sequential = array.clone();
+            final short[] parallel = array.clone();
+            PrimitiveArrays.sort(sequential, (left, right) -> left > right);
+            PrimitiveArrays.parallelSort(parallel, (left, right) -> left > right);
+            assertThat(sequential).isEqualTo(expected);
+            assertThat(parallel).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shortSortMethodsSortArrayRange() {
+        final short[] array = randomShortArray(50_000, 7);
+        final short[] expected = array.clone();
+        Arrays.sort(expected, 100, 40_000);
+        final short[] sequential = array.clone();
+        final short[] parallel = array.clone();
+        PrimitiveArrays.sort(sequential, 100, 40_000, (left, right) -> left < right);
+        PrimitiveArrays.parallelSort(parallel, 100, 40_000, (left, right) -> left < right);
+        assertThat(sequential).isEqualTo(expected);
+        assertThat(parallel).isEqualTo(expected);
+    }
+
+    @Test
+    void shortSortMethodsSortSortedAndConstantArrays() {
+        final short[] sorted = randomShortArray(100_000, 8);
+        Arrays.sort(sorted);
+        final short[] constant = new short[100_000];
+        Arrays.fill(constant, (short) 1);
+        final short[] sequentialSorted = sorted.clone();
+        final short[] parallelSorted = sorted.clone();
+        final short[] sequentialConstant = constant.clone();
+        PrimitiveArrays.sort(sequentialSorted, (left, right) -> left < right);
+        PrimitiveArrays.parallelSort(parallelSorted, (left, right) -> left < right);
+        PrimitiveArrays.sort(sequentialConstant, (left, right) -> left < right);
+        assertThat(sequentialSorted).isEqualTo(sorted);
+        assertThat(parallelSorted).isEqualTo(sorted);
+        assertThat(sequentialConstant).isEqualTo(constant);
+    }
+
+    private static short[] randomShortArray(final int length, final long seed) {
+        final Random random = new Random(seed);
+        final short[] array = new short[length];
+        for (int idx = 0; idx < length; ++idx) {
+            array[idx] = (short) random.nextInt();
+        }
+        return array;
+    }
+
+    private static short[] descending(final short[] array) {
+        Arrays.sort(array);
+        for (int left = 0, right = array.length - 1; left < right; ++left, --right) {
+            final short value = array[left];
+            array[left] = array[right];
+            array[right] = value;
+        }
+        return array;
+    }
+
+    @Test
+    void charSortMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> PrimitiveArrays.sort((char[]) null, (CharBiPredicate) (l, r) -> false))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.sort(new char[0], (CharBiPredicate) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSort((char[]) null, (CharBiPredicate) (l, r) -> false))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSort(new char[0], (CharBiPredicate) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void charSortMethodsThrowExceptionsForIllegalRange() {
+        final char[] array = new char[4];
+        final CharBiPredicate less = (left, right) -> left < right;
+        assertThatCode(() -> PrimitiveArrays.sort(array, 3, 2, less))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> PrimitiveArrays.sort(array, -1, 2, less))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSort(array, 0, 5, less))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void charSortMethodsSortInDescendingOrder() {
+        for (final int length : new int[]{0, 1, 2, 17, 1000, 100_000}) {
+            final char[] array = randomCharArray(length, length);
+            final char[] expected = descending(array.clone());
+            final char[] sequential = array.clone();
+            final char[] parallel = array.clone();
+            PrimitiveArrays.sort(sequential, (left, right) -> left > right);
+            PrimitiveArrays.parallelSort(parallel, (left, right) -> left > right);
+            assertThat(sequential).isEqualTo(expected);
+            assertThat(parallel).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void charSortMethodsSortArrayRange() {
+        final char[] array = randomCharArray(50_000, 7);
+        final char[] expected = array.clone();
+        Arrays.sort(expected, 100, 40_000);
+        final char[] sequential = array.clone();
+        final char[] parallel = array.clone();
+        PrimitiveArrays.sort(sequential, 100, 40_000, (left, right) -> left < right);
+        PrimitiveArrays.parallelSort(parallel, 100, 40_000, (left, right) -> left < right);
+        assertThat(sequential).isEqualTo(expected);
+        assertThat(parallel).isEqualTo(expected);
+    }
+
+    @Test
+    void charSortMethodsSortSortedAndConstantArrays() {
+        final char[] sorted = randomCharArray(100_000, 8);
+        Arrays.sort(sorted);
+        final char[] constant = new char[100_000];
+        Arrays.fill(constant, 'a');
+        final char[] sequentialSorted = sorted.clone();
+        final char[] parallelSorted = sorted.clone();
+        final char[] sequentialConstant = constant.clone();
+        PrimitiveArrays.sort(sequentialSorted, (left, right) -> left < right);
+        PrimitiveArrays.parallelSort(parallelSorted, (left, right) -> left < right);
+        PrimitiveArrays.sort(sequentialConstant, (left, right) -> left < right);
+        assertThat(sequentialSorted).isEqualTo(sorted);
+        assertThat(parallelSorted).isEqualTo(sorted);
+        assertThat(sequentialConstant).isEqualTo(constant);
+    }
+
+    private static char[] randomCharArray(final int length, final long seed) {
+        final Random random = new Random(seed);
+        final char[] array = new char[length];
+        for (int idx = 0; idx < length; ++idx) {
+            array[idx] = (char) random.nextInt();
+        }
+        return array;
+    }
+
+    private static char[] descending(final char[] array) {
+        Arrays.sort(array);
+        for (int left = 0, right = array.length - 1; left < right; ++left, --right) {
+            final char value = array[left];
+            array[left] = array[right];
+            array[right] = value;
+        }
+        return array;
+    }
+
+    @Test
+    void floatSortMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> PrimitiveArrays.sort((float[]) null, (FloatBiPredicate) (l, r) -> false))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.sort(new float[0], (FloatBiPredicate) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSort((float[]) null, (FloatBiPredicate) (l, r) -> false))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSort(new float[0], (FloatBiPredicate) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void floatSortMethodsThrowExceptionsForIllegalRange() {
+        final float[] array = new float[4];
+        final FloatBiPredicate less = (left, right) -> Float.compare(left, right) < 0;
+        assertThatCode(() -> PrimitiveArrays.sort(array, 3, 2, less))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> PrimitiveArrays.sort(array, -1, 2, less))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSort(array, 0, 5, less))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void floatSortMethodsSortInDescendingOrder() {
+        for (final int length : new int[]{0, 1, 2, 17, 1000, 100_000}) {
+            final float[] array = randomFloatArray(length, length);
+            final float[] expected = descending(array.clone());
+            final float[] sequential = array.clone();
+            final float[] parallel = array.clone();
+            PrimitiveArrays.sort(sequential, (left, right) -> Float.compare(left, right) > 0);
+            PrimitiveArrays.parallelSort(parallel, (left, right) -> Float.compare(left, right) > 0);
+            assertThat(sequential).isEqualTo(expected);
+            assertThat(parallel).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void floatSortMethodsSortArrayRange() {
+        final float[] array = randomFloatArray(50_000, 7);
+        final float[] expected = array.clone();
+        Arrays.sort(expected, 100, 40_000);
+        final float[] sequential = array.clone();
+        final float[] parallel = array.clone();
+        PrimitiveArrays.sort(sequential, 100, 40_000, (left, right) -> Float.compare(left, right) < 0);
+        PrimitiveArrays.parallelSort(parallel, 100, 40_000, (left, right) -> Float.compare(left, right) < 0);
+        assertThat(sequential).isEqualTo(expected);
+        assertThat(parallel).isEqualTo(expected);
+    }
+
+    @Test
+    void floatSortMethodsSortSortedAndConstantArrays() {
+        final float[] sorted = randomFloatArray(100_000, 8);
+        Arrays.sort(sorted);
+        final float[] constant = new float[100_000];
+        Arrays.fill(constant, 1.0f);
+        final float[] sequentialSorted = sorted.clone();
+        final float[] parallelSorted = sorted.clone();
+        final float[] sequentialConstant = constant.clone();
+        PrimitiveArrays.sort(sequentialSorted, (left, right) -> Float.compare(left, right) < 0);
+        PrimitiveArrays.parallelSort(parallelSorted, (left, right) -> Float.compare(left, right) < 0);
+        PrimitiveArrays.sort(sequentialConstant, (left, right) -> Float.compare(left, right) < 0);
+        assertThat(sequentialSorted).isEqualTo(sorted);
+        assertThat(parallelSorted).isEqualTo(sorted);
+        assertThat(sequentialConstant).isEqualTo(constant);
+    }
+
+    private static float[] randomFloatArray(final int length, final long seed) {
+        final Random random = new Random(seed);
+        final float[] array = new float[length];
+        for (int idx = 0; idx < length; ++idx) {
+            array[idx] = idx % 100 == 0 ? Float.NaN : (random.nextFloat() - 0.5f) * random.nextInt(1000);
+        }
+        return array;
+    }
+
+    private static float[] descending(final float[] array) {
+        Arrays.sort(array);
+        for (int left = 0, right = array.length - 1; left < right; ++left, --right) {
+            final float value = array[left];
+            array[left] = array[right];
+            array[right] = value;
+        }
+        return array;
+    }
+
+    @Test
+    void byteSetAllAndPrefixMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> PrimitiveArrays.setAll((byte[]) null, (IntToByteFunction) idx -> (byte) 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.setAll(new byte[1], (IntToByteFunction) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSetAll((byte[]) null, (IntToByteFunction) idx -> (byte) 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSetAll(new byte[1], (IntToByteFunction) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix((byte[]) null, (ByteBinaryOperator) (l, r) -> l))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(new byte[1], (ByteBinaryOperator) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void byteSetAllMethodsSetValuesByGenerator() {
+        final byte[] expected = new byte[100_000];
+        for (int idx = 0; idx < expected.length; ++idx) {
+            expected[idx] = (byte) (idx * 31);
+        }
+        final byte[] sequential = new byte[100_000];
+        final byte[] parallel = new byte[100_000];
+        PrimitiveArrays.setAll(sequential, (IntToByteFunction) idx -> (byte) (idx * 31));
+        PrimitiveArrays.parallelSetAll(parallel, (IntToByteFunction) idx -> (byte) (idx * 31));
+        assertThat(sequential).isEqualTo(expected);
+        assertThat(parallel).isEqualTo(expected);
+    }
+
+    @Test
+    void byteParallelPrefixMethodsCumulateValues() {
+        for (final int length : new int[]{0, 1, 2, 1000, 100_003}) {
+            final byte[] array = new byte[length];
+            for (int idx = 0; idx < length; ++idx) {
+                array[idx] = (byte) (idx * 31);
+            }
+            final ByteBinaryOperator operator = (l, r) -> (byte) (l + r);
+            final byte[] expected = array.clone();
+            for (int idx = 1; idx < length; ++idx) {
+                expected[idx] = operator.applyAsByte(expected[idx - 1], expected[idx]);
+            }
+            PrimitiveArrays.parallelPrefix(array, operator);
+            assertThat(array).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void byteParallelPrefixMethodCumulatesArrayRange() {
+        final byte[] array = new byte[50_000];
+        for (int idx = 0; idx < array.length; ++idx) {
+            array[idx] = (byte) (idx * 31);
+        }
+        final ByteBinaryOperator operator = (l, r) -> (byte) (l + r);
+        final byte[] expected = array.clone();
+        for (int idx = 101; idx < 40_000; ++idx) {
+            expected[idx] = operator.applyAsByte(expected[idx - 1], expected[idx]);
+        }
+        PrimitiveArrays.parallelPrefix(array, 100, 40_000, operator);
+        assertThat(array).isEqualTo(expected);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(array, 2, 1, operator))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(array, 0, 50_001, operator))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shortSetAllAndPrefixMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> PrimitiveArrays.setAll((short[]) null, (IntToShortFunction) idx -> (short) 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.setAll(new short[1], (IntToShortFunction) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSetAll((short[]) null, (IntToShortFunction) idx -> (short) 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSetAll(new short[1], (IntToShortFunction) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix((short[]) null, (ShortBinaryOperator) (l, r) -> l))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(new short[1], (ShortBinaryOperator) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shortSetAllMethodsSetValuesByGenerator() {
+        final short[] expected = new short[100_000];
+        for (int idx = 0; idx < expected.length; ++idx) {
+            expected[idx] = (short) (idx * 7);
+        }
+        final short[] sequential = new short[100_000];
+        final short[] parallel = new short[100_000];
+        PrimitiveArrays.setAll(sequential, (IntToShortFunction) idx -> (short) (idx * 7));
+        PrimitiveArrays.parallelSetAll(parallel, (IntToShortFunction) idx -> (short) (idx * 7));
+        assertThat(sequential).isEqualTo(expected);
+        assertThat(parallel).isEqualTo(expected);
+    }
+
+    @Test
+    void shortParallelPrefixMethodsCumulateValues() {
+        for (final int length : new int[]{0, 1, 2, 1000, 100_003}) {
+            final short[] array = new short[length];
+            for (int idx = 0; idx < length; ++idx) {
+                array[idx] = (short) (idx * 7);
+            }
+            final ShortBinaryOperator operator = (l, r) -> (short) (l + r);
+            final short[] expected = array.clone();
+            for (int idx = 1; idx < length; ++idx) {
+                expected[idx] = operator.applyAsShort(expected[idx - 1], expected[idx]);
+            }
+            PrimitiveArrays.parallelPrefix(array, operator);
+            assertThat(array).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shortParallelPrefixMethodCumulatesArrayRange() {
+        final short[] array = new short[50_000];
+        for (int idx = 0; idx < array.length; ++idx) {
+            array[idx] = (short) (idx * 7);
+        }
+        final ShortBinaryOperator operator = (l, r) -> (short) (l + r);
+        final short[] expected = array.clone();
+        for (int idx = 101; idx < 40_000; ++idx) {
+            expected[idx] = operator.applyAsShort(expected[idx - 1], expected[idx]);
+        }
+        PrimitiveArrays.parallelPrefix(array, 100, 40_000, operator);
+        assertThat(array).isEqualTo(expected);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(array, 2, 1, operator))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(array, 0, 50_001, operator))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void charSetAllAndPrefixMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> PrimitiveArrays.setAll((char[]) null, (IntToCharFunction) idx -> 'a'))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.setAll(new char[1], (IntToCharFunction) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSetAll((char[]) null, (IntToCharFunction) idx -> 'a'))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSetAll(new char[1], (IntToCharFunction) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix((char[]) null, (CharBinaryOperator) (l, r) -> l))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(new char[1], (CharBinaryOperator) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void charSetAllMethodsSetValuesByGenerator() {
+        final char[] expected = new char[100_000];
+        for (int idx = 0; idx < expected.length; ++idx) {
+            expected[idx] = (char) (idx ^ 0x5A5A);
+        }
+        final char[] sequential = new char[100_000];
+        final char[] parallel = new char[100_000];
+        PrimitiveArrays.setAll(sequential, (IntToCharFunction) idx -> (char) (idx ^ 0x5A5A));
+        PrimitiveArrays.parallelSetAll(parallel, (IntToCharFunction) idx -> (char) (idx ^ 0x5A5A));
+        assertThat(sequential).isEqualTo(expected);
+        assertThat(parallel).isEqualTo(expected);
+    }
+
+    @Test
+    void charParallelPrefixMethodsCumulateValues() {
+        for (final int length : new int[]{0, 1, 2, 1000, 100_003}) {
+            final char[] array = new char[length];
+            for (int idx = 0; idx < length; ++idx) {
+                array[idx] = (char) (idx ^ 0x5A5A);
+            }
+            final CharBinaryOperator operator = (l, r) -> (char) (l ^ r);
+            final char[] expected = array.clone();
+            for (int idx = 1; idx < length; ++idx) {
+                expected[idx] = operator.applyAsChar(expected[idx - 1], expected[idx]);
+            }
+            PrimitiveArrays.parallelPrefix(array, operator);
+            assertThat(array).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void charParallelPrefixMethodCumulatesArrayRange() {
+        final char[] array = new char[50_000];
+        for (int idx = 0; idx < array.length; ++idx) {
+            array[idx] = (char) (idx ^ 0x5A5A);
+        }
+        final CharBinaryOperator operator = (l, r) -> (char) (l ^ r);
+        final char[] expected = array.clone();
+        for (int idx = 101; idx < 40_000; ++idx) {
+            expected[idx] = operator.applyAsChar(expected[idx - 1], expected[idx]);
+        }
+        PrimitiveArrays.parallelPrefix(array, 100, 40_000, operator);
+        assertThat(array).isEqualTo(expected);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(array, 2, 1, operator))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(array, 0, 50_001, operator))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void floatSetAllAndPrefixMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> PrimitiveArrays.setAll((float[]) null, (IntToFloatFunction) idx -> 1.0f))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.setAll(new float[1], (IntToFloatFunction) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSetAll((float[]) null, (IntToFloatFunction) idx -> 1.0f))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSetAll(new float[1], (IntToFloatFunction) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix((float[]) null, (FloatBinaryOperator) (l, r) -> l))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(new float[1], (FloatBinaryOperator) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void floatSetAllMethodsSetValuesByGenerator() {
+        final float[] expected = new float[100_000];
+        for (int idx = 0; idx < expected.length; ++idx) {
+            expected[idx] = (idx % 1000) * 0.25f;
+        }
+        final float[] sequential = new float[100_000];
+        final float[] parallel = new float[100_000];
+        PrimitiveArrays.setAll(sequential, (IntToFloatFunction) idx -> (idx % 1000) * 0.25f);
+        PrimitiveArrays.parallelSetAll(parallel, (IntToFloatFunction) idx -> (idx % 1000) * 0.25f);
+        assertThat(sequential).isEqualTo(expected);
+        assertThat(parallel).isEqualTo(expected);
+    }
+
+    @Test
+    void floatParallelPrefixMethodsCumulateValues() {
+        for (final int length : new int[]{0, 1, 2, 1000, 100_003}) {
+            final float[] array = new float[length];
+            for (int idx = 0; idx < length; ++idx) {
+                array[idx] = (idx % 1000) * 0.25f;
+            }
+            final FloatBinaryOperator operator = (l, r) -> Math.max(l, r);
+            final float[] expected = array.clone();
+            for (int idx = 1; idx < length; ++idx) {
+                expected[idx] = operator.applyAsFloat(expected[idx - 1], expected[idx]);
+            }
+            PrimitiveArrays.parallelPrefix(array, operator);
+            assertThat(array).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void floatParallelPrefixMethodCumulatesArrayRange() {
+        final float[] array = new float[50_000];
+        for (int idx = 0; idx < array.length; ++idx) {
+            array[idx] = (idx % 1000) * 0.25f;
+        }
+        final FloatBinaryOperator operator = (l, r) -> Math.max(l, r);
+        final float[] expected = array.clone();
+        for (int idx = 101; idx < 40_000; ++idx) {
+            expected[idx] = operator.applyAsFloat(expected[idx - 1], expected[idx]);
+        }
+        PrimitiveArrays.parallelPrefix(array, 100, 40_000, operator);
+        assertThat(array).isEqualTo(expected);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(array, 2, 1, operator))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(array, 0, 50_001, operator))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void booleanSetAllAndPrefixMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> PrimitiveArrays.setAll((boolean[]) null, (IntPredicate) idx -> true))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.setAll(new boolean[1], (IntPredicate) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSetAll((boolean[]) null, (IntPredicate) idx -> true))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelSetAll(new boolean[1], (IntPredicate) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix((boolean[]) null, (BooleanBinaryOperator) (l, r) -> l))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(new boolean[1], (BooleanBinaryOperator) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void booleanSetAllMethodsSetValuesByGenerator() {
+        final boolean[] expected = new boolean[100_000];
+        for (int idx = 0; idx < expected.length; ++idx) {
+            expected[idx] = idx % 7 == 0;
+        }
+        final boolean[] sequential = new boolean[100_000];
+        final boolean[] parallel = new boolean[100_000];
+        PrimitiveArrays.setAll(sequential, (IntPredicate) idx -> idx % 7 == 0);
+        PrimitiveArrays.parallelSetAll(parallel, (IntPredicate) idx -> idx % 7 == 0);
+        assertThat(sequential).isEqualTo(expected);
+        assertThat(parallel).isEqualTo(expected);
+    }
+
+    @Test
+    void booleanParallelPrefixMethodsCumulateValues() {
+        for (final int length : new int[]{0, 1, 2, 1000, 100_003}) {
+            final boolean[] array = new boolean[length];
+            for (int idx = 0; idx < length; ++idx) {
+                array[idx] = idx % 7 == 0;
+            }
+            final BooleanBinaryOperator operator = (l, r) -> l ^ r;
+            final boolean[] expected = array.clone();
+            for (int idx = 1; idx < length; ++idx) {
+                expected[idx] = operator.applyAsBoolean(expected[idx - 1], expected[idx]);
+            }
+            PrimitiveArrays.parallelPrefix(array, operator);
+            assertThat(array).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void booleanParallelPrefixMethodCumulatesArrayRange() {
+        final boolean[] array = new boolean[50_000];
+        for (int idx = 0; idx < array.length; ++idx) {
+            array[idx] = idx % 7 == 0;
+        }
+        final BooleanBinaryOperator operator = (l, r) -> l ^ r;
+        final boolean[] expected = array.clone();
+        for (int idx = 101; idx < 40_000; ++idx) {
+            expected[idx] = operator.applyAsBoolean(expected[idx - 1], expected[idx]);
+        }
+        PrimitiveArrays.parallelPrefix(array, 100, 40_000, operator);
+        assertThat(array).isEqualTo(expected);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(array, 2, 1, operator))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> PrimitiveArrays.parallelPrefix(array, 0, 50_001, operator))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+}
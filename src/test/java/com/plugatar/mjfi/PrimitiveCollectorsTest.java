@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link PrimitiveCollectors}.
+ */
+final class PrimitiveCollectorsTest {
+
+    @Test
+    void collectMethodsThrowNPEForNullArgs() {
+        assertThatCode(() -> PrimitiveCollectors.collect((byte[]) null, PrimitiveCollectors.toByteArray()))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveCollectors.collect(new byte[0], (ByteCollector<?, ?>) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveCollectors.parallelCollect((float[]) null, PrimitiveCollectors.toFloatArray()))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> PrimitiveCollectors.parallelCollect(new float[0], (FloatCollector<?, ?>) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void collectMethodThrowsExceptionsForIllegalRange() {
+        final short[] array = new short[4];
+        assertThatCode(() -> PrimitiveCollectors.collect(array, 3, 2, PrimitiveCollectors.toShortArray()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> PrimitiveCollectors.collect(array, -1, 2, PrimitiveCollectors.toShortArray()))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+        assertThatCode(() -> PrimitiveCollectors.collect(array, 0, 5, PrimitiveCollectors.toShortArray()))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void collectMethodCollectsArrayRange() {
+        final char[] array = {'a', 'b', 'c', 'd', 'e'};
+        assertThat(PrimitiveCollectors.collect(array, 1, 4, PrimitiveCollectors.toCharArray()))
+                .containsExactly('b', 'c', 'd');
+        assertThat(PrimitiveCollectors.collect(array, 2, 2, PrimitiveCollectors.toCharArray()))
+                .isEmpty();
+    }
+
+    @Test
+    void toArrayCollectorsCollectValuesInEncounterOrder() {
+        final byte[] bytes = new byte[10_000];
+        final short[] shorts = new short[10_000];
+        final char[] chars = new char[10_000];
+        final float[] floats = new float[10_000];
+        final boolean[] booleans = new boolean[10_000];
+        for (int idx = 0; idx < bytes.length; ++idx) {
+            bytes[idx] = (byte) idx;
+            shorts[idx] = (short) idx;
+            chars[idx] = (char) idx;
+            floats[idx] = idx * 0.5f;
+            booleans[idx] = idx % 3 == 0;
+        }
+        assertThat(PrimitiveCollectors.collect(bytes, PrimitiveCollectors.toByteArray()))
+                .isEqualTo(bytes);
+        assertThat(PrimitiveCollectors.collect(shorts, PrimitiveCollectors.toShortArray()))
+                .isEqualTo(shorts);
+        assertThat(PrimitiveCollectors.collect(chars, PrimitiveCollectors.toCharArray()))
+                .isEqualTo(chars);
+        assertThat(PrimitiveCollectors.collect(floats, PrimitiveCollectors.toFloatArray()))
+                .isEqualTo(floats);
+        assertThat(PrimitiveCollectors.collect(booleans, PrimitiveCollectors.toBooleanArray()))
+                .isEqualTo(booleans);
+    }
+
+    @Test
+    void parallelCollectMethodsCollectValuesInEncounterOrder() {
+        final byte[] bytes = new byte[100_000];
+        final short[] shorts = new short[100_000];
+        final char[] chars = new char[100_000];
+        final float[] floats = new float[100_000];
+        final boolean[] booleans = new boolean[100_000];
+        for (int idx = 0; idx < bytes.length; ++idx) {
+            bytes[idx] = (byte) idx;
+            shorts[idx] = (short) idx;
+            chars[idx] = (char) idx;
+            floats[idx] = idx * 0.5f;
+            booleans[idx] = idx % 3 == 0;
+        }
+        assertThat(PrimitiveCollectors.parallelCollect(bytes, PrimitiveCollectors.toByteArray()))
+                .isEqualTo(bytes);
+        assertThat(PrimitiveCollectors.parallelCollect(shorts, PrimitiveCollectors.toShortArray()))
+                .isEqualTo(shorts);
+        assertThat(PrimitiveCollectors.parallelCollect(chars, PrimitiveCollectors.toCharArray()))
+                .isEqualTo(chars);
+        assertThat(PrimitiveCollectors.parallelCollect(floats, PrimitiveCollectors.toFloatArray()))
+                .isEqualTo(floats);
+        assertThat(PrimitiveCollectors.parallelCollect(booleans, PrimitiveCollectors.toBooleanArray()))
+                .isEqualTo(booleans);
+    }
+
+    @Test
+    void summarizingCollectorsProduceStatistics() {
+        final IntSummaryStatistics byteStats =
+                PrimitiveCollectors.collect(new byte[]{-3, 5, 1}, PrimitiveCollectors.summarizingByte());
+        assertThat(byteStats.getCount()).isEqualTo(3);
+        assertThat(byteStats.getMin()).isEqualTo(-3);
+        assertThat(byteStats.getMax()).isEqualTo(5);
+        assertThat(byteStats.getSum()).isEqualTo(3);
+        final IntSummaryStatistics shortStats =
+                PrimitiveCollectors.collect(new short[]{-300, 500}, PrimitiveCollectors.summarizingShort());
+        assertThat(shortStats.getSum()).isEqualTo(200);
+        final IntSummaryStatistics charStats =
+                PrimitiveCollectors.collect(new char[]{'a', '\uffff'}, PrimitiveCollectors.summarizingChar());
+        assertThat(charStats.getMin()).isEqualTo('a');
+        assertThat(charStats.getMax()).isEqualTo(0xFFFF);
+        final DoubleSummaryStatistics floatStats =
+                PrimitiveCollectors.collect(new float[]{1.5f, -2.0f, 4.0f}, PrimitiveCollectors.summarizingFloat());
+        assertThat(floatStats.getMin()).isEqualTo(-2.0);
+        assertThat(floatStats.getMax()).isEqualTo(4.0);
+        assertThat(floatStats.getSum()).isEqualTo(3.5);
+    }
+
+    @Test
+    void parallelSummarizingCollectorCombinesStatistics() {
+        final short[] array = new short[100_000];
+        long sum = 0;
+        for (int idx = 0; idx < array.length; ++idx) {
+            array[idx] = (short) idx;
+            sum += (short) idx;
+        }
+        final IntSummaryStatistics stats =
+                PrimitiveCollectors.parallelCollect(array, PrimitiveCollectors.summarizingShort());
+        assertThat(stats.getCount()).isEqualTo(array.length);
+        assertThat(stats.getSum()).isEqualTo(sum);
+        assertThat(stats.getMin()).isEqualTo(Short.MIN_VALUE);
+        assertThat(stats.getMax()).isEqualTo(Short.MAX_VALUE);
+    }
+
+    @Test
+    void histogramCollectorsCountValues() {
+        final long[] byteHistogram =
+                PrimitiveCollectors.collect(new byte[]{0, -1, -1, 127}, PrimitiveCollectors.byteHistogram());
+        assertThat(byteHistogram).hasSize(256);
+        assertThat(byteHistogram[0]).isEqualTo(1);
+        assertThat(byteHistogram[255]).isEqualTo(2);
+        assertThat(byteHistogram[127]).isEqualTo(1);
+        final long[] shortHistogram =
+                PrimitiveCollectors.collect(new short[]{-1, -1, 7}, PrimitiveCollectors.shortHistogram());
+        assertThat(shortHistogram).hasSize(65536);
+        assertThat(shortHistogram[0xFFFF]).isEqualTo(2);
+        assertThat(shortHistogram[7]).isEqualTo(1);
+        final long[] charHistogram =
+                PrimitiveCollectors.collect(new char[]{'x', 'x', 'y'}, PrimitiveCollectors.charHistogram());
+        assertThat(charHistogram['x']).isEqualTo(2);
+        assertThat(charHistogram['y']).isEqualTo(1);
+        final boolean[] booleans = {true, false, true};
+        assertThat(PrimitiveCollectors.collect(booleans, PrimitiveCollectors.booleanHistogram()))
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void parallelHistogramCollectorMergesCounts() {
+        final byte[] array = new byte[100_000];
+        new Random(42).nextBytes(array);
+        final long[] expected = new long[256];
+        for (final byte value : array) {
+            ++expected[value & 0xFF];
+        }
+        assertThat(PrimitiveCollectors.parallelCollect(array, PrimitiveCollectors.byteHistogram()))
+                .containsExactly(expected);
+    }
+
+    @Test
+    void floatHistogramMethodThrowsIAEForIllegalArgs() {
+        assertThatCode(() -> PrimitiveCollectors.floatHistogram(1.0f, 1.0f, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> PrimitiveCollectors.floatHistogram(0.0f, Float.POSITIVE_INFINITY, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> PrimitiveCollectors.floatHistogram(Float.NaN, 1.0f, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> PrimitiveCollectors.floatHistogram(0.0f, 1.0f, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void floatHistogramCollectorCountsValuesIntoBuckets() {
+        final float[] array = {-5.0f, 0.0f, 0.24f, 0.25f, 0.6f, 0.99f, 1.0f, 7.0f, Float.NaN};
+        assertThat(PrimitiveCollectors.collect(array, PrimitiveCollectors.floatHistogram(0.0f, 1.0f, 4)))
+                .containsExactly(3L, 1L, 1L, 3L);
+    }
+}
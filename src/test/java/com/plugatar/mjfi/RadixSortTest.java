@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link RadixSort}.
+ */
+final class RadixSortTest {
+
+    @Test
+    void methodsThrowNPEForNullArgs() {
+        assertThatCode(() -> RadixSort.sortByByte(null, obj -> (byte) 0))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> RadixSort.sortByShort(new Object[0], null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> RadixSort.parallelSortByChar(null, obj -> 'a'))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> RadixSort.parallelSortByFloat(new Object[0], null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void sortMethodCallsKeyFunctionOncePerElement() {
+        final Row[] rows = randomRows(1000, 1);
+        final AtomicInteger calls = new AtomicInteger();
+        RadixSort.sortByFloat(rows, row -> {
+            calls.incrementAndGet();
+            return row.score;
+        });
+        assertThat(calls.get()).isEqualTo(1000);
+    }
+
+    @Test
+    void sortMethodsSortByByteKeyStably() {
+        final Row[] rows = randomRows(100_000, 2);
+        final Row[] expected = rows.clone();
+        Arrays.sort(expected, Comparator.comparingInt(row -> (byte) row.priority));
+        final Row[] sequential = rows.clone();
+        final Row[] parallel = rows.clone();
+        RadixSort.sortByByte(sequential, row -> (byte) row.priority);
+        RadixSort.parallelSortByByte(parallel, row -> (byte) row.priority);
+        assertThat(sequential).containsExactly(expected);
+        assertThat(parallel).containsExactly(expected);
+    }
+
+    @Test
+    void sortMethodsSortByShortKeyStably() {
+        final Row[] rows = randomRows(100_000, 3);
+        final Row[] expected = rows.clone();
+        Arrays.sort(expected, Comparator.comparingInt(row -> row.priority));
+        final Row[] sequential = rows.clone();
+        final Row[] parallel = rows.clone();
+        RadixSort.sortByShort(sequential, row -> row.priority);
+        RadixSort.parallelSortByShort(parallel, row -> row.priority);
+        assertThat(sequential).containsExactly(expected);
+        assertThat(parallel).containsExactly(expected);
+    }
+
+    @Test
+    void sortMethodsSortByCharKeyStably() {
+        final Row[] rows = randomRows(100_000, 4);
+        final Row[] expected = rows.clone();
+        Arrays.sort(expected, Comparator.comparingInt(row -> (char) row.priority));
+        final Row[] sequential = rows.clone();
+        final Row[] parallel = rows.clone();
+        RadixSort.sortByChar(sequential, row -> (char) row.priority);
+        RadixSort.parallelSortByChar(parallel, row -> (char) row.priority);
+        assertThat(sequential).containsExactly(expected);
+        assertThat(parallel).containsExactly(expected);
+    }
+
+    @Test
+    void sortMethodsSortByFloatKeyStably() {
+        final Row[] rows = randomRows(100_000, 5);
+        final Row[] expected = rows.clone();
+        Arrays.sort(expected, (first, second) -> Float.compare(first.score, second.score));
+        final Row[] sequential = rows.clone();
+        final Row[] parallel = rows.clone();
+        RadixSort.sortByFloat(sequential, row -> row.score);
+        RadixSort.parallelSortByFloat(parallel, row -> row.score);
+        assertThat(sequential).containsExactly(expected);
+        assertThat(parallel).containsExactly(expected);
+    }
+
+    @Test
+    void sortMethodSortsSpecialFloatValuesAsFloatCompare() {
+        final float[] keys = {Float.NaN, 1.0f, -0.0f, Float.NEGATIVE_INFINITY, 0.0f, -1.0f, Float.POSITIVE_INFINITY,
+                Float.MIN_VALUE, -Float.MAX_VALUE};
+        final Row[] rows = new Row[keys.length];
+        for (int idx = 0; idx < keys.length; ++idx) {
+            rows[idx] = new Row((short) 0, keys[idx]);
+        }
+        RadixSort.sortByFloat(rows, row -> row.score);
+        final float[] expected = keys.clone();
+        Arrays.sort(expected);
+        for (int idx = 0; idx < keys.length; ++idx) {
+            assertThat(Float.floatToIntBits(rows[idx].score)).isEqualTo(Float.floatToIntBits(expected[idx]));
+        }
+    }
+
+    @Test
+    void sortMethodKeepsArrayWithEqualKeys() {
+        final Row[] rows = randomRows(1000, 6);
+        final Row[] expected = rows.clone();
+        RadixSort.sortByChar(rows, row -> 'k');
+        RadixSort.parallelSortByFloat(rows, row -> 1.0f);
+        assertThat(rows).containsExactly(expected);
+    }
+
+    private static Row[] randomRows(final int size, final long seed) {
+        final Random random = new Random(seed);
+        final Row[] rows = new Row[size];
+        for (int idx = 0; idx < size; ++idx) {
+            rows[idx] = new Row((short) random.nextInt(), (random.nextFloat() - 0.5f) * random.nextInt(1000));
+        }
+        return rows;
+    }
+
+    private static final class Row {
+        private final short priority;
+        private final float score;
+
+        private Row(final short priority, final float score) {
+            this.priority = priority;
+            this.score = score;
+        }
+    }
+}
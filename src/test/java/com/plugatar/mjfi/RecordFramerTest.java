@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link RecordFramer}.
+ */
+final class RecordFramerTest {
+
+    private static ReadableByteChannel channel(final byte[] bytes, final int maxRead) {
+        return new ReadableByteChannel() {
+            private int position;
+
+            @Override
+            public int read(final ByteBuffer dst) {
+                if (this.position == bytes.length) {
+                    return -1;
+                }
+                final int count = Math.min(Math.min(maxRead, dst.remaining()), bytes.length - this.position);
+                dst.put(bytes, this.position, count);
+                this.position += count;
+                return count;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static byte[] lengthPrefixed(final String... records) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        for (final String record : records) {
+            final byte[] content = record.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(content.length);
+            out.write(content);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<String> ranges(final RecordFramer framer) throws IOException {
+        final List<String> records = new ArrayList<>();
+        framer.forEachRange((start, end) -> records.add(
+                new String(framer.buffer().array(), start, end - start, StandardCharsets.UTF_8)
+        ));
+        return records;
+    }
+
+    @Test
+    void methodsThrowExceptionsForIllegalArgs() throws IOException {
+        final ReadableByteChannel channel = channel(new byte[0], 1);
+        assertThatCode(() -> RecordFramer.delimited(null, ByteScan.matching((byte) '\n')))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> RecordFramer.delimited(channel, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> RecordFramer.lengthPrefixed(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> RecordFramer.lengthPrefixed(channel, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> RecordFramer.lengthPrefixed(channel).tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> RecordFramer.lengthPrefixed(channel).forEachOffset(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void delimitedFramerReportsRecordRanges() throws IOException {
+        final byte[] bytes = "alpha\nbeta\n\ngamma-long-record\ndelta".getBytes(StandardCharsets.UTF_8);
+        final List<String> expected = Arrays.asList("alpha", "beta", "", "gamma-long-record", "delta");
+        for (final int maxRead : new int[]{1, 3, 7, 100}) {
+            for (final int capacity : new int[]{1, 4, 16, 1024}) {
+                final RecordFramer framer = RecordFramer.delimited(
+                        channel(bytes, maxRead), ByteScan.matching((byte) '\n'), capacity
+                );
+                assertThat(ranges(framer)).isEqualTo(expected);
+            }
+        }
+        final RecordFramer trailing = RecordFramer.delimited(
+                channel("a,b;c;".getBytes(StandardCharsets.UTF_8), 2), ByteScan.anyOf((byte) ',', (byte) ';')
+        );
+        assertThat(ranges(trailing)).containsExactly("a", "b", "c");
+        assertThat(ranges(RecordFramer.delimited(channel(new byte[0], 1), value -> value == 0))).isEmpty();
+    }
+
+    @Test
+    void delimitedFramerThrowsExceptionForRecordsExceedingMaxCapacity() throws IOException {
+        final byte[] bytes = "short\nmuch-longer-record\n".getBytes(StandardCharsets.UTF_8);
+        final RecordFramer framer = RecordFramer.delimited(channel(bytes, 3), ByteScan.matching((byte) '\n'), 2, 8);
+        final List<String> records = new ArrayList<>();
+        final IntBiConsumer action = (start, end) -> records.add(
+                new String(framer.buffer().array(), start, end - start, StandardCharsets.UTF_8)
+        );
+        assertThat(framer.tryAdvance(action)).isTrue();
+        assertThat(records).containsExactly("short");
+        assertThatCode(() -> framer.tryAdvance(action))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("max capacity");
+        assertThatCode(() -> RecordFramer.delimited(channel(bytes, 3), value -> true, 16, 8))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodReadsOneRecord() throws IOException {
+        final RecordFramer framer = RecordFramer.delimited(
+                channel("one two".getBytes(StandardCharsets.UTF_8), 2), value -> value == ' ', 2
+        );
+        final List<String> records = new ArrayList<>();
+        final IntBiConsumer action = (start, end) -> records.add(
+                new String(framer.buffer().array(), start, end - start, StandardCharsets.UTF_8)
+        );
+        assertThat(framer.tryAdvance(action)).isTrue();
+        assertThat(records).containsExactly("one");
+        assertThat(framer.tryAdvance(action)).isTrue();
+        assertThat(framer.tryAdvance(action)).isFalse();
+        assertThat(records).containsExactly("one", "two");
+    }
+
+    @Test
+    void lengthPrefixedFramerReportsRecords() throws IOException {
+        final byte[] bytes = lengthPrefixed("first", "", "a much longer third record", "4");
+        for (final int maxRead : new int[]{1, 5, 1000}) {
+            for (final int capacity : new int[]{1, 8, 4096}) {
+                final RecordFramer framer = RecordFramer.lengthPrefixed(channel(bytes, maxRead), capacity);
+                final List<String> records = new ArrayList<>();
+                final long count = framer.forEachRecord((buffer, length) -> {
+                    final byte[] content = new byte[length];
+                    buffer.get(content);
+                    records.add(new String(content, StandardCharsets.UTF_8));
+                });
+                assertThat(count).isEqualTo(4L);
+                assertThat(records).containsExactly("first", "", "a much longer third record", "4");
+            }
+        }
+    }
+
+    @Test
+    void lengthPrefixedFramerThrowsExceptionForTruncatedRecords() throws IOException {
+        final byte[] bytes = lengthPrefixed("record");
+        final RecordFramer truncatedRecord = RecordFramer.lengthPrefixed(
+                channel(Arrays.copyOf(bytes, bytes.length - 1), 3)
+        );
+        assertThatCode(() -> truncatedRecord.forEachRange((start, end) -> { }))
+                .isInstanceOf(EOFException.class);
+        final RecordFramer truncatedLength = RecordFramer.lengthPrefixed(channel(new byte[]{0, 0}, 3));
+        assertThatCode(() -> truncatedLength.forEachRange((start, end) -> { }))
+                .isInstanceOf(EOFException.class);
+        final RecordFramer negativeLength = RecordFramer.lengthPrefixed(channel(new byte[]{-1, 0, 0, 0}, 3));
+        assertThatCode(() -> negativeLength.forEachRange((start, end) -> { }))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void forEachOffsetMethodReportsAbsoluteOffsets() throws IOException {
+        final Path file = Files.createTempFile("record-framer", ".txt");
+        try {
+            final StringBuilder content = new StringBuilder();
+            final List<Long> expected = new ArrayList<>();
+            for (int idx = 0; idx < 1000; ++idx) {
+                expected.add((long) content.length());
+                content.append("line-").append(idx);
+                expected.add((long) content.length());
+                content.append('\n');
+            }
+            Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+            try (FileChannel channel = FileChannel.open(file)) {
+                final List<Long> offsets = new ArrayList<>();
+                final long count = RecordFramer.delimited(channel, ByteScan.matching((byte) '\n'), 64)
+                        .forEachOffset((start, end) -> {
+                            offsets.add(start);
+                            offsets.add(end);
+                        });
+                assertThat(count).isEqualTo(1000L);
+                assertThat(offsets).isEqualTo(expected);
+            }
+            try (FileChannel channel = FileChannel.open(file)) {
+                channel.position(expected.get(10));
+                final List<Long> offsets = new ArrayList<>();
+                final long count = RecordFramer.delimited(channel, ByteScan.matching((byte) '\n'), 64)
+                        .forEachOffset((start, end) -> {
+                            offsets.add(start);
+                            offsets.add(end);
+                        });
+                assertThat(count).isEqualTo(995L);
+                assertThat(offsets).isEqualTo(expected.subList(10, expected.size()));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
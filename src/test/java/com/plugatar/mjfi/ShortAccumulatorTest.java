@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ShortAccumulator}.
+ */
+final class ShortAccumulatorTest {
+
+    @Test
+    void ctorThrowsNPEForNullFunction() {
+        assertThatCode(() -> new ShortAccumulator(null, (short) 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void getMethodReturnsIdentityForNewAccumulator() {
+        final ShortAccumulator accumulator = new ShortAccumulator((left, right) -> (short) Math.max(left, right), Short.MIN_VALUE);
+        assertThat(accumulator.get())
+                .isEqualTo(Short.MIN_VALUE);
+    }
+
+    @Test
+    void resetMethodsRestoreIdentity() {
+        final ShortAccumulator accumulator = new ShortAccumulator((left, right) -> (short) Math.max(left, right), Short.MIN_VALUE);
+        accumulator.accumulate((short) 15);
+        assertThat(accumulator.getThenReset())
+                .isEqualTo((short) 15);
+        assertThat(accumulator.get())
+                .isEqualTo(Short.MIN_VALUE);
+        accumulator.accumulate((short) 15);
+        accumulator.reset();
+        assertThat(accumulator.get())
+                .isEqualTo(Short.MIN_VALUE);
+    }
+
+    @Test
+    void concurrentUpdatesAreFolded() throws InterruptedException {
+        final ShortAccumulator max = new ShortAccumulator((left, right) -> (short) Math.max(left, right), Short.MIN_VALUE);
+        final ShortAccumulator sum = new ShortAccumulator((left, right) -> (short) (left + right), (short) 0);
+        final int threads = 8;
+        final int updates = 1000;
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            final int thread = idx;
+            new Thread(() -> {
+                for (int upd = 0; upd < updates; ++upd) {
+                    max.accumulate((short) (thread * 10 + upd % 10));
+                    sum.accumulate((short) 1);
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+        assertThat(max.get())
+                .isEqualTo((short) ((threads - 1) * 10 + 9));
+        assertThat(sum.get())
+                .isEqualTo((short) (threads * updates));
+    }
+
+    @Test
+    void serializationKeepsValue() throws Exception {
+        final ShortAccumulator accumulator = new ShortAccumulator(
+                (ShortBinaryOperator & Serializable) (left, right) -> (short) Math.max(left, right), Short.MIN_VALUE);
+        accumulator.accumulate((short) 15);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(accumulator);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final ShortAccumulator copy = (ShortAccumulator) in.readObject();
+            assertThat(copy.get())
+                    .isEqualTo((short) 15);
+            copy.accumulate((short) 25);
+            assertThat(copy.get())
+                    .isEqualTo((short) 25
+        );
+        }
+    }
+
+    @Test
+    void serializationKeepsValueOfAccumulatorWithNonIdempotentFunction() throws Exception {
+        final ShortAccumulator accumulator = new ShortAccumulator(
+                (ShortBinaryOperator & Serializable) (left, right) -> (short) (left + right), (short) 1);
+        accumulator.accumulate((short) 2);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(accumulator);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(((ShortAccumulator) in.readObject()).get())
+                    .isEqualTo((short) 3
+        );
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ShortBigArray}.
+ */
+final class ShortBigArrayTest {
+
+    @Test
+    void ctorThrowsIAEForIllegalArgs() {
+        assertThatCode(() -> new ShortBigArray(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new ShortBigArray(10L, 31))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new ShortBigArray(Long.MAX_VALUE, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void methodsThrowNPEForNullArgs() {
+        final ShortBigArray array = new ShortBigArray(10L);
+        assertThatCode(() -> array.setAll(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> array.parallelSetAll(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> array.replaceAll(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> array.parallelReplaceAll(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> array.forEach(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> array.forEachIndexed(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> array.parallelForEach(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> array.parallelForEachIndexed(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void getAndSetMethodsThrowIOOBEForIllegalIndex() {
+        final ShortBigArray array = new ShortBigArray(10L, 2);
+        assertThatCode(() -> array.get(-1L))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> array.get(10L))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> array.set(10L, (short) 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void getAndSetMethodsAccessValuesAcrossChunks() {
+        final ShortBigArray array = new ShortBigArray(10L, 2);
+        assertThat(array.length()).isEqualTo(10L);
+        assertThat(array.get(9L)).isEqualTo((short) 0);
+        array.set(3L, (short) 1);
+        array.set(4L, (short) 2);
+        array.set(9L, (short) 1);
+        assertThat(array.get(3L)).isEqualTo((short) 1);
+        assertThat(array.get(4L)).isEqualTo((short) 2);
+        assertThat(array.get(9L)).isEqualTo((short) 1);
+        array.fill((short) 2);
+        for (long idx = 0L; idx < array.length(); ++idx) {
+            assertThat(array.get(idx)).isEqualTo((short) 2);
+        }
+    }
+
+    @Test
+    void setAllMethodsSetValuesByGenerator() {
+        final ShortBigArray sequential = new ShortBigArray(100_003L, 10);
+        final ShortBigArray parallel = new ShortBigArray(100_003L, 10);
+        sequential.setAll(idx -> (short) (idx * 3));
+        parallel.parallelSetAll(idx -> (short) (idx * 3));
+        for (long idx = 0L; idx < 100_003L; ++idx) {
+            assertThat(sequential.get(idx)).isEqualTo((short) (idx * 3));
+            assertThat(parallel.get(idx)).isEqualTo((short) (idx * 3));
+        }
+    }
+
+    @Test
+    void replaceAllMethodsReplaceValues() {
+        final ShortBigArray sequential = new ShortBigArray(100_003L, 20);
+        final ShortBigArray parallel = new ShortBigArray(100_003L, 4);
+        sequential.setAll(idx -> (short) (idx * 3));
+        parallel.setAll(idx -> (short) (idx * 3));
+        sequential.replaceAll(value -> (short) (value + 7));
+        parallel.parallelReplaceAll(value -> (short) (value + 7));
+        for (long idx = 0L; idx < 100_003L; ++idx) {
+            final short value = (short) (idx * 3);
+            assertThat(sequential.get(idx)).isEqualTo((short) (value + 7));
+            assertThat(parallel.get(idx)).isEqualTo((short) (value + 7));
+        }
+    }
+
+    @Test
+    void forEachMethodIteratesValuesInIndexOrder() {
+        final ShortBigArray array = new ShortBigArray(13L, 2);
+        array.setAll(idx -> (short) (idx * 3));
+        final List<Short> values = new ArrayList<>();
+        array.forEach(values::add);
+        assertThat(values).hasSize(13);
+        for (int idx = 0; idx < 13; ++idx) {
+            assertThat(values.get(idx)).isEqualTo((short) (idx * 3));
+        }
+    }
+
+    @Test
+    void forEachIndexedMethodIteratesIndexesAndValuesInIndexOrder() {
+        final ShortBigArray array = new ShortBigArray(13L, 2);
+        array.setAll(idx -> (short) (idx * 3));
+        final List<Long> indexes = new ArrayList<>();
+        final List<Short> values = new ArrayList<>();
+        array.forEachIndexed((idx, value) -> {
+            indexes.add(idx);
+            values.add(value);
+        });
+        assertThat(indexes).hasSize(13);
+        for (int idx = 0; idx < 13; ++idx) {
+            assertThat(indexes.get(idx)).isEqualTo(idx);
+            assertThat(values.get(idx)).isEqualTo((short) (idx * 3));
+        }
+    }
+
+    @Test
+    void parallelForEachMethodsProcessAllValues() {
+        final int length = 300_000;
+        final ShortBigArray array = new ShortBigArray(length, 17);
+        array.setAll(idx -> (short) ((int) idx * 3));
+        final LongAdder count = new LongAdder();
+        array.parallelForEach(value -> count.increment());
+        assertThat(count.sum()).isEqualTo(length);
+        final short[] values = new short[length];
+        final boolean[] visited = new boolean[length];
+        array.parallelForEachIndexed((idx, value) -> {
+            values[(int) idx] = value;
+            visited[(int) idx] = true;
+        });
+        for (int idx = 0; idx < length; ++idx) {
+            assertThat(visited[idx]).isTrue();
+            assertThat(values[idx]).isEqualTo((short) (idx * 3));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ShortFieldUpdater}.
+ */
+final class ShortFieldUpdaterTest {
+    private static final ShortFieldUpdater<Holder> UPDATER = ShortFieldUpdater.newUpdater(Holder.class, "value");
+
+    @Test
+    void newUpdaterMethodThrowsNPEForNullUpdater() {
+        assertThatCode(() -> ShortFieldUpdater.newUpdater(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void newUpdaterMethodThrowsExceptionForNonVolatileField() {
+        assertThatCode(() -> ShortFieldUpdater.newUpdater(Holder.class, "plain"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void newUpdaterMethodUsesGivenUpdater() {
+        final ShortFieldUpdater<Holder> updater = ShortFieldUpdater.newUpdater(
+                AtomicIntegerFieldUpdater.newUpdater(Holder.class, "value")
+        );
+        final Holder holder = new Holder();
+        updater.set(holder, (short) 15);
+        assertThat(UPDATER.get(holder))
+                .isEqualTo((short) 15);
+    }
+
+    @Test
+    void getAndSetMethods() {
+        final Holder holder = new Holder();
+        UPDATER.set(holder, (short) 15);
+        assertThat(UPDATER.getAndSet(holder, (short) 25))
+                .isEqualTo((short) 15);
+        UPDATER.lazySet(holder, (short) 15);
+        assertThat(UPDATER.get(holder))
+                .isEqualTo((short) 15);
+    }
+
+    @Test
+    void compareAndSetMethodUpdatesOnlyExpectedValue() {
+        final Holder holder = new Holder();
+        UPDATER.set(holder, (short) 15);
+        assertThat(UPDATER.compareAndSet(holder, (short) 25, (short) 25))
+                .isFalse();
+        assertThat(UPDATER.compareAndSet(holder, (short) 15, (short) 25))
+                .isTrue();
+        assertThat(UPDATER.get(holder))
+                .isEqualTo((short) 25);
+    }
+
+    @Test
+    void updateMethodsPassObjectAndCurrentValue() {
+        final Holder holder = new Holder();
+        holder.step = (short) 3;
+        UPDATER.set(holder, (short) 10);
+        assertThat(UPDATER.getAndUpdate(holder, (obj, value) -> (short) (value + obj.step)))
+                .isEqualTo((short) 10);
+        assertThat(UPDATER.updateAndGet(holder, (obj, value) -> (short) (value + obj.step)))
+                .isEqualTo((short) 16);
+    }
+
+    @Test
+    void accumulateMethodsReturnCorrectValues() {
+        final Holder holder = new Holder();
+        UPDATER.set(holder, (short) 10);
+        assertThat(UPDATER.getAndAccumulate(holder, (short) 20, (left, right) -> (short) Math.max(left, right)))
+                .isEqualTo((short) 10);
+        assertThat(UPDATER.accumulateAndGet(holder, (short) 5, (left, right) -> (short) (left - right)))
+                .isEqualTo((short) 15);
+    }
+
+    @Test
+    void concurrentUpdatesAreNotLost() throws InterruptedException {
+        final Holder holder = new Holder();
+        final int threads = 4;
+        final int increments = 25;
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            new Thread(() -> {
+                for (int inc = 0; inc < increments; ++inc) {
+                    UPDATER.updateAndGet(holder, (obj, value) -> (short) (value + 1));
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+        assertThat(UPDATER.get(holder))
+                .isEqualTo((short) (threads * increments));
+    }
+
+    /**
+     * Holder of the updatable field.
+     */
+    static final class Holder {
+        volatile int value;
+        int plain;
+        short step;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ShortTopK}.
+ */
+final class ShortTopKTest {
+
+    @Test
+    void ctorThrowsIAEForNegativeK() {
+        assertThatCode(() -> new ShortTopK<>(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void acceptMethodSelectsElementsWithGreatestKeys() {
+        final ShortTopK<String> topK = new ShortTopK<>(3);
+        topK.accept("a", (short) 5);
+        topK.accept("b", (short) 1);
+        topK.accept("c", (short) 9);
+        assertThat(topK.size()).isEqualTo(3);
+        assertThat(topK.toList()).containsExactly("c", "a", "b");
+        topK.accept("d", (short) 7);
+        topK.accept("e", (short) 0);
+        assertThat(topK.k()).isEqualTo(3);
+        assertThat(topK.size()).isEqualTo(3);
+        assertThat(topK.toList()).containsExactly("c", "d", "a");
+        assertThat(topK.toList()).containsExactly("c", "d", "a");
+    }
+
+    @Test
+    void acceptMethodDoesNotSelectElementsForZeroK() {
+        final ShortTopK<String> topK = new ShortTopK<>(0);
+        topK.accept("a", (short) 5);
+        assertThat(topK.size()).isZero();
+        assertThat(topK.toList()).isEmpty();
+    }
+
+    @Test
+    void mergeMethodCombinesSelections() {
+        final ShortTopK<String> first = new ShortTopK<>(2);
+        first.accept("a", (short) 5);
+        first.accept("b", (short) 1);
+        final ShortTopK<String> second = new ShortTopK<>(3);
+        second.accept("c", (short) 9);
+        second.accept("d", (short) 0);
+        second.accept("e", (short) 7);
+        assertThat(first.merge(second))
+                .isSameAs(first);
+        assertThat(first.toList()).containsExactly("c", "e");
+    }
+
+    @Test
+    void acceptMethodSelectsAllElementsForKGreaterThanCount() {
+        final ShortTopK<Integer> topK = new ShortTopK<>(Integer.MAX_VALUE);
+        for (int idx = 0; idx < 100; ++idx) {
+            topK.accept(idx, (short) idx);
+        }
+        assertThat(topK.size()).isEqualTo(100);
+        assertThat(topK.toList()).hasSize(100).startsWith(99, 98).endsWith(1, 0);
+    }
+
+    @Test
+    void toListMethodSortsManyElements() {
+        final ShortTopK<Integer> topK = new ShortTopK<>(100);
+        final Integer[] values = new Integer[1000];
+        for (int idx = 0; idx < values.length; ++idx) {
+            values[idx] = idx;
+        }
+        Collections.shuffle(Arrays.asList(values), new Random(1));
+        for (final Integer value : values) {
+            topK.accept(value, (short) value.intValue());
+        }
+        final Integer[] expected = new Integer[100];
+        for (int idx = 0; idx < expected.length; ++idx) {
+            expected[idx] = 999 - idx;
+        }
+        assertThat(topK.toList()).containsExactly(expected);
+        assertThat(topK.toString()).startsWith("[999, 998");
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link Tokenizer}.
+ */
+final class TokenizerTest {
+
+    private static List<String> tokens(final CharSequence sequence, final char delimiter) {
+        final List<String> tokens = new ArrayList<>();
+        final int count = Tokenizer.split(sequence, delimiter,
+                (start, end) -> tokens.add(sequence.subSequence(start, end).toString()));
+        assertThat(count).isEqualTo(tokens.size());
+        return tokens;
+    }
+
+    private static List<String> tokens(final CharSequence sequence, final CharPredicate delimiters) {
+        final List<String> tokens = new ArrayList<>();
+        final int count = Tokenizer.split(sequence, delimiters,
+                (start, end) -> tokens.add(sequence.subSequence(start, end).toString()));
+        assertThat(count).isEqualTo(tokens.size());
+        return tokens;
+    }
+
+    private static List<String> tokens(final CharSequence sequence, final char quote, final char escape) {
+        final List<String> tokens = new ArrayList<>();
+        final int count = Tokenizer.split(sequence, ch -> ch == ',', quote, escape,
+                (start, end) -> tokens.add(sequence.subSequence(start, end).toString()));
+        assertThat(count).isEqualTo(tokens.size());
+        return tokens;
+    }
+
+    @Test
+    void methodsThrowNPEForNullArgs() {
+        final IntBiConsumer onToken = (start, end) -> { };
+        assertThatCode(() -> Tokenizer.split(null, ',', onToken))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Tokenizer.split("a", ',', null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Tokenizer.split("a", (CharPredicate) null, onToken))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Tokenizer.split(null, ch -> true, onToken))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> Tokenizer.split("a", ch -> true, '"', '\\', null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void charSplitMethodReportsAllTokens() {
+        for (final CharSequence sequence : new CharSequence[]{"a,bc,,d,", new StringBuilder("a,bc,,d,")}) {
+            assertThat(tokens(sequence, ',')).containsExactly("a", "bc", "", "d", "");
+        }
+        assertThat(tokens("", ',')).containsExactly("");
+        assertThat(tokens(new StringBuilder(",x"), ',')).containsExactly("", "x");
+        assertThat(tokens("no delimiters", ',')).containsExactly("no delimiters");
+    }
+
+    @Test
+    void predicateSplitMethodReportsAllTokens() {
+        final String sequence = "2021-10-19 12:30:00\tINFO";
+        assertThat(tokens(sequence, ch -> ch == ' ' || ch == '\t' || ch == '-' || ch == ':'))
+                .isEqualTo(Arrays.asList("2021", "10", "19", "12", "30", "00", "INFO"));
+        assertThat(tokens("  ", Character::isWhitespace)).containsExactly("", "", "");
+    }
+
+    @Test
+    void quotedSplitMethodSkipsQuotedAndEscapedDelimiters() {
+        assertThat(tokens("a,\"b,c\",d\\,e,\"\"", '"', '\\'))
+                .containsExactly("a", "b,c", "d\\,e", "");
+        assertThat(tokens("x\"y,z\"w,'q", '"', '\\'))
+                .containsExactly("x\"y,z\"w", "'q");
+        assertThat(tokens("\"open,ended", '"', '\\'))
+                .containsExactly("\"open,ended");
+        assertThat(tokens("\"esc\\\",aped\",end\\", '"', '\\'))
+                .containsExactly("esc\\\",aped", "end\\");
+    }
+
+    @Test
+    void quotedSplitMethodSupportsDoubledQuotes() {
+        assertThat(tokens("\"say \"\"hi\"\", bye\",2,\"\"\"\"", '"', '"'))
+                .containsExactly("say \"\"hi\"\", bye", "2", "\"\"");
+        assertThat(tokens("'a,b',c", '\'', '\''))
+                .containsExactly("a,b", "c");
+    }
+}
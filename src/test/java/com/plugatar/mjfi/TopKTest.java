@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjfi;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link TopK}.
+ */
+final class TopKTest {
+    private static final Candidate[] CANDIDATES = candidates(200_000);
+
+    @Test
+    void methodsThrowNPEForNullArgs() {
+        assertThatCode(() -> TopK.selectByFloat((Iterable<Object>) null, 1, obj -> 0.0f))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> TopK.selectByFloat(new ArrayList<>(), 1, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> TopK.selectByShort((Object[]) null, 1, obj -> (short) 0))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> TopK.selectByShort(new Object[0], 1, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> TopK.parallelSelectByFloat(null, 1, obj -> 0.0f))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> TopK.parallelSelectByShort(new Object[0], 1, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowIAEForNegativeK() {
+        assertThatCode(() -> TopK.selectByFloat(new Object[0], -1, obj -> 0.0f))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> TopK.parallelSelectByShort(new Object[0], -1, obj -> (short) 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void selectMethodsCallKeyFunctionOncePerElement() {
+        final AtomicInteger calls = new AtomicInteger();
+        TopK.selectByFloat(Arrays.asList(CANDIDATES), 100, candidate -> {
+            calls.incrementAndGet();
+            return candidate.score;
+        });
+        assertThat(calls.get()).isEqualTo(CANDIDATES.length);
+    }
+
+    @Test
+    void selectMethodsSelectElementsWithGreatestFloatKeys() {
+        final List<Float> expected = Arrays.stream(CANDIDATES)
+                .map(candidate -> candidate.score)
+                .sorted(Comparator.reverseOrder())
+                .limit(100)
+                .collect(Collectors.toList());
+        assertThat(scores(TopK.selectByFloat(Arrays.asList(CANDIDATES), 100, candidate -> candidate.score)))
+                .isEqualTo(expected);
+        assertThat(scores(TopK.selectByFloat(CANDIDATES, 100, candidate -> candidate.score)))
+                .isEqualTo(expected);
+        assertThat(scores(TopK.parallelSelectByFloat(CANDIDATES, 100, candidate -> candidate.score)))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void selectMethodsSelectElementsWithGreatestShortKeys() {
+        final List<Short> expected = Arrays.stream(CANDIDATES)
+                .map(candidate -> candidate.priority)
+                .sorted(Comparator.reverseOrder())
+                .limit(50)
+                .collect(Collectors.toList());
+        assertThat(priorities(TopK.selectByShort(Arrays.asList(CANDIDATES), 50, candidate -> candidate.priority)))
+                .isEqualTo(expected);
+        assertThat(priorities(TopK.selectByShort(CANDIDATES, 50, candidate -> candidate.priority)))
+                .isEqualTo(expected);
+        assertThat(priorities(TopK.parallelSelectByShort(CANDIDATES, 50, candidate -> candidate.priority)))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void selectMethodsReturnAllElementsForLargeK() {
+        final Candidate[] candidates = Arrays.copyOf(CANDIDATES, 10);
+        assertThat(TopK.selectByFloat(candidates, 20, candidate -> candidate.score))
+                .hasSize(10);
+        assertThat(TopK.parallelSelectByShort(candidates, 20, candidate -> candidate.priority))
+                .hasSize(10);
+        assertThat(TopK.selectByFloat(candidates, 0, candidate -> candidate.score))
+                .isEmpty();
+    }
+
+    @Test
+    void selectMethodsDoNotAllocateHeapsOfKElements() {
+        final Candidate[] candidates = Arrays.copyOf(CANDIDATES, 10);
+        assertThat(TopK.selectByFloat(candidates, Integer.MAX_VALUE, candidate -> candidate.score))
+                .hasSize(10);
+        assertThat(TopK.selectByShort(Arrays.asList(candidates), Integer.MAX_VALUE, candidate -> candidate.priority))
+                .hasSize(10);
+        assertThat(scores(TopK.parallelSelectByFloat(CANDIDATES, Integer.MAX_VALUE, candidate -> candidate.score)))
+                .isSortedAccordingTo(Comparator.reverseOrder())
+                .hasSize(CANDIDATES.length);
+        assertThat(TopK.parallelSelectByShort(candidates, Integer.MAX_VALUE, candidate -> candidate.priority))
+                .hasSize(10);
+    }
+
+    private static List<Float> scores(final List<Candidate> candidates) {
+        return candidates.stream().map(candidate -> candidate.score).collect(Collectors.toList());
+    }
+
+    private static List<Short> priorities(final List<Candidate> candidates) {
+        return candidates.stream().map(candidate -> candidate.priority).collect(Collectors.toList());
+    }
+
+    private static Candidate[] candidates(final int size) {
+        final Random random = new Random(1);
+        final Candidate[] candidates = new Candidate[size];
+        for (int idx = 0; idx < size; ++idx) {
+            candidates[idx] = new Candidate((short) random.nextInt(), random.nextFloat());
+        }
+        return candidates;
+    }
+
+    private static final class Candidate {
+        private final short priority;
+        private final float score;
+
+        private Candidate(final short priority, final float score) {
+            this.priority = priority;
+            this.score = score;
+        }
+    }
+}